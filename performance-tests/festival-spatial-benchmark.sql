@@ -0,0 +1,73 @@
+-- 주변 축제 검색: B-Tree(latitude, longitude) + 구면 코사인 vs SPATIAL 인덱스 + MBRContains/ST_Distance_Sphere 비교
+--
+-- 사용법 (V19 마이그레이션까지 적용된 로컬/벤치마크용 MySQL 8.0.18+ 에서만 실행, 운영 DB 금지)
+--   mysql -u root -p eventitta < performance-tests/festival-spatial-benchmark.sql
+--
+-- 1) 한반도 범위(위도 33~38.6, 경도 124.6~131.9)에 축제 1,000,000건을 무작위로 적재
+-- 2) 서울시청 반경 5km, 한 달 범위로 변경 전/후 쿼리를 각각 EXPLAIN ANALYZE
+-- 3) 끝나면 적재한 데이터를 삭제 (data_source = 'BENCHMARK')
+
+SET SESSION cte_max_recursion_depth = 1000000;
+
+INSERT INTO festivals (title, venue, start_date, end_date, category, is_free, latitude, longitude, data_source, external_id)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM seq WHERE n < 1000000
+)
+SELECT CONCAT('benchmark festival ', n),
+       'benchmark venue',
+       DATE_ADD('2025-01-01', INTERVAL (n % 365) DAY),
+       DATE_ADD('2025-01-01', INTERVAL (n % 365) + 3 DAY),
+       'BENCHMARK',
+       n % 2 = 0,
+       ROUND(33.0 + RAND(n) * 5.6, 7),
+       ROUND(124.6 + RAND(n + 1000000) * 7.3, 7),
+       'BENCHMARK',
+       CONCAT('benchmark-', n)
+FROM seq;
+
+ANALYZE TABLE festivals;
+
+SET @lat = 37.5665, @lon = 126.9780, @km = 5.0;
+SET @from = '2025-08-01 00:00:00', @to = '2025-08-31 23:59:59';
+SET @lat_delta = @km / 111.0;
+SET @lon_delta = @km / (111.0 * COS(RADIANS(@lat)));
+
+-- 변경 전: B-Tree로 위도만 범위 스캔 후 행마다 삼각함수 계산
+CREATE INDEX idx_festivals_location ON festivals(latitude, longitude);
+
+EXPLAIN ANALYZE
+SELECT f.id,
+       6371 * ACOS(COS(RADIANS(@lat)) * COS(RADIANS(f.latitude)) *
+                   COS(RADIANS(f.longitude) - RADIANS(@lon)) +
+                   SIN(RADIANS(@lat)) * SIN(RADIANS(f.latitude))) AS distance
+FROM festivals f FORCE INDEX (idx_festivals_location)
+WHERE f.latitude BETWEEN @lat - @lat_delta AND @lat + @lat_delta
+  AND f.longitude BETWEEN @lon - @lon_delta AND @lon + @lon_delta
+  AND f.start_date >= DATE(@from)
+  AND f.start_date <= DATE(@to)
+HAVING distance <= @km
+ORDER BY distance
+LIMIT 20;
+
+DROP INDEX idx_festivals_location ON festivals;
+
+-- 변경 후: SPATIAL 인덱스로 Bounding Box를 좁힌 뒤 ST_Distance_Sphere 계산
+EXPLAIN ANALYZE
+SELECT f.id,
+       ST_Distance_Sphere(f.location, ST_SRID(POINT(@lat, @lon), 4326)) / 1000 AS distance
+FROM festivals f
+WHERE MBRContains(
+        ST_SRID(ST_MakeEnvelope(POINT(@lat - @lat_delta, @lon - @lon_delta),
+                                POINT(@lat + @lat_delta, @lon + @lon_delta)), 4326),
+        f.location)
+  AND f.latitude IS NOT NULL
+  AND f.longitude IS NOT NULL
+  AND f.start_date >= DATE(@from)
+  AND f.start_date <= DATE(@to)
+HAVING distance <= @km
+ORDER BY distance
+LIMIT 20;
+
+DELETE FROM festivals WHERE data_source = 'BENCHMARK';
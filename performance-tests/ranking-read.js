@@ -0,0 +1,64 @@
+// Ranking API 성능 테스트 - 순위 조회 p99 비교
+// 실행: k6 run --out influxdb=http://localhost:8086/k6 -e BASE_URL=http://localhost:8080 performance-tests/ranking-read.js
+// 비교: 변경 전/후 애플리케이션에 각각 실행한 뒤 --tag version=<before|after> 로 구분
+
+import http from 'k6/http';
+import { check, group, sleep } from 'k6';
+import { Rate, Trend } from 'k6/metrics';
+
+const errorRate = new Rate('errors');
+const topPointsResponseTime = new Trend('ranking_top_points_response_time');
+const topActivityResponseTime = new Trend('ranking_top_activity_response_time');
+const userRankResponseTime = new Trend('ranking_user_rank_response_time');
+
+export const options = {
+  stages: [
+    { duration: '30s', target: 20 },
+    { duration: '2m', target: 100 },
+    { duration: '2m', target: 100 },
+    { duration: '30s', target: 0 },
+  ],
+  summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    ranking_top_points_response_time: ['p(99)<100'],
+    ranking_top_activity_response_time: ['p(99)<100'],
+    ranking_user_rank_response_time: ['p(99)<50'],
+  },
+  tags: {
+    test_type: 'ranking-read',
+  },
+};
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const API_PREFIX = '/api/v1/rankings';
+const MAX_USER_ID = parseInt(__ENV.MAX_USER_ID || '1000', 10);
+
+export default function () {
+  group('Top N - POINTS', function () {
+    const res = http.get(`${BASE_URL}${API_PREFIX}/top?type=POINTS&limit=100`, {
+      tags: { name: 'getTopRankings_POINTS' },
+    });
+    check(res, { 'top POINTS status is 200': (r) => r.status === 200 }) || errorRate.add(1);
+    topPointsResponseTime.add(res.timings.duration);
+  });
+
+  group('Top N - ACTIVITY_COUNT', function () {
+    const res = http.get(`${BASE_URL}${API_PREFIX}/top?type=ACTIVITY_COUNT&limit=100`, {
+      tags: { name: 'getTopRankings_ACTIVITY_COUNT' },
+    });
+    check(res, { 'top ACTIVITY_COUNT status is 200': (r) => r.status === 200 }) || errorRate.add(1);
+    topActivityResponseTime.add(res.timings.duration);
+  });
+
+  group('User rank', function () {
+    const userId = Math.floor(Math.random() * MAX_USER_ID) + 1;
+    const res = http.get(`${BASE_URL}${API_PREFIX}/users/${userId}?type=POINTS`, {
+      tags: { name: 'getUserRank' },
+    });
+    check(res, { 'user rank status is 200': (r) => r.status === 200 }) || errorRate.add(1);
+    userRankResponseTime.add(res.timings.duration);
+  });
+
+  sleep(0.5);
+}
@@ -0,0 +1,59 @@
+package com.eventitta.gamification.service;
+
+import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.domain.OperationType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 멱등키 생성 비용 비교 벤치마크
+ *
+ * <p>기존 String.format + UUID.randomUUID 방식과 OutboxIdempotencyKeys를 비교합니다.</p>
+ * <p>-prof gc 로 op당 할당량을, 스레드 수(-t)를 늘려 SecureRandom 경합 영향을 함께 확인합니다.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgs = {"-Xms1G", "-Xmx1G"})
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class OutboxIdempotencyKeyBenchmark {
+
+    private final OperationType op = OperationType.RECORD;
+    private final ActivityType type = ActivityType.LIKE_POST;
+    private long userId;
+    private long targetId;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        userId = 42L;
+        targetId = 1_000L;
+    }
+
+    @Benchmark
+    public String formatWithUuid() {
+        targetId++;
+        return String.format("%s:%d:%s:%d:%s",
+            op, userId, type, targetId, UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    @Benchmark
+    public byte[] hashWithSequence() {
+        targetId++;
+        return OutboxIdempotencyKeys.next(op, userId, type, targetId);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String formatWithUuidContended() {
+        return formatWithUuid();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public byte[] hashWithSequenceContended() {
+        return hashWithSequence();
+    }
+}
@@ -0,0 +1,124 @@
+package com.eventitta.gamification.service;
+
+import com.eventitta.gamification.domain.RankingType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 순위 조회 Redis 왕복 횟수 비교 벤치마크
+ *
+ * <p>실행 전 로컬 Redis가 필요합니다 (기본 localhost:6379, -Dredis.host / -Dredis.port 로 변경).</p>
+ * <p>SampleTime 모드로 p99 분포를 함께 확인합니다.</p>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgs = {"-Xms1G", "-Xmx1G"})
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class RankingReadBenchmark {
+
+    private static final String KEY_PREFIX = "benchmark:";
+
+    @Param({"POINTS", "ACTIVITY_COUNT"})
+    RankingType type;
+
+    @Param({"10000"})
+    int members;
+
+    @Param({"100"})
+    int limit;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private String redisKey;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int memberIndex;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+            System.getProperty("redis.host", "localhost"),
+            Integer.getInteger("redis.port", 6379)
+        );
+        connectionFactory = new LettuceConnectionFactory(config);
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        redisKey = KEY_PREFIX + type.getRedisKey();
+        redisTemplate.delete(redisKey);
+        for (int i = 1; i <= members; i++) {
+            redisTemplate.opsForZSet().add(redisKey, String.valueOf(i), i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redisTemplate.delete(redisKey);
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public void topRankings_sequential(Blackhole bh) {
+        bh.consume(redisTemplate.opsForZSet().reverseRangeWithScores(redisKey, 0, limit - 1));
+        bh.consume(redisTemplate.opsForZSet().zCard(redisKey));
+    }
+
+    @Benchmark
+    public void topRankings_pipelined(Blackhole bh) {
+        bh.consume(pipelined(operations -> {
+            operations.opsForZSet().reverseRangeWithScores(redisKey, 0, limit - 1);
+            operations.opsForZSet().zCard(redisKey);
+        }));
+    }
+
+    @Benchmark
+    public void userRank_sequential(ThreadState ts, Blackhole bh) {
+        String member = nextMember(ts);
+        bh.consume(redisTemplate.opsForZSet().reverseRank(redisKey, member));
+        bh.consume(redisTemplate.opsForZSet().score(redisKey, member));
+    }
+
+    @Benchmark
+    public void userRank_pipelined(ThreadState ts, Blackhole bh) {
+        String member = nextMember(ts);
+        bh.consume(pipelined(operations -> {
+            operations.opsForZSet().reverseRank(redisKey, member);
+            operations.opsForZSet().score(redisKey, member);
+        }));
+    }
+
+    private String nextMember(ThreadState ts) {
+        return String.valueOf((ts.memberIndex++ % members) + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> pipelined(Consumer<RedisOperations<String, Object>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, Object>) operations);
+                return null;
+            }
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.eventitta.common.config.async;
 
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,10 +10,11 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 
-@Slf4j
+import static com.eventitta.gamification.constants.GamificationRetryConstants.OUTBOX_RELAY_BATCH_SIZE;
+import static com.eventitta.gamification.constants.GamificationRetryConstants.OUTBOX_RELAY_WORKER_COUNT;
+
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
@@ -26,6 +28,21 @@ public class AsyncConfig implements AsyncConfigurer {
     @Value("${async.queue-capacity:100}")
     private int queueCapacity;
 
+    @Value("${async.gamification.core-pool-size:3}")
+    private int gamificationCorePoolSize = 3;
+
+    @Value("${async.gamification.max-pool-size:8}")
+    private int gamificationMaxPoolSize = 8;
+
+    @Value("${async.gamification.queue-capacity:50}")
+    private int gamificationQueueCapacity = 50;
+
+    @Value("${async.gamification.retry-delay-ms:1000}")
+    private long gamificationRetryDelayMs = 1_000L;
+
+    @Value("${async.gamification.max-retry-attempts:5}")
+    private int gamificationMaxRetryAttempts = 5;
+
     @Override
     public Executor getAsyncExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -56,29 +73,74 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 게이미피케이션 포화 시 거부된 작업을 잠시 뒤 다시 제출하는 핸들러
+     * 재시도용 스케줄러 스레드를 컨텍스트 종료 시 정리하도록 빈으로 등록한다
+     */
+    @Bean
+    public DeferredRetryRejectedExecutionHandler gamificationRejectionHandler(MeterRegistry meterRegistry) {
+        return new DeferredRetryRejectedExecutionHandler(
+            "gamification", gamificationRetryDelayMs, gamificationMaxRetryAttempts, meterRegistry);
+    }
+
     /**
      * 게이미피케이션 전용 비동기 Executor
-     * 뱃지 체크, 랭킹 업데이트 등 후처리 작업을 별도 스레드 풀에서 처리
+     * 뱃지 체크 등 후처리 작업을 별도 스레드 풀에서 처리
+     * 제출은 요청 스레드의 커밋 직후에 일어나므로 포화되어도 제출자를 기다리게 하거나 작업을 떠넘기지 않고,
+     * 거부된 작업은 gamificationRejectionHandler가 잠시 뒤 다시 제출한다
+     * 동시 작업 수는 최대 스레드 수 + 큐 용량으로 제한된다
      */
     @Bean(name = "gamificationExecutor")
-    public Executor gamificationExecutor() {
+    public Executor gamificationExecutor(MeterRegistry meterRegistry) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(3);
-        executor.setMaxPoolSize(8);
-        executor.setQueueCapacity(50);
+        executor.setCorePoolSize(gamificationCorePoolSize);
+        executor.setMaxPoolSize(gamificationMaxPoolSize);
+        executor.setQueueCapacity(gamificationQueueCapacity);
         executor.setThreadNamePrefix("Gamification-");
-
-        executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) -> {
-            log.error("[스레드풀 포화] 가미피케이션 작업 거부됨. " +
-                    "현재 활성 스레드: {}, 큐 크기: {}, 큐 잔여 용량: {}",
-                threadPoolExecutor.getActiveCount(),
-                threadPoolExecutor.getQueue().size(),
-                threadPoolExecutor.getQueue().remainingCapacity());
-        });
+        executor.setRejectedExecutionHandler(gamificationRejectionHandler(meterRegistry));
 
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
+
+        // executor.queued / executor.active / executor.pool.size 등 (name=gamification)
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "gamification");
+        return executor;
+    }
+
+    /**
+     * 아웃박스 릴레이 전용 Executor
+     * 선점한 배치를 유저 단위로 나눠 병렬 처리, 포화 시 스케줄러 스레드가 직접 처리
+     */
+    @Bean(name = "outboxRelayExecutor")
+    public Executor outboxRelayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(OUTBOX_RELAY_WORKER_COUNT);
+        executor.setMaxPoolSize(OUTBOX_RELAY_WORKER_COUNT);
+        executor.setQueueCapacity(OUTBOX_RELAY_BATCH_SIZE);
+        executor.setThreadNamePrefix("OutboxRelay-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 아웃박스 릴레이 즉시 실행용 Executor
+     * 실행 중인 릴레이 뒤에 한 건만 대기시키고, 그 사이 들어온 신호는 버려 하나로 합친다
+     */
+    @Bean(name = "outboxWakeupExecutor")
+    public Executor outboxWakeupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("OutboxWakeup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
         return executor;
     }
 }
@@ -0,0 +1,89 @@
+package com.eventitta.common.config.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포화로 거부된 작업을 호출 스레드에서 실행하지 않고, 별도 스케줄러에서 잠시 뒤 같은 풀에 다시 제출하는 핸들러
+ * 제출 스레드(요청 스레드)는 대기하거나 후처리를 떠안지 않고 바로 돌아간다.
+ * 최대 시도 횟수를 넘기거나 풀이 종료 중이면 작업을 버리고 executor.dropped 지표를 남긴다.
+ */
+@Slf4j
+public class DeferredRetryRejectedExecutionHandler implements RejectedExecutionHandler, DisposableBean {
+
+    private final String name;
+    private final long retryDelayMs;
+    private final int maxAttempts;
+    private final Counter rejected;
+    private final Counter dropped;
+    private final ScheduledExecutorService retryScheduler;
+
+    public DeferredRetryRejectedExecutionHandler(String name, long retryDelayMs, int maxAttempts,
+                                                 MeterRegistry meterRegistry) {
+        this.name = name;
+        this.retryDelayMs = retryDelayMs;
+        this.maxAttempts = maxAttempts;
+        this.rejected = meterRegistry.counter("executor.rejected", "name", name);
+        this.dropped = meterRegistry.counter("executor.dropped", "name", name);
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, name + "-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.retryScheduler = scheduler;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+        rejected.increment();
+        int attempt = runnable instanceof DeferredTask deferred ? deferred.attempt() + 1 : 1;
+        Runnable task = runnable instanceof DeferredTask deferred ? deferred.task() : runnable;
+
+        if (executor.isShutdown() || attempt > maxAttempts) {
+            drop(executor, attempt);
+            return;
+        }
+
+        log.warn("[스레드풀 포화] {} 작업을 {}ms 뒤 다시 제출. attempt={}/{}, 활성 스레드: {}, 큐 크기: {}",
+            name, retryDelayMs, attempt, maxAttempts, executor.getActiveCount(), executor.getQueue().size());
+        try {
+            retryScheduler.schedule(() -> executor.execute(new DeferredTask(task, attempt)),
+                retryDelayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            drop(executor, attempt);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        retryScheduler.shutdownNow();
+    }
+
+    private void drop(ThreadPoolExecutor executor, int attempt) {
+        dropped.increment();
+        log.error("[스레드풀 포화] {} 작업을 버림. attempt={}/{}, shutdown={}, 큐 크기: {}",
+            name, attempt, maxAttempts, executor.isShutdown(), executor.getQueue().size());
+    }
+
+    /**
+     * 재제출된 작업과 지금까지의 시도 횟수
+     */
+    private record DeferredTask(Runnable task, int attempt) implements Runnable {
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+}
@@ -31,6 +31,14 @@ public class CacheConfig {
             .expireAfterWrite(Duration.ofDays(cacheProperties.getTtlDays()))
             .recordStats());
 
+        // 주변 축제 응답은 건수/수명이 지역 캐시와 달라 별도 설정으로 등록
+        CacheProperties.NearbyFestivals nearbyFestivals = cacheProperties.getNearbyFestivals();
+        cacheManager.registerCustomCache(CacheConstants.NEARBY_FESTIVALS, Caffeine.newBuilder()
+            .maximumSize(nearbyFestivals.getMaximumSize())
+            .expireAfterWrite(Duration.ofMinutes(nearbyFestivals.getTtlMinutes()))
+            .recordStats()
+            .build());
+
         return cacheManager;
     }
 }
@@ -9,4 +9,6 @@ public final class CacheConstants {
     public static final String REGIONS = "regions";
 
     public static final String REGION_OPTIONS = "regionOptions";
+
+    public static final String NEARBY_FESTIVALS = "nearbyFestivals";
 }
@@ -1,6 +1,7 @@
 package com.eventitta.common.config.cache;
 
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.Setter;
@@ -19,4 +20,22 @@ public class CacheProperties {
 
     @Min(1)
     private int ttlDays = 30;
+
+    @Valid
+    private NearbyFestivals nearbyFestivals = new NearbyFestivals();
+
+    /**
+     * 주변 축제 검색 응답 캐시 설정
+     * 동기화를 실행하지 않은 노드는 TTL이 지나야 새 데이터를 보므로 인덱스 갱신 확인 주기(10분)와 맞춘다
+     */
+    @Getter
+    @Setter
+    public static class NearbyFestivals {
+
+        @Min(1)
+        private int maximumSize = 10_000;
+
+        @Min(1)
+        private int ttlMinutes = 10;
+    }
 }
@@ -19,6 +19,9 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * <p>모든 스케줄러는 기본적으로 활성화되어 있으며 ({@code matchIfMissing = true}),
  * 특정 스케줄러만 비활성화하려면 해당 설정을 {@code false}로 지정하세요.
  *
+ * <p>스케줄러 스레드 수는 {@code spring.task.scheduling.pool.size}로 지정합니다.
+ * 기본값(1)이면 짧은 주기 작업이 새벽 동기화 같은 긴 작업이 끝날 때까지 밀립니다.
+ *
  * @see com.eventitta.auth.scheduler.RefreshTokenCleanupTask
  * @see com.eventitta.festivals.scheduler.FestivalScheduler
  * @see com.eventitta.meeting.scheduler.MeetingStatusScheduler
@@ -2,6 +2,7 @@ package com.eventitta.festivals.controller;
 
 import com.eventitta.common.response.PageResponse;
 import com.eventitta.festivals.dto.response.FestivalNearbyResponse;
+import com.eventitta.festivals.dto.response.FestivalNearbySliceResponse;
 import com.eventitta.festivals.dto.request.NearbyFestivalRequest;
 import com.eventitta.festivals.service.FestivalService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,4 +33,14 @@ public class FestivalController {
         PageResponse<FestivalNearbyResponse> page = festivalService.getNearbyFestival(request);
         return ResponseEntity.ok(page);
     }
+
+    @Operation(summary = "반경 내 이벤트 스크롤 조회"
+        , description = "전체 건수 없이 가까운 순으로 조회합니다. 다음 페이지는 응답의 nextCursorDistance, nextCursorId를 cursorDistance, cursorId로 넘겨 조회합니다. page는 사용하지 않습니다.")
+    @GetMapping("/nearby/scroll")
+    public ResponseEntity<FestivalNearbySliceResponse> scrollNearbyEvents(
+        @ParameterObject @Valid @ModelAttribute NearbyFestivalRequest request
+    ) {
+        FestivalNearbySliceResponse slice = festivalService.getNearbyFestivalSlice(request);
+        return ResponseEntity.ok(slice);
+    }
 }
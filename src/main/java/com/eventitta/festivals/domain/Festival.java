@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import com.eventitta.common.domain.BaseEntity;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.Objects;
 
 @Entity
 @Table(name = "festivals",
@@ -17,7 +19,6 @@ import java.time.LocalDate;
         @UniqueConstraint(columnNames = {"external_id", "data_source"})
     },
     indexes = {
-        @Index(name = "idx_location", columnList = "latitude, longitude"),
         @Index(name = "idx_dates", columnList = "start_date, end_date"),
         @Index(name = "idx_data_source", columnList = "data_source")
     })
@@ -25,6 +26,8 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Festival extends BaseTimeEntity {
 
+    private static final int COORDINATE_SCALE = 7;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -204,6 +207,42 @@ public class Festival extends BaseTimeEntity {
         this.content = updatedFestival.getContent();
     }
 
+    /**
+     * updateFestivalInfo로 반영했을 때 바뀌는 값이 없는지 확인
+     * 새 좌표가 없으면 기존 좌표를 유지하므로 좌표는 둘 다 있을 때만 비교한다
+     */
+    public boolean hasSameInfo(Festival updatedFestival) {
+        return Objects.equals(title, updatedFestival.getTitle())
+            && Objects.equals(venue, updatedFestival.getVenue())
+            && Objects.equals(startDate, updatedFestival.getStartDate())
+            && Objects.equals(endDate, updatedFestival.getEndDate())
+            && Objects.equals(category, updatedFestival.getCategory())
+            && Objects.equals(district, updatedFestival.getDistrict())
+            && Objects.equals(targetAudience, updatedFestival.getTargetAudience())
+            && Objects.equals(feeInfo, updatedFestival.getFeeInfo())
+            && Objects.equals(isFree, updatedFestival.getIsFree())
+            && Objects.equals(performers, updatedFestival.getPerformers())
+            && Objects.equals(programInfo, updatedFestival.getProgramInfo())
+            && Objects.equals(mainImageUrl, updatedFestival.getMainImageUrl())
+            && Objects.equals(themeCode, updatedFestival.getThemeCode())
+            && Objects.equals(ticketType, updatedFestival.getTicketType())
+            && Objects.equals(organizer, updatedFestival.getOrganizer())
+            && Objects.equals(homepageUrl, updatedFestival.getHomepageUrl())
+            && Objects.equals(detailUrl, updatedFestival.getDetailUrl())
+            && Objects.equals(content, updatedFestival.getContent())
+            && hasSameCoordinates(updatedFestival.getLatitude(), updatedFestival.getLongitude());
+    }
+
+    private boolean hasSameCoordinates(BigDecimal newLatitude, BigDecimal newLongitude) {
+        if (newLatitude == null || newLongitude == null) {
+            return true;
+        }
+        // DECIMAL(10, 7)로 저장되므로 새 좌표도 소수 7자리로 맞춰 값으로 비교
+        return latitude != null && longitude != null
+            && latitude.compareTo(newLatitude.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP)) == 0
+            && longitude.compareTo(newLongitude.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP)) == 0;
+    }
+
     public void updateCoordinates(BigDecimal latitude, BigDecimal longitude) {
         this.latitude = latitude;
         this.longitude = longitude;
@@ -0,0 +1,9 @@
+package com.eventitta.festivals.dto.projection;
+
+import java.time.LocalDateTime;
+
+public interface FestivalIndexVersionProjection {
+    long getFestivalCount();
+
+    LocalDateTime getLastUpdatedAt();
+}
@@ -0,0 +1,26 @@
+package com.eventitta.festivals.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface FestivalLocationProjection {
+    Long getId();
+
+    String getTitle();
+
+    String getPlace();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    String getCategory();
+
+    Boolean getIsFree();
+
+    String getHomepageUrl();
+
+    BigDecimal getLatitude();
+
+    BigDecimal getLongitude();
+}
@@ -44,7 +44,13 @@ public record NearbyFestivalRequest(
     @Min(value = 1, message = SIZE_MIN)
     @Max(value = 100, message = SIZE_MAX)
     @Schema(description = "페이지 크기 (1~100)", example = "20")
-    Integer size
+    Integer size,
+
+    @Schema(description = "스크롤 조회 커서 - 직전 응답의 마지막 축제 거리 (첫 요청은 생략)", example = "1.2345")
+    Double cursorDistance,
+
+    @Schema(description = "스크롤 조회 커서 - 직전 응답의 마지막 축제 ID (첫 요청은 생략)", example = "42")
+    Long cursorId
 
 ) {
     public NearbyFestivalRequest {
@@ -52,6 +58,15 @@ public record NearbyFestivalRequest(
         if (size == null || size < 1 || size > 100) size = 20;
     }
 
+    public NearbyFestivalRequest(Double latitude, Double longitude, Double distanceKm,
+                                 LocalDate from, LocalDate to, Integer page, Integer size) {
+        this(latitude, longitude, distanceKm, from, to, page, size, null, null);
+    }
+
+    public boolean hasCursor() {
+        return cursorDistance != null && cursorId != null;
+    }
+
     public LocalDateTime getStartDateTime() {
         LocalDate start = (from != null ? from : LocalDate.now());
         return start.atStartOfDay();
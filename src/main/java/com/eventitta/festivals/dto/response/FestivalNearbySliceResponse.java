@@ -0,0 +1,38 @@
+package com.eventitta.festivals.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "전체 건수 없이 (거리, ID) 커서로 이어 받는 반경 내 축제 스크롤 응답")
+public record FestivalNearbySliceResponse(
+
+    @Schema(description = "조회된 축제 리스트 (거리, ID 순)")
+    List<FestivalNearbyResponse> content,
+
+    @Schema(description = "요청한 페이지 크기", example = "20")
+    int size,
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    boolean hasNext,
+
+    @Schema(description = "다음 요청의 cursorDistance (다음 페이지가 없으면 null)", example = "1.2345")
+    Double nextCursorDistance,
+
+    @Schema(description = "다음 요청의 cursorId (다음 페이지가 없으면 null)", example = "42")
+    Long nextCursorId
+
+) {
+    /**
+     * size + 1건까지 조회한 결과로 응답 생성
+     * 한 건이 더 있으면 다음 페이지가 있는 것으로 보고 잘라낸다
+     */
+    public static FestivalNearbySliceResponse of(List<FestivalNearbyResponse> rows, int size) {
+        if (rows.size() <= size) {
+            return new FestivalNearbySliceResponse(rows, size, false, null, null);
+        }
+        List<FestivalNearbyResponse> content = rows.subList(0, size);
+        FestivalNearbyResponse last = content.get(size - 1);
+        return new FestivalNearbySliceResponse(content, size, true, last.getDistance(), last.getId());
+    }
+}
@@ -11,7 +11,8 @@ public enum FestivalErrorCode implements ErrorCode {
     EXTERNAL_API_ERROR("외부 API 호출 중 오류가 발생했습니다.", HttpStatus.SERVICE_UNAVAILABLE),
     DATA_SYNC_ERROR("데이터 동기화 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     INVALID_LOCATION_RANGE("위치 검색 범위가 유효하지 않습니다.", HttpStatus.BAD_REQUEST),
-    INVALID_DATE_RANGE("날짜 범위가 유효하지 않습니다.", HttpStatus.BAD_REQUEST);
+    INVALID_DATE_RANGE("날짜 범위가 유효하지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("다음 페이지 커서가 유효하지 않습니다.", HttpStatus.BAD_REQUEST);
 
     private final String message;
     private final HttpStatus status;
@@ -2,6 +2,8 @@ package com.eventitta.festivals.repository;
 
 import com.eventitta.festivals.domain.Festival;
 import com.eventitta.festivals.domain.DataSource;
+import com.eventitta.festivals.dto.projection.FestivalIndexVersionProjection;
+import com.eventitta.festivals.dto.projection.FestivalLocationProjection;
 import com.eventitta.festivals.dto.projection.FestivalProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,11 +12,23 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface FestivalRepository extends JpaRepository<Festival, Long> {
+public interface FestivalRepository extends JpaRepository<Festival, Long>, FestivalRepositoryCustom {
     Optional<Festival> findByExternalIdAndDataSource(String externalId, DataSource dataSource);
 
+    /**
+     * 동기화 청크의 기존 축제를 IN 조회 한 번으로 가져온다 ((external_id, data_source) 유니크 인덱스 사용)
+     */
+    List<Festival> findByDataSourceAndExternalIdIn(DataSource dataSource, Collection<String> externalIds);
+
+    /**
+     * 반경 내 축제 조회
+     * location(SRID 4326 POINT)의 SPATIAL 인덱스로 Bounding Box(MBRContains)를 먼저 좁힌 뒤 ST_Distance_Sphere로 거리를 계산한다
+     * SRID 4326의 축 순서에 맞춰 좌표는 (위도, 경도) 순으로 넘긴다
+     */
     @Query(
         value = """
                 SELECT
@@ -26,17 +40,18 @@ public interface FestivalRepository extends JpaRepository<Festival, Long> {
                     f.category      AS category,
                     f.is_free       AS isFree,
                     f.homepage_url  AS homepageUrl,
-                    (
-                      6371 * acos(
-                        cos(radians(:latitude)) * cos(radians(f.latitude)) *
-                        cos(radians(f.longitude) - radians(:longitude)) +
-                        sin(radians(:latitude)) * sin(radians(f.latitude))
-                      )
-                    ) AS distance
+                    ST_Distance_Sphere(f.location, ST_SRID(POINT(:latitude, :longitude), 4326)) / 1000 AS distance
                 FROM festivals f
                 WHERE
-                  f.latitude BETWEEN :minLatitude AND :maxLatitude
-                  AND f.longitude BETWEEN :minLongitude AND :maxLongitude
+                  MBRContains(
+                    ST_SRID(ST_MakeEnvelope(
+                      POINT(GREATEST(:minLatitude, -90), GREATEST(:minLongitude, -180)),
+                      POINT(LEAST(:maxLatitude, 90), LEAST(:maxLongitude, 180))
+                    ), 4326),
+                    f.location
+                  )
+                  AND f.latitude IS NOT NULL
+                  AND f.longitude IS NOT NULL
                   AND f.start_date >= DATE(:startDateTime)
                   AND (:endDateTime IS NULL OR f.start_date <= DATE(:endDateTime))
                 HAVING distance <= :distanceKm
@@ -46,17 +61,18 @@ public interface FestivalRepository extends JpaRepository<Festival, Long> {
                 SELECT COUNT(*)
                 FROM festivals f
                 WHERE
-                  f.latitude BETWEEN :minLatitude AND :maxLatitude
-                  AND f.longitude BETWEEN :minLongitude AND :maxLongitude
+                  MBRContains(
+                    ST_SRID(ST_MakeEnvelope(
+                      POINT(GREATEST(:minLatitude, -90), GREATEST(:minLongitude, -180)),
+                      POINT(LEAST(:maxLatitude, 90), LEAST(:maxLongitude, 180))
+                    ), 4326),
+                    f.location
+                  )
+                  AND f.latitude IS NOT NULL
+                  AND f.longitude IS NOT NULL
                   AND f.start_date >= DATE(:startDateTime)
                   AND (:endDateTime IS NULL OR f.start_date <= DATE(:endDateTime))
-                  AND (
-                    6371 * acos(
-                      cos(radians(:latitude)) * cos(radians(f.latitude)) *
-                      cos(radians(f.longitude) - radians(:longitude)) +
-                      sin(radians(:latitude)) * sin(radians(f.latitude))
-                    )
-                  ) <= :distanceKm
+                  AND ST_Distance_Sphere(f.location, ST_SRID(POINT(:latitude, :longitude), 4326)) / 1000 <= :distanceKm
             """,
         nativeQuery = true
     )
@@ -72,4 +88,79 @@ public interface FestivalRepository extends JpaRepository<Festival, Long> {
         @Param("endDateTime") LocalDateTime endDateTime,
         Pageable pageable
     );
+
+    /**
+     * 반경 내 축제 스크롤 조회 (COUNT 쿼리 없이 LIMIT로 다음 페이지 여부 확인)
+     * (거리, ID) 커서 다음부터 조회하며, 첫 요청은 커서를 null로 넘긴다
+     */
+    @Query(
+        value = """
+                SELECT
+                    f.id            AS id,
+                    f.title         AS title,
+                    f.venue         AS place,
+                    f.start_date    AS startTime,
+                    f.end_date      AS endTime,
+                    f.category      AS category,
+                    f.is_free       AS isFree,
+                    f.homepage_url  AS homepageUrl,
+                    ST_Distance_Sphere(f.location, ST_SRID(POINT(:latitude, :longitude), 4326)) / 1000 AS distance
+                FROM festivals f
+                WHERE
+                  MBRContains(
+                    ST_SRID(ST_MakeEnvelope(
+                      POINT(GREATEST(:minLatitude, -90), GREATEST(:minLongitude, -180)),
+                      POINT(LEAST(:maxLatitude, 90), LEAST(:maxLongitude, 180))
+                    ), 4326),
+                    f.location
+                  )
+                  AND f.latitude IS NOT NULL
+                  AND f.longitude IS NOT NULL
+                  AND f.start_date >= DATE(:startDateTime)
+                  AND (:endDateTime IS NULL OR f.start_date <= DATE(:endDateTime))
+                HAVING distance <= :distanceKm
+                  AND (
+                    :cursorDistance IS NULL
+                    OR distance > :cursorDistance
+                    OR (distance = :cursorDistance AND id > :cursorId)
+                  )
+                ORDER BY distance ASC, id ASC
+                LIMIT :limit
+            """,
+        nativeQuery = true
+    )
+    List<FestivalProjection> findFestivalsWithinDistanceAfterCursor(
+        @Param("latitude") double latitude,
+        @Param("longitude") double longitude,
+        @Param("distanceKm") double distanceKm,
+        @Param("minLatitude") double minLatitude,
+        @Param("maxLatitude") double maxLatitude,
+        @Param("minLongitude") double minLongitude,
+        @Param("maxLongitude") double maxLongitude,
+        @Param("startDateTime") LocalDateTime startDateTime,
+        @Param("endDateTime") LocalDateTime endDateTime,
+        @Param("cursorDistance") Double cursorDistance,
+        @Param("cursorId") Long cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 주변 축제 인메모리 인덱스 적재용 조회
+     * 네이티브 검색 쿼리에서 걸러지는 좌표/시작일 없는 축제는 처음부터 제외한다
+     */
+    @Query("""
+            SELECT f.id AS id, f.title AS title, f.venue AS place,
+                   f.startDate AS startDate, f.endDate AS endDate,
+                   f.category AS category, f.isFree AS isFree, f.homepageUrl AS homepageUrl,
+                   f.latitude AS latitude, f.longitude AS longitude
+            FROM Festival f
+            WHERE f.latitude IS NOT NULL AND f.longitude IS NOT NULL AND f.startDate IS NOT NULL
+        """)
+    List<FestivalLocationProjection> findAllIndexable();
+
+    /**
+     * 주변 축제 인메모리 인덱스 갱신 필요 여부 판단용 버전 (건수 + 마지막 수정 시각)
+     */
+    @Query("SELECT COUNT(f) AS festivalCount, MAX(f.updatedAt) AS lastUpdatedAt FROM Festival f")
+    FestivalIndexVersionProjection findIndexVersion();
 }
@@ -0,0 +1,16 @@
+package com.eventitta.festivals.repository;
+
+import com.eventitta.festivals.domain.Festival;
+
+import java.util.List;
+
+public interface FestivalRepositoryCustom {
+
+    /**
+     * 축제 목록을 JDBC 배치 INSERT ... ON DUPLICATE KEY UPDATE로 한 번에 반영
+     * (external_id, data_source) 유니크 인덱스로 신규/기존을 구분하며, 새 좌표가 없으면 기존 좌표를 유지한다
+     *
+     * @param festivals 반영할 축제 (같은 키가 중복되지 않아야 함)
+     */
+    void upsertAll(List<Festival> festivals);
+}
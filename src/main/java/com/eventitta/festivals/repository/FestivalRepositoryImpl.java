@@ -0,0 +1,81 @@
+package com.eventitta.festivals.repository;
+
+import com.eventitta.festivals.domain.Festival;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class FestivalRepositoryImpl implements FestivalRepositoryCustom {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO festivals (title, venue, start_date, end_date, category, district, target_audience, fee_info, " +
+            "is_free, performers, program_info, main_image_url, theme_code, ticket_type, organizer, homepage_url, " +
+            "detail_url, latitude, longitude, content, data_source, external_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            "title = new.title, venue = new.venue, " +
+            "start_date = new.start_date, end_date = new.end_date, " +
+            "category = new.category, district = new.district, " +
+            "target_audience = new.target_audience, fee_info = new.fee_info, is_free = new.is_free, " +
+            "performers = new.performers, program_info = new.program_info, " +
+            "main_image_url = new.main_image_url, theme_code = new.theme_code, " +
+            "ticket_type = new.ticket_type, organizer = new.organizer, " +
+            "homepage_url = new.homepage_url, detail_url = new.detail_url, " +
+            "latitude = CASE WHEN new.latitude IS NULL OR new.longitude IS NULL " +
+            "THEN festivals.latitude ELSE new.latitude END, " +
+            "longitude = CASE WHEN new.latitude IS NULL OR new.longitude IS NULL " +
+            "THEN festivals.longitude ELSE new.longitude END, " +
+            "content = new.content, updated_at = new.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(List<Festival> festivals) {
+        if (festivals.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(festivals.size());
+        for (Festival festival : festivals) {
+            args.add(new Object[]{
+                festival.getTitle(),
+                festival.getVenue(),
+                toDate(festival.getStartDate()),
+                toDate(festival.getEndDate()),
+                festival.getCategory(),
+                festival.getDistrict(),
+                festival.getTargetAudience(),
+                festival.getFeeInfo(),
+                festival.getIsFree(),
+                festival.getPerformers(),
+                festival.getProgramInfo(),
+                festival.getMainImageUrl(),
+                festival.getThemeCode(),
+                festival.getTicketType(),
+                festival.getOrganizer(),
+                festival.getHomepageUrl(),
+                festival.getDetailUrl(),
+                festival.getLatitude(),
+                festival.getLongitude(),
+                festival.getContent(),
+                festival.getDataSource().name(),
+                festival.getExternalId(),
+                now,
+                now
+            });
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+}
@@ -1,7 +1,9 @@
 package com.eventitta.festivals.service;
 
 import com.eventitta.common.response.PageResponse;
+import com.eventitta.festivals.dto.projection.FestivalProjection;
 import com.eventitta.festivals.dto.response.FestivalNearbyResponse;
+import com.eventitta.festivals.dto.response.FestivalNearbySliceResponse;
 import com.eventitta.festivals.dto.request.NearbyFestivalRequest;
 import com.eventitta.festivals.exception.FestivalErrorCode;
 import com.eventitta.festivals.repository.FestivalRepository;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -24,13 +27,17 @@ public class FestivalService {
     private final NationalFestivalInitializer nationalFestivalInitializer;
     private final FestivalRepository festivalRepository;
     private final BoundingBoxCalculator boundingBoxCalculator;
+    private final FestivalSpatialIndex festivalSpatialIndex;
+    private final NearbyFestivalCache nearbyFestivalCache;
 
     public void loadInitialNationalFestivalData() {
         nationalFestivalInitializer.loadInitialData();
+        refreshNearbySearch();
     }
 
     public void loadInitialSeoulFestivalData() {
         seoulFestivalInitializer.loadInitialData();
+        refreshNearbySearch();
     }
 
     /**
@@ -43,6 +50,9 @@ public class FestivalService {
         var metrics = seoulFestivalInitializer.loadDataForDate(today);
         int totalProcessed = metrics.getInsertCount() + metrics.getUpdateCount();
         log.info("서울시 축제 데이터 일별 동기화 완료 - 대상 날짜: {}, 처리 건수: {}", today, totalProcessed);
+        if (totalProcessed > 0) {
+            refreshNearbySearch();
+        }
         return totalProcessed;
     }
 
@@ -50,6 +60,20 @@ public class FestivalService {
         // 유효성 검증
         validateNearbyFestivalRequest(req);
 
+        // 좌표/반경을 geohash 셀 단위로 맞춰 같은 셀의 요청은 캐시된 결과를 공유
+        return nearbyFestivalCache.get(req, this::searchNearbyFestival);
+    }
+
+    private PageResponse<FestivalNearbyResponse> searchNearbyFestival(NearbyFestivalRequest req) {
+        // 인메모리 인덱스가 준비되어 있으면 DB를 거치지 않고 처리
+        if (festivalSpatialIndex.isReady()) {
+            return PageResponse.of(festivalSpatialIndex.search(
+                req.latitude(), req.longitude(), req.distanceKm(),
+                req.getStartDateTime(), req.getEndDateTime(),
+                PageRequest.of(req.page(), req.size())
+            ));
+        }
+
         // Bounding Box 계산
         BoundingBox box = boundingBoxCalculator.calculate(
             req.latitude(),
@@ -67,7 +91,49 @@ public class FestivalService {
         );
 
         // Projection을 DTO로 변환
-        var dtoPage = page.map(projection -> FestivalNearbyResponse.builder()
+        var dtoPage = page.map(this::toNearbyResponse);
+
+        return PageResponse.of(dtoPage);
+    }
+
+    /**
+     * 무한 스크롤용 주변 축제 조회
+     * 전체 건수를 세지 않고 size + 1건을 (거리, ID) 커서 다음부터 조회해 다음 페이지 여부만 판단한다
+     */
+    public FestivalNearbySliceResponse getNearbyFestivalSlice(NearbyFestivalRequest req) {
+        validateNearbyFestivalRequest(req);
+        if ((req.cursorDistance() == null) != (req.cursorId() == null)) {
+            throw FestivalErrorCode.INVALID_CURSOR.defaultException();
+        }
+
+        int limit = req.size() + 1;
+        if (festivalSpatialIndex.isReady()) {
+            return FestivalNearbySliceResponse.of(festivalSpatialIndex.searchAfter(
+                req.latitude(), req.longitude(), req.distanceKm(),
+                req.getStartDateTime(), req.getEndDateTime(),
+                req.cursorDistance(), req.cursorId(), limit
+            ), req.size());
+        }
+
+        BoundingBox box = boundingBoxCalculator.calculate(
+            req.latitude(),
+            req.longitude(),
+            req.distanceKm()
+        );
+        List<FestivalNearbyResponse> rows = festivalRepository.findFestivalsWithinDistanceAfterCursor(
+                req.latitude(), req.longitude(), req.distanceKm(),
+                box.minLatitude(), box.maxLatitude(),
+                box.minLongitude(), box.maxLongitude(),
+                req.getStartDateTime(), req.getEndDateTime(),
+                req.cursorDistance(), req.cursorId(), limit
+            ).stream()
+            .map(this::toNearbyResponse)
+            .toList();
+        return FestivalNearbySliceResponse.of(rows, req.size());
+    }
+
+    private FestivalNearbyResponse toNearbyResponse(FestivalProjection projection) {
+        return FestivalNearbyResponse.builder()
             .id(projection.getId())
             .title(projection.getTitle())
             .place(projection.getPlace())
@@ -77,9 +143,21 @@ public class FestivalService {
             .isFree(projection.getIsFree())
             .homepageUrl(projection.getHomepageUrl())
             .distance(projection.getDistance())
-            .build());
+            .build();
+    }
 
-        return PageResponse.of(dtoPage);
+    /**
+     * 동기화로 바뀐 축제 데이터를 주변 검색 인덱스와 응답 캐시에 반영 (캐시는 인덱스를 교체할 때 함께 비워진다)
+     * 인덱스 갱신은 실패해도 동기화 결과에는 영향을 주지 않으며, 다른 노드와 같은 주기적 갱신 확인으로 다시 반영된다
+     */
+    private void refreshNearbySearch() {
+        try {
+            festivalSpatialIndex.rebuild();
+        } catch (Exception e) {
+            log.warn("주변 축제 인덱스 갱신 실패 - error={}", e.getMessage());
+            // 인덱스가 없어 DB로 조회한 결과가 캐시에 남아 있을 수 있다
+            nearbyFestivalCache.evictAll();
+        }
     }
 
     /**
@@ -0,0 +1,323 @@
+package com.eventitta.festivals.service;
+
+import com.eventitta.festivals.dto.projection.FestivalIndexVersionProjection;
+import com.eventitta.festivals.dto.projection.FestivalLocationProjection;
+import com.eventitta.festivals.dto.response.FestivalNearbyResponse;
+import com.eventitta.festivals.repository.FestivalRepository;
+import com.eventitta.festivals.util.BoundingBox;
+import com.eventitta.festivals.util.BoundingBoxCalculator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주변 축제 검색용 인메모리 공간 인덱스
+ *
+ * <p>축제 좌표를 0.1도 격자로 나눠 primitive 배열로 들고 있다가, 검색 시 Bounding Box에 걸치는 격자만 훑어
+ * 날짜/거리 조건을 확인합니다. 지도를 움직일 때마다 MySQL에서 삼각함수 거리 계산과 COUNT 쿼리를 반복하지 않도록 하기 위한 것입니다.</p>
+ *
+ * <p>축제 데이터는 일별/분기별 동기화 때만 바뀌므로 동기화 직후 다시 만들고, 만들어진 스냅샷은 참조 교체로 원자적으로 바꿉니다.
+ * 동기화는 ShedLock으로 한 노드에서만 돌기 때문에 다른 노드는 주기적으로 (건수, 마지막 수정 시각)을 비교해 바뀌었을 때만 다시 만듭니다.
+ * 아직 만들어지지 않았으면 {@link #isReady()}가 false이며, 호출자는 DB 쿼리로 처리합니다.
+ * 스냅샷을 바꿀 때마다 이전 인덱스로 만든 응답이 남지 않도록 {@link NearbyFestivalCache}도 비웁니다.</p>
+ *
+ * <p>검색 조건은 {@code FestivalRepository.findFestivalsWithinDistanceAndDateBetween}과 같습니다
+ * (시작일 기준 날짜 필터, Bounding Box 1차 필터, ST_Distance_Sphere와 같은 반지름의 구면 거리).</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FestivalSpatialIndex {
+
+    // MySQL ST_Distance_Sphere의 기본 반지름
+    private static final double EARTH_RADIUS_KM = 6370.986;
+    private static final double CELL_SIZE_DEGREES = 0.1;
+    private static final int LON_CELLS = (int) Math.ceil(360 / CELL_SIZE_DEGREES) + 1;
+    private static final long REFRESH_CHECK_INTERVAL_MS = 600_000L;
+
+    private final FestivalRepository festivalRepository;
+    private final BoundingBoxCalculator boundingBoxCalculator;
+    private final NearbyFestivalCache nearbyFestivalCache;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 만들어지기 전까지는 DB 쿼리로 처리된다
+            log.warn("[FestivalIndex] 초기 인덱스 생성 실패 - error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 동기화로 데이터가 바뀌었으면 다시 만든다
+     */
+    @Scheduled(fixedDelay = REFRESH_CHECK_INTERVAL_MS, initialDelay = REFRESH_CHECK_INTERVAL_MS)
+    public void refreshIfChanged() {
+        try {
+            Snapshot current = snapshot;
+            if (current == null || !current.version().equals(IndexVersion.of(festivalRepository.findIndexVersion()))) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("[FestivalIndex] 인덱스 갱신 확인 실패 - error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 축제를 다시 읽어 새 스냅샷으로 교체
+     * 버전을 먼저 읽으므로, 적재 도중 바뀐 데이터는 다음 갱신 확인에서 다시 반영된다
+     * 교체한 뒤 주변 축제 캐시를 비워, 갱신 확인으로 다시 만든 노드도 이전 결과를 TTL까지 내주지 않게 한다
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startNanos = System.nanoTime();
+            IndexVersion version = IndexVersion.of(festivalRepository.findIndexVersion());
+            Snapshot built = Snapshot.build(festivalRepository.findAllIndexable(), version);
+            snapshot = built;
+            nearbyFestivalCache.evictAll();
+            log.info("[FestivalIndex] 인덱스 생성 완료 - festivals={}, cells={}, elapsedMs={}",
+                built.size(), built.cellCount(), (System.nanoTime() - startNanos) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 반경 안에서 시작일이 [from, to]인 축제를 가까운 순으로 조회
+     */
+    public Page<FestivalNearbyResponse> search(double latitude, double longitude, double distanceKm,
+                                              LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                              Pageable pageable) {
+        Snapshot current = currentSnapshot();
+        List<Hit> hits = sortedHits(current, latitude, longitude, distanceKm, startDateTime, endDateTime);
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        return new PageImpl<>(current.toResponses(hits.subList(from, to)), pageable, hits.size());
+    }
+
+    /**
+     * (거리, ID) 커서 다음부터 최대 limit건 조회 (커서가 null이면 처음부터)
+     */
+    public List<FestivalNearbyResponse> searchAfter(double latitude, double longitude, double distanceKm,
+                                                    LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                                    Double cursorDistance, Long cursorId, int limit) {
+        Snapshot current = currentSnapshot();
+        List<Hit> hits = sortedHits(current, latitude, longitude, distanceKm, startDateTime, endDateTime);
+
+        int from = 0;
+        if (cursorDistance != null && cursorId != null) {
+            while (from < hits.size() && !isAfterCursor(current, hits.get(from), cursorDistance, cursorId)) {
+                from++;
+            }
+        }
+        int to = Math.min(from + limit, hits.size());
+        return current.toResponses(hits.subList(from, to));
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Festival spatial index is not ready");
+        }
+        return current;
+    }
+
+    private List<Hit> sortedHits(Snapshot current, double latitude, double longitude, double distanceKm,
+                                 LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        BoundingBox box = boundingBoxCalculator.calculate(latitude, longitude, distanceKm);
+        List<Hit> hits = current.findWithin(latitude, longitude, distanceKm, box,
+            startDateTime.toLocalDate().toEpochDay(), endDateTime.toLocalDate().toEpochDay());
+        hits.sort(Comparator.comparingDouble(Hit::distance).thenComparingLong(hit -> current.ids[hit.index()]));
+        return hits;
+    }
+
+    private boolean isAfterCursor(Snapshot current, Hit hit, double cursorDistance, long cursorId) {
+        int compared = Double.compare(hit.distance(), cursorDistance);
+        return compared > 0 || (compared == 0 && current.ids[hit.index()] > cursorId);
+    }
+
+    private record Hit(int index, double distance) {
+    }
+
+    private record IndexVersion(long festivalCount, LocalDateTime lastUpdatedAt) {
+        static IndexVersion of(FestivalIndexVersionProjection projection) {
+            return new IndexVersion(projection.getFestivalCount(), projection.getLastUpdatedAt());
+        }
+    }
+
+    /**
+     * 불변 인덱스 스냅샷
+     * 좌표/날짜는 primitive 배열로, 격자는 셀 키 → 축제 인덱스 배열로 보관한다
+     */
+    private static final class Snapshot {
+        private final IndexVersion version;
+        private final long[] ids;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final long[] startEpochDays;
+        private final FestivalLocationProjection[] rows;
+        private final Map<Long, int[]> cells;
+
+        private Snapshot(IndexVersion version, FestivalLocationProjection[] rows) {
+            int size = rows.length;
+            this.version = version;
+            this.rows = rows;
+            this.ids = new long[size];
+            this.latitudes = new double[size];
+            this.longitudes = new double[size];
+            this.startEpochDays = new long[size];
+
+            Map<Long, List<Integer>> members = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                FestivalLocationProjection row = rows[i];
+                ids[i] = row.getId();
+                latitudes[i] = row.getLatitude().doubleValue();
+                longitudes[i] = row.getLongitude().doubleValue();
+                startEpochDays[i] = row.getStartDate().toEpochDay();
+                members.computeIfAbsent(cellKey(latCell(latitudes[i]), lonCell(longitudes[i])), key -> new ArrayList<>())
+                    .add(i);
+            }
+
+            this.cells = new HashMap<>(members.size() * 2);
+            members.forEach((key, indexes) -> cells.put(key, indexes.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        static Snapshot build(List<FestivalLocationProjection> rows, IndexVersion version) {
+            FestivalLocationProjection[] valid = rows.stream()
+                .filter(row -> row.getLatitude() != null && row.getLongitude() != null && row.getStartDate() != null)
+                .toArray(FestivalLocationProjection[]::new);
+            return new Snapshot(version, valid);
+        }
+
+        IndexVersion version() {
+            return version;
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        int cellCount() {
+            return cells.size();
+        }
+
+        List<Hit> findWithin(double latitude, double longitude, double distanceKm, BoundingBox box,
+                             long fromEpochDay, long toEpochDay) {
+            List<Hit> hits = new ArrayList<>();
+            double latRad = Math.toRadians(latitude);
+            double sinLat = Math.sin(latRad);
+            double cosLat = Math.cos(latRad);
+            double lonRad = Math.toRadians(longitude);
+
+            int minLatCell = latCell(Math.max(box.minLatitude(), -90));
+            int maxLatCell = latCell(Math.min(box.maxLatitude(), 90));
+            int minLonCell = lonCell(Math.max(box.minLongitude(), -180));
+            int maxLonCell = lonCell(Math.min(box.maxLongitude(), 180));
+            long boxCells = (long) (maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1);
+
+            if (boxCells > cells.size()) {
+                // 고위도처럼 Bounding Box가 격자 수보다 넓으면 채워진 셀만 훑는다
+                for (int[] members : cells.values()) {
+                    collect(members, hits, box, fromEpochDay, toEpochDay, sinLat, cosLat, lonRad, distanceKm);
+                }
+                return hits;
+            }
+
+            for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                    int[] members = cells.get(cellKey(latCell, lonCell));
+                    if (members != null) {
+                        collect(members, hits, box, fromEpochDay, toEpochDay, sinLat, cosLat, lonRad, distanceKm);
+                    }
+                }
+            }
+            return hits;
+        }
+
+        private void collect(int[] members, List<Hit> hits, BoundingBox box, long fromEpochDay, long toEpochDay,
+                             double sinLat, double cosLat, double lonRad, double distanceKm) {
+            for (int i : members) {
+                if (startEpochDays[i] < fromEpochDay || startEpochDays[i] > toEpochDay) {
+                    continue;
+                }
+                double lat = latitudes[i];
+                double lon = longitudes[i];
+                if (lat < box.minLatitude() || lat > box.maxLatitude()
+                    || lon < box.minLongitude() || lon > box.maxLongitude()) {
+                    continue;
+                }
+                double distance = distanceKm(sinLat, cosLat, lonRad, lat, lon);
+                if (distance <= distanceKm) {
+                    hits.add(new Hit(i, distance));
+                }
+            }
+        }
+
+        List<FestivalNearbyResponse> toResponses(List<Hit> hits) {
+            List<FestivalNearbyResponse> responses = new ArrayList<>(hits.size());
+            for (Hit hit : hits) {
+                responses.add(toResponse(hit));
+            }
+            return responses;
+        }
+
+        private FestivalNearbyResponse toResponse(Hit hit) {
+            FestivalLocationProjection row = rows[hit.index()];
+            return FestivalNearbyResponse.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .place(row.getPlace())
+                .startTime(row.getStartDate().atStartOfDay())
+                .endTime(row.getEndDate() != null ? row.getEndDate().atTime(23, 59, 59) : null)
+                .category(row.getCategory())
+                .isFree(row.getIsFree())
+                .homepageUrl(row.getHomepageUrl())
+                .distance(hit.distance())
+                .build();
+        }
+
+        // 구면 코사인 법칙 (부동소수 오차로 1을 살짝 넘는 경우를 막는다)
+        private static double distanceKm(double sinLat, double cosLat, double lonRad, double lat, double lon) {
+            double targetLatRad = Math.toRadians(lat);
+            double cosine = cosLat * Math.cos(targetLatRad) * Math.cos(Math.toRadians(lon) - lonRad)
+                + sinLat * Math.sin(targetLatRad);
+            return EARTH_RADIUS_KM * Math.acos(Math.max(-1.0, Math.min(1.0, cosine)));
+        }
+
+        private static int latCell(double latitude) {
+            return (int) Math.floor((latitude + 90) / CELL_SIZE_DEGREES);
+        }
+
+        private static int lonCell(double longitude) {
+            return (int) Math.floor((longitude + 180) / CELL_SIZE_DEGREES);
+        }
+
+        private static long cellKey(int latCell, int lonCell) {
+            return (long) latCell * LON_CELLS + lonCell;
+        }
+    }
+}
@@ -25,11 +25,13 @@ public class NationalFestivalInitializer {
         try {
             LocalDate cutoff = calculateCutoffDate();
             var metrics = processEvents(cutoff);
-            log.info("국가 문화행사 적재 완료: INSERT={}, UPDATE={}, SKIP={}, OUTDATED={}",
+            log.info("국가 문화행사 적재 완료: INSERT={}, UPDATE={}, SKIP={}, OUTDATED={}, elapsedMs={}, rows/sec={}",
                 metrics.getInsertCount(),
                 metrics.getUpdateCount(),
                 metrics.getSkipCount(),
-                metrics.getOutdatedCount());
+                metrics.getOutdatedCount(),
+                metrics.getElapsedMillis(),
+                String.format("%.1f", metrics.getRowsPerSecond()));
         } catch (Exception e) {
             log.error("전국 축제 데이터 로딩 중 오류 발생", e);
             throw FestivalErrorCode.DATA_SYNC_ERROR.defaultException(e);
@@ -42,14 +44,8 @@ public class NationalFestivalInitializer {
 
     private FestivalProcessor.ProcessingMetrics processEvents(LocalDate cutoff) {
         try {
-            var metrics = new FestivalProcessor.ProcessingMetrics();
             var eventIterator = dataLoader.loadEvents(nationalServiceKey);
-
-            eventIterator.forEachRemaining(event ->
-                metrics.record(eventProcessor.processEvent(event, cutoff))
-            );
-
-            return metrics;
+            return eventProcessor.processEvents(eventIterator, cutoff);
         } catch (Exception e) {
             log.error("전국 축제 이벤트 처리 중 오류 발생", e);
             throw FestivalErrorCode.EXTERNAL_API_ERROR.defaultException(e);
@@ -0,0 +1,93 @@
+package com.eventitta.festivals.service;
+
+import com.eventitta.common.response.PageResponse;
+import com.eventitta.festivals.dto.request.NearbyFestivalRequest;
+import com.eventitta.festivals.dto.response.FestivalNearbyResponse;
+import com.eventitta.festivals.util.GeoHash;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import static com.eventitta.common.config.cache.CacheConstants.NEARBY_FESTIVALS;
+
+/**
+ * 주변 축제 검색 응답 캐시
+ *
+ * <p>서울시청, 강남역처럼 사용자가 몰리는 곳에서는 거의 같은 좌표/반경/기간 요청이 반복됩니다.
+ * 좌표를 geohash 셀(정밀도 7, 약 150m) 중심으로, 반경을 구간 단위로 올림한 요청을 키로 삼아
+ * 같은 셀의 요청이 한 번의 조회 결과를 공유하도록 합니다. 거리는 셀 중심 기준으로 계산됩니다.</p>
+ *
+ * <p>셀 중심은 실제 좌표에서 최대 약 110m 떨어져 있어, 반경이 작을수록 결과와 거리가 요청과 어긋나는 비율이 커집니다.
+ * 그래서 반경이 {@value #MIN_CACHEABLE_DISTANCE_KM}km 미만인 요청은 맞추지도 캐시하지도 않고 실제 좌표로 바로 조회합니다.</p>
+ *
+ * <p>{@link FestivalSpatialIndex}가 스냅샷을 교체할 때마다 {@link #evictAll()}로 비우므로, 동기화를 돌리지 않은 노드도 인덱스 갱신 확인 때 함께 비워집니다.
+ * 적중률은 recordStats()로 수집되어 cache.gets{cache=nearbyFestivals} 메트릭으로 노출됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearbyFestivalCache {
+
+    private static final int GEOHASH_PRECISION = 7;
+    // 셀 중심과 실제 좌표의 최대 오차(약 110m)가 반경의 5% 남짓이 되는 지점
+    static final double MIN_CACHEABLE_DISTANCE_KM = 2.0;
+    private static final double DISTANCE_BUCKET_KM = 0.5;
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 맞춘 요청으로 캐시를 조회하고, 없으면 맞춘 요청으로 loader를 실행해 저장
+     * 반경이 작은 요청은 캐시를 거치지 않고 원래 요청으로 loader를 실행한다
+     */
+    public PageResponse<FestivalNearbyResponse> get(
+        NearbyFestivalRequest request,
+        Function<NearbyFestivalRequest, PageResponse<FestivalNearbyResponse>> loader
+    ) {
+        if (request.distanceKm() < MIN_CACHEABLE_DISTANCE_KM) {
+            return loader.apply(request);
+        }
+        NearbyFestivalRequest snapped = snap(request);
+        return cache().get(cacheKey(snapped), () -> loader.apply(snapped));
+    }
+
+    public void evictAll() {
+        cache().clear();
+        log.info("주변 축제 캐시 무효화 완료");
+    }
+
+    static NearbyFestivalRequest snap(NearbyFestivalRequest request) {
+        double[] center = GeoHash.snapToCellCenter(request.latitude(), request.longitude(), GEOHASH_PRECISION);
+        return new NearbyFestivalRequest(
+            center[0],
+            center[1],
+            snapDistanceKm(request.distanceKm()),
+            request.getStartDateTime().toLocalDate(),
+            request.to(),
+            request.page(),
+            request.size()
+        );
+    }
+
+    // 0.5km 단위로 올림 (요청한 반경보다 좁게 조회하지 않도록), 부동소수 오차로 한 구간 더 올라가지 않게 보정
+    static double snapDistanceKm(double distanceKm) {
+        return Math.ceil(distanceKm / DISTANCE_BUCKET_KM - 1e-9) * DISTANCE_BUCKET_KM;
+    }
+
+    private static String cacheKey(NearbyFestivalRequest snapped) {
+        return GeoHash.encode(snapped.latitude(), snapped.longitude(), GEOHASH_PRECISION)
+            + ':' + snapped.distanceKm()
+            + ':' + snapped.from()
+            + ':' + snapped.to()
+            + ':' + snapped.page()
+            + ':' + snapped.size();
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(NEARBY_FESTIVALS), "Cache not configured: " + NEARBY_FESTIVALS);
+    }
+}
@@ -25,11 +25,13 @@ public class SeoulFestivalInitializer {
         try {
             LocalDate cutoff = calculateCutoffDate();
             var metrics = processEvents(cutoff);
-            log.info("서울시 문화행사 적재 완료: INSERT={}, UPDATE={}, SKIP={}, OUTDATED={}",
+            log.info("서울시 문화행사 적재 완료: INSERT={}, UPDATE={}, SKIP={}, OUTDATED={}, elapsedMs={}, rows/sec={}",
                 metrics.getInsertCount(),
                 metrics.getUpdateCount(),
                 metrics.getSkipCount(),
-                metrics.getOutdatedCount());
+                metrics.getOutdatedCount(),
+                metrics.getElapsedMillis(),
+                String.format("%.1f", metrics.getRowsPerSecond()));
         } catch (Exception e) {
             log.error("서울시 축제 데이터 로딩 중 오류 발생", e);
             throw FestivalErrorCode.DATA_SYNC_ERROR.defaultException(e);
@@ -43,11 +45,13 @@ public class SeoulFestivalInitializer {
         try {
             LocalDate cutoff = calculateCutoffDate();
             var metrics = processEventsForDate(targetDate, cutoff);
-            log.info("서울시 문화행사 적재 완료: INSERT={}, UPDATE={}, SKIP={}, OUTDATED={}",
+            log.info("서울시 문화행사 적재 완료: INSERT={}, UPDATE={}, SKIP={}, OUTDATED={}, elapsedMs={}, rows/sec={}",
                 metrics.getInsertCount(),
                 metrics.getUpdateCount(),
                 metrics.getSkipCount(),
-                metrics.getOutdatedCount());
+                metrics.getOutdatedCount(),
+                metrics.getElapsedMillis(),
+                String.format("%.1f", metrics.getRowsPerSecond()));
             return metrics;
         } catch (Exception e) {
             log.error("서울시 축제 데이터 날짜별 로딩 중 오류 발생 - 대상 날짜: {}", targetDate, e);
@@ -61,14 +65,8 @@ public class SeoulFestivalInitializer {
 
     private FestivalProcessor.ProcessingMetrics processEvents(LocalDate cutoff) {
         try {
-            var metrics = new FestivalProcessor.ProcessingMetrics();
             var eventIterator = dataLoader.loadEvents(seoulServiceKey);
-
-            eventIterator.forEachRemaining(event ->
-                metrics.record(eventProcessor.processEvent(event, cutoff))
-            );
-
-            return metrics;
+            return eventProcessor.processEvents(eventIterator, cutoff);
         } catch (Exception e) {
             log.error("서울시 축제 이벤트 처리 중 오류 발생", e);
             throw FestivalErrorCode.EXTERNAL_API_ERROR.defaultException(e);
@@ -77,14 +75,8 @@ public class SeoulFestivalInitializer {
 
     private FestivalProcessor.ProcessingMetrics processEventsForDate(LocalDate targetDate, LocalDate cutoff) {
         try {
-            var metrics = new FestivalProcessor.ProcessingMetrics();
             var eventIterator = dataLoader.loadEventsForDate(seoulServiceKey, targetDate);
-
-            eventIterator.forEachRemaining(event ->
-                metrics.record(eventProcessor.processEvent(event, cutoff))
-            );
-
-            return metrics;
+            return eventProcessor.processEvents(eventIterator, cutoff);
         } catch (Exception e) {
             log.error("서울시 축제 이벤트 날짜별 처리 중 오류 발생 - 대상 날짜: {}", targetDate, e);
             throw FestivalErrorCode.EXTERNAL_API_ERROR.defaultException(e);
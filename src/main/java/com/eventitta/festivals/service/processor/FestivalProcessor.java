@@ -1,46 +1,109 @@
 package com.eventitta.festivals.service.processor;
 
+import com.eventitta.festivals.domain.DataSource;
 import com.eventitta.festivals.domain.Festival;
 import com.eventitta.festivals.repository.FestivalRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
-
+import java.util.stream.Collectors;
+
+/**
+ * 축제 동기화 처리
+ *
+ * <p>건마다 SELECT + INSERT/UPDATE를 하지 않도록 청크 단위로 처리합니다.
+ * 청크의 기존 축제를 (external_id, data_source) IN 조회 한 번으로 가져와 메모리에서 비교하고,
+ * 신규/변경분만 JDBC 배치 INSERT ... ON DUPLICATE KEY UPDATE로 씁니다. 바뀐 값이 없으면 SKIPPED입니다.</p>
+ */
 @Component
 @RequiredArgsConstructor
 public class FestivalProcessor {
 
+    static final int UPSERT_CHUNK_SIZE = 500;
+
     private final FestivalRepository eventRepository;
 
-    public ProcessingResult processEvent(Festival event, LocalDate cutoff) {
-        if (isEventOutdated(event, cutoff)) {
-            return ProcessingResult.OUTDATED;
+    public ProcessingMetrics processEvents(Iterator<Festival> events, LocalDate cutoff) {
+        var metrics = new ProcessingMetrics();
+        List<Festival> chunk = new ArrayList<>(UPSERT_CHUNK_SIZE);
+
+        while (events.hasNext()) {
+            Festival event = events.next();
+            if (isEventOutdated(event, cutoff)) {
+                metrics.record(ProcessingResult.OUTDATED);
+                continue;
+            }
+            chunk.add(event);
+            if (chunk.size() == UPSERT_CHUNK_SIZE) {
+                upsertChunk(chunk, metrics);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            upsertChunk(chunk, metrics);
         }
 
-        return saveOrUpdateEvent(event);
+        metrics.finish();
+        return metrics;
     }
 
     private boolean isEventOutdated(Festival event, LocalDate cutoff) {
         return event.getEndDate() != null && event.getEndDate().isBefore(cutoff);
     }
 
-    private ProcessingResult saveOrUpdateEvent(Festival event) {
-        return eventRepository.findByExternalIdAndDataSource(event.getExternalId(), event.getDataSource())
-            .map(existing -> updateExistingEvent(existing, event))
-            .orElseGet(() -> insertNewEvent(event));
+    private void upsertChunk(List<Festival> chunk, ProcessingMetrics metrics) {
+        // 같은 청크에 같은 축제가 여러 번 오면 마지막 값만 반영
+        Map<FestivalKey, Festival> latest = new LinkedHashMap<>();
+        for (Festival event : chunk) {
+            if (latest.put(FestivalKey.of(event), event) != null) {
+                metrics.record(ProcessingResult.SKIPPED);
+            }
+        }
+
+        Map<FestivalKey, Festival> existing = findExisting(latest.keySet());
+        List<Festival> changed = new ArrayList<>(latest.size());
+        latest.forEach((key, event) -> {
+            Festival current = existing.get(key);
+            if (current == null) {
+                changed.add(event);
+                metrics.record(ProcessingResult.INSERTED);
+            } else if (current.hasSameInfo(event)) {
+                metrics.record(ProcessingResult.SKIPPED);
+            } else {
+                changed.add(event);
+                metrics.record(ProcessingResult.UPDATED);
+            }
+        });
+
+        eventRepository.upsertAll(changed);
     }
 
-    private ProcessingResult updateExistingEvent(Festival existing, Festival event) {
-        existing.updateFestivalInfo(event);
-        eventRepository.save(existing);
-        return ProcessingResult.UPDATED;
+    private Map<FestivalKey, Festival> findExisting(Iterable<FestivalKey> keys) {
+        Map<DataSource, List<String>> externalIdsBySource = new HashMap<>();
+        for (FestivalKey key : keys) {
+            externalIdsBySource.computeIfAbsent(key.dataSource(), source -> new ArrayList<>()).add(key.externalId());
+        }
+
+        Map<FestivalKey, Festival> existing = new HashMap<>();
+        externalIdsBySource.forEach((source, externalIds) ->
+            existing.putAll(eventRepository.findByDataSourceAndExternalIdIn(source, externalIds).stream()
+                .collect(Collectors.toMap(FestivalKey::of, festival -> festival)))
+        );
+        return existing;
     }
 
-    private ProcessingResult insertNewEvent(Festival event) {
-        eventRepository.save(event);
-        return ProcessingResult.INSERTED;
+    private record FestivalKey(DataSource dataSource, String externalId) {
+        static FestivalKey of(Festival festival) {
+            return new FestivalKey(festival.getDataSource(), festival.getExternalId());
+        }
     }
 
     public enum ProcessingResult {
@@ -52,6 +115,8 @@ public class FestivalProcessor {
         private final AtomicInteger updateCount = new AtomicInteger(0);
         private final AtomicInteger skipCount = new AtomicInteger(0);
         private final AtomicInteger outdatedCount = new AtomicInteger(0);
+        private final long startNanos = System.nanoTime();
+        private volatile long elapsedNanos = -1;
 
         public void record(ProcessingResult result) {
             switch (result) {
@@ -62,6 +127,13 @@ public class FestivalProcessor {
             }
         }
 
+        /**
+         * 처리 종료 시각 기록 (이후 처리율은 고정)
+         */
+        public void finish() {
+            elapsedNanos = System.nanoTime() - startNanos;
+        }
+
         public int getInsertCount() {
             return insertCount.get();
         }
@@ -77,5 +149,25 @@ public class FestivalProcessor {
         public int getOutdatedCount() {
             return outdatedCount.get();
         }
+
+        public int getTotalCount() {
+            return getInsertCount() + getUpdateCount() + getSkipCount() + getOutdatedCount();
+        }
+
+        public long getElapsedMillis() {
+            return elapsedNanos() / 1_000_000;
+        }
+
+        /**
+         * 초당 처리 건수 (외부 API 수신 시간 포함)
+         */
+        public double getRowsPerSecond() {
+            long nanos = elapsedNanos();
+            return nanos > 0 ? getTotalCount() * 1_000_000_000.0 / nanos : 0.0;
+        }
+
+        private long elapsedNanos() {
+            return elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startNanos;
+        }
     }
 }
@@ -0,0 +1,73 @@
+package com.eventitta.festivals.util;
+
+/**
+ * Geohash 인코딩 유틸리티
+ *
+ * <p>위도/경도 구간을 번갈아 이등분한 비트를 base32 문자로 이어 붙인 문자열로,
+ * 같은 접두사를 가진 좌표는 같은 격자 셀 안에 있습니다.</p>
+ *
+ * <ul>
+ *   <li>정밀도 6 = 약 1.2km × 0.6km</li>
+ *   <li>정밀도 7 = 약 153m × 153m</li>
+ * </ul>
+ */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    /**
+     * 좌표가 속한 셀의 geohash
+     *
+     * @param latitude  위도 (-90 ~ 90)
+     * @param longitude 경도 (-180 ~ 180)
+     * @param precision 문자 수 (1 ~ 12)
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double[] latRange = {-90.0, 90.0};
+        double[] lonRange = {-180.0, 180.0};
+        char[] hash = new char[precision];
+        boolean lonBit = true;
+
+        for (int i = 0; i < precision; i++) {
+            int index = 0;
+            for (int bit = 0; bit < 5; bit++) {
+                index <<= 1;
+                if (bisect(lonBit ? lonRange : latRange, lonBit ? longitude : latitude)) {
+                    index |= 1;
+                }
+                lonBit = !lonBit;
+            }
+            hash[i] = BASE32[index];
+        }
+        return new String(hash);
+    }
+
+    /**
+     * 좌표가 속한 셀의 중심 좌표 ({위도, 경도})
+     */
+    public static double[] snapToCellCenter(double latitude, double longitude, int precision) {
+        double[] latRange = {-90.0, 90.0};
+        double[] lonRange = {-180.0, 180.0};
+        boolean lonBit = true;
+
+        for (int bit = 0; bit < precision * 5; bit++) {
+            bisect(lonBit ? lonRange : latRange, lonBit ? longitude : latitude);
+            lonBit = !lonBit;
+        }
+        return new double[]{(latRange[0] + latRange[1]) / 2, (lonRange[0] + lonRange[1]) / 2};
+    }
+
+    // 구간을 반으로 줄이고, 값이 위쪽 절반에 있으면 true
+    private static boolean bisect(double[] range, double value) {
+        double mid = (range[0] + range[1]) / 2;
+        if (value >= mid) {
+            range[0] = mid;
+            return true;
+        }
+        range[1] = mid;
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package com.eventitta.gamification.constants;
+
+/**
+ * 뱃지 평가 관련 상수 정의
+ * 규칙 캐시 갱신 주기, 유저별 활동 카운터 캐시/테이블 재집계 설정 등
+ */
+public class BadgeConstants {
+
+    // Rule Cache Settings
+    public static final long BADGE_RULE_REFRESH_MS = 300_000; // 5분마다 활성 규칙 재적재
+
+    // Activity Counter Cache Settings
+    public static final long ACTIVITY_COUNTER_CACHE_MAX_SIZE = 10_000;
+    public static final long ACTIVITY_COUNTER_CACHE_TTL_MINUTES = 10; // 만료 시 DB 집계로 보정
+
+    // Activity Counter Table Backfill Settings
+    public static final int ACTIVITY_COUNTER_BACKFILL_USER_RANGE = 500; // 한 트랜잭션에서 재집계하는 유저 ID 구간
+    public static final long ACTIVITY_COUNTER_BACKFILL_PAUSE_MS = 50; // 구간 사이 대기 (잠금 경합 완화)
+
+    private BadgeConstants() {
+        // 인스턴스화 방지
+    }
+}
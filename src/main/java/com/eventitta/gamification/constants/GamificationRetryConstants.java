@@ -14,6 +14,10 @@ public final class GamificationRetryConstants {
     // 실패 이벤트 재처리 배치 크기
     public static final int FAILED_EVENT_RETRY_BATCH_SIZE = 100;
 
+    // 실패 이벤트 재시도 백오프 기본/최대 간격 (초 단위) - 실패할 때마다 기본 간격에서 두 배씩 늘림
+    public static final long FAILED_EVENT_RETRY_BACKOFF_BASE_SECONDS = 60L;
+    public static final long FAILED_EVENT_RETRY_BACKOFF_MAX_SECONDS = 3_600L;
+
     // 실패 이벤트 재처리 스케줄 주기 (ms 단위)
     public static final long FAILED_EVENT_RETRY_FIXED_DELAY_MS = 60_000L;
 
@@ -25,15 +29,37 @@ public final class GamificationRetryConstants {
 
     // === Outbox 릴레이 관련 ===
 
-    // Outbox 릴레이 폴링 주기 (ms 단위)
-    public static final long OUTBOX_RELAY_FIXED_DELAY_MS = 5_000L;
+    // Outbox 릴레이 안전망 폴링 틱 (ms 단위) - 실제 폴링 여부는 아래 백오프 간격으로 결정
+    public static final long OUTBOX_RELAY_POLL_TICK_MS = 500L;
+
+    // Outbox 릴레이 폴링 최소/최대 간격 (ms 단위) - 빈 테이블이면 최대 간격까지 두 배씩 늘림
+    public static final long OUTBOX_RELAY_POLL_MIN_INTERVAL_MS = 1_000L;
+    public static final long OUTBOX_RELAY_POLL_MAX_INTERVAL_MS = 30_000L;
 
-    // Outbox 릴레이 배치 크기
+    // Outbox 기록 커밋 후 다른 노드의 릴레이를 깨우는 Redis Pub/Sub 채널
+    public static final String OUTBOX_WAKEUP_CHANNEL = "outbox:wakeup";
+
+    // Outbox 릴레이 배치 크기 (한 번의 SKIP LOCKED 선점 건수)
     public static final int OUTBOX_RELAY_BATCH_SIZE = 100;
 
+    // Outbox 릴레이 노드별 병렬 처리 스레드 수
+    public static final int OUTBOX_RELAY_WORKER_COUNT = 4;
+
+    // Outbox 릴레이 1회 실행에서 연속 선점을 이어가는 최대 시간 (ms 단위)
+    public static final long OUTBOX_RELAY_DRAIN_BUDGET_MS = 4_000L;
+
     // Outbox 최대 재시도 횟수
     public static final int OUTBOX_MAX_RETRY_COUNT = 5;
 
     // Outbox 처리 완료 레코드 보관 기간 (일)
     public static final int OUTBOX_CLEANUP_RETENTION_DAYS = 7;
+
+    // Outbox 정리 청크 크기 (한 트랜잭션에서 삭제하는 최대 건수)
+    public static final int OUTBOX_CLEANUP_CHUNK_SIZE = 1_000;
+
+    // Outbox 정리 청크 사이 대기 시간 (ms 단위) - 복제 지연/잠금 경합 완화
+    public static final long OUTBOX_CLEANUP_CHUNK_PAUSE_MS = 100L;
+
+    // Outbox 정리 1회 실행 최대 시간 (ms 단위) - ShedLock lockAtMostFor(10분)보다 짧게 유지, 남은 건은 다음 실행에서 정리
+    public static final long OUTBOX_CLEANUP_MAX_DURATION_MS = 480_000L;
 }
@@ -0,0 +1,20 @@
+package com.eventitta.gamification.constants;
+
+/**
+ * 일별 로그인 중복 체크 관련 상수 정의
+ * Redis 비트맵 키, 보관 기간, 로컬 캐시 설정 등
+ */
+public class LoginConstants {
+
+    // Redis Bitmap Settings
+    public static final String LOGIN_BITMAP_KEY_PREFIX = "login:"; // login:yyyyMMdd, offset = userId
+    public static final long LOGIN_BITMAP_TTL_DAYS = 8; // 최근 7일 DAU 비교용으로 하루 더 보관
+
+    // Local Cache Settings
+    public static final long LOGIN_LOCAL_CACHE_MAX_SIZE = 100_000;
+    public static final long LOGIN_LOCAL_CACHE_TTL_HOURS = 25; // 날짜가 키에 포함되므로 하루가 지나면 자연히 쓸모가 없어짐
+
+    private LoginConstants() {
+        // 인스턴스화 방지
+    }
+}
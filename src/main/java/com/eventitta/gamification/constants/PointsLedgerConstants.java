@@ -0,0 +1,24 @@
+package com.eventitta.gamification.constants;
+
+/**
+ * 포인트 지연 반영(write-behind) 원장 관련 상수 정의
+ * 스트라이프 수, 플러시 주기/크기, 고아 레코드 복구 설정 등
+ */
+public class PointsLedgerConstants {
+
+    // Ledger Settings
+    public static final int POINTS_LEDGER_STRIPES = 16; // 유저 ID 기준 잠금 분할 수 (2의 거듭제곱)
+
+    // Flush Settings
+    public static final long POINTS_LEDGER_FLUSH_INTERVAL_MS = 500L;
+    public static final int POINTS_LEDGER_FLUSH_CHUNK_SIZE = 500; // 한 트랜잭션에서 완료 처리하는 최대 아웃박스 건수
+
+    // Orphan Recovery Settings (플러시 전에 노드가 죽어 APPLIED로 남은 레코드)
+    public static final int POINTS_LEDGER_ORPHAN_TIMEOUT_MINUTES = 5;
+    public static final long POINTS_LEDGER_ORPHAN_RECOVERY_FIXED_DELAY_MS = 60_000L;
+    public static final int POINTS_LEDGER_ORPHAN_RECOVERY_BATCH_SIZE = 1_000;
+
+    private PointsLedgerConstants() {
+        // 인스턴스화 방지
+    }
+}
@@ -10,16 +10,32 @@ public class RankingConstants {
     public static final String RANKING_POINTS_KEY = "ranking:points";
     public static final String RANKING_ACTIVITY_COUNT_KEY = "ranking:activity:count";
     public static final String RANKING_CACHE_KEY_PREFIX = "ranking:cache:";
+    public static final String RANKING_USER_PROFILE_KEY = "ranking:user:profiles";
+    public static final String RANKING_REBUILD_KEY_SUFFIX = ":rebuild:";
+    public static final String RANKING_POINTS_DAILY_BUCKET_PREFIX = "ranking:points:daily:";
 
     // Ranking Settings
     public static final int DEFAULT_TOP_RANK_SIZE = 100;
     public static final long USER_RANK_CACHE_TTL_SECONDS = 300; // 5분
+    public static final long RANKING_USER_PROFILE_TTL_SECONDS = 3600; // 프로필 해시 세대 길이 (1시간)
+
+    // Snapshot Settings (노드별 Top N 스냅샷)
+    public static final int RANKING_SNAPSHOT_SIZE = 500; // /top 최대 limit과 동일
+    public static final long RANKING_SNAPSHOT_REFRESH_MS = 500;
+    public static final long RANKING_SNAPSHOT_IDLE_MS = 60_000; // 이 시간 동안 조회가 없으면 갱신 중단
+    public static final long RANKING_SNAPSHOT_MAX_BACKOFF_MS = 30_000; // 갱신 실패 시 다음 갱신까지 최대 대기
+
+    // Windowed Ranking Settings
+    public static final long WINDOW_RANKING_CACHE_TTL_SECONDS = 60; // 일별 버킷 합산 결과 캐시
+    public static final int DAILY_BUCKET_RETENTION_DAYS = 32; // 월간(30일) 창 + 여유
 
     // Redis Timeout Settings
     public static final int REDIS_TIMEOUT_MS = 3000;
 
     // Sync Settings
     public static final int SYNC_BATCH_SIZE = 1000; // 배치 처리 크기
+    public static final long REBUILD_KEY_TTL_SECONDS = 7200; // 중단된 재구축 임시 키 정리 (재구축 락 최대 시간과 동일)
+    public static final long REBUILD_REPLAY_MARGIN_SECONDS = 60; // 재구축 시작 전 커밋되어 늦게 반영된 증감분까지 보정
 
     private RankingConstants() {
         // 인스턴스화 방지
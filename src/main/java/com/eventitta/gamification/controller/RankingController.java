@@ -1,12 +1,17 @@
 package com.eventitta.gamification.controller;
 
 import com.eventitta.auth.domain.UserPrincipal;
+import com.eventitta.gamification.constants.RankingConstants;
 import com.eventitta.gamification.domain.RankingType;
+import com.eventitta.gamification.dto.response.RankingNeighborhoodResponse;
 import com.eventitta.gamification.dto.response.RankingPageResponse;
 import com.eventitta.gamification.dto.response.UserRankResponse;
 import com.eventitta.gamification.service.RankingService;
+import com.eventitta.gamification.service.RankingSnapshotCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,7 +19,9 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -32,26 +39,29 @@ import org.springframework.web.bind.annotation.*;
 public class RankingController {
 
     private final RankingService rankingService;
+    private final ObjectProvider<RankingSnapshotCache> rankingSnapshotCache;
 
     /**
      * Top N 순위 조회
      * 포인트 또는 활동량 기준 상위 순위를 조회합니다
+     * 스냅샷 캐시가 있으면 노드별 스냅샷에서 응답하며, 기본 limit은 미리 직렬화된 본문을 그대로 내려준다
      *
-     * @param type 순위 타입 (POINTS 또는 ACTIVITY_COUNT)
+     * @param type 순위 타입 (POINTS, ACTIVITY_COUNT, DAILY_POINTS, WEEKLY_POINTS, MONTHLY_POINTS)
      * @param limit 조회할 순위 수 (1-500)
      * @return 순위 페이지 응답
      */
     @GetMapping("/top")
     @Operation(
         summary = "Top N 순위 조회",
-        description = "포인트 또는 활동량 기준 상위 순위를 조회합니다"
+        description = "포인트 또는 활동량 기준 상위 순위를 조회합니다. 일간/주간/월간 포인트 순위는 최근 1/7/30일 획득 포인트 기준입니다"
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "순위 조회 성공"),
+        @ApiResponse(responseCode = "200", description = "순위 조회 성공",
+            content = @Content(schema = @Schema(implementation = RankingPageResponse.class))),
         @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
         @ApiResponse(responseCode = "503", description = "Redis 연결 실패")
     })
-    public ResponseEntity<RankingPageResponse> getTopRankings(
+    public ResponseEntity<?> getTopRankings(
         @Parameter(description = "순위 타입", example = "POINTS")
         @RequestParam(name = "type", defaultValue = "POINTS") RankingType type,
 
@@ -59,6 +69,17 @@ public class RankingController {
         @RequestParam(name = "limit", defaultValue = "100") @Min(1) @Max(500) int limit
     ) {
         log.debug("[RankingAPI] Getting top {} rankings for type: {}", limit, type);
+
+        RankingSnapshotCache snapshotCache = rankingSnapshotCache.getIfAvailable();
+        if (snapshotCache != null) {
+            if (limit == RankingConstants.DEFAULT_TOP_RANK_SIZE) {
+                return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(snapshotCache.getDefaultTopRankingsJson(type));
+            }
+            return ResponseEntity.ok(snapshotCache.getTopRankings(type, limit));
+        }
+
         RankingPageResponse response = rankingService.getTopRankings(type, limit);
         return ResponseEntity.ok(response);
     }
@@ -99,6 +120,46 @@ public class RankingController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 내 주변 순위 조회
+     * 현재 로그인한 유저를 기준으로 위아래 range명의 순위를 조회합니다
+     *
+     * @param type 순위 타입
+     * @param range 위아래로 조회할 인원 수 (1-50)
+     * @param userPrincipal 인증된 유저 정보
+     * @return 주변 순위 응답
+     */
+    @GetMapping("/me/around")
+    @Operation(
+        summary = "내 주변 순위 조회",
+        description = "현재 로그인한 유저를 기준으로 위아래 N명의 순위를 조회합니다"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "순위 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 요청"),
+        @ApiResponse(responseCode = "404", description = "유저를 찾을 수 없음")
+    })
+    public ResponseEntity<RankingNeighborhoodResponse> getRankingsAroundMe(
+        @Parameter(description = "순위 타입", example = "POINTS")
+        @RequestParam(name = "type", defaultValue = "POINTS") RankingType type,
+
+        @Parameter(description = "위아래로 조회할 인원 수", example = "5")
+        @RequestParam(name = "range", defaultValue = "5") @Min(1) @Max(50) int range,
+
+        @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        if (userPrincipal == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        Long userId = userPrincipal.getId();
+        log.debug("[RankingAPI] Getting rankings around user: userId={}, type={}, range={}", userId, type, range);
+
+        RankingNeighborhoodResponse response = rankingService.getRankingsAround(type, userId, range);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 특정 유저 순위 조회
      * 지정된 유저의 순위 정보를 조회합니다
@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "activity_outbox", indexes = {
         @Index(name = "idx_outbox_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_outbox_status_processed", columnList = "status, processed_at"),
         @Index(name = "idx_outbox_user", columnList = "user_id")
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -22,8 +23,8 @@ public class ActivityOutbox extends BaseTimeEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "idempotency_key", nullable = false, unique = true, length = 100)
-    private String idempotencyKey;
+    @Column(name = "idempotency_key", nullable = false, unique = true, columnDefinition = "BINARY(16)")
+    private byte[] idempotencyKey;
 
     @Column(name = "user_id", nullable = false)
     private Long userId;
@@ -39,6 +40,9 @@ public class ActivityOutbox extends BaseTimeEntity {
     @Column(name = "target_id")
     private Long targetId;
 
+    @Column(name = "points_delta")
+    private Integer pointsDelta;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private OutboxStatus status = OutboxStatus.PENDING;
@@ -53,7 +57,7 @@ public class ActivityOutbox extends BaseTimeEntity {
     private LocalDateTime processedAt;
 
     @Builder
-    public ActivityOutbox(String idempotencyKey, Long userId, ActivityType activityType,
+    public ActivityOutbox(byte[] idempotencyKey, Long userId, ActivityType activityType,
             OperationType operationType, Long targetId) {
         this.idempotencyKey = idempotencyKey;
         this.userId = userId;
@@ -98,6 +102,7 @@ public class ActivityOutbox extends BaseTimeEntity {
     public enum OutboxStatus {
         PENDING, // 처리 대기
         PROCESSING, // 처리 중
+        APPLIED, // 활동 반영 완료, 포인트 지연 반영 대기
         DONE, // 처리 완료
         FAILED // 최종 실패
     }
@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 @Getter
 @Entity
 @Table(name = "failed_activity_events", indexes = {
-    @Index(name = "idx_failed_event_status", columnList = "status"),
+    @Index(name = "idx_failed_event_status_next_retry", columnList = "status, next_retry_at"),
     @Index(name = "idx_failed_event_user", columnList = "user_id"),
     @Index(name = "idx_failed_event_created", columnList = "created_at")
 })
@@ -43,6 +43,9 @@ public class FailedActivityEvent extends BaseTimeEntity {
     @Column(name = "retry_count", nullable = false)
     private Integer retryCount = 0;
 
+    @Column(name = "next_retry_at", nullable = false)
+    private LocalDateTime nextRetryAt;
+
     @Column(name = "error_message", length = 1000)
     private String errorMessage;
 
@@ -61,6 +64,7 @@ public class FailedActivityEvent extends BaseTimeEntity {
         this.operationType = operationType;
         this.targetId = targetId;
         this.failedAt = LocalDateTime.now();
+        this.nextRetryAt = this.failedAt;
         this.errorMessage = errorMessage;
         this.retryCount = 0;
     }
@@ -87,6 +91,10 @@ public class FailedActivityEvent extends BaseTimeEntity {
         this.status = EventStatus.PENDING;
     }
 
+    public void scheduleNextRetry(LocalDateTime nextRetryAt) {
+        this.nextRetryAt = nextRetryAt;
+    }
+
     public void setErrorMessage(String errorMessage) {
         this.errorMessage = errorMessage;
     }
@@ -6,15 +6,20 @@ import lombok.RequiredArgsConstructor;
 /**
  * 순위 타입 정의
  * Redis zSet 키와 표시명을 관리
+ * 기간제 순위(windowDays > 0)는 일별 버킷을 합산한 결과를 redisKey에 짧게 캐시한다
  */
 @Getter
 @RequiredArgsConstructor
 public enum RankingType {
-    POINTS("ranking:points", "포인트 순위"),
-    ACTIVITY_COUNT("ranking:activity:count", "활동량 순위");
+    POINTS("ranking:points", "포인트 순위", 0),
+    ACTIVITY_COUNT("ranking:activity:count", "활동량 순위", 0),
+    DAILY_POINTS("ranking:points:window:daily", "일간 포인트 순위", 1),
+    WEEKLY_POINTS("ranking:points:window:weekly", "주간 포인트 순위", 7),
+    MONTHLY_POINTS("ranking:points:window:monthly", "월간 포인트 순위", 30);
 
     private final String redisKey;
     private final String displayName;
+    private final int windowDays; // 0이면 전체 기간
 
     /**
      * Redis key 반환
@@ -27,7 +32,7 @@ public enum RankingType {
      * 포인트 기반 랭킹인지 확인
      */
     public boolean isPointsBased() {
-        return this == POINTS;
+        return this == POINTS || isWindowed();
     }
 
     /**
@@ -36,4 +41,11 @@ public enum RankingType {
     public boolean isActivityBased() {
         return this == ACTIVITY_COUNT;
     }
+
+    /**
+     * 최근 N일(오늘 포함) 기간제 순위인지 확인
+     */
+    public boolean isWindowed() {
+        return windowDays > 0;
+    }
 }
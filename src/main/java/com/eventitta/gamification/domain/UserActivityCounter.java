@@ -0,0 +1,35 @@
+package com.eventitta.gamification.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유저별 활동 유형 집계 (user_activities의 materialized view)
+ * 활동 기록/취소와 같은 트랜잭션에서 UserActivityCounterRepository의 증감 UPSERT로만 갱신하며,
+ * UserActivityCounterBackfillJob이 주기적으로 user_activities 기준으로 다시 맞춘다
+ */
+@Getter
+@Entity
+@Table(name = "user_activity_counters")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserActivityCounter {
+
+    @EmbeddedId
+    private UserActivityCounterId id;
+
+    @Column(name = "activity_count", nullable = false)
+    private long activityCount;
+
+    @Column(name = "total_points", nullable = false)
+    private long totalPoints;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,19 @@
+package com.eventitta.gamification.dto.cache;
+
+import com.eventitta.user.domain.User;
+
+/**
+ * 순위 응답에 필요한 최소한의 유저 정보
+ * Redis 해시(userId -> profile)에 저장되어 순위 조회 시 MySQL 조회를 대체
+ *
+ * @param nickname 유저 닉네임
+ * @param profilePictureUrl 프로필 이미지 URL
+ */
+public record RankingUserProfile(
+    String nickname,
+    String profilePictureUrl
+) {
+    public static RankingUserProfile from(User user) {
+        return new RankingUserProfile(user.getNickname(), user.getProfilePictureUrl());
+    }
+}
@@ -0,0 +1,47 @@
+package com.eventitta.gamification.dto.cache;
+
+import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.dto.projection.ActivitySummaryProjection;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저의 활동 유형별 횟수/포인트 합계
+ * 뱃지 평가 시 활동마다 GROUP BY 집계를 실행하지 않도록 메모리에 보관하는 불변 스냅샷
+ *
+ * @param counts 활동 유형별 횟수
+ * @param points 활동 유형별 획득 포인트 합계
+ */
+public record UserActivityCounters(
+    Map<ActivityType, Long> counts,
+    Map<ActivityType, Long> points
+) {
+    public static UserActivityCounters from(List<ActivitySummaryProjection> stats) {
+        Map<ActivityType, Long> counts = new EnumMap<>(ActivityType.class);
+        Map<ActivityType, Long> points = new EnumMap<>(ActivityType.class);
+        for (ActivitySummaryProjection stat : stats) {
+            counts.put(stat.getActivityType(), stat.getCount());
+            points.put(stat.getActivityType(), stat.getTotalPoints());
+        }
+        return new UserActivityCounters(Collections.unmodifiableMap(counts), Collections.unmodifiableMap(points));
+    }
+
+    /**
+     * 증감분을 반영한 새 스냅샷 반환 (음수가 되지 않도록 0에서 멈춘다)
+     */
+    public UserActivityCounters plus(ActivityType activityType, int countDelta, int pointsDelta) {
+        return new UserActivityCounters(
+            add(counts, activityType, countDelta),
+            add(points, activityType, pointsDelta)
+        );
+    }
+
+    private static Map<ActivityType, Long> add(Map<ActivityType, Long> source, ActivityType activityType, int delta) {
+        Map<ActivityType, Long> copy = source.isEmpty() ? new EnumMap<>(ActivityType.class) : new EnumMap<>(source);
+        copy.put(activityType, Math.max(0L, copy.getOrDefault(activityType, 0L) + delta));
+        return Collections.unmodifiableMap(copy);
+    }
+}
@@ -0,0 +1,9 @@
+package com.eventitta.gamification.dto.projection;
+
+import com.eventitta.gamification.domain.FailedActivityEvent.EventStatus;
+
+public interface FailedEventStatusCountProjection {
+    EventStatus getStatus();
+
+    long getEventCount();
+}
@@ -0,0 +1,9 @@
+package com.eventitta.gamification.dto.projection;
+
+public interface OutboxPointsDeltaProjection {
+    Long getId();
+
+    Long getUserId();
+
+    Integer getPointsDelta();
+}
@@ -0,0 +1,7 @@
+package com.eventitta.gamification.dto.projection;
+
+public interface OutboxUserRowProjection {
+    Long getId();
+
+    Long getUserId();
+}
@@ -0,0 +1,7 @@
+package com.eventitta.gamification.dto.projection;
+
+public interface UserPointsSumProjection {
+    Long getUserId();
+
+    long getTotalPoints();
+}
@@ -0,0 +1,34 @@
+package com.eventitta.gamification.dto.response;
+
+import com.eventitta.gamification.domain.RankingType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 내 주변 순위 응답 DTO
+ * 기준 유저를 중심으로 위아래 N명의 순위를 순위 순서대로 포함
+ *
+ * @param userId 기준 유저 ID
+ * @param myRank 기준 유저의 순위
+ * @param rankings 기준 유저를 포함한 주변 순위 목록
+ * @param totalUsers 전체 유저 수
+ * @param type 순위 타입
+ */
+@Schema(description = "내 주변 순위 정보")
+public record RankingNeighborhoodResponse(
+    @Schema(description = "기준 유저 ID", example = "1")
+    Long userId,
+
+    @Schema(description = "기준 유저의 순위", example = "42")
+    long myRank,
+
+    @Schema(description = "기준 유저를 포함한 주변 순위 목록")
+    List<UserRankResponse> rankings,
+
+    @Schema(description = "전체 유저 수", example = "1000")
+    long totalUsers,
+
+    @Schema(description = "순위 타입", example = "POINTS")
+    RankingType type
+) {}
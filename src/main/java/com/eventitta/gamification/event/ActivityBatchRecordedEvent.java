@@ -0,0 +1,37 @@
+package com.eventitta.gamification.event;
+
+import com.eventitta.gamification.domain.ActivityType;
+
+import java.util.Map;
+
+/**
+ * 아웃박스 배치에서 한 유저의 활동들을 합쳐 반영한 후 발행되는 이벤트
+ * 활동마다 이벤트를 내지 않고 유저당 한 번만 뱃지/랭킹 후처리를 하기 위함
+ *
+ * @param userId 유저 ID
+ * @param deltas 활동 유형별 횟수/포인트 순증감
+ */
+public record ActivityBatchRecordedEvent(
+    Long userId,
+    Map<ActivityType, ActivityDelta> deltas
+) {
+
+    public int totalPoints() {
+        return deltas.values().stream().mapToInt(ActivityDelta::points).sum();
+    }
+
+    public int totalCount() {
+        return deltas.values().stream().mapToInt(ActivityDelta::count).sum();
+    }
+
+    /**
+     * @param count 활동 횟수 순증감
+     * @param points 획득 포인트 순증감
+     */
+    public record ActivityDelta(int count, int points) {
+
+        public ActivityDelta plus(int countDelta, int pointsDelta) {
+            return new ActivityDelta(count + countDelta, points + pointsDelta);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.eventitta.gamification.event;
+
+/**
+ * 아웃박스 레코드가 기록된 후 발행되는 이벤트
+ * 커밋 직후 릴레이를 깨워 폴링 주기를 기다리지 않고 처리하기 위함
+ */
+public record ActivityOutboxWrittenEvent(
+    Long userId
+) {
+}
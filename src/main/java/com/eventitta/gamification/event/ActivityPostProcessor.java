@@ -1,22 +1,23 @@
 package com.eventitta.gamification.event;
 
-import com.eventitta.gamification.repository.UserActivityRepository;
 import com.eventitta.gamification.service.BadgeService;
 import com.eventitta.gamification.service.RankingService;
 import com.eventitta.notification.domain.AlertLevel;
 import com.eventitta.notification.service.DiscordNotificationService;
 import com.eventitta.user.domain.User;
 import com.eventitta.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.eventitta.gamification.constants.GamificationErrorCodes.BADGE_CHECK_FAILED;
 import static com.eventitta.gamification.constants.GamificationErrorCodes.RANKING_UPDATE_FAILED;
@@ -24,23 +25,36 @@ import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMI
 
 /**
  * 활동 기록 후 부가 작업을 비동기로 처리
- * - 뱃지 체크 및 부여
- * - 랭킹 업데이트
+ * - 뱃지 체크 및 부여 (gamificationExecutor 스레드에서 실행)
+ * - 랭킹 업데이트 (전체 기간 + 일별 버킷, rankingExecutor에서 병렬 실행)
+ * 아웃박스 배치로 합쳐진 활동은 유저당 한 번만 처리한다
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ActivityPostProcessor {
 
     private final BadgeService badgeService;
     private final RankingService rankingService;
     private final UserRepository userRepository;
-    private final UserActivityRepository userActivityRepository;
     private final DiscordNotificationService discordNotificationService;
+    private final Executor rankingExecutor;
+
+    public ActivityPostProcessor(BadgeService badgeService,
+                                 RankingService rankingService,
+                                 UserRepository userRepository,
+                                 DiscordNotificationService discordNotificationService,
+                                 @Qualifier("rankingExecutor") Executor rankingExecutor) {
+        this.badgeService = badgeService;
+        this.rankingService = rankingService;
+        this.userRepository = userRepository;
+        this.discordNotificationService = discordNotificationService;
+        this.rankingExecutor = rankingExecutor;
+    }
 
     /**
-     * 활동 기록 후 뱃지와 랭킹을 비동기로 처리
-     * 각각 독립적으로 실행되어 하나가 실패해도 다른 작업에 영향 없음
+     * 활동 기록 후 뱃지와 랭킹을 처리
+     * 랭킹은 rankingExecutor로 넘기고 뱃지는 현재 스레드에서 처리하여,
+     * 블로킹 I/O가 공용 ForkJoinPool을 점유하지 않고 각각 독립적으로 실패한다
      */
     @Async("gamificationExecutor")
     @TransactionalEventListener(phase = AFTER_COMMIT)
@@ -48,10 +62,10 @@ public class ActivityPostProcessor {
         log.info("[ActivityPostProcessor] 활동 후처리 시작 - userId={}, activityType={}",
             event.userId(), event.activityType());
 
-        CompletableFuture<Void> badgeFuture = processBadgesAsync(event);
         CompletableFuture<Void> rankingFuture = processRankingsAsync(event);
+        processBadges(event);
 
-        CompletableFuture.allOf(badgeFuture, rankingFuture)
+        rankingFuture
             .thenRun(() ->
                 log.info("[ActivityPostProcessor] 활동 후처리 완료 - userId={}, activityType={}",
                     event.userId(), event.activityType())
@@ -64,33 +78,86 @@ public class ActivityPostProcessor {
     }
 
     /**
-     * 뱃지 체크 및 부여
+     * 아웃박스 배치에서 합쳐 반영된 한 유저의 활동들을 후처리
+     * 유저당 한 번만 랭킹을 갱신하고, 활동 유형별 증감분으로 뱃지를 평가한다
      */
-    private CompletableFuture<Void> processBadgesAsync(ActivityRecordedEvent event) {
-        return CompletableFuture.runAsync(() -> {
+    @Async("gamificationExecutor")
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handleActivityBatchRecorded(ActivityBatchRecordedEvent event) {
+        log.info("[ActivityPostProcessor] 배치 활동 후처리 시작 - userId={}, activityTypes={}",
+            event.userId(), event.deltas().keySet());
+
+        CompletableFuture<Void> rankingFuture = CompletableFuture.runAsync(() -> {
             try {
-                checkAndAwardBadges(event.userId());
+                rankingService.applyActivityDelta(event.userId(), event.totalPoints(), event.totalCount());
             } catch (Exception e) {
-                handleBadgeCheckFailure(event, e);
+                handleRankingUpdateFailure(event.userId(), e);
             }
-        });
+        }, rankingExecutor);
+
+        try {
+            checkAndAwardBadges(event);
+        } catch (Exception e) {
+            handleBadgeCheckFailure(event.userId(), event.deltas().keySet(), e);
+        }
+
+        rankingFuture
+            .exceptionally(ex -> {
+                log.error("[ActivityPostProcessor] 배치 활동 후처리 중 일부 실패 - userId={}",
+                    event.userId(), ex);
+                return null;
+            });
+    }
+
+    /**
+     * 뱃지 체크 및 부여
+     */
+    private void processBadges(ActivityRecordedEvent event) {
+        try {
+            checkAndAwardBadges(event);
+        } catch (Exception e) {
+            handleBadgeCheckFailure(event.userId(), event.activityType(), e);
+        }
     }
 
     /**
      * 뱃지 체크 실행
+     * 이벤트의 활동 유형과 증감분을 넘겨 해당 활동으로 달성될 수 있는 규칙만 평가한다
      */
     @Retryable(
         retryFor = {Exception.class},
         maxAttempts = 3,
         backoff = @Backoff(delay = 1000, multiplier = 2)
     )
-    private void checkAndAwardBadges(Long userId) {
+    private void checkAndAwardBadges(ActivityRecordedEvent event) {
+        Long userId = event.userId();
         log.debug("[Badge] 뱃지 체크 시작 - userId={}", userId);
 
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
 
-        List<String> awardedBadges = badgeService.checkAndAwardBadges(user);
+        int pointsDelta = event.points() != null ? event.points() : 0;
+        int activityCountDelta = event.isRevoked() ? -1 : 1;
+        List<String> awardedBadges = badgeService.checkAndAwardBadges(
+            user, event.activityType(), pointsDelta, activityCountDelta);
+
+        if (!awardedBadges.isEmpty()) {
+            log.info("[Badge] 뱃지 부여 완료 - userId={}, badges={}",
+                userId, String.join(", ", awardedBadges));
+        }
+    }
+
+    /**
+     * 배치 뱃지 체크 실행 - 유저 조회는 한 번, 평가는 활동 유형별 증감분으로
+     */
+    private void checkAndAwardBadges(ActivityBatchRecordedEvent event) {
+        Long userId = event.userId();
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+
+        List<String> awardedBadges = new ArrayList<>();
+        event.deltas().forEach((activityType, delta) -> awardedBadges.addAll(
+            badgeService.checkAndAwardBadges(user, activityType, delta.points(), delta.count())));
 
         if (!awardedBadges.isEmpty()) {
             log.info("[Badge] 뱃지 부여 완료 - userId={}, badges={}",
@@ -101,17 +168,17 @@ public class ActivityPostProcessor {
     /**
      * 뱃지 체크 실패 처리
      */
-    private void handleBadgeCheckFailure(ActivityRecordedEvent event, Exception e) {
+    private void handleBadgeCheckFailure(Long userId, Object activityType, Exception e) {
         log.error("[Badge] 뱃지 체크 실패 - userId={}, activityType={}",
-            event.userId(), event.activityType(), e);
+            userId, activityType, e);
 
         // 뱃지 체크 실패는 핵심 기능이 아니므로 경고 레벨로 알림
         sendDiscordAlertSafely(
             AlertLevel.MEDIUM,
             BADGE_CHECK_FAILED,
             String.format("뱃지 체크 실패: userId=%d, activityType=%s",
-                event.userId(), event.activityType()),
-            event.userId(),
+                userId, activityType),
+            userId,
             e
         );
     }
@@ -122,51 +189,39 @@ public class ActivityPostProcessor {
     private CompletableFuture<Void> processRankingsAsync(ActivityRecordedEvent event) {
         return CompletableFuture.runAsync(() -> {
             try {
-                updateRankings(event.userId(), event.points());
+                updateRankings(event);
             } catch (Exception e) {
-                handleRankingUpdateFailure(event, e);
+                handleRankingUpdateFailure(event.userId(), e);
             }
-        });
+        }, rankingExecutor);
     }
 
     /**
      * 랭킹 업데이트 실행
+     * 이벤트의 증감분만 ZINCRBY로 반영하므로 DB를 다시 읽지 않는다
+     * ZINCRBY는 멱등하지 않아 재시도하지 않으며, 누락/중복은 RankingSyncService 주기 동기화로 보정된다
      */
-    @Retryable(
-        retryFor = {Exception.class},
-        maxAttempts = 2,
-        backoff = @Backoff(delay = 500)
-    )
-    private void updateRankings(Long userId, Integer currentPoints) {
-        log.debug("[Ranking] 랭킹 업데이트 시작 - userId={}, points={}", userId, currentPoints);
-
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
-            log.warn("[Ranking] 사용자 조회 실패, 랭킹 업데이트 건너뜀 - userId={}", userId);
-            return;
-        }
-
-        int totalPoints = user.getPoints();
-        rankingService.updatePointsRanking(userId, totalPoints);
+    private void updateRankings(ActivityRecordedEvent event) {
+        int pointsDelta = event.points() != null ? event.points() : 0;
+        int activityCountDelta = event.isRevoked() ? -1 : 1;
 
-        long activityCount = userActivityRepository.countByUserId(userId);
-        rankingService.updateActivityCountRanking(userId, activityCount);
+        rankingService.applyActivityDelta(event.userId(), pointsDelta, activityCountDelta);
 
-        log.info("[Ranking] 랭킹 업데이트 완료 - userId={}, points={}, activities={}",
-            userId, totalPoints, activityCount);
+        log.info("[Ranking] 랭킹 업데이트 완료 - userId={}, pointsDelta={}, activityDelta={}",
+            event.userId(), pointsDelta, activityCountDelta);
     }
 
     /**
      * 랭킹 업데이트 실패 처리
      */
-    private void handleRankingUpdateFailure(ActivityRecordedEvent event, Exception e) {
-        log.error("[Ranking] 랭킹 업데이트 실패 - userId={}", event.userId(), e);
+    private void handleRankingUpdateFailure(Long userId, Exception e) {
+        log.error("[Ranking] 랭킹 업데이트 실패 - userId={}", userId, e);
 
         sendDiscordAlertSafely(
             AlertLevel.INFO,
             RANKING_UPDATE_FAILED,
-            String.format("랭킹 업데이트 실패: userId=%d", event.userId()),
-            event.userId(),
+            String.format("랭킹 업데이트 실패: userId=%d", userId),
+            userId,
             e
         );
     }
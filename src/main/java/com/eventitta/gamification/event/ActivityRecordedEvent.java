@@ -13,4 +13,11 @@ public record ActivityRecordedEvent(
     Integer points,
     Long targetId
 ) {
+
+    /**
+     * 활동 취소로 발행된 이벤트인지 확인 (취소 시 activityId 없이 음수 포인트로 발행됨)
+     */
+    public boolean isRevoked() {
+        return activityId == null;
+    }
 }
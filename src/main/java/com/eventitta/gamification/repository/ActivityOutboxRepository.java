@@ -2,20 +2,25 @@ package com.eventitta.gamification.repository;
 
 import com.eventitta.gamification.domain.ActivityOutbox;
 import com.eventitta.gamification.domain.ActivityOutbox.OutboxStatus;
-import jakarta.persistence.LockModeType;
+import com.eventitta.gamification.dto.projection.OutboxPointsDeltaProjection;
+import com.eventitta.gamification.dto.projection.OutboxUserRowProjection;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public interface ActivityOutboxRepository extends JpaRepository<ActivityOutbox, Long> {
 
+    /**
+     * 멱등키로 이미 기록된 레코드가 있는지 확인 (idempotency_key 유니크 인덱스 조회)
+     */
+    boolean existsByIdempotencyKey(byte[] idempotencyKey);
+
     /**
      * PENDING 상태이고 재시도 횟수 미만인 아웃박스 레코드 조회 (처리 대상)
      * 생성 시각 순으로 정렬하여 오래된 이벤트부터 처리
@@ -27,11 +32,87 @@ public interface ActivityOutboxRepository extends JpaRepository<ActivityOutbox,
             Pageable pageable);
 
     /**
-     * Pessimistic Lock을 사용한 조회로 동시성 제어
+     * 처리 대상 레코드 ID를 행 잠금으로 선점
+     * SKIP LOCKED로 다른 노드/스레드가 잠근 행은 건너뛰므로 동시에 실행해도 서로 겹치지 않는 배치를 가져간다
+     * 같은 트랜잭션에서 markProcessing으로 상태를 바꾼 뒤 커밋해야 한다
+     */
+    @Query(value = "SELECT id FROM activity_outbox " +
+            "WHERE status = 'PENDING' AND retry_count < :maxRetry " +
+            "ORDER BY created_at ASC, id ASC " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> claimPendingIds(@Param("maxRetry") int maxRetry, @Param("limit") int limit);
+
+    /**
+     * 선점 후보와 같은 유저의 미완료(PENDING/PROCESSING) 레코드 중 maxId 이하인 것 조회
+     * 후보보다 앞선 레코드가 후보에 없으면 다른 노드가 잡고 있거나 아직 처리 전이므로,
+     * 호출 측은 그 뒤의 후보를 이번에 선점하지 않아 유저별 처리 순서(RECORD → REVOKE)를 지킨다
+     */
+    @Query(value = "SELECT o.id AS id, o.user_id AS userId FROM activity_outbox o " +
+            "WHERE o.user_id IN (SELECT c.user_id FROM activity_outbox c WHERE c.id IN (:ids)) " +
+            "AND o.status IN ('PENDING', 'PROCESSING') AND o.id <= :maxId", nativeQuery = true)
+    List<OutboxUserRowProjection> findUnfinishedRowsOfSameUsers(@Param("ids") List<Long> ids, @Param("maxId") Long maxId);
+
+    /**
+     * 선점한 레코드를 일괄 PROCESSING으로 전환
+     * stuck 복구가 updatedAt을 기준으로 하므로 함께 갱신
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ActivityOutbox o SET o.status = 'PROCESSING', o.updatedAt = :now WHERE o.id IN :ids")
+    int markProcessing(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 완료 표시 (엔티티 조회 없이 UPDATE 한 번)
+     */
+    @Modifying
+    @Query("UPDATE ActivityOutbox o SET o.status = 'DONE', o.processedAt = :now, o.updatedAt = :now " +
+            "WHERE o.id IN :ids AND o.status = 'PROCESSING'")
+    int markDone(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 활동 반영이 끝나고 포인트 지연 반영을 기다리는 상태로 전환 (write-behind 모드)
+     * 배치의 포인트 순증감은 carrierId 레코드 한 건에만 기록하고 나머지는 0으로 둔다
      */
-    @Query("SELECT o FROM ActivityOutbox o WHERE o.id = :id")
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<ActivityOutbox> findByIdWithLock(@Param("id") Long id);
+    @Modifying
+    @Query("UPDATE ActivityOutbox o SET o.status = 'APPLIED', " +
+            "o.pointsDelta = CASE WHEN o.id = :carrierId THEN :pointsDelta ELSE 0 END, o.updatedAt = :now " +
+            "WHERE o.id IN :ids AND o.status = 'PROCESSING'")
+    int markApplied(@Param("ids") List<Long> ids, @Param("carrierId") Long carrierId,
+            @Param("pointsDelta") int pointsDelta, @Param("now") LocalDateTime now);
+
+    /**
+     * 포인트 반영 대기 레코드를 행 잠금으로 조회 (원장 플러시용)
+     * 이미 다른 플러시가 완료 처리한 레코드는 APPLIED가 아니므로 빠져 같은 증감이 두 번 반영되지 않는다
+     */
+    @Query(value = "SELECT id, user_id AS userId, points_delta AS pointsDelta FROM activity_outbox " +
+            "WHERE id IN (:ids) AND status = 'APPLIED' " +
+            "FOR UPDATE", nativeQuery = true)
+    List<OutboxPointsDeltaProjection> lockAppliedPointsDeltas(@Param("ids") List<Long> ids);
+
+    /**
+     * 포인트 반영이 끝난 레코드를 완료 처리
+     */
+    @Modifying
+    @Query("UPDATE ActivityOutbox o SET o.status = 'DONE', o.processedAt = :now, o.updatedAt = :now " +
+            "WHERE o.id IN :ids AND o.status = 'APPLIED'")
+    int markAppliedDone(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 일정 시간 이상 APPLIED로 남은 레코드 ID 조회
+     * 원장 플러시 전에 노드가 종료되어 메모리 원장에서 사라진 레코드를 찾아 다시 플러시한다
+     */
+    @Query(value = "SELECT id FROM activity_outbox " +
+            "WHERE status = 'APPLIED' AND updated_at < :threshold " +
+            "ORDER BY id ASC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Long> findOrphanedAppliedIds(@Param("threshold") LocalDateTime threshold, @Param("limit") int limit);
+
+    /**
+     * 선점했지만 처리하지 않은 레코드를 재시도 횟수 변경 없이 PENDING으로 되돌림
+     */
+    @Modifying
+    @Query("UPDATE ActivityOutbox o SET o.status = 'PENDING', o.updatedAt = :now " +
+            "WHERE o.id IN :ids AND o.status = 'PROCESSING'")
+    int releaseClaimed(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
 
     /**
      * PROCESSING 상태에서 stuck된 레코드를 일괄 PENDING으로 되돌림
@@ -41,11 +122,23 @@ public interface ActivityOutboxRepository extends JpaRepository<ActivityOutbox,
     int revertStuckProcessing(@Param("threshold") LocalDateTime threshold);
 
     /**
-     * 처리 완료된 레코드 정리 (housekeeping)
+     * 정리 대상(DONE, 보관 기간 경과) 레코드 ID를 오래된 순으로 최대 limit건 조회
+     * (status, processed_at) 인덱스 범위 스캔으로 끝나도록 정렬 기준을 인덱스 순서와 맞춘다
+     */
+    @Query(value = "SELECT id FROM activity_outbox " +
+            "WHERE status = 'DONE' AND processed_at < :threshold " +
+            "ORDER BY processed_at ASC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Long> findProcessedIdsBefore(@Param("threshold") LocalDateTime threshold, @Param("limit") int limit);
+
+    /**
+     * 처리 완료된 레코드 청크 삭제 (housekeeping)
+     * 청크마다 별도 트랜잭션으로 커밋해 행 잠금과 undo 로그가 청크 크기로 제한되도록 한다
      */
+    @Transactional
     @Modifying(clearAutomatically = true)
-    @Query("DELETE FROM ActivityOutbox o WHERE o.status = 'DONE' AND o.processedAt < :threshold")
-    int deleteProcessedBefore(@Param("threshold") LocalDateTime threshold);
+    @Query("DELETE FROM ActivityOutbox o WHERE o.id IN :ids AND o.status = 'DONE'")
+    int deleteProcessedByIds(@Param("ids") List<Long> ids);
 
     /**
      * 상태별 건수 조회 (모니터링용)
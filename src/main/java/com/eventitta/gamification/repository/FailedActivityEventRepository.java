@@ -2,6 +2,7 @@ package com.eventitta.gamification.repository;
 
 import com.eventitta.gamification.domain.FailedActivityEvent;
 import com.eventitta.gamification.domain.FailedActivityEvent.EventStatus;
+import com.eventitta.gamification.dto.projection.FailedEventStatusCountProjection;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,7 +20,14 @@ public interface FailedActivityEventRepository extends JpaRepository<FailedActiv
 
     Page<FailedActivityEvent> findByStatus(EventStatus status, Pageable pageable);
 
-    List<FailedActivityEvent> findByStatusAndRetryCountLessThan(EventStatus status, Integer maxRetryCount);
+    /**
+     * 재시도 시각이 도래한 PENDING 이벤트 ID를 오래된 순으로 조회
+     * (status, next_retry_at) 인덱스 범위 스캔으로 pageable 크기만큼만 읽으며, 백오프 중인 이벤트는 조회되지 않는다
+     */
+    @Query("SELECT f.id FROM FailedActivityEvent f WHERE f.status = 'PENDING' AND f.retryCount < :maxRetryCount " +
+        "AND f.nextRetryAt <= :now ORDER BY f.nextRetryAt ASC")
+    List<Long> findRetryableIds(@Param("maxRetryCount") int maxRetryCount, @Param("now") LocalDateTime now,
+            Pageable pageable);
 
     @Query("SELECT f FROM FailedActivityEvent f WHERE f.status = :status AND f.failedAt > :since ORDER BY f.failedAt DESC")
     List<FailedActivityEvent> findRecentFailures(@Param("status") EventStatus status,
@@ -53,7 +61,8 @@ public interface FailedActivityEventRepository extends JpaRepository<FailedActiv
     int revertStuckProcessing(@Param("threshold") LocalDateTime threshold);
 
     /**
-     * 상태별 이벤트 수 조회 (모니터링용)
+     * 전체 상태별 이벤트 수를 한 번의 GROUP BY 쿼리로 조회 (모니터링용)
      */
-    long countByStatus(EventStatus status);
+    @Query("SELECT f.status AS status, COUNT(f) AS eventCount FROM FailedActivityEvent f GROUP BY f.status")
+    List<FailedEventStatusCountProjection> countGroupByStatus();
 }
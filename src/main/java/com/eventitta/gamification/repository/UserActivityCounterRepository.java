@@ -0,0 +1,70 @@
+package com.eventitta.gamification.repository;
+
+import com.eventitta.gamification.domain.UserActivityCounter;
+import com.eventitta.gamification.domain.UserActivityCounterId;
+import com.eventitta.gamification.dto.projection.ActivitySummaryProjection;
+import com.eventitta.gamification.dto.projection.UserActivityCountProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 유저별 활동 카운터 조회
+ * 모든 조회가 (user_id, activity_type) PK 앞부분 범위로 끝나므로 유저의 활동 이력 전체를 스캔하지 않는다
+ */
+public interface UserActivityCounterRepository
+    extends JpaRepository<UserActivityCounter, UserActivityCounterId>, UserActivityCounterRepositoryCustom {
+
+    /**
+     * 특정 유저의 활동 유형별 횟수/포인트 (0건인 유형 제외)
+     */
+    @Query("SELECT c.id.activityType AS activityType, " +
+        "c.activityCount AS count, " +
+        "c.totalPoints AS totalPoints " +
+        "FROM UserActivityCounter c " +
+        "WHERE c.id.userId = :userId AND c.activityCount > 0")
+    List<ActivitySummaryProjection> findSummariesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 유저의 전체 활동 수
+     */
+    @Query("SELECT COALESCE(SUM(c.activityCount), 0) FROM UserActivityCounter c WHERE c.id.userId = :userId")
+    long sumActivityCountByUserId(@Param("userId") Long userId);
+
+    /**
+     * 여러 유저의 전체 활동 수를 한 번에 조회
+     *
+     * @return [userId, activityCount] 목록
+     */
+    @Query("SELECT c.id.userId, SUM(c.activityCount) FROM UserActivityCounter c " +
+        "WHERE c.id.userId IN :userIds " +
+        "GROUP BY c.id.userId")
+    List<Object[]> sumActivityCountsByUserIds(@Param("userIds") List<Long> userIds);
+
+    /**
+     * 유저별 전체 활동 수를 유저 ID 순으로 이어서 조회 (keyset 페이지네이션)
+     * PK 앞부분(user_id)을 따라 GROUP BY 하므로 OFFSET 없이 다음 구간을 읽고, 활동 수가 0인 유저는 제외한다
+     *
+     * @param lastUserId 이전 배치의 마지막 유저 ID (처음에는 0)
+     * @param pageable   배치 크기 (정렬은 쿼리에서 고정)
+     */
+    @Query("SELECT c.id.userId AS userId, SUM(c.activityCount) AS activityCount FROM UserActivityCounter c " +
+        "WHERE c.id.userId > :lastUserId " +
+        "GROUP BY c.id.userId " +
+        "HAVING SUM(c.activityCount) > 0 " +
+        "ORDER BY c.id.userId")
+    List<UserActivityCountProjection> sumActivityCountsGroupedByUserAfter(@Param("lastUserId") Long lastUserId,
+                                                                          Pageable pageable);
+
+    /**
+     * 활동 수 상위 유저 조회 (MySQL fallback용)
+     */
+    @Query("SELECT c.id.userId AS userId, SUM(c.activityCount) AS activityCount FROM UserActivityCounter c " +
+        "GROUP BY c.id.userId " +
+        "HAVING SUM(c.activityCount) > 0 " +
+        "ORDER BY SUM(c.activityCount) DESC")
+    List<UserActivityCountProjection> findTopActivityCounts(Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package com.eventitta.gamification.repository;
+
+import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.event.ActivityBatchRecordedEvent.ActivityDelta;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+public interface UserActivityCounterRepositoryCustom {
+
+    /**
+     * 활동 유형별 증감분을 UPSERT로 반영 (JDBC 배치 한 번)
+     * 행이 없으면 만들고, 있으면 더하며, 0 미만으로는 내려가지 않는다
+     */
+    void applyDeltas(Long userId, Map<ActivityType, ActivityDelta> deltas);
+
+    /**
+     * (fromUserId, toUserId] 구간 유저의 카운터를 user_activities 집계로 다시 만든다
+     * 삭제와 재집계를 한 트랜잭션으로 커밋해 조회 측이 빈 카운터를 보지 않도록 한다
+     *
+     * @return 다시 만든 카운터 행 수
+     */
+    @Transactional
+    int rebuildForUserRange(long fromUserIdExclusive, long toUserIdInclusive);
+
+    /**
+     * 카운터 재구축 대상 유저 ID 상한 (user_activities와 카운터 중 큰 값)
+     */
+    long findMaxUserId();
+}
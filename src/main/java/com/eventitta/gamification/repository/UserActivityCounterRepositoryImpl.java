@@ -0,0 +1,75 @@
+package com.eventitta.gamification.repository;
+
+import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.event.ActivityBatchRecordedEvent.ActivityDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class UserActivityCounterRepositoryImpl implements UserActivityCounterRepositoryCustom {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO user_activity_counters (user_id, activity_type, activity_count, total_points, updated_at) " +
+            "VALUES (?, ?, GREATEST(?, 0), GREATEST(?, 0), ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "activity_count = GREATEST(activity_count + ?, 0), " +
+            "total_points = GREATEST(total_points + ?, 0), " +
+            "updated_at = ?";
+
+    private static final String DELETE_RANGE_SQL =
+        "DELETE FROM user_activity_counters WHERE user_id > ? AND user_id <= ?";
+
+    private static final String REBUILD_RANGE_SQL =
+        "INSERT INTO user_activity_counters (user_id, activity_type, activity_count, total_points, updated_at) " +
+            "SELECT ua.user_id, ua.activity_type, COUNT(*), COALESCE(SUM(ua.points_earned), 0), ? " +
+            "FROM user_activities ua " +
+            "WHERE ua.user_id > ? AND ua.user_id <= ? " +
+            "GROUP BY ua.user_id, ua.activity_type";
+
+    private static final String MAX_USER_ID_SQL =
+        "SELECT GREATEST(" +
+            "COALESCE((SELECT MAX(user_id) FROM user_activities), 0), " +
+            "COALESCE((SELECT MAX(user_id) FROM user_activity_counters), 0))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyDeltas(Long userId, Map<ActivityType, ActivityDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((activityType, delta) -> args.add(new Object[]{
+            userId,
+            activityType.name(),
+            delta.count(),
+            delta.points(),
+            now,
+            delta.count(),
+            delta.points(),
+            now
+        }));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+
+    @Override
+    public int rebuildForUserRange(long fromUserIdExclusive, long toUserIdInclusive) {
+        jdbcTemplate.update(DELETE_RANGE_SQL, fromUserIdExclusive, toUserIdInclusive);
+        return jdbcTemplate.update(REBUILD_RANGE_SQL,
+            Timestamp.valueOf(LocalDateTime.now()), fromUserIdExclusive, toUserIdInclusive);
+    }
+
+    @Override
+    public long findMaxUserId() {
+        Long maxUserId = jdbcTemplate.queryForObject(MAX_USER_ID_SQL, Long.class);
+        return maxUserId != null ? maxUserId : 0L;
+    }
+}
@@ -3,6 +3,8 @@ package com.eventitta.gamification.repository;
 import com.eventitta.gamification.domain.ActivityType;
 import com.eventitta.gamification.domain.UserActivity;
 import com.eventitta.gamification.dto.projection.ActivitySummaryProjection;
+import com.eventitta.gamification.dto.projection.UserPointsSumProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,7 +12,7 @@ import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
 import java.util.List;
 
-public interface UserActivityRepository extends JpaRepository<UserActivity, Long> {
+public interface UserActivityRepository extends JpaRepository<UserActivity, Long>, UserActivityRepositoryCustom {
     long countByUserIdAndActivityType(Long userId, ActivityType activityTypeId);
 
     @Query("SELECT ua.activityType AS activityType, " +
@@ -63,4 +65,55 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Long
         "WHERE ua.userId IN :userIds " +
         "GROUP BY ua.userId")
     List<Object[]> countActivitiesByUserIds(@Param("userIds") List<Long> userIds);
+
+    /**
+     * 기간 내 획득 포인트 상위 유저 조회 (기간제 순위 MySQL fallback용)
+     */
+    @Query("SELECT ua.userId AS userId, SUM(ua.pointsEarned) AS totalPoints FROM UserActivity ua " +
+        "WHERE ua.createdAt >= :since " +
+        "GROUP BY ua.userId " +
+        "HAVING SUM(ua.pointsEarned) > 0 " +
+        "ORDER BY SUM(ua.pointsEarned) DESC")
+    List<UserPointsSumProjection> findTopPointsEarnedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 기간 내 유저별 획득 포인트 합계를 유저 ID keyset으로 조회 (기간제 순위 일별 버킷 재구축용)
+     */
+    @Query("SELECT ua.userId AS userId, SUM(ua.pointsEarned) AS totalPoints FROM UserActivity ua " +
+        "WHERE ua.createdAt >= :from AND ua.createdAt < :to AND ua.userId > :lastUserId " +
+        "GROUP BY ua.userId " +
+        "HAVING SUM(ua.pointsEarned) > 0 " +
+        "ORDER BY ua.userId")
+    List<UserPointsSumProjection> sumPointsEarnedGroupedByUserBetween(@Param("from") LocalDateTime from,
+                                                                      @Param("to") LocalDateTime to,
+                                                                      @Param("lastUserId") Long lastUserId,
+                                                                      Pageable pageable);
+
+    /**
+     * 여러 유저의 기간 내 획득 포인트 합계 (일별 버킷 재반영용)
+     */
+    @Query("SELECT ua.userId AS userId, SUM(ua.pointsEarned) AS totalPoints FROM UserActivity ua " +
+        "WHERE ua.userId IN :userIds AND ua.createdAt >= :from AND ua.createdAt < :to " +
+        "GROUP BY ua.userId")
+    List<UserPointsSumProjection> sumPointsEarnedByUserIdsBetween(@Param("userIds") List<Long> userIds,
+                                                                  @Param("from") LocalDateTime from,
+                                                                  @Param("to") LocalDateTime to);
+
+    /**
+     * 특정 유저의 기간 내 획득 포인트 합계
+     */
+    @Query("SELECT COALESCE(SUM(ua.pointsEarned), 0) FROM UserActivity ua " +
+        "WHERE ua.userId = :userId AND ua.createdAt >= :since")
+    long sumPointsEarnedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 기간 내 획득 포인트가 주어진 값보다 큰 유저 수 (기간제 순위 계산용)
+     */
+    @Query(value = "SELECT COUNT(*) FROM (" +
+        "SELECT ua.user_id FROM user_activities ua " +
+        "WHERE ua.created_at >= :since " +
+        "GROUP BY ua.user_id " +
+        "HAVING SUM(ua.points_earned) > :points) ranked", nativeQuery = true)
+    long countUsersWithPointsEarnedSinceGreaterThan(@Param("since") LocalDateTime since,
+                                                    @Param("points") long points);
 }
@@ -0,0 +1,24 @@
+package com.eventitta.gamification.repository;
+
+import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.domain.UserActivity;
+
+import java.util.List;
+
+public interface UserActivityRepositoryCustom {
+
+    /**
+     * 활동 레코드를 JDBC 배치 INSERT 한 번으로 저장 (생성된 ID는 채우지 않음)
+     */
+    void insertAllInBatch(List<UserActivity> activities);
+
+    /**
+     * 유저의 (활동 유형, 대상) 별 활동 레코드를 JDBC 배치 DELETE로 삭제
+     *
+     * @return targets 순서대로 삭제된 행 수
+     */
+    int[] deleteAllByTargetsInBatch(Long userId, List<ActivityTarget> targets);
+
+    record ActivityTarget(ActivityType activityType, Long targetId) {
+    }
+}
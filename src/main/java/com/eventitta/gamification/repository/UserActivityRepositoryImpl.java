@@ -0,0 +1,59 @@
+package com.eventitta.gamification.repository;
+
+import com.eventitta.gamification.domain.UserActivity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class UserActivityRepositoryImpl implements UserActivityRepositoryCustom {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO user_activities " +
+            "(user_id, activity_type, resource_type, target_id, points_earned, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_SQL =
+        "DELETE FROM user_activities WHERE user_id = ? AND activity_type = ? AND target_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAllInBatch(List<UserActivity> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(activities.size());
+        for (UserActivity activity : activities) {
+            args.add(new Object[]{
+                activity.getUserId(),
+                activity.getActivityType().name(),
+                activity.getResourceType().name(),
+                activity.getTargetId(),
+                activity.getPointsEarned(),
+                now,
+                now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+
+    @Override
+    public int[] deleteAllByTargetsInBatch(Long userId, List<ActivityTarget> targets) {
+        if (targets.isEmpty()) {
+            return new int[0];
+        }
+
+        List<Object[]> args = new ArrayList<>(targets.size());
+        for (ActivityTarget target : targets) {
+            args.add(new Object[]{userId, target.activityType().name(), target.targetId()});
+        }
+        return jdbcTemplate.batchUpdate(DELETE_SQL, args);
+    }
+}
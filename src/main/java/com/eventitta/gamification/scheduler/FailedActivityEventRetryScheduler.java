@@ -1,72 +1,90 @@
 package com.eventitta.gamification.scheduler;
 
-import com.eventitta.gamification.domain.FailedActivityEvent;
 import com.eventitta.gamification.domain.FailedActivityEvent.EventStatus;
+import com.eventitta.gamification.dto.projection.FailedEventStatusCountProjection;
 import com.eventitta.gamification.repository.FailedActivityEventRepository;
 import com.eventitta.gamification.service.FailedEventRecoveryService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.eventitta.gamification.constants.GamificationRetryConstants.*;
 import static org.springframework.transaction.annotation.Propagation.NEVER;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "scheduler.failed-event-retry.enabled", havingValue = "true", matchIfMissing = true)
 public class FailedActivityEventRetryScheduler {
 
     private final FailedActivityEventRepository failedActivityEventRepository;
     private final FailedEventRecoveryService failedEventRecoveryService;
+    private final Map<EventStatus, AtomicLong> statusCounts = new EnumMap<>(EventStatus.class);
+
+    public FailedActivityEventRetryScheduler(FailedActivityEventRepository failedActivityEventRepository,
+                                             FailedEventRecoveryService failedEventRecoveryService,
+                                             MeterRegistry meterRegistry) {
+        this.failedActivityEventRepository = failedActivityEventRepository;
+        this.failedEventRecoveryService = failedEventRecoveryService;
+        for (EventStatus status : EventStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            statusCounts.put(status, count);
+            Gauge.builder("gamification.failed_events", count, AtomicLong::get)
+                .tag("status", status.name())
+                .description("상태별 실패 활동 이벤트 수 (재처리 스케줄러 실행 시 갱신)")
+                .register(meterRegistry);
+        }
+    }
 
     /**
      * 실패 이벤트 재처리 스케줄러
+     * 재시도 시각이 도래한 이벤트만 배치 크기만큼 DB에서 잘라 읽고,
      * 각 이벤트를 개별 트랜잭션으로 처리하여 하나의 실패가 다른 이벤트에 영향을 주지 않도록 함
      */
     @Scheduled(fixedDelay = FAILED_EVENT_RETRY_FIXED_DELAY_MS)
     @SchedulerLock(name = "retryFailedActivityEvents", lockAtMostFor = "PT55S", lockAtLeastFor = "PT5S")
     @Transactional(propagation = NEVER)
     public void retryFailedEvents() {
-        logFailedEventStatistics();
+        refreshFailedEventStatistics();
 
-        List<FailedActivityEvent> pendingEvents = failedActivityEventRepository
-                .findByStatusAndRetryCountLessThan(EventStatus.PENDING, FAILED_EVENT_MAX_RETRY_COUNT);
+        List<Long> eventIds = failedActivityEventRepository.findRetryableIds(
+                FAILED_EVENT_MAX_RETRY_COUNT, LocalDateTime.now(), PageRequest.of(0, FAILED_EVENT_RETRY_BATCH_SIZE));
 
-        if (pendingEvents.isEmpty()) {
+        if (eventIds.isEmpty()) {
             return;
         }
 
         log.info("[Scheduler] 실패 이벤트 재처리 시작 - 대상 건수: {}, 배치 크기: {}",
-                pendingEvents.size(), FAILED_EVENT_RETRY_BATCH_SIZE);
-
-        List<FailedActivityEvent> eventsToProcess = pendingEvents.stream()
-                .limit(FAILED_EVENT_RETRY_BATCH_SIZE)
-                .toList();
+                eventIds.size(), FAILED_EVENT_RETRY_BATCH_SIZE);
 
         int successCount = 0;
         int failureCount = 0;
 
-        for (FailedActivityEvent event : eventsToProcess) {
+        for (Long eventId : eventIds) {
             try {
-                failedEventRecoveryService.recoverFailedEventIndependently(event.getId());
+                failedEventRecoveryService.recoverFailedEventIndependently(eventId);
                 successCount++;
             } catch (Exception e) {
                 log.warn("[Scheduler] 개별 이벤트 재처리 실패 - eventId={}, error={}",
-                        event.getId(), e.getMessage());
+                        eventId, e.getMessage());
+                recordRecoveryFailure(eventId, e);
                 failureCount++;
             }
         }
 
         log.info("[Scheduler] 실패 이벤트 재처리 완료 - 성공: {}, 실패: {}, 전체: {}",
-                successCount, failureCount, eventsToProcess.size());
+                successCount, failureCount, eventIds.size());
     }
 
     /**
@@ -88,14 +106,28 @@ public class FailedActivityEventRetryScheduler {
         }
     }
 
+    private void recordRecoveryFailure(Long eventId, Exception cause) {
+        try {
+            failedEventRecoveryService.recordRecoveryFailure(eventId, cause.getMessage());
+        } catch (Exception e) {
+            log.error("[Scheduler] 재처리 실패 기록 실패 - eventId={}, error={}", eventId, e.getMessage());
+        }
+    }
+
     /**
-     * 실패 이벤트 현황 통계 로깅
-     * 운영 가시성 확보를 위해 PENDING/PROCESSING/FAILED 상태별 건수를 출력
+     * 실패 이벤트 현황 통계 갱신
+     * 상태별 건수를 GROUP BY 한 번으로 조회해 게이지에 반영하고, 운영 가시성 확보를 위해 로그로도 출력
      */
-    private void logFailedEventStatistics() {
-        long totalPending = failedActivityEventRepository.countByStatus(EventStatus.PENDING);
-        long totalProcessing = failedActivityEventRepository.countByStatus(EventStatus.PROCESSING);
-        long totalFailed = failedActivityEventRepository.countByStatus(EventStatus.FAILED);
+    private void refreshFailedEventStatistics() {
+        Map<EventStatus, Long> counts = new EnumMap<>(EventStatus.class);
+        for (FailedEventStatusCountProjection row : failedActivityEventRepository.countGroupByStatus()) {
+            counts.put(row.getStatus(), row.getEventCount());
+        }
+        statusCounts.forEach((status, gauge) -> gauge.set(counts.getOrDefault(status, 0L)));
+
+        long totalPending = counts.getOrDefault(EventStatus.PENDING, 0L);
+        long totalProcessing = counts.getOrDefault(EventStatus.PROCESSING, 0L);
+        long totalFailed = counts.getOrDefault(EventStatus.FAILED, 0L);
 
         if (totalFailed > 0 || totalProcessing > 0) {
             log.warn("[FailedEvent 현황] PENDING={}, PROCESSING={}, FAILED={}",
@@ -1,70 +1,270 @@
 package com.eventitta.gamification.scheduler;
 
 import com.eventitta.gamification.domain.ActivityOutbox;
-import com.eventitta.gamification.domain.ActivityOutbox.OutboxStatus;
+import com.eventitta.gamification.event.ActivityOutboxWrittenEvent;
 import com.eventitta.gamification.repository.ActivityOutboxRepository;
 import com.eventitta.gamification.service.OutboxRelayService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.eventitta.gamification.constants.GamificationRetryConstants.*;
 import static org.springframework.transaction.annotation.Propagation.NEVER;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
 
 /**
- * activity_outbox 테이블에서 PENDING 상태의 레코드를 폴링하여 처리하는 릴레이 스케줄러.
- * 각 레코드는 OutboxRelayService에서 독립 트랜잭션으로 처리됩니다.
+ * activity_outbox 테이블의 PENDING 레코드를 선점하여 처리하는 릴레이 스케줄러.
+ * 선점은 FOR UPDATE SKIP LOCKED로 이루어지므로 노드 간 락 없이 여러 노드가 동시에 릴레이하며,
+ * 선점한 배치는 유저 단위로 나눠 병렬 처리합니다 (같은 유저의 이벤트는 생성 순서대로 합쳐서 처리).
+ * 다른 노드가 잡고 있는 유저의 후속 이벤트는 선점 단계에서 제외되므로 노드 간에도 유저별 순서가 지켜집니다.
+ *
+ * <p>아웃박스 기록이 커밋되면 즉시 깨어나 처리하고(wakeUp), 다른 노드에는 Redis Pub/Sub으로 신호를 전달합니다.
+ * 폴링은 신호 유실에 대비한 안전망으로만 동작하며, 테이블이 비어 있으면 간격을 최대값까지 늘립니다.</p>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "scheduler.outbox-relay.enabled", havingValue = "true", matchIfMissing = true)
 public class OutboxRelayScheduler {
 
     private final ActivityOutboxRepository outboxRepository;
     private final OutboxRelayService outboxRelayService;
+    private final Executor outboxRelayExecutor;
+    private final Executor outboxWakeupExecutor;
+    private final ObjectProvider<OutboxWakeupBroadcaster> wakeupBroadcaster;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong lastEventsPerSecond;
+
+    // 같은 노드 안에서는 릴레이를 한 번에 하나만 실행한다 (노드 간 유저별 순서는 선점 단계에서 보장)
+    private final ReentrantLock relayLock = new ReentrantLock();
+    private volatile long pollIntervalMs = OUTBOX_RELAY_POLL_MIN_INTERVAL_MS;
+    private volatile long nextPollAtMs;
+
+    public OutboxRelayScheduler(
+            ActivityOutboxRepository outboxRepository,
+            OutboxRelayService outboxRelayService,
+            @Qualifier("outboxRelayExecutor") Executor outboxRelayExecutor,
+            @Qualifier("outboxWakeupExecutor") Executor outboxWakeupExecutor,
+            ObjectProvider<OutboxWakeupBroadcaster> wakeupBroadcaster,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.outboxRelayService = outboxRelayService;
+        this.outboxRelayExecutor = outboxRelayExecutor;
+        this.outboxWakeupExecutor = outboxWakeupExecutor;
+        this.wakeupBroadcaster = wakeupBroadcaster;
+        this.meterRegistry = meterRegistry;
+        this.lastEventsPerSecond = meterRegistry.gauge("outbox.relay.events.per.second", new AtomicLong());
+    }
 
     /**
-     * 아웃박스 릴레이 - PENDING 레코드를 폴링하여 활동 기록/취소 처리
+     * 아웃박스 기록 커밋 직후 이 노드의 릴레이를 깨우고 다른 노드에도 신호 전달
      */
-    @Scheduled(fixedDelay = OUTBOX_RELAY_FIXED_DELAY_MS)
-    @SchedulerLock(name = "outboxRelay", lockAtMostFor = "PT4S", lockAtLeastFor = "PT1S")
-    @Transactional(propagation = NEVER)
-    public void relay() {
-        List<ActivityOutbox> pendingEvents = outboxRepository.findPendingEvents(
-                OutboxStatus.PENDING, OUTBOX_MAX_RETRY_COUNT,
-                PageRequest.of(0, OUTBOX_RELAY_BATCH_SIZE));
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onOutboxWritten(ActivityOutboxWrittenEvent event) {
+        wakeUp();
+        wakeupBroadcaster.ifAvailable(OutboxWakeupBroadcaster::broadcast);
+    }
 
-        if (pendingEvents.isEmpty()) {
+    /**
+     * 릴레이를 즉시 실행하도록 요청
+     * 실행 중인 릴레이 뒤에 한 번만 대기시키고 나머지 신호는 합쳐진다 (outboxWakeupExecutor 큐 크기 1)
+     */
+    public void wakeUp() {
+        outboxWakeupExecutor.execute(() -> {
+            try {
+                relay();
+            } catch (Exception e) {
+                // 처리하지 못한 레코드는 안전망 폴링이 다시 가져간다
+                log.warn("[OutboxRelay] 즉시 처리 실패 - error={}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 안전망 폴링 - 백오프 간격이 지났을 때만 릴레이 실행
+     * 처리할 레코드가 없으면 간격을 두 배씩 늘리고, 처리하면 최소 간격으로 되돌린다
+     */
+    @Scheduled(fixedDelay = OUTBOX_RELAY_POLL_TICK_MS)
+    @Transactional(propagation = NEVER)
+    public void poll() {
+        if (System.currentTimeMillis() < nextPollAtMs) {
             return;
         }
 
-        log.info("[OutboxRelay] 처리 시작 - 대상 건수: {}", pendingEvents.size());
+        if (relay() == 0) {
+            pollIntervalMs = Math.min(pollIntervalMs * 2, OUTBOX_RELAY_POLL_MAX_INTERVAL_MS);
+        }
+        nextPollAtMs = System.currentTimeMillis() + pollIntervalMs;
+    }
+
+    /**
+     * 아웃박스 릴레이 - PENDING 레코드를 선점하여 활동 기록/취소 처리
+     * 배치가 가득 차 있으면 시간 예산 안에서 연속으로 선점해 적체를 비운다
+     *
+     * @return 처리한 레코드 수 (성공 + 실패)
+     */
+    public int relay() {
+        relayLock.lock();
+        try {
+            return drain();
+        } finally {
+            relayLock.unlock();
+        }
+    }
 
+    private int drain() {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(OUTBOX_RELAY_DRAIN_BUDGET_MS);
         int successCount = 0;
         int failureCount = 0;
 
-        for (ActivityOutbox outbox : pendingEvents) {
+        while (true) {
+            List<ActivityOutbox> claimed = outboxRelayService.claimBatch(OUTBOX_RELAY_BATCH_SIZE);
+            if (claimed.isEmpty()) {
+                break;
+            }
+
+            int succeeded = dispatch(claimed);
+            successCount += succeeded;
+            failureCount += claimed.size() - succeeded;
+
+            if (claimed.size() < OUTBOX_RELAY_BATCH_SIZE || System.nanoTime() > deadline) {
+                break;
+            }
+        }
+
+        int processed = successCount + failureCount;
+        if (processed == 0) {
+            return 0;
+        }
+
+        pollIntervalMs = OUTBOX_RELAY_POLL_MIN_INTERVAL_MS;
+        recordRelayMetrics(successCount, failureCount, System.nanoTime() - startNanos);
+        log.info("[OutboxRelay] 처리 완료 - 성공: {}, 실패: {}, 전체: {}",
+                successCount, failureCount, processed);
+        return processed;
+    }
+
+    /**
+     * 선점한 배치를 유저별로 묶어 병렬 처리하고 모두 끝날 때까지 대기
+     * 같은 유저의 이벤트는 합쳐서 반영하므로 users 행 UPDATE와 후처리 이벤트가 유저당 한 번으로 줄어든다
+     *
+     * @return 성공 건수
+     */
+    private int dispatch(List<ActivityOutbox> claimed) {
+        Map<Long, List<ActivityOutbox>> byUser = new LinkedHashMap<>();
+        for (ActivityOutbox outbox : claimed) {
+            byUser.computeIfAbsent(outbox.getUserId(), userId -> new ArrayList<>()).add(outbox);
+        }
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(byUser.size());
+        byUser.forEach((userId, userEvents) -> futures.add(
+                CompletableFuture.supplyAsync(() -> processUserEvents(userId, userEvents), outboxRelayExecutor)));
+
+        int succeeded = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            succeeded += future.join();
+        }
+        return succeeded;
+    }
+
+    /**
+     * 한 유저의 이벤트 처리
+     * 2건 이상이면(포인트 지연 반영 모드면 1건도) 합쳐서 한 트랜잭션으로 반영하고, 실패하면 레코드별 처리로 되돌아간다
+     */
+    private int processUserEvents(Long userId, List<ActivityOutbox> userEvents) {
+        if (userEvents.size() > 1 || outboxRelayService.defersPoints()) {
             try {
-                outboxRelayService.processIndependently(outbox.getId());
-                successCount++;
+                outboxRelayService.processCoalesced(userId, userEvents);
+                userEvents.forEach(this::recordLag);
+                meterRegistry.counter("outbox.relay.coalesced.events").increment(userEvents.size());
+                return userEvents.size();
             } catch (Exception e) {
-                log.warn("[OutboxRelay] 개별 처리 실패 - outboxId={}, error={}",
-                        outbox.getId(), e.getMessage());
-                failureCount++;
+                log.warn("[OutboxRelay] 병합 처리 실패, 개별 처리로 전환 - userId={}, count={}, error={}",
+                        userId, userEvents.size(), e.getMessage());
             }
         }
+        return processInOrder(userEvents);
+    }
 
-        log.info("[OutboxRelay] 처리 완료 - 성공: {}, 실패: {}, 전체: {}",
-                successCount, failureCount, pendingEvents.size());
+    /**
+     * 한 유저의 레코드를 생성 순서대로 하나씩 처리
+     * 한 건이 실패하면 그 뒤 레코드는 반영하지 않고 PENDING으로 되돌려, 취소가 앞선 기록보다 먼저 반영되지 않게 한다
+     */
+    private int processInOrder(List<ActivityOutbox> userEvents) {
+        int succeeded = 0;
+        for (int i = 0; i < userEvents.size(); i++) {
+            ActivityOutbox outbox = userEvents.get(i);
+            try {
+                outboxRelayService.processClaimed(outbox);
+                recordLag(outbox);
+                succeeded++;
+            } catch (Exception e) {
+                log.warn("[OutboxRelay] 개별 처리 실패, 같은 유저의 후속 {}건은 되돌림 - outboxId={}, error={}",
+                        userEvents.size() - i - 1, outbox.getId(), e.getMessage());
+                recordFailureSafely(outbox, e);
+                releaseSafely(userEvents.subList(i + 1, userEvents.size()));
+                break;
+            }
+        }
+        return succeeded;
+    }
+
+    private void releaseSafely(List<ActivityOutbox> remaining) {
+        try {
+            outboxRelayService.releaseClaimed(remaining);
+        } catch (Exception releaseException) {
+            // PROCESSING 상태로 남은 레코드는 stuck 복구가 PENDING으로 되돌린다
+            log.error("[OutboxRelay] 후속 레코드 선점 해제 실패 - count={}", remaining.size(), releaseException);
+        }
+    }
+
+    private void recordFailureSafely(ActivityOutbox outbox, Exception e) {
+        try {
+            outboxRelayService.recordFailure(outbox, e);
+        } catch (Exception recordException) {
+            // PROCESSING 상태로 남은 레코드는 stuck 복구가 PENDING으로 되돌린다
+            log.error("[OutboxRelay] 실패 기록 실패 - outboxId={}", outbox.getId(), recordException);
+        }
+    }
+
+    private void recordLag(ActivityOutbox outbox) {
+        if (outbox.getCreatedAt() == null) {
+            return;
+        }
+        Timer.builder("outbox.relay.lag")
+                .description("아웃박스 레코드 생성부터 처리 완료까지 걸린 시간")
+                .register(meterRegistry)
+                .record(Duration.between(outbox.getCreatedAt(), LocalDateTime.now()));
+    }
+
+    private void recordRelayMetrics(int successCount, int failureCount, long elapsedNanos) {
+        meterRegistry.counter("outbox.relay.events", "result", "success").increment(successCount);
+        meterRegistry.counter("outbox.relay.events", "result", "failure").increment(failureCount);
+
+        long processed = successCount + failureCount;
+        long eventsPerSecond = elapsedNanos > 0 ? processed * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : processed;
+        lastEventsPerSecond.set(eventsPerSecond);
     }
 
     /**
@@ -86,19 +286,55 @@ public class OutboxRelayScheduler {
 
     /**
      * 처리 완료된 아웃박스 레코드 정리 (housekeeping)
+     * 한 번의 대량 DELETE 대신 청크 단위로 나눠 커밋하고 청크 사이에 쉬어,
+     * 긴 행 잠금과 undo 로그 증가 없이 릴레이 트래픽과 함께 돌 수 있도록 한다
      */
     @Scheduled(cron = "0 0 4 * * *")
     @SchedulerLock(name = "outboxCleanup", lockAtMostFor = "PT10M")
-    @Transactional
+    @Transactional(propagation = NEVER)
     public void cleanupProcessedRecords() {
         LocalDateTime threshold = LocalDateTime.now()
                 .minusDays(OUTBOX_CLEANUP_RETENTION_DAYS);
+        long deadline = System.currentTimeMillis() + OUTBOX_CLEANUP_MAX_DURATION_MS;
 
-        int deleted = outboxRepository.deleteProcessedBefore(threshold);
+        int deleted = 0;
+        int chunks = 0;
+        while (true) {
+            List<Long> ids = outboxRepository.findProcessedIdsBefore(threshold, OUTBOX_CLEANUP_CHUNK_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += outboxRepository.deleteProcessedByIds(ids);
+            chunks++;
+
+            if (ids.size() < OUTBOX_CLEANUP_CHUNK_SIZE) {
+                break;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("[OutboxCleanup] 실행 시간 초과로 중단, 남은 레코드는 다음 실행에서 정리: deleted={}, chunks={}",
+                        deleted, chunks);
+                break;
+            }
+            if (!pauseBetweenChunks()) {
+                break;
+            }
+        }
 
         if (deleted > 0) {
-            log.info("[OutboxCleanup] 처리 완료 레코드 정리: {}건 ({}일 이전)",
-                    deleted, OUTBOX_CLEANUP_RETENTION_DAYS);
+            meterRegistry.counter("outbox.cleanup.deleted").increment(deleted);
+            log.info("[OutboxCleanup] 처리 완료 레코드 정리: {}건, {}개 청크 ({}일 이전)",
+                    deleted, chunks, OUTBOX_CLEANUP_RETENTION_DAYS);
+        }
+    }
+
+    private boolean pauseBetweenChunks() {
+        try {
+            Thread.sleep(OUTBOX_CLEANUP_CHUNK_PAUSE_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[OutboxCleanup] 인터럽트로 정리 중단");
+            return false;
         }
     }
 }
@@ -0,0 +1,58 @@
+package com.eventitta.gamification.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static com.eventitta.gamification.constants.GamificationRetryConstants.OUTBOX_WAKEUP_CHANNEL;
+
+/**
+ * 아웃박스 릴레이 깨우기 신호를 Redis Pub/Sub으로 다른 노드에 전달
+ * 자기 노드가 보낸 신호는 이미 로컬에서 처리했으므로 무시한다
+ * 신호는 최선 노력(best-effort)이며, 유실되어도 안전망 폴링이 처리한다
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class OutboxWakeupBroadcaster implements MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectProvider<OutboxRelayScheduler> outboxRelayScheduler;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public OutboxWakeupBroadcaster(
+        StringRedisTemplate stringRedisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        ObjectProvider<OutboxRelayScheduler> outboxRelayScheduler
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.outboxRelayScheduler = outboxRelayScheduler;
+        listenerContainer.addMessageListener(this, new ChannelTopic(OUTBOX_WAKEUP_CHANNEL));
+    }
+
+    public void broadcast() {
+        try {
+            stringRedisTemplate.convertAndSend(OUTBOX_WAKEUP_CHANNEL, nodeId);
+        } catch (Exception e) {
+            log.warn("[OutboxWakeup] 신호 발행 실패 - error={}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sender = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (nodeId.equals(sender)) {
+            return;
+        }
+        outboxRelayScheduler.ifAvailable(OutboxRelayScheduler::wakeUp);
+    }
+}
@@ -0,0 +1,129 @@
+package com.eventitta.gamification.scheduler;
+
+import com.eventitta.gamification.repository.ActivityOutboxRepository;
+import com.eventitta.gamification.service.PointsLedger;
+import com.eventitta.gamification.service.PointsLedger.PendingPoints;
+import com.eventitta.gamification.service.PointsLedgerFlushService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.eventitta.gamification.constants.PointsLedgerConstants.*;
+import static org.springframework.transaction.annotation.Propagation.NEVER;
+
+/**
+ * 포인트 지연 반영(write-behind) 원장 플러시 스케줄러
+ *
+ * <p>메모리 원장에 모인 증감을 주기적으로 꺼내 청크 단위 트랜잭션으로 users에 반영합니다.
+ * 실패한 청크는 원장에 되돌려 다음 주기에 다시 시도합니다.</p>
+ *
+ * <p>플러시 전에 노드가 종료되면 해당 레코드는 APPLIED로 남으므로, 고아 복구가 일정 시간 이상 지난 레코드를
+ * 같은 플러시 경로로 반영합니다. write-behind 모드를 끈 뒤에도 남은 레코드를 정리할 수 있도록 고아 복구는 항상 동작합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduler.outbox-relay.enabled", havingValue = "true", matchIfMissing = true)
+public class PointsLedgerFlusher {
+
+    private final ObjectProvider<PointsLedger> pointsLedger;
+    private final PointsLedgerFlushService flushService;
+    private final ActivityOutboxRepository outboxRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 원장 플러시 - 유저 단위로 묶어 청크 크기만큼씩 반영
+     */
+    @Scheduled(fixedDelay = POINTS_LEDGER_FLUSH_INTERVAL_MS)
+    @Transactional(propagation = NEVER)
+    public void flush() {
+        PointsLedger ledger = pointsLedger.getIfAvailable();
+        if (ledger == null) {
+            return;
+        }
+
+        Map<Long, PendingPoints> drained = ledger.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        Map<Long, PendingPoints> chunk = new HashMap<>();
+        List<Long> outboxIds = new ArrayList<>();
+        for (Map.Entry<Long, PendingPoints> entry : drained.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            outboxIds.addAll(entry.getValue().getOutboxIds());
+            if (outboxIds.size() >= POINTS_LEDGER_FLUSH_CHUNK_SIZE) {
+                flushChunk(ledger, chunk, outboxIds);
+                chunk = new HashMap<>();
+                outboxIds = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flushChunk(ledger, chunk, outboxIds);
+        }
+    }
+
+    /**
+     * 종료 직전 남은 원장 플러시 (실패해도 고아 복구가 다른 노드에서 반영)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 고아 APPLIED 레코드 복구 - 원장 플러시 없이 일정 시간 이상 남은 레코드를 반영
+     */
+    @Scheduled(fixedDelay = POINTS_LEDGER_ORPHAN_RECOVERY_FIXED_DELAY_MS)
+    @SchedulerLock(name = "pointsLedgerOrphanRecovery", lockAtMostFor = "PT55S", lockAtLeastFor = "PT5S")
+    @Transactional(propagation = NEVER)
+    public void recoverOrphans() {
+        LocalDateTime threshold = LocalDateTime.now()
+                .minusMinutes(POINTS_LEDGER_ORPHAN_TIMEOUT_MINUTES);
+
+        List<Long> orphanIds = outboxRepository.findOrphanedAppliedIds(threshold, POINTS_LEDGER_ORPHAN_RECOVERY_BATCH_SIZE);
+        if (orphanIds.isEmpty()) {
+            return;
+        }
+
+        int recovered = 0;
+        for (int from = 0; from < orphanIds.size(); from += POINTS_LEDGER_FLUSH_CHUNK_SIZE) {
+            List<Long> chunk = orphanIds.subList(from, Math.min(from + POINTS_LEDGER_FLUSH_CHUNK_SIZE, orphanIds.size()));
+            try {
+                recovered += flushService.flush(chunk);
+            } catch (Exception e) {
+                log.error("[PointsLedger] 고아 레코드 복구 실패 - count={}, error={}", chunk.size(), e.getMessage());
+            }
+        }
+
+        if (recovered > 0) {
+            meterRegistry.counter("gamification.points.ledger.orphans.recovered").increment(recovered);
+            log.warn("[PointsLedger] 고아 APPLIED 레코드 복구: {}건 ({}분 이상 미반영)",
+                    recovered, POINTS_LEDGER_ORPHAN_TIMEOUT_MINUTES);
+        }
+    }
+
+    private void flushChunk(PointsLedger ledger, Map<Long, PendingPoints> chunk, List<Long> outboxIds) {
+        try {
+            int flushed = flushService.flush(outboxIds);
+            meterRegistry.counter("gamification.points.ledger.flushed").increment(flushed);
+        } catch (Exception e) {
+            log.warn("[PointsLedger] 플러시 실패, 다음 주기에 재시도 - users={}, outboxes={}, error={}",
+                    chunk.size(), outboxIds.size(), e.getMessage());
+            ledger.restore(chunk);
+        }
+    }
+}
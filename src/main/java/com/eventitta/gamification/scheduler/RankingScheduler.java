@@ -34,8 +34,14 @@ public class RankingScheduler {
     /**
      * 애플리케이션 시작 시 초기 동기화 수행
      * Redis가 비어있을 수 있으므로 전체 동기화 실행
+     * 롤링 배포로 여러 노드가 동시에 뜨면 정기 전체 동기화와 같은 락을 잡은 노드 하나만 실행한다
      */
     @EventListener(ApplicationReadyEvent.class)
+    @SchedulerLock(
+        name = "RankingScheduler_fullSync",
+        lockAtMostFor = "PT1H",
+        lockAtLeastFor = "PT5M"
+    )
     public void onApplicationReady() {
         log.info("[Scheduler] RankingScheduler - Application ready, starting initial ranking sync");
         try {
@@ -0,0 +1,69 @@
+package com.eventitta.gamification.scheduler;
+
+import com.eventitta.gamification.repository.UserActivityCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.eventitta.gamification.constants.BadgeConstants.ACTIVITY_COUNTER_BACKFILL_PAUSE_MS;
+import static com.eventitta.gamification.constants.BadgeConstants.ACTIVITY_COUNTER_BACKFILL_USER_RANGE;
+
+/**
+ * user_activity_counters 재집계(backfill) 작업
+ * 카운터는 활동 기록/취소 트랜잭션에서 증감으로 유지되지만, 배포 중 구버전 노드의 기록이나 수동 데이터 보정으로
+ * user_activities와 어긋날 수 있어 매일 유저 ID 구간 단위로 다시 맞춘다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    name = "scheduler.activity-counter-backfill.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class UserActivityCounterBackfillJob {
+
+    private final UserActivityCounterRepository userActivityCounterRepository;
+
+    /**
+     * 매일 새벽 3시 30분에 전체 유저 카운터 재집계
+     * 유저 ID 구간마다 별도 트랜잭션으로 커밋하고 잠시 쉬어 활동 기록과의 잠금 경합을 줄인다
+     */
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+    @SchedulerLock(name = "UserActivityCounterBackfillJob_backfill", lockAtMostFor = "PT1H", lockAtLeastFor = "PT5M")
+    public void backfill() {
+        long startTime = System.currentTimeMillis();
+        long maxUserId = userActivityCounterRepository.findMaxUserId();
+
+        long rebuiltRows = 0;
+        for (long from = 0; from < maxUserId; from += ACTIVITY_COUNTER_BACKFILL_USER_RANGE) {
+            long to = Math.min(from + ACTIVITY_COUNTER_BACKFILL_USER_RANGE, maxUserId);
+            try {
+                rebuiltRows += userActivityCounterRepository.rebuildForUserRange(from, to);
+            } catch (Exception e) {
+                log.error("[CounterBackfill] Failed to rebuild counters. userIdRange=({}, {}]", from, to, e);
+            }
+
+            if (to < maxUserId && !pause()) {
+                break;
+            }
+        }
+
+        log.info("[CounterBackfill] Activity counters rebuilt. maxUserId={}, rows={}, elapsedMs={}",
+            maxUserId, rebuiltRows, System.currentTimeMillis() - startTime);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(ACTIVITY_COUNTER_BACKFILL_PAUSE_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[CounterBackfill] Interrupted, stopping backfill");
+            return false;
+        }
+    }
+}
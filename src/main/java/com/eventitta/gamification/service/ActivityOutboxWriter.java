@@ -3,18 +3,23 @@ package com.eventitta.gamification.service;
 import com.eventitta.gamification.domain.ActivityOutbox;
 import com.eventitta.gamification.domain.ActivityType;
 import com.eventitta.gamification.domain.OperationType;
+import com.eventitta.gamification.event.ActivityOutboxWrittenEvent;
 import com.eventitta.gamification.repository.ActivityOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.util.HexFormat;
 
 /**
  * 비즈니스 트랜잭션 내에서 activity_outbox 테이블에 이벤트를 기록합니다.
  * 호출자의 트랜잭션에 참여(@Transactional)하므로,
  * 비즈니스 데이터 저장과 아웃박스 INSERT가 원자적으로 처리됩니다.
+ * 같은 Idempotency-Key로 재시도된 요청은 같은 멱등키를 만들며, 이미 기록된 활동으로 보고 INSERT 없이 넘어갑니다.
+ * 유니크 인덱스 위반은 트랜잭션 전체를 롤백시키므로 INSERT 전에 멱등키로 먼저 확인합니다.
+ * 동시에 도착한 재시도끼리는 확인을 함께 통과할 수 있고, 이 경우에만 유니크 인덱스가 중복을 막습니다.
  */
 @Slf4j
 @Service
@@ -22,10 +27,16 @@ import java.util.UUID;
 public class ActivityOutboxWriter {
 
     private final ActivityOutboxRepository activityOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void write(ActivityType activityType, Long userId, Long targetId, OperationType operationType) {
-        String idempotencyKey = generateIdempotencyKey(operationType, userId, activityType, targetId);
+        byte[] idempotencyKey = OutboxIdempotencyKeys.next(operationType, userId, activityType, targetId);
+        if (activityOutboxRepository.existsByIdempotencyKey(idempotencyKey)) {
+            log.info("[Outbox 기록 생략] 이미 기록된 재시도 요청 - idempotencyKey={}, userId={}, activityType={}",
+                    HexFormat.of().formatHex(idempotencyKey), userId, activityType);
+            return;
+        }
 
         ActivityOutbox outbox = ActivityOutbox.builder()
                 .idempotencyKey(idempotencyKey)
@@ -37,16 +48,12 @@ public class ActivityOutboxWriter {
 
         activityOutboxRepository.save(outbox);
 
-        log.debug("[Outbox 기록] idempotencyKey={}, userId={}, activityType={}, operationType={}",
-                idempotencyKey, userId, activityType, operationType);
-    }
+        // 커밋 후 릴레이를 즉시 깨움 (OutboxRelayScheduler)
+        eventPublisher.publishEvent(new ActivityOutboxWrittenEvent(userId));
 
-    /**
-     * 멱등키 생성
-     * UUID를 포함하여 동일 사용자/타입/대상의 활동도 각각 구분
-     */
-    private String generateIdempotencyKey(OperationType op, Long userId, ActivityType type, Long targetId) {
-        return String.format("%s:%d:%s:%d:%s",
-                op, userId, type, targetId, UUID.randomUUID().toString().substring(0, 8));
+        if (log.isDebugEnabled()) {
+            log.debug("[Outbox 기록] idempotencyKey={}, userId={}, activityType={}, operationType={}",
+                    HexFormat.of().formatHex(idempotencyKey), userId, activityType, operationType);
+        }
     }
 }
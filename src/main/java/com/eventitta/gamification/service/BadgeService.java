@@ -3,79 +3,192 @@ package com.eventitta.gamification.service;
 import com.eventitta.gamification.domain.ActivityType;
 import com.eventitta.gamification.domain.Badge;
 import com.eventitta.gamification.domain.BadgeRule;
+import com.eventitta.gamification.domain.EvaluationType;
 import com.eventitta.gamification.domain.UserBadge;
-import com.eventitta.gamification.dto.projection.ActivitySummaryProjection;
+import com.eventitta.gamification.dto.cache.UserActivityCounters;
 import com.eventitta.gamification.evaluator.BadgeRuleEvaluator;
 import com.eventitta.gamification.repository.BadgeRuleRepository;
-import com.eventitta.gamification.repository.UserActivityRepository;
 import com.eventitta.gamification.repository.UserBadgeRepository;
 import com.eventitta.user.domain.User;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import static com.eventitta.gamification.constants.BadgeConstants.BADGE_RULE_REFRESH_MS;
+
+/**
+ * 뱃지 체크 및 부여
+ * 활성 규칙은 메모리에 ActivityType/EvaluationType 별로 색인해 두고 평가기를 미리 연결하여,
+ * 활동 이벤트마다 변할 수 있는 규칙만 평가한다
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BadgeService {
 
     private final BadgeRuleRepository badgeRuleRepository;
     private final UserBadgeRepository userBadgeRepository;
-    private final UserActivityRepository userActivityRepository;
+    private final UserActivityCounterCache userActivityCounterCache;
     private final List<BadgeRuleEvaluator> evaluators;
 
+    private volatile RuleIndex ruleIndex;
+
     /**
-     * 뱃지 체크 및 부여
+     * 모든 활성 규칙에 대해 뱃지 체크 및 부여
      */
     @Transactional(propagation = Propagation.REQUIRED)
     public List<String> checkAndAwardBadges(User user) {
-        List<BadgeRule> rules = badgeRuleRepository.findAllEnabledWithBadge();
+        UserActivityCounters counters = userActivityCounterCache.get(user.getId());
+        return awardSatisfied(user, ruleIndex().all(), counters);
+    }
 
-        List<ActivitySummaryProjection> activityStats =
-            userActivityRepository.countActivitiesByUser(user.getId());
+    /**
+     * 활동 한 건의 증감분을 반영하고, 그 활동으로 달성될 수 있는 규칙만 평가
+     * 횟수/포인트가 줄어드는 경우(활동 취소)에는 새로 달성되는 규칙이 없으므로 카운터만 갱신한다
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public List<String> checkAndAwardBadges(User user, ActivityType activityType,
+                                            int pointsDelta, int activityCountDelta) {
+        UserActivityCounters counters = userActivityCounterCache.applyDelta(
+            user.getId(), activityType, activityCountDelta, pointsDelta);
 
-        Map<ActivityType, Long> activityCountMap = activityStats.stream()
-            .collect(Collectors.toMap(
-                ActivitySummaryProjection::getActivityType,
-                ActivitySummaryProjection::getCount
-            ));
+        Map<EvaluationType, List<BoundRule>> rulesByEvaluation = ruleIndex().byActivityType().get(activityType);
+        if (rulesByEvaluation == null) {
+            return List.of();
+        }
 
-        Map<ActivityType, Long> activityPointsMap = activityStats.stream()
-            .collect(Collectors.toMap(
-                ActivitySummaryProjection::getActivityType,
-                ActivitySummaryProjection::getTotalPoints
-            ));
+        List<BoundRule> candidates = new ArrayList<>();
+        if (activityCountDelta > 0) {
+            candidates.addAll(rulesByEvaluation.getOrDefault(EvaluationType.COUNT, List.of()));
+        }
+        if (pointsDelta > 0) {
+            candidates.addAll(rulesByEvaluation.getOrDefault(EvaluationType.POINTS, List.of()));
+        }
+        return awardSatisfied(user, candidates, counters);
+    }
+
+    /**
+     * 활성 규칙 색인 재적재
+     * 규칙은 운영 중 DB에서 직접 변경되므로 주기적으로 다시 읽는다
+     */
+    @Scheduled(fixedDelay = BADGE_RULE_REFRESH_MS, initialDelay = BADGE_RULE_REFRESH_MS)
+    public void refreshRules() {
+        try {
+            ruleIndex = loadRuleIndex();
+        } catch (Exception e) {
+            log.warn("Failed to refresh badge rules. keeping previous index. error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시된 카운터로 달성 후보를 고른 뒤, 후보가 있을 때만 DB 집계와 보유 뱃지로 다시 확인하고 부여
+     * 카운터 캐시는 노드 간 증감분 누락/중복이 있을 수 있어 부여 직전에 정확한 값으로 검증한다
+     */
+    private List<String> awardSatisfied(User user, List<BoundRule> candidates, UserActivityCounters counters) {
+        List<BoundRule> satisfied = filterSatisfied(user, candidates, counters);
+        if (satisfied.isEmpty()) {
+            return List.of();
+        }
 
         Set<Long> ownedBadgeIds = userBadgeRepository.findBadgeIdsByUserId(user.getId());
+        List<BoundRule> notOwned = satisfied.stream()
+            .filter(bound -> !ownedBadgeIds.contains(bound.rule().getBadge().getId()))
+            .toList();
+        if (notOwned.isEmpty()) {
+            return List.of();
+        }
 
+        UserActivityCounters verified = userActivityCounterCache.reload(user.getId());
         List<String> awarded = new ArrayList<>();
+        for (BoundRule bound : filterSatisfied(user, notOwned, verified)) {
+            Badge badge = bound.rule().getBadge();
+            if (ownedBadgeIds.add(badge.getId())) {
+                awardBadge(user, badge);
+                awarded.add(badge.getName());
+            }
+        }
+        return awarded;
+    }
 
-        for (BadgeRule rule : rules) {
-            if (ownedBadgeIds.contains(rule.getBadge().getId())) {
-                continue;
+    private List<BoundRule> filterSatisfied(User user, List<BoundRule> rules, UserActivityCounters counters) {
+        List<BoundRule> satisfied = new ArrayList<>();
+        for (BoundRule bound : rules) {
+            if (bound.evaluator().isSatisfied(user, bound.rule(), counters.counts(), counters.points())) {
+                satisfied.add(bound);
             }
+        }
+        return satisfied;
+    }
 
-            for (BadgeRuleEvaluator evaluator : evaluators) {
-                if (evaluator.supports(rule)) {
-                    if (evaluator.isSatisfied(user, rule, activityCountMap, activityPointsMap)) {
-                        awardBadge(user, rule.getBadge());
-                        awarded.add(rule.getBadge().getName());
-                        break;
-                    }
+    private RuleIndex ruleIndex() {
+        RuleIndex index = ruleIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = ruleIndex;
+                if (index == null) {
+                    index = loadRuleIndex();
+                    ruleIndex = index;
                 }
             }
         }
+        return index;
+    }
 
-        return awarded;
+    private RuleIndex loadRuleIndex() {
+        List<BoundRule> all = new ArrayList<>();
+        Map<ActivityType, Map<EvaluationType, List<BoundRule>>> byActivityType = new EnumMap<>(ActivityType.class);
+
+        for (BadgeRule rule : badgeRuleRepository.findAllEnabledWithBadge()) {
+            BadgeRuleEvaluator evaluator = findEvaluator(rule);
+            if (evaluator == null) {
+                log.warn("No evaluator supports badge rule. ruleId={}, evaluationType={}",
+                    rule.getId(), rule.getEvaluationType());
+                continue;
+            }
+
+            BoundRule bound = new BoundRule(rule, evaluator);
+            all.add(bound);
+            byActivityType
+                .computeIfAbsent(rule.getActivityType(), type -> new EnumMap<>(EvaluationType.class))
+                .computeIfAbsent(rule.getEvaluationType(), type -> new ArrayList<>())
+                .add(bound);
+        }
+
+        log.debug("Badge rules indexed. rules={}, activityTypes={}", all.size(), byActivityType.size());
+        return new RuleIndex(List.copyOf(all), byActivityType);
+    }
+
+    private BadgeRuleEvaluator findEvaluator(BadgeRule rule) {
+        for (BadgeRuleEvaluator evaluator : evaluators) {
+            if (evaluator.supports(rule)) {
+                return evaluator;
+            }
+        }
+        return null;
     }
 
     private void awardBadge(User user, Badge badge) {
         userBadgeRepository.save(new UserBadge(user, badge));
     }
+
+    /**
+     * 평가기가 미리 연결된 규칙
+     */
+    private record BoundRule(BadgeRule rule, BadgeRuleEvaluator evaluator) {
+    }
+
+    private record RuleIndex(
+        List<BoundRule> all,
+        Map<ActivityType, Map<EvaluationType, List<BoundRule>>> byActivityType
+    ) {
+    }
 }
@@ -0,0 +1,47 @@
+package com.eventitta.gamification.service;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 로그인 기록 여부 추적
+ * "오늘 이미 로그인 활동을 기록했는가"를 DB 조회 없이 판단하기 위한 저장소로,
+ * 공유 저장소(Redis 비트맵)를 쓸 수 있으면 선점 결과를 그대로 신뢰하고,
+ * 쓸 수 없을 때만 호출자가 DB로 확인한다
+ */
+public interface DailyLoginTracker {
+
+    /**
+     * 해당 날짜의 로그인 기록을 원자적으로 선점
+     * CLAIMED를 받은 호출자만 로그인 활동을 기록하고, 기록 트랜잭션이 롤백되면 {@link #releaseClaim}으로 되돌린다
+     */
+    ClaimResult tryClaim(Long userId, LocalDate date);
+
+    /**
+     * 롤백된 로그인 기록의 선점 해제
+     */
+    void releaseClaim(Long userId, LocalDate date);
+
+    /**
+     * 해당 날짜에 로그인 활동이 기록된 것으로 알려져 있는지 확인
+     */
+    boolean isRecorded(Long userId, LocalDate date);
+
+    /**
+     * 해당 날짜의 로그인 활동 기록을 표시 (기록 트랜잭션 커밋 후 호출)
+     */
+    void markRecorded(Long userId, LocalDate date);
+
+    /**
+     * 해당 날짜의 로그인 사용자 수 (DAU)
+     */
+    long countDailyActiveUsers(LocalDate date);
+
+    enum ClaimResult {
+        /** 이번 호출이 처음 표시함 - 기록해야 한다 */
+        CLAIMED,
+        /** 이미 기록됨 - 건너뛴다 */
+        ALREADY_RECORDED,
+        /** 판단할 수 없음 - DB로 확인한다 */
+        UNKNOWN
+    }
+}
@@ -2,6 +2,8 @@ package com.eventitta.gamification.service;
 
 import static com.eventitta.gamification.constants.GamificationRetryConstants.FAILED_EVENT_MAX_ERROR_MESSAGE_LENGTH;
 import static com.eventitta.gamification.constants.GamificationRetryConstants.FAILED_EVENT_MAX_RETRY_COUNT;
+import static com.eventitta.gamification.constants.GamificationRetryConstants.FAILED_EVENT_RETRY_BACKOFF_BASE_SECONDS;
+import static com.eventitta.gamification.constants.GamificationRetryConstants.FAILED_EVENT_RETRY_BACKOFF_MAX_SECONDS;
 
 import com.eventitta.gamification.domain.ActivityType;
 import com.eventitta.gamification.domain.FailedActivityEvent;
@@ -13,6 +15,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -76,22 +81,47 @@ public class FailedEventRecoveryService {
                 event.getId(), event.getUserId(), event.getActivityType(), event.getOperationType());
 
         } catch (Exception e) {
+            // 예외로 이 트랜잭션은 롤백되므로 재시도 횟수/다음 재시도 시각은 recordRecoveryFailure에서 남긴다
             log.error("[실패 이벤트 복구 실패] id={}, retryCount={}/{}, operationType={}",
                 event.getId(), event.getRetryCount() + 1, FAILED_EVENT_MAX_RETRY_COUNT,
                 event.getOperationType(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 실패 이벤트 복구 실패 기록 - 독립 트랜잭션으로 처리
+     * 복구 트랜잭션이 롤백된 뒤 스케줄러에서 호출되어 재시도 횟수를 올리고,
+     * 최대 횟수에 도달하면 FAILED로, 아니면 지수 백오프로 계산한 다음 재시도 시각을 기록한다
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordRecoveryFailure(Long eventId, String errorMessage) {
+        FailedActivityEvent event = failedEventRepository.findByIdWithLock(eventId).orElse(null);
+        if (event == null || event.getStatus() != FailedActivityEvent.EventStatus.PENDING) {
+            return;
+        }
 
-            // 재시도 카운트 증가
-            event.incrementRetryCount();
+        event.incrementRetryCount();
 
-            if (event.getRetryCount() >= FAILED_EVENT_MAX_RETRY_COUNT) {
-                event.markAsFailed(truncateErrorMessage(e.getMessage()));
-            } else {
-                event.revertToPending();
-                event.setErrorMessage(truncateErrorMessage(e.getMessage()));
-            }
-            failedEventRepository.save(event);
-            throw e;
+        if (event.getRetryCount() >= FAILED_EVENT_MAX_RETRY_COUNT) {
+            event.markAsFailed(truncateErrorMessage(errorMessage));
+        } else {
+            event.revertToPending();
+            event.setErrorMessage(truncateErrorMessage(errorMessage));
+            event.scheduleNextRetry(LocalDateTime.now().plus(retryBackoff(event.getRetryCount())));
         }
+        failedEventRepository.save(event);
+    }
+
+    /**
+     * n번째 실패 후 다음 재시도까지의 대기 시간
+     * 기본 간격에서 실패할 때마다 두 배로 늘리고 최대 간격에서 멈춘다 (1분, 2분, 4분, 8분 ...)
+     */
+    static Duration retryBackoff(int retryCount) {
+        int exponent = Math.min(Math.max(retryCount - 1, 0), 30);
+        long seconds = Math.min(FAILED_EVENT_RETRY_BACKOFF_BASE_SECONDS << exponent,
+            FAILED_EVENT_RETRY_BACKOFF_MAX_SECONDS);
+        return Duration.ofSeconds(seconds);
     }
 
     /**
@@ -0,0 +1,64 @@
+package com.eventitta.gamification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static com.eventitta.gamification.constants.LoginConstants.LOGIN_LOCAL_CACHE_MAX_SIZE;
+import static com.eventitta.gamification.constants.LoginConstants.LOGIN_LOCAL_CACHE_TTL_HOURS;
+
+/**
+ * 로컬 Caffeine 기반 일별 로그인 추적
+ * 이 노드에서 본 로그인만 알고 있으므로, Redis 구현의 1차 캐시이자 Redis 장애 시 Fallback으로 사용한다
+ * 다른 노드나 재시작 전 기록을 모르므로 선점은 하지 않고, 기록이 없으면 UNKNOWN으로 DB 확인을 맡긴다
+ *
+ * @see RedisDailyLoginTracker
+ */
+@Component
+public class LocalDailyLoginTracker implements DailyLoginTracker {
+
+    private final Cache<LoginKey, Boolean> recorded;
+
+    public LocalDailyLoginTracker() {
+        this.recorded = Caffeine.newBuilder()
+            .maximumSize(LOGIN_LOCAL_CACHE_MAX_SIZE)
+            .expireAfterWrite(Duration.ofHours(LOGIN_LOCAL_CACHE_TTL_HOURS))
+            .build();
+    }
+
+    @Override
+    public boolean isRecorded(Long userId, LocalDate date) {
+        return recorded.getIfPresent(new LoginKey(userId, date)) != null;
+    }
+
+    @Override
+    public ClaimResult tryClaim(Long userId, LocalDate date) {
+        return isRecorded(userId, date) ? ClaimResult.ALREADY_RECORDED : ClaimResult.UNKNOWN;
+    }
+
+    @Override
+    public void releaseClaim(Long userId, LocalDate date) {
+        recorded.invalidate(new LoginKey(userId, date));
+    }
+
+    @Override
+    public void markRecorded(Long userId, LocalDate date) {
+        recorded.put(new LoginKey(userId, date), Boolean.TRUE);
+    }
+
+    /**
+     * 이 노드에서 기록한 로그인 사용자 수 (근사치)
+     */
+    @Override
+    public long countDailyActiveUsers(LocalDate date) {
+        return recorded.asMap().keySet().stream()
+            .filter(key -> key.date().equals(date))
+            .count();
+    }
+
+    private record LoginKey(Long userId, LocalDate date) {
+    }
+}
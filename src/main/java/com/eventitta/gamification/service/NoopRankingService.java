@@ -1,12 +1,14 @@
 package com.eventitta.gamification.service;
 
 import com.eventitta.gamification.domain.RankingType;
+import com.eventitta.gamification.dto.response.RankingNeighborhoodResponse;
 import com.eventitta.gamification.dto.response.RankingPageResponse;
 import com.eventitta.gamification.dto.response.UserRankResponse;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +32,11 @@ public class NoopRankingService implements RankingService {
         return new UserRankResponse(userId, "test", null, 0, 1);
     }
 
+    @Override
+    public RankingNeighborhoodResponse getRankingsAround(RankingType type, Long userId, int range) {
+        return new RankingNeighborhoodResponse(userId, 1, List.of(getUserRank(type, userId)), 0L, type);
+    }
+
     @Override
     public void updatePointsRanking(Long userId, int points) {
     }
@@ -46,6 +53,38 @@ public class NoopRankingService implements RankingService {
     public void updateScoresBatch(RankingType type, Map<Long, Double> userScores) {
     }
 
+    @Override
+    public void applyActivityDelta(Long userId, int pointsDelta, int activityCountDelta) {
+    }
+
+    @Override
+    public void stageScoresBatch(RankingType type, String runId, Map<Long, Double> userScores) {
+    }
+
+    @Override
+    public void publishStagedRanking(RankingType type, String runId) {
+    }
+
+    @Override
+    public void discardStagedRanking(RankingType type, String runId) {
+    }
+
+    @Override
+    public void stageDailyBucket(LocalDate date, String runId, Map<Long, Double> userScores) {
+    }
+
+    @Override
+    public void publishStagedDailyBucket(LocalDate date, String runId) {
+    }
+
+    @Override
+    public void discardStagedDailyBucket(LocalDate date, String runId) {
+    }
+
+    @Override
+    public void updateDailyBucketScores(LocalDate date, Map<Long, Double> userScores) {
+    }
+
     @Override
     public Long getTotalUsers(RankingType type) {
         return 0L;
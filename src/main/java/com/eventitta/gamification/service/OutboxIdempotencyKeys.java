@@ -0,0 +1,122 @@
+package com.eventitta.gamification.service;
+
+import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.domain.OperationType;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 아웃박스 멱등키 생성
+ * 키는 16바이트(BINARY(16))로, [활동 해시 8바이트][요청 해시 8바이트] 로 구성된다.
+ * 활동 해시는 (작업/사용자/활동/대상)에서, 요청 해시는 (요청 ID, 요청 내 순번)에서 결정적으로 계산된다.
+ *
+ * <p>요청 ID는 클라이언트가 보낸 Idempotency-Key 헤더이므로, 같은 요청을 재시도하면 같은 키가 만들어져
+ * 유니크 인덱스가 중복 기록을 막는다. 좋아요 → 취소 → 좋아요는 요청마다 ID가 달라 각각 기록되고,
+ * 한 요청에서 여러 건을 기록하면 요청 내 순번으로 구분된다.
+ * 헤더가 없거나 HTTP 요청 밖(스케줄러 등)에서 호출되면 난수 요청 ID를 써서 중복 판정 없이 고유한 키를 만든다.</p>
+ */
+final class OutboxIdempotencyKeys {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final int KEY_BYTES = 16;
+
+    private static final int MAX_REQUEST_ID_LENGTH = 255;
+    private static final long NULL_TARGET = 0x9E3779B97F4A7C15L;
+    private static final String REQUEST_SEED_ATTRIBUTE = OutboxIdempotencyKeys.class.getName() + ".seed";
+    private static final String REQUEST_SEQUENCE_ATTRIBUTE = OutboxIdempotencyKeys.class.getName() + ".sequence";
+
+    private OutboxIdempotencyKeys() {
+    }
+
+    /**
+     * 현재 요청 범위에서 다음 멱등키 생성
+     */
+    static byte[] next(OperationType op, Long userId, ActivityType type, Long targetId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return of(op, userId, type, targetId, ThreadLocalRandom.current().nextLong(), 0);
+        }
+        return of(op, userId, type, targetId, requestSeed(servletAttributes), requestSequence(servletAttributes));
+    }
+
+    /**
+     * (작업/사용자/활동/대상, 요청 ID 해시, 요청 내 순번)으로 키 생성
+     */
+    static byte[] of(OperationType op, Long userId, ActivityType type, Long targetId, long requestSeed, int sequence) {
+        byte[] key = new byte[KEY_BYTES];
+        writeLong(key, 0, activityHash(op, userId, type, targetId));
+        writeLong(key, 8, mix(requestSeed ^ mix(sequence + 1L)));
+        return key;
+    }
+
+    /**
+     * (작업/사용자/활동/대상)의 64비트 해시
+     * enum 순서 변경에 영향받지 않도록 ordinal 대신 이름의 해시를 사용한다
+     */
+    static long activityHash(OperationType op, Long userId, ActivityType type, Long targetId) {
+        long h = mix(op.name().hashCode());
+        h = mix(h ^ (userId == null ? NULL_TARGET : userId));
+        h = mix(h ^ type.name().hashCode());
+        h = mix(h ^ (targetId == null ? NULL_TARGET : targetId));
+        return h;
+    }
+
+    /**
+     * 요청 ID 문자열의 64비트 해시 (FNV-1a 후 fmix64)
+     */
+    static long requestIdHash(String requestId) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < requestId.length(); i++) {
+            h ^= requestId.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    // 요청마다 한 번만 계산해 요청 속성에 보관
+    private static long requestSeed(ServletRequestAttributes attributes) {
+        Object cached = attributes.getAttribute(REQUEST_SEED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof Long seed) {
+            return seed;
+        }
+        String requestId = attributes.getRequest().getHeader(IDEMPOTENCY_KEY_HEADER);
+        long seed = requestId != null && !requestId.isBlank() && requestId.length() <= MAX_REQUEST_ID_LENGTH
+            ? requestIdHash(requestId)
+            : ThreadLocalRandom.current().nextLong();
+        attributes.setAttribute(REQUEST_SEED_ATTRIBUTE, seed, RequestAttributes.SCOPE_REQUEST);
+        return seed;
+    }
+
+    private static int requestSequence(ServletRequestAttributes attributes) {
+        Object cached = attributes.getAttribute(REQUEST_SEQUENCE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        AtomicInteger sequence;
+        if (cached instanceof AtomicInteger existing) {
+            sequence = existing;
+        } else {
+            sequence = new AtomicInteger();
+            attributes.setAttribute(REQUEST_SEQUENCE_ATTRIBUTE, sequence, RequestAttributes.SCOPE_REQUEST);
+        }
+        return sequence.getAndIncrement();
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static void writeLong(byte[] dest, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            dest[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+}
@@ -1,20 +1,39 @@
 package com.eventitta.gamification.service;
 
 import com.eventitta.gamification.domain.ActivityOutbox;
-import com.eventitta.gamification.domain.ActivityOutbox.OutboxStatus;
 import com.eventitta.gamification.domain.OperationType;
+import com.eventitta.gamification.dto.projection.OutboxUserRowProjection;
 import com.eventitta.gamification.repository.ActivityOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.eventitta.gamification.constants.GamificationRetryConstants.OUTBOX_MAX_RETRY_COUNT;
 
 /**
- * 아웃박스 레코드를 개별 독립 트랜잭션으로 처리합니다.
- * Pessimistic Lock으로 동일 레코드의 동시 처리를 방지합니다.
+ * 아웃박스 레코드를 선점하고 처리합니다.
+ * 선점은 SELECT ... FOR UPDATE SKIP LOCKED + 일괄 PROCESSING 전환으로 한 트랜잭션에서 끝내므로,
+ * 여러 노드/스레드가 동시에 실행해도 서로 겹치지 않는 배치를 가져갑니다.
+ * 같은 유저의 앞선 레코드가 아직 끝나지 않았는데 이번 배치에 없으면 그 뒤 레코드는 선점하지 않으므로,
+ * 노드가 여러 개여도 한 유저의 이벤트는 생성 순서대로 처리됩니다.
+ * 선점한 레코드는 유저별로 합쳐 한 트랜잭션으로 처리하고, 실패하면 레코드별 독립 트랜잭션으로 다시 처리해
+ * 한 건의 실패가 다른 건에 영향을 주지 않습니다.
+ * 포인트 지연 반영(write-behind) 모드에서는 users 포인트 갱신을 PointsLedger로 미루고 레코드를 APPLIED로 남깁니다.
  */
 @Slf4j
 @Service
@@ -23,48 +42,125 @@ public class OutboxRelayService {
 
     private final ActivityOutboxRepository outboxRepository;
     private final UserActivityService userActivityService;
+    private final ObjectProvider<PointsLedger> pointsLedger;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void processIndependently(Long outboxId) {
-        ActivityOutbox outbox = outboxRepository.findByIdWithLock(outboxId)
-                .orElseThrow(() -> new IllegalArgumentException("Outbox record not found: " + outboxId));
+    /**
+     * 포인트 지연 반영(write-behind) 모드 여부
+     * 켜져 있으면 단건도 processCoalesced로 처리해야 users 행 UPDATE가 원장으로 모인다
+     */
+    public boolean defersPoints() {
+        return pointsLedger.getIfAvailable() != null;
+    }
 
-        if (outbox.getStatus() != OutboxStatus.PENDING) {
-            log.info("[Outbox 동시성 체크] id={}는 이미 처리 중이거나 완료됨. 상태: {}",
-                    outboxId, outbox.getStatus());
-            return;
+    /**
+     * PENDING 레코드를 최대 limit건 선점하고 PROCESSING으로 전환
+     * 선점하지 않은 후보는 트랜잭션이 끝나면 잠금만 풀리고 PENDING으로 남는다
+     *
+     * @return 선점한 레코드 (생성 순서)
+     */
+    @Transactional
+    public List<ActivityOutbox> claimBatch(int limit) {
+        List<Long> candidateIds = outboxRepository.claimPendingIds(OUTBOX_MAX_RETRY_COUNT, limit);
+        if (candidateIds.isEmpty()) {
+            return List.of();
         }
 
-        outbox.markAsProcessing();
-        outboxRepository.saveAndFlush(outbox);
+        List<Long> ids = excludeOutOfOrder(candidateIds);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        outboxRepository.markProcessing(ids, LocalDateTime.now());
+
+        List<ActivityOutbox> claimed = new ArrayList<>(outboxRepository.findAllById(ids));
+        claimed.sort(Comparator.comparing(ActivityOutbox::getId));
+        return claimed;
+    }
+
+    /**
+     * 같은 유저의 앞선 미완료 레코드가 후보에 없으면 그 뒤 후보를 제외
+     * 예) 노드 A가 RECORD를 잡고 있는 동안 노드 B가 뒤따르는 REVOKE를 먼저 반영하지 않도록 한다
+     */
+    private List<Long> excludeOutOfOrder(List<Long> candidateIds) {
+        Set<Long> candidates = new HashSet<>(candidateIds);
+        Map<Long, Long> userIdByCandidate = new HashMap<>();
+        Map<Long, Long> firstBlockingIdByUser = new HashMap<>();
+        Long maxId = Collections.max(candidateIds);
 
-        try {
-            executeActivity(outbox);
-            outbox.markAsDone();
-            log.debug("[Outbox 처리 성공] id={}, userId={}, activityType={}, operationType={}",
-                    outbox.getId(), outbox.getUserId(), outbox.getActivityType(), outbox.getOperationType());
-        } catch (Exception e) {
-            handleFailure(outbox, e);
+        for (OutboxUserRowProjection row : outboxRepository.findUnfinishedRowsOfSameUsers(candidateIds, maxId)) {
+            if (candidates.contains(row.getId())) {
+                userIdByCandidate.put(row.getId(), row.getUserId());
+            } else {
+                firstBlockingIdByUser.merge(row.getUserId(), row.getId(), Math::min);
+            }
         }
 
-        outboxRepository.save(outbox);
+        List<Long> claimable = new ArrayList<>(candidateIds.size());
+        for (Long id : candidateIds) {
+            Long blockingId = firstBlockingIdByUser.get(userIdByCandidate.get(id));
+            if (blockingId == null || blockingId > id) {
+                claimable.add(id);
+            }
+        }
+
+        if (claimable.size() < candidateIds.size()) {
+            log.debug("[Outbox 선점] 앞선 레코드가 처리 중인 유저의 후속 레코드 제외 - candidates={}, claimed={}",
+                    candidateIds.size(), claimable.size());
+        }
+        return claimable;
     }
 
-    private void executeActivity(ActivityOutbox outbox) {
-        if (outbox.getOperationType() == OperationType.RECORD) {
-            userActivityService.recordActivity(
-                    outbox.getUserId(),
-                    outbox.getActivityType(),
-                    outbox.getTargetId());
-        } else if (outbox.getOperationType() == OperationType.REVOKE) {
-            userActivityService.revokeActivity(
-                    outbox.getUserId(),
-                    outbox.getActivityType(),
-                    outbox.getTargetId());
+    /**
+     * 선점한 레코드 처리 - 활동 기록/취소와 완료 표시를 한 트랜잭션으로 커밋
+     * 예외는 호출자에게 전파되며, 롤백 후 recordFailure로 실패를 기록해야 한다
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void processClaimed(ActivityOutbox outbox) {
+        executeActivity(outbox);
+        outboxRepository.markDone(List.of(outbox.getId()), LocalDateTime.now());
+        log.debug("[Outbox 처리 성공] id={}, userId={}, activityType={}, operationType={}",
+                outbox.getId(), outbox.getUserId(), outbox.getActivityType(), outbox.getOperationType());
+    }
+
+    /**
+     * 한 유저의 선점 레코드들을 합쳐서 처리 - 활동 반영과 완료 표시를 한 트랜잭션으로 커밋
+     * 예외 시 전체가 롤백되며, 호출자는 processClaimed로 레코드별 처리를 다시 시도해야 한다
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void processCoalesced(Long userId, List<ActivityOutbox> outboxes) {
+        List<Long> ids = outboxes.stream().map(ActivityOutbox::getId).toList();
+        PointsLedger ledger = pointsLedger.getIfAvailable();
+
+        if (ledger == null) {
+            userActivityService.applyOutboxBatch(userId, outboxes);
+            outboxRepository.markDone(ids, LocalDateTime.now());
+        } else {
+            deferPoints(ledger, userId, outboxes, ids);
         }
+        log.debug("[Outbox 병합 처리 성공] userId={}, count={}", userId, outboxes.size());
     }
 
-    private void handleFailure(ActivityOutbox outbox, Exception e) {
+    /**
+     * write-behind 모드 - 활동만 반영하고 레코드는 APPLIED로 두어 포인트 반영 전까지 확인 처리하지 않는다
+     * 원장 적립은 커밋 후에만 하므로, 롤백된 배치의 증감이 원장에 남지 않는다
+     */
+    private void deferPoints(PointsLedger ledger, Long userId, List<ActivityOutbox> outboxes, List<Long> ids) {
+        int pointsDelta = userActivityService.applyOutboxBatchDeferringPoints(userId, outboxes);
+        outboxRepository.markApplied(ids, ids.get(ids.size() - 1), pointsDelta, LocalDateTime.now());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ledger.add(userId, pointsDelta, ids);
+            }
+        });
+    }
+
+    /**
+     * 처리 실패 기록 - 처리 트랜잭션이 롤백된 뒤 별도 트랜잭션으로 재시도 횟수/상태를 저장
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(ActivityOutbox outbox, Exception e) {
         log.error("[Outbox 처리 실패] id={}, retryCount={}/{}, operationType={}",
                 outbox.getId(), outbox.getRetryCount() + 1, OUTBOX_MAX_RETRY_COUNT,
                 outbox.getOperationType(), e);
@@ -76,5 +172,35 @@ public class OutboxRelayService {
         } else {
             outbox.incrementRetryAndRevertToPending(e.getMessage());
         }
+
+        outboxRepository.save(outbox);
+    }
+
+    /**
+     * 선점한 레코드를 처리하지 않고 PENDING으로 되돌림
+     * 앞선 레코드가 실패한 유저의 후속 레코드에 사용하며, 다음 선점에서 실패한 레코드 뒤에 다시 처리된다
+     */
+    @Transactional
+    public void releaseClaimed(List<ActivityOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        List<Long> ids = outboxes.stream().map(ActivityOutbox::getId).toList();
+        outboxRepository.releaseClaimed(ids, LocalDateTime.now());
+        log.debug("[Outbox 선점 해제] 앞선 레코드 실패로 후속 레코드를 되돌림 - ids={}", ids);
+    }
+
+    private void executeActivity(ActivityOutbox outbox) {
+        if (outbox.getOperationType() == OperationType.RECORD) {
+            userActivityService.recordActivity(
+                    outbox.getUserId(),
+                    outbox.getActivityType(),
+                    outbox.getTargetId());
+        } else if (outbox.getOperationType() == OperationType.REVOKE) {
+            userActivityService.revokeActivity(
+                    outbox.getUserId(),
+                    outbox.getActivityType(),
+                    outbox.getTargetId());
+        }
     }
 }
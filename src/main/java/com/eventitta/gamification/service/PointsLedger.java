@@ -0,0 +1,119 @@
+package com.eventitta.gamification.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.eventitta.gamification.constants.PointsLedgerConstants.POINTS_LEDGER_STRIPES;
+
+/**
+ * 포인트 지연 반영(write-behind) 원장
+ *
+ * <p>아웃박스 릴레이가 커밋한 유저별 포인트 증감과 해당 아웃박스 ID를 메모리에 모아 두고,
+ * 플러시 스케줄러가 주기적으로 꺼내 users 테이블에 한 번에 반영합니다.
+ * 인기 유저의 users 행 UPDATE가 릴레이 트랜잭션마다 반복되며 생기는 행 잠금 경합을 줄이기 위한 것입니다.</p>
+ *
+ * <p>유저 ID 기준으로 잠금을 나눠(스트라이프) 릴레이 워커끼리의 경합을 줄입니다.
+ * 원장은 유실되어도 되는 캐시이며, 반영 전 레코드는 아웃박스에 APPLIED 상태로 남아 있어 고아 복구가 다시 플러시합니다.</p>
+ *
+ * @see com.eventitta.gamification.scheduler.PointsLedgerFlusher
+ */
+@Component
+@ConditionalOnProperty(name = "gamification.points.write-behind.enabled", havingValue = "true")
+public class PointsLedger {
+
+    private final Stripe[] stripes = new Stripe[POINTS_LEDGER_STRIPES];
+
+    public PointsLedger(MeterRegistry meterRegistry) {
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        Gauge.builder("gamification.points.ledger.pending", this, PointsLedger::pendingOutboxCount)
+            .description("포인트 반영을 기다리는 아웃박스 레코드 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 커밋된 아웃박스 배치의 포인트 증감 적립
+     */
+    public void add(Long userId, int pointsDelta, List<Long> outboxIds) {
+        Stripe stripe = stripeFor(userId);
+        synchronized (stripe) {
+            stripe.entries.computeIfAbsent(userId, id -> new PendingPoints()).add(pointsDelta, outboxIds);
+        }
+    }
+
+    /**
+     * 적립된 항목을 모두 꺼내고 원장을 비움
+     * 스트라이프마다 맵을 통째로 교체하므로 잠금 보유 시간은 항목 수와 무관하다
+     */
+    public Map<Long, PendingPoints> drain() {
+        Map<Long, PendingPoints> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<Long, PendingPoints> entries;
+            synchronized (stripe) {
+                if (stripe.entries.isEmpty()) {
+                    continue;
+                }
+                entries = stripe.entries;
+                stripe.entries = new HashMap<>();
+            }
+            drained.putAll(entries);
+        }
+        return drained;
+    }
+
+    /**
+     * 플러시에 실패한 항목을 원장에 되돌림 (다음 플러시에서 다시 시도)
+     */
+    public void restore(Map<Long, PendingPoints> entries) {
+        entries.forEach((userId, pending) -> add(userId, pending.getPointsDelta(), pending.getOutboxIds()));
+    }
+
+    public long pendingOutboxCount() {
+        long count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (PendingPoints pending : stripe.entries.values()) {
+                    count += pending.getOutboxIds().size();
+                }
+            }
+        }
+        return count;
+    }
+
+    private Stripe stripeFor(Long userId) {
+        return stripes[Long.hashCode(userId) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+        private Map<Long, PendingPoints> entries = new HashMap<>();
+    }
+
+    /**
+     * 한 유저의 반영 대기 포인트 증감과 아웃박스 ID
+     */
+    public static final class PendingPoints {
+        private int pointsDelta;
+        private final List<Long> outboxIds = new ArrayList<>();
+
+        private void add(int pointsDelta, List<Long> outboxIds) {
+            this.pointsDelta += pointsDelta;
+            this.outboxIds.addAll(outboxIds);
+        }
+
+        public int getPointsDelta() {
+            return pointsDelta;
+        }
+
+        public List<Long> getOutboxIds() {
+            return outboxIds;
+        }
+    }
+}
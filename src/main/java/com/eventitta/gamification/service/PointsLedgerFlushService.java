@@ -0,0 +1,61 @@
+package com.eventitta.gamification.service;
+
+import com.eventitta.gamification.dto.projection.OutboxPointsDeltaProjection;
+import com.eventitta.gamification.repository.ActivityOutboxRepository;
+import com.eventitta.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 지연 반영(write-behind) 플러시
+ * APPLIED 아웃박스 레코드를 잠그고 그 증감을 users에 다중 행 UPDATE로 반영한 뒤 DONE으로 전환하는 것을 한 트랜잭션으로 커밋한다.
+ * 증감은 메모리 원장이 아니라 잠근 아웃박스 행에서 읽으므로, 원장 플러시와 고아 복구가 같은 레코드를 동시에 잡아도 한 번만 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointsLedgerFlushService {
+
+    private final ActivityOutboxRepository outboxRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 주어진 아웃박스 레코드 중 아직 APPLIED인 것의 포인트를 반영하고 완료 처리
+     *
+     * @return 완료 처리한 레코드 수
+     */
+    @Transactional
+    public int flush(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxPointsDeltaProjection> applied = outboxRepository.lockAppliedPointsDeltas(outboxIds);
+        if (applied.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Integer> pointDeltas = new HashMap<>();
+        List<Long> appliedIds = new ArrayList<>(applied.size());
+        for (OutboxPointsDeltaProjection row : applied) {
+            appliedIds.add(row.getId());
+            if (row.getPointsDelta() != null) {
+                pointDeltas.merge(row.getUserId(), row.getPointsDelta(), Integer::sum);
+            }
+        }
+
+        int updatedUsers = userRepository.applyPointDeltas(pointDeltas);
+        int done = outboxRepository.markAppliedDone(appliedIds, LocalDateTime.now());
+
+        log.debug("[PointsLedger] 플러시 완료 - outboxes={}, users={}", done, updatedUsers);
+        return done;
+    }
+}
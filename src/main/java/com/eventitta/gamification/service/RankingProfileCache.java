@@ -0,0 +1,139 @@
+package com.eventitta.gamification.service;
+
+import com.eventitta.gamification.constants.RankingConstants;
+import com.eventitta.gamification.dto.cache.RankingUserProfile;
+import com.eventitta.user.domain.User;
+import com.eventitta.user.event.UserProfileChangedEvent;
+import com.eventitta.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * 순위 응답용 유저 프로필 캐시
+ * Redis 해시(ranking:user:profiles:{세대})에 userId -> {nickname, profilePictureUrl}을 보관하고,
+ * 캐시에 없는 유저만 MySQL에서 읽어 채워 넣는다 (read-through)
+ *
+ * <p>해시 키는 TTL 구간마다 세대 번호가 바뀌고 만료가 걸려 있다.
+ * 프로필 변경 커밋 직전에 읽은 값이 evict 뒤에 다시 쓰이는 경합이 생겨도
+ * 오래된 값은 다음 세대로 넘어가면 더 이상 읽히지 않는다.</p>
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+@SuppressWarnings("null")
+public class RankingProfileCache {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final UserRepository userRepository;
+
+    /**
+     * 여러 유저의 프로필을 HMGET 한 번으로 조회
+     * 캐시 미스가 있으면 MySQL에서 한 번에 읽고 해시에 저장
+     */
+    public Map<Long, RankingUserProfile> getProfiles(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> fields = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            fields.add(userId.toString());
+        }
+        List<Object> cached = redisTemplate.opsForHash().multiGet(currentKey(), fields);
+
+        Map<Long, RankingUserProfile> profiles = new HashMap<>(userIds.size() * 2);
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            Object value = cached != null ? cached.get(i) : null;
+            if (value instanceof RankingUserProfile profile) {
+                profiles.put(userIds.get(i), profile);
+            } else {
+                missingIds.add(userIds.get(i));
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            profiles.putAll(loadAndCache(missingIds));
+        }
+        return profiles;
+    }
+
+    /**
+     * 파이프라인에서 함께 읽은 해시 값을 해석하고, 미스라면 MySQL에서 채운다
+     *
+     * @return 유저가 존재하지 않으면 null
+     */
+    public RankingUserProfile resolve(Long userId, Object cachedValue) {
+        if (cachedValue instanceof RankingUserProfile profile) {
+            return profile;
+        }
+        return loadAndCache(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 현재 세대의 프로필 해시 키
+     * 파이프라인에서 해시를 함께 읽을 때도 이 키를 사용해야 한다
+     */
+    public String currentKey() {
+        long generation = System.currentTimeMillis() / 1000 / RankingConstants.RANKING_USER_PROFILE_TTL_SECONDS;
+        return RankingConstants.RANKING_USER_PROFILE_KEY + ":" + generation;
+    }
+
+    /**
+     * 프로필 변경 또는 회원 탈퇴가 커밋된 뒤 캐시 항목 제거
+     * 다음 순위 조회 시 MySQL에서 최신 정보로 다시 채워지고, 탈퇴한 유저는 다시 채워지지 않는다
+     */
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public void evict(Long userId) {
+        try {
+            redisTemplate.opsForHash().delete(currentKey(), userId.toString());
+        } catch (Exception e) {
+            log.warn("Failed to evict ranking profile. userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private Map<Long, RankingUserProfile> loadAndCache(Collection<Long> userIds) {
+        Map<Long, RankingUserProfile> loaded = new HashMap<>(userIds.size() * 2);
+        Map<String, RankingUserProfile> entries = new HashMap<>(userIds.size() * 2);
+        for (User user : userRepository.findAllById(userIds)) {
+            if (user.isDeleted()) {
+                continue;
+            }
+            RankingUserProfile profile = RankingUserProfile.from(user);
+            loaded.put(user.getId(), profile);
+            entries.put(user.getId().toString(), profile);
+        }
+
+        if (!entries.isEmpty()) {
+            try {
+                String key = currentKey();
+                redisTemplate.opsForHash().putAll(key, entries);
+                // 세대가 끝난 뒤에도 한 구간은 남겨 경계에서 쓰인 값이 바로 사라지지 않게 한다
+                redisTemplate.expire(key, Duration.ofSeconds(RankingConstants.RANKING_USER_PROFILE_TTL_SECONDS * 2));
+            } catch (Exception e) {
+                log.warn("Failed to cache ranking profiles. size={}, error={}", entries.size(), e.getMessage());
+            }
+        }
+        log.debug("Ranking profile cache miss loaded from MySQL. requested={}, loaded={}",
+            userIds.size(), loaded.size());
+        return loaded;
+    }
+}
@@ -1,22 +1,86 @@
 package com.eventitta.gamification.service;
 
 import com.eventitta.gamification.domain.RankingType;
+import com.eventitta.gamification.dto.response.RankingNeighborhoodResponse;
 import com.eventitta.gamification.dto.response.RankingPageResponse;
 import com.eventitta.gamification.dto.response.UserRankResponse;
+
+import java.time.LocalDate;
 import java.util.Map;
+
 public interface RankingService {
 
     RankingPageResponse getTopRankings(RankingType type, int limit);
 
+    /**
+     * Top N 조회 (저장소 장애 시 MySQL 대체 조회 없이 예외를 던짐)
+     * 주기 갱신처럼 실패를 알아야 호출 간격을 늦출 수 있는 곳에서 사용한다
+     */
+    default RankingPageResponse getTopRankingsOrThrow(RankingType type, int limit) {
+        return getTopRankings(type, limit);
+    }
+
     UserRankResponse getUserRank(RankingType type, Long userId);
 
+    /**
+     * 유저 기준 위아래 range명의 순위 조회
+     */
+    RankingNeighborhoodResponse getRankingsAround(RankingType type, Long userId, int range);
+
     void updatePointsRanking(Long userId, int points);
 
     void updateActivityCountRanking(Long userId, long activityCount);
 
+    /**
+     * 활동 1건의 증감분을 전체/기간제 순위에 누적 반영 (DB 조회 없이 ZINCRBY)
+     * 누적 오차는 RankingSyncService의 주기 동기화로 보정된다
+     *
+     * @param pointsDelta        획득(양수) 또는 차감(음수) 포인트
+     * @param activityCountDelta 기록 시 +1, 취소 시 -1
+     */
+    void applyActivityDelta(Long userId, int pointsDelta, int activityCountDelta);
+
     void removeUser(RankingType type, Long userId);
 
     void updateScoresBatch(RankingType type, Map<Long, Double> userScores);
 
+    /**
+     * 전체 재구축용 임시 키에 점수 적재 (라이브 순위에는 반영되지 않음)
+     * 임시 키는 재구축 실행마다 runId로 분리되어 다른 노드의 재구축과 섞이지 않는다
+     * 실패 시 예외를 그대로 던져 호출 측에서 재구축을 중단할 수 있게 한다
+     */
+    void stageScoresBatch(RankingType type, String runId, Map<Long, Double> userScores);
+
+    /**
+     * 해당 실행의 임시 키를 라이브 순위 키로 원자적으로 교체
+     */
+    void publishStagedRanking(RankingType type, String runId);
+
+    /**
+     * 해당 실행에서 재구축 중이던 임시 키 폐기
+     */
+    void discardStagedRanking(RankingType type, String runId);
+
+    /**
+     * 기간제 순위용 일별 버킷 재구축 - 해당 날짜 버킷의 임시 키에 점수 적재
+     * 실패 시 예외를 그대로 던져 호출 측에서 재구축을 중단할 수 있게 한다
+     */
+    void stageDailyBucket(LocalDate date, String runId, Map<Long, Double> userScores);
+
+    /**
+     * 해당 날짜 버킷의 임시 키를 라이브 버킷으로 원자적으로 교체
+     */
+    void publishStagedDailyBucket(LocalDate date, String runId);
+
+    /**
+     * 해당 실행에서 재구축 중이던 일별 버킷 임시 키 폐기
+     */
+    void discardStagedDailyBucket(LocalDate date, String runId);
+
+    /**
+     * 일별 버킷의 유저 점수를 주어진 값으로 덮어쓴다 (재구축 중 덮인 증감분 보정용)
+     */
+    void updateDailyBucketScores(LocalDate date, Map<Long, Double> userScores);
+
     Long getTotalUsers(RankingType type);
 }
@@ -0,0 +1,135 @@
+package com.eventitta.gamification.service;
+
+import com.eventitta.gamification.constants.RankingConstants;
+import com.eventitta.gamification.domain.RankingType;
+import com.eventitta.gamification.dto.response.RankingPageResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드별 Top N 순위 스냅샷
+ * 타입별 상위 500명을 짧은 주기로 갱신해 두고, 요청 limit만큼 잘라서 반환한다
+ * 기본 limit(100) 응답은 JSON으로 미리 직렬화해 요청 경로에서 Redis 조회와 직렬화를 모두 생략한다
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class RankingSnapshotCache {
+
+    private final RankingService rankingService;
+    private final ObjectMapper objectMapper;
+
+    private final Map<RankingType, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<RankingType, AtomicLong> lastAccessMillis = new EnumMap<>(RankingType.class);
+
+    // 갱신 실패 후 다음 갱신 시각 (스케줄러 스레드에서만 갱신)
+    private volatile long nextRefreshAtMillis;
+    private int consecutiveFailures;
+
+    public RankingSnapshotCache(RankingService rankingService, ObjectMapper objectMapper) {
+        this.rankingService = rankingService;
+        this.objectMapper = objectMapper;
+        for (RankingType type : RankingType.values()) {
+            lastAccessMillis.put(type, new AtomicLong());
+        }
+    }
+
+    /**
+     * 스냅샷에서 상위 limit명을 잘라 반환
+     */
+    public RankingPageResponse getTopRankings(RankingType type, int limit) {
+        RankingPageResponse top = snapshot(type).top();
+        if (limit >= top.rankings().size()) {
+            return top;
+        }
+        return new RankingPageResponse(top.rankings().subList(0, limit), top.totalUsers(), type);
+    }
+
+    /**
+     * 기본 limit(100) 응답 본문 (미리 직렬화된 JSON)
+     */
+    public byte[] getDefaultTopRankingsJson(RankingType type) {
+        return snapshot(type).defaultJson();
+    }
+
+    /**
+     * 최근 조회된 타입만 다시 읽어 교체
+     * 오래 조회되지 않은 타입은 스냅샷을 버리고 다음 요청 때 다시 적재한다
+     * Redis 장애로 갱신이 실패하면 기존 스냅샷을 유지하고, MySQL로 대체 조회하지 않은 채 갱신 간격을 늘린다
+     */
+    @Scheduled(fixedDelay = RankingConstants.RANKING_SNAPSHOT_REFRESH_MS)
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        for (RankingType type : snapshots.keySet()) {
+            if (now - lastAccessMillis.get(type).get() > RankingConstants.RANKING_SNAPSHOT_IDLE_MS) {
+                snapshots.remove(type);
+                log.debug("[RankingSnapshot] Dropped idle snapshot. type={}", type);
+            }
+        }
+        if (now < nextRefreshAtMillis) {
+            return;
+        }
+
+        for (RankingType type : snapshots.keySet()) {
+            try {
+                snapshots.put(type, toSnapshot(type,
+                    rankingService.getTopRankingsOrThrow(type, RankingConstants.RANKING_SNAPSHOT_SIZE)));
+            } catch (Exception e) {
+                backOff(now, type, e);
+                return;
+            }
+        }
+        consecutiveFailures = 0;
+        nextRefreshAtMillis = 0;
+    }
+
+    /**
+     * 실패할 때마다 다음 갱신까지의 간격을 두 배로 늘린다 (최대 RANKING_SNAPSHOT_MAX_BACKOFF_MS)
+     */
+    private void backOff(long now, RankingType type, Exception e) {
+        consecutiveFailures++;
+        long delay = Math.min(
+            RankingConstants.RANKING_SNAPSHOT_REFRESH_MS << Math.min(consecutiveFailures, 16),
+            RankingConstants.RANKING_SNAPSHOT_MAX_BACKOFF_MS);
+        nextRefreshAtMillis = now + delay;
+        // 갱신 실패 시 기존 스냅샷을 계속 사용
+        log.warn("[RankingSnapshot] Failed to refresh snapshot. type={}, failures={}, retryInMs={}, error={}",
+            type, consecutiveFailures, delay, e.getMessage());
+    }
+
+    private Snapshot snapshot(RankingType type) {
+        lastAccessMillis.get(type).set(System.currentTimeMillis());
+        Snapshot snapshot = snapshots.get(type);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return snapshots.computeIfAbsent(type, this::load);
+    }
+
+    private Snapshot load(RankingType type) {
+        return toSnapshot(type, rankingService.getTopRankings(type, RankingConstants.RANKING_SNAPSHOT_SIZE));
+    }
+
+    private Snapshot toSnapshot(RankingType type, RankingPageResponse top) {
+        int defaultLimit = Math.min(RankingConstants.DEFAULT_TOP_RANK_SIZE, top.rankings().size());
+        RankingPageResponse defaultPage = new RankingPageResponse(
+            top.rankings().subList(0, defaultLimit), top.totalUsers(), type);
+        try {
+            return new Snapshot(top, objectMapper.writeValueAsBytes(defaultPage));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize ranking snapshot: " + type, e);
+        }
+    }
+
+    private record Snapshot(RankingPageResponse top, byte[] defaultJson) {
+    }
+}
@@ -2,22 +2,33 @@ package com.eventitta.gamification.service;
 
 import com.eventitta.gamification.constants.RankingConstants;
 import com.eventitta.gamification.domain.RankingType;
+import com.eventitta.gamification.dto.projection.UserActivityCountProjection;
+import com.eventitta.gamification.dto.projection.UserPointsSumProjection;
+import com.eventitta.gamification.repository.UserActivityCounterRepository;
 import com.eventitta.gamification.repository.UserActivityRepository;
 import com.eventitta.user.domain.User;
+import com.eventitta.user.dto.projection.UserPointsProjection;
 import com.eventitta.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 순위 동기화 서비스
@@ -31,102 +42,233 @@ public class RankingSyncService {
 
     private final UserRepository userRepository;
     private final UserActivityRepository userActivityRepository;
+    private final UserActivityCounterRepository userActivityCounterRepository;
     private final RankingService rankingService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<RankingType, AtomicLong> lastRowsPerSecond = new ConcurrentHashMap<>();
 
     /**
      * MySQL → Redis 전체 동기화
-     * 배치 처리를 통한 성능 최적화
+     * 실행마다 고유한 임시 키에 재구축한 뒤 RENAME으로 교체하므로 조회 측은 완성된 순위만 보고,
+     * 더 이상 존재하지 않는 멤버도 함께 정리된다
+     *
+     * <p>기간제(일간/주간/월간) 순위가 읽는 최근 30일 일별 버킷도 user_activities에서 다시 합산해 교체한다.
+     * 실시간 증감분만으로는 배포 중 유실이나 Redis 데이터 손실을 창이 지나갈 때까지 복구하지 못한다.</p>
+     *
+     * <p>재구축 중 라이브 키에 ZINCRBY로 반영된 증감분은 RENAME에 덮여 사라지므로,
+     * 교체 후 재구축 시작 이후(여유 시간 포함) 활동한 유저를 MySQL 값으로 다시 반영한다.</p>
+     *
+     * <p>메서드 전체를 한 트랜잭션으로 묶지 않는다. REPEATABLE READ에서는 재구축 시작 시점의 스냅샷이
+     * 교체 후 재반영 조회까지 이어져 재구축 중 커밋된 활동을 보지 못하므로,
+     * 배치 조회와 재반영 조회가 각각 자기 트랜잭션에서 최신 커밋을 읽게 한다.</p>
      */
-    @Transactional(readOnly = true)
     public void syncAllRankingsFromDatabase() {
         long startTime = System.currentTimeMillis();
-        log.info("[RankingSync] Starting full sync from MySQL to Redis");
+        LocalDateTime replaySince = LocalDateTime.now().minusSeconds(RankingConstants.REBUILD_REPLAY_MARGIN_SECONDS);
+        LocalDate today = LocalDate.now();
+        String runId = UUID.randomUUID().toString();
+        log.info("[RankingSync] Starting full sync from MySQL to Redis. runId={}", runId);
 
         try {
-            syncPointsRanking();
-            syncActivityCountRanking();
+            long pointsStart = System.nanoTime();
+            long pointsRows = syncPointsRanking(runId);
+            recordSyncMetrics(RankingType.POINTS, pointsRows, System.nanoTime() - pointsStart);
+
+            long activityStart = System.nanoTime();
+            long activityRows = syncActivityCountRanking(runId);
+            recordSyncMetrics(RankingType.ACTIVITY_COUNT, activityRows, System.nanoTime() - activityStart);
+
+            long bucketRows = syncDailyBuckets(runId, today);
+
+            List<Long> replayUserIds = userActivityRepository.findRecentlyActiveUserIds(replaySince);
+            int replayed = syncActiveUsers(replayUserIds);
+            replayDailyBuckets(replayUserIds, replaySince.toLocalDate(), today);
 
             long elapsedTime = System.currentTimeMillis() - startTime;
-            log.info("[RankingSync] Full sync completed in {} ms", elapsedTime);
+            log.info("[RankingSync] Full sync completed in {} ms. points={}, activities={}, dailyBucketRows={}, replayed={}",
+                elapsedTime, pointsRows, activityRows, bucketRows, replayed);
         } catch (Exception e) {
-            log.error("[RankingSync] Failed to sync rankings from database", e);
+            log.error("[RankingSync] Failed to sync rankings from database. runId={}", runId, e);
+            rankingService.discardStagedRanking(RankingType.POINTS, runId);
+            rankingService.discardStagedRanking(RankingType.ACTIVITY_COUNT, runId);
+            for (int daysAgo = 0; daysAgo < dailyBucketDays(); daysAgo++) {
+                rankingService.discardStagedDailyBucket(today.minusDays(daysAgo), runId);
+            }
             throw new RuntimeException("Failed to sync rankings", e);
         }
     }
 
     /**
      * 포인트 순위 동기화
-     * 페이징을 통한 메모리 효율적 처리
+     * 유저 ID keyset 페이지네이션으로 (id, points)만 읽어 배치 처리
+     *
+     * @return Redis에 반영한 유저 수
      */
-    private void syncPointsRanking() {
+    private long syncPointsRanking(String runId) {
         log.info("[RankingSync] Starting points ranking sync");
 
-        long totalUsers = userRepository.count();
         int batchSize = RankingConstants.SYNC_BATCH_SIZE;
-        int totalPages = (int) Math.ceil((double) totalUsers / batchSize);
-
-        log.info("[RankingSync] Syncing points for {} users in {} batches",
-            totalUsers, totalPages);
-
-        for (int page = 0; page < totalPages; page++) {
-            Pageable pageable = PageRequest.of(page, batchSize);
-            Page<User> userPage = userRepository.findAll(pageable);
-
-            Map<Long, Double> userScores = userPage.getContent().stream()
-                .filter(user -> user.getPoints() > 0)  // 0점 유저는 제외
-                .collect(Collectors.toMap(
-                    User::getId,
-                    user -> (double) user.getPoints()
-                ));
-
-            if (!userScores.isEmpty()) {
-                rankingService.updateScoresBatch(RankingType.POINTS, userScores);
-                log.debug("[RankingSync] Synced {} users' points (page {}/{})",
-                    userScores.size(), page + 1, totalPages);
+        Pageable batchLimit = PageRequest.of(0, batchSize);
+        long lastUserId = 0L;
+        long syncedRows = 0;
+        int batch = 0;
+
+        while (true) {
+            List<UserPointsProjection> users = userRepository.findPointsAfter(lastUserId, batchLimit);
+            if (users.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Double> userScores = new HashMap<>(users.size() * 2);
+            for (UserPointsProjection user : users) {
+                userScores.put(user.getId(), (double) user.getPoints());
+            }
+
+            rankingService.stageScoresBatch(RankingType.POINTS, runId, userScores);
+            syncedRows += users.size();
+            batch++;
+            lastUserId = users.get(users.size() - 1).getId();
+            log.debug("[RankingSync] Synced {} users' points (batch {}, lastUserId={})",
+                users.size(), batch, lastUserId);
+
+            if (users.size() < batchSize) {
+                break;
             }
         }
 
-        log.info("[RankingSync] Points ranking sync completed");
+        rankingService.publishStagedRanking(RankingType.POINTS, runId);
+        log.info("[RankingSync] Points ranking sync completed. users={}, batches={}", syncedRows, batch);
+        return syncedRows;
     }
 
     /**
      * 활동량 순위 동기화
-     * 각 유저별 활동 수를 계산하여 동기화
+     * 활동 이력(user_activities) 대신 유저별 카운터(user_activity_counters)를 유저 ID keyset으로 배치 단위로 읽는다
+     * 유저당 활동 유형 수만큼의 행만 합산하고, 활동이 있는 유저만 조회된다
+     *
+     * @return Redis에 반영한 유저 수
      */
-    private void syncActivityCountRanking() {
+    private long syncActivityCountRanking(String runId) {
         log.info("[RankingSync] Starting activity count ranking sync");
 
-        long totalUsers = userRepository.count();
         int batchSize = RankingConstants.SYNC_BATCH_SIZE;
-        int totalPages = (int) Math.ceil((double) totalUsers / batchSize);
+        Pageable batchLimit = PageRequest.of(0, batchSize);
+        long lastUserId = 0L;
+        long syncedRows = 0;
+        int batch = 0;
+
+        while (true) {
+            List<UserActivityCountProjection> counts =
+                userActivityCounterRepository.sumActivityCountsGroupedByUserAfter(lastUserId, batchLimit);
+            if (counts.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Double> userActivityCounts = new HashMap<>(counts.size() * 2);
+            for (UserActivityCountProjection count : counts) {
+                userActivityCounts.put(count.getUserId(), (double) count.getActivityCount());
+            }
 
-        log.info("[RankingSync] Syncing activity counts for {} users in {} batches",
-            totalUsers, totalPages);
+            rankingService.stageScoresBatch(RankingType.ACTIVITY_COUNT, runId, userActivityCounts);
+            syncedRows += counts.size();
+            batch++;
+            lastUserId = counts.get(counts.size() - 1).getUserId();
+            log.debug("[RankingSync] Synced {} users' activity counts (batch {}, lastUserId={})",
+                counts.size(), batch, lastUserId);
 
-        for (int page = 0; page < totalPages; page++) {
-            Pageable pageable = PageRequest.of(page, batchSize);
-            List<Long> userIds = userRepository.findAll(pageable)
-                .map(User::getId)
-                .toList();
+            if (counts.size() < batchSize) {
+                break;
+            }
+        }
 
-            Map<Long, Double> userActivityCounts = new HashMap<>();
+        rankingService.publishStagedRanking(RankingType.ACTIVITY_COUNT, runId);
+        log.info("[RankingSync] Activity count ranking sync completed. users={}, batches={}", syncedRows, batch);
+        return syncedRows;
+    }
 
-            // 각 유저별 활동 수 계산
-            for (Long userId : userIds) {
-                long activityCount = userActivityRepository.countByUserId(userId);
-                if (activityCount > 0) {
-                    userActivityCounts.put(userId, (double) activityCount);
+    /**
+     * 기간제 순위용 일별 버킷 재구축
+     * 가장 긴 창(월간)에 해당하는 날짜마다 유저별 획득 포인트를 유저 ID keyset 배치로 합산해 버킷을 교체한다
+     *
+     * @return 버킷에 반영한 (날짜, 유저) 수
+     */
+    private long syncDailyBuckets(String runId, LocalDate today) {
+        log.info("[RankingSync] Starting daily bucket rebuild. days={}", dailyBucketDays());
+
+        int batchSize = RankingConstants.SYNC_BATCH_SIZE;
+        Pageable batchLimit = PageRequest.of(0, batchSize);
+        long syncedRows = 0;
+
+        for (int daysAgo = dailyBucketDays() - 1; daysAgo >= 0; daysAgo--) {
+            LocalDate date = today.minusDays(daysAgo);
+            LocalDateTime from = date.atStartOfDay();
+            LocalDateTime to = from.plusDays(1);
+            long lastUserId = 0L;
+
+            while (true) {
+                List<UserPointsSumProjection> sums =
+                    userActivityRepository.sumPointsEarnedGroupedByUserBetween(from, to, lastUserId, batchLimit);
+                if (sums.isEmpty()) {
+                    break;
+                }
+
+                Map<Long, Double> userPoints = new HashMap<>(sums.size() * 2);
+                for (UserPointsSumProjection sum : sums) {
+                    userPoints.put(sum.getUserId(), (double) sum.getTotalPoints());
+                }
+
+                rankingService.stageDailyBucket(date, runId, userPoints);
+                syncedRows += sums.size();
+                lastUserId = sums.get(sums.size() - 1).getUserId();
+
+                if (sums.size() < batchSize) {
+                    break;
                 }
             }
 
-            if (!userActivityCounts.isEmpty()) {
-                rankingService.updateScoresBatch(RankingType.ACTIVITY_COUNT, userActivityCounts);
-                log.debug("[RankingSync] Synced {} users' activity counts (page {}/{})",
-                    userActivityCounts.size(), page + 1, totalPages);
+            rankingService.publishStagedDailyBucket(date, runId);
+        }
+
+        log.info("[RankingSync] Daily bucket rebuild completed. rows={}", syncedRows);
+        return syncedRows;
+    }
+
+    /**
+     * 재구축 중 활동한 유저의 일별 버킷 점수를 MySQL 합계로 덮어쓴다
+     * 합계가 없는 유저는 0으로 두어 기간제 조회(양수 점수만)에서 빠지게 한다
+     */
+    private void replayDailyBuckets(List<Long> activeUserIds, LocalDate since, LocalDate today) {
+        if (activeUserIds.isEmpty()) {
+            return;
+        }
+
+        int batchSize = RankingConstants.SYNC_BATCH_SIZE;
+        for (LocalDate date = since; !date.isAfter(today); date = date.plusDays(1)) {
+            LocalDateTime from = date.atStartOfDay();
+            for (int start = 0; start < activeUserIds.size(); start += batchSize) {
+                List<Long> chunk = activeUserIds.subList(start, Math.min(start + batchSize, activeUserIds.size()));
+
+                Map<Long, Double> userPoints = new HashMap<>(chunk.size() * 2);
+                chunk.forEach(userId -> userPoints.put(userId, 0.0));
+                for (UserPointsSumProjection sum :
+                    userActivityRepository.sumPointsEarnedByUserIdsBetween(chunk, from, from.plusDays(1))) {
+                    userPoints.put(sum.getUserId(), (double) sum.getTotalPoints());
+                }
+                rankingService.updateDailyBucketScores(date, userPoints);
             }
         }
+    }
 
-        log.info("[RankingSync] Activity count ranking sync completed");
+    /**
+     * 재구축할 일별 버킷 수 (가장 긴 기간제 순위의 일수)
+     */
+    private static int dailyBucketDays() {
+        int days = 0;
+        for (RankingType type : RankingType.values()) {
+            days = Math.max(days, type.getWindowDays());
+        }
+        return days;
     }
 
     /**
@@ -154,7 +296,7 @@ public class RankingSyncService {
             }
 
             // 활동량 순위 업데이트
-            long activityCount = userActivityRepository.countByUserId(userId);
+            long activityCount = userActivityCounterRepository.sumActivityCountByUserId(userId);
             if (activityCount > 0) {
                 rankingService.updateActivityCountRanking(userId, activityCount);
             } else {
@@ -180,44 +322,79 @@ public class RankingSyncService {
 
         try {
             // 최근 24시간 이내 활동이 있는 유저 조회
-            List<Long> activeUserIds = userActivityRepository.findRecentlyActiveUserIds(24);
+            int synced = syncActiveUsers(userActivityRepository.findRecentlyActiveUserIds(24));
+            log.info("[RankingSync] Incremental sync completed. users={}", synced);
+        } catch (Exception e) {
+            log.error("[RankingSync] Failed to sync recently active users", e);
+        }
+    }
 
-            if (activeUserIds.isEmpty()) {
-                log.info("[RankingSync] No recently active users to sync");
-                return;
-            }
+    /**
+     * 활동이 있던 유저의 포인트/활동 수를 MySQL 값으로 라이브 순위에 덮어쓴다
+     * 유저/활동 수는 배치 단위 IN 쿼리로 조회한다
+     *
+     * @return 대상 유저 수
+     */
+    private int syncActiveUsers(List<Long> activeUserIds) {
+        if (activeUserIds.isEmpty()) {
+            log.info("[RankingSync] No active users to sync");
+            return 0;
+        }
 
-            log.info("[RankingSync] Syncing {} recently active users", activeUserIds.size());
+        log.info("[RankingSync] Syncing {} active users", activeUserIds.size());
 
-            // 배치 처리를 위한 맵 생성
-            Map<Long, Double> pointsMap = new HashMap<>();
-            Map<Long, Double> activityMap = new HashMap<>();
+        Map<Long, Double> pointsMap = new HashMap<>();
+        Map<Long, Double> activityMap = new HashMap<>();
+
+        int batchSize = RankingConstants.SYNC_BATCH_SIZE;
+        for (int from = 0; from < activeUserIds.size(); from += batchSize) {
+            List<Long> chunk = activeUserIds.subList(from, Math.min(from + batchSize, activeUserIds.size()));
 
-            for (Long userId : activeUserIds) {
-                User user = userRepository.findById(userId).orElse(null);
-                if (user != null && user.getPoints() > 0) {
-                    pointsMap.put(userId, (double) user.getPoints());
+            for (User user : userRepository.findAllById(chunk)) {
+                if (user.getPoints() > 0) {
+                    pointsMap.put(user.getId(), (double) user.getPoints());
                 }
+            }
 
-                long activityCount = userActivityRepository.countByUserId(userId);
+            for (Object[] row : userActivityCounterRepository.sumActivityCountsByUserIds(chunk)) {
+                long activityCount = ((Number) row[1]).longValue();
                 if (activityCount > 0) {
-                    activityMap.put(userId, (double) activityCount);
+                    activityMap.put((Long) row[0], (double) activityCount);
                 }
             }
+        }
 
-            // 배치 업데이트
-            if (!pointsMap.isEmpty()) {
-                rankingService.updateScoresBatch(RankingType.POINTS, pointsMap);
-            }
-            if (!activityMap.isEmpty()) {
-                rankingService.updateScoresBatch(RankingType.ACTIVITY_COUNT, activityMap);
-            }
+        // 배치 업데이트
+        if (!pointsMap.isEmpty()) {
+            rankingService.updateScoresBatch(RankingType.POINTS, pointsMap);
+        }
+        if (!activityMap.isEmpty()) {
+            rankingService.updateScoresBatch(RankingType.ACTIVITY_COUNT, activityMap);
+        }
 
-            log.info("[RankingSync] Incremental sync completed. Points: {}, Activities: {}",
-                pointsMap.size(), activityMap.size());
+        log.info("[RankingSync] Active users synced. Points: {}, Activities: {}",
+            pointsMap.size(), activityMap.size());
+        return activeUserIds.size();
+    }
 
-        } catch (Exception e) {
-            log.error("[RankingSync] Failed to sync recently active users", e);
-        }
+    /**
+     * 동기화 소요 시간, 처리 건수, 초당 처리량 기록
+     */
+    private void recordSyncMetrics(RankingType type, long rows, long elapsedNanos) {
+        Tags tags = Tags.of("type", type.name());
+        Timer.builder("ranking.sync.duration")
+            .description("MySQL -> Redis 순위 전체 동기화 소요 시간")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("ranking.sync.rows", tags).increment(rows);
+
+        long rowsPerSecond = elapsedNanos > 0 ? rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : rows;
+        lastRowsPerSecond.computeIfAbsent(type, key ->
+            meterRegistry.gauge("ranking.sync.rows.per.second", tags, new AtomicLong())
+        ).set(rowsPerSecond);
+
+        log.info("[RankingSync] {} sync metrics. rows={}, elapsed={} ms, rows/sec={}",
+            type, rows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond);
     }
 }
@@ -0,0 +1,135 @@
+package com.eventitta.gamification.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static com.eventitta.gamification.constants.LoginConstants.LOGIN_BITMAP_KEY_PREFIX;
+import static com.eventitta.gamification.constants.LoginConstants.LOGIN_BITMAP_TTL_DAYS;
+
+/**
+ * Redis 비트맵 기반 일별 로그인 추적
+ *
+ * <p>날짜별 키(login:yyyyMMdd)에 userId를 오프셋으로 SETBIT 하여 노드 간에 공유하고,
+ * SETBIT이 돌려주는 이전 비트로 "오늘 처음인가"를 원자적으로 판단합니다. DAU는 BITCOUNT로 구합니다.</p>
+ *
+ * <p>로컬 Caffeine 캐시를 앞단에 두어 같은 노드의 재로그인은 Redis도 거치지 않으며,
+ * Redis 장애 시에만 UNKNOWN을 돌려 호출자가 DB로 확인합니다.</p>
+ *
+ * @see LocalDailyLoginTracker
+ */
+@Slf4j
+@Component
+@Primary
+@Profile("!test")
+public class RedisDailyLoginTracker implements DailyLoginTracker {
+
+    private static final DateTimeFormatter KEY_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LocalDailyLoginTracker localTracker;
+
+    public RedisDailyLoginTracker(StringRedisTemplate stringRedisTemplate,
+                                  LocalDailyLoginTracker localTracker,
+                                  MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localTracker = localTracker;
+        Gauge.builder("gamification.login.dau", this, tracker -> tracker.countDailyActiveUsers(LocalDate.now()))
+            .description("오늘 로그인 활동이 기록된 사용자 수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isRecorded(Long userId, LocalDate date) {
+        if (localTracker.isRecorded(userId, date)) {
+            return true;
+        }
+
+        try {
+            Boolean bit = stringRedisTemplate.opsForValue().getBit(key(date), userId);
+            if (Boolean.TRUE.equals(bit)) {
+                localTracker.markRecorded(userId, date);
+                return true;
+            }
+            return false;
+        } catch (Exception e) {
+            log.warn("Redis error on login bitmap lookup, using local fallback: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public ClaimResult tryClaim(Long userId, LocalDate date) {
+        if (localTracker.isRecorded(userId, date)) {
+            return ClaimResult.ALREADY_RECORDED;
+        }
+
+        String key = key(date);
+        try {
+            Boolean previous = stringRedisTemplate.opsForValue().setBit(key, userId, true);
+            stringRedisTemplate.expire(key, Duration.ofDays(LOGIN_BITMAP_TTL_DAYS));
+            if (Boolean.TRUE.equals(previous)) {
+                localTracker.markRecorded(userId, date);
+                return ClaimResult.ALREADY_RECORDED;
+            }
+            return ClaimResult.CLAIMED;
+        } catch (Exception e) {
+            log.warn("Redis error on login bitmap claim, falling back to DB: {}", e.getMessage());
+            return ClaimResult.UNKNOWN;
+        }
+    }
+
+    @Override
+    public void releaseClaim(Long userId, LocalDate date) {
+        localTracker.releaseClaim(userId, date);
+        try {
+            stringRedisTemplate.opsForValue().setBit(key(date), userId, false);
+        } catch (Exception e) {
+            log.warn("Redis error on login bitmap release. userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void markRecorded(Long userId, LocalDate date) {
+        localTracker.markRecorded(userId, date);
+
+        String key = key(date);
+        try {
+            stringRedisTemplate.opsForValue().setBit(key, userId, true);
+            stringRedisTemplate.expire(key, Duration.ofDays(LOGIN_BITMAP_TTL_DAYS));
+        } catch (Exception e) {
+            log.warn("Redis error on login bitmap update, kept in local cache only: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public long countDailyActiveUsers(LocalDate date) {
+        byte[] rawKey = key(date).getBytes(StandardCharsets.UTF_8);
+        try {
+            Long count = stringRedisTemplate.execute((RedisCallback<Long>) connection -> bitCount(connection, rawKey));
+            return count != null ? count : 0L;
+        } catch (Exception e) {
+            log.warn("Redis error on login bitmap count, using local fallback: {}", e.getMessage());
+            return localTracker.countDailyActiveUsers(date);
+        }
+    }
+
+    private Long bitCount(RedisConnection connection, byte[] rawKey) {
+        return connection.stringCommands().bitCount(rawKey);
+    }
+
+    private String key(LocalDate date) {
+        return LOGIN_BITMAP_KEY_PREFIX + date.format(KEY_DATE_FORMAT);
+    }
+}
@@ -1,8 +1,12 @@
 package com.eventitta.gamification.service;
 
+import com.eventitta.gamification.constants.RankingConstants;
 import com.eventitta.gamification.domain.RankingType;
+import com.eventitta.gamification.dto.cache.RankingUserProfile;
+import com.eventitta.gamification.dto.response.RankingNeighborhoodResponse;
 import com.eventitta.gamification.dto.response.RankingPageResponse;
 import com.eventitta.gamification.dto.response.UserRankResponse;
+import com.eventitta.gamification.repository.UserActivityCounterRepository;
 import com.eventitta.gamification.repository.UserActivityRepository;
 import com.eventitta.notification.domain.AlertLevel;
 import com.eventitta.notification.service.DiscordNotificationService;
@@ -13,17 +17,30 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import static com.eventitta.user.exception.UserErrorCode.NOT_FOUND_USER_ID;
 
@@ -34,10 +51,40 @@ import static com.eventitta.user.exception.UserErrorCode.NOT_FOUND_USER_ID;
 @SuppressWarnings("null")
 public class RedisRankingService implements RankingService {
 
+    private static final double MIN_WINDOW_SCORE = 1;
+
+    /**
+     * 내 주변 순위 조회 스크립트 (1 round trip)
+     * ZREVRANK로 위치를 구한 뒤 그 주변만 ZREVRANGE WITHSCORES로 읽는다
+     * KEYS[1]=순위 키, ARGV[1]=멤버, ARGV[2]=위아래 인원, ARGV[3]=1이면 양수 점수 멤버만 대상
+     * 반환: {rank(0-base), start(0-base), total, {member, score, ...}} / 순위에 없으면 nil
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RANKINGS_AROUND_SCRIPT = new DefaultRedisScript<>(
+        "local rank = redis.call('ZREVRANK', KEYS[1], ARGV[1]) " +
+            "if not rank then return nil end " +
+            "local positiveOnly = ARGV[3] == '1' " +
+            "local total " +
+            "if positiveOnly then " +
+            "  if tonumber(redis.call('ZSCORE', KEYS[1], ARGV[1])) < 1 then return nil end " +
+            "  total = redis.call('ZCOUNT', KEYS[1], 1, '+inf') " +
+            "else " +
+            "  total = redis.call('ZCARD', KEYS[1]) " +
+            "end " +
+            "local range = tonumber(ARGV[2]) " +
+            "local start = math.max(rank - range, 0) " +
+            "local stop = math.min(rank + range, total - 1) " +
+            "return {rank, start, total, redis.call('ZREVRANGE', KEYS[1], start, stop, 'WITHSCORES')}",
+        List.class
+    );
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final UserRepository userRepository;
     private final UserActivityRepository userActivityRepository;
+    private final UserActivityCounterRepository userActivityCounterRepository;
     private final DiscordNotificationService discordNotificationService;
+    private final RankingProfileCache rankingProfileCache;
+    private final Clock clock;
 
     /**
      * Top N 순위 조회
@@ -54,12 +101,33 @@ public class RedisRankingService implements RankingService {
         }
     }
 
+    @Override
+    public RankingPageResponse getTopRankingsOrThrow(RankingType type, int limit) {
+        return getTopRankingsFromRedis(type, limit);
+    }
+
+    /**
+     * 순위 목록과 전체 인원을 파이프라인으로 한 번에 조회 (1 round trip)
+     * 닉네임/프로필 이미지는 Redis 프로필 해시에서 HMGET으로 가져오며, 미스일 때만 MySQL 조회
+     */
+    @SuppressWarnings("unchecked")
     private RankingPageResponse getTopRankingsFromRedis(RankingType type, int limit) {
-        String redisKey = Objects.requireNonNull(type.getRedisKey());
+        String redisKey = resolveReadKey(type);
+        List<Object> results = executePipelined(operations -> {
+            if (type.isWindowed()) {
+                // 기간제 버킷은 취소로 0 이하가 된 멤버가 남을 수 있어 양수 점수만 조회
+                operations.opsForZSet().reverseRangeByScoreWithScores(
+                    redisKey, MIN_WINDOW_SCORE, Double.POSITIVE_INFINITY, 0, limit);
+                operations.opsForZSet().count(redisKey, MIN_WINDOW_SCORE, Double.POSITIVE_INFINITY);
+            } else {
+                operations.opsForZSet().reverseRangeWithScores(redisKey, 0, limit - 1);
+                operations.opsForZSet().zCard(redisKey);
+            }
+        });
+
         Set<ZSetOperations.TypedTuple<Object>> rankings =
-            redisTemplate.opsForZSet().reverseRangeWithScores(
-                redisKey, 0, limit - 1
-            );
+            (Set<ZSetOperations.TypedTuple<Object>>) results.get(0);
+        Long totalUsers = (Long) results.get(1);
 
         if (rankings == null || rankings.isEmpty()) {
             return new RankingPageResponse(List.of(), 0L, type);
@@ -71,8 +139,7 @@ public class RedisRankingService implements RankingService {
             .map(value -> Long.parseLong(value.toString()))
             .toList();
 
-        Map<Long, User> userMap = userRepository.findAllById(userIds).stream()
-            .collect(Collectors.toMap(User::getId, user -> user));
+        Map<Long, RankingUserProfile> profiles = rankingProfileCache.getProfiles(userIds);
 
         long rank = 1;
         List<UserRankResponse> responses = new ArrayList<>();
@@ -84,29 +151,29 @@ public class RedisRankingService implements RankingService {
             }
 
             Long userId = Long.parseLong(value.toString());
-            User user = userMap.get(userId);
+            RankingUserProfile profile = profiles.get(userId);
 
-            if (user != null) {
+            if (profile != null) {
                 responses.add(new UserRankResponse(
                     userId,
-                    user.getNickname(),
-                    user.getProfilePictureUrl(),
+                    profile.nickname(),
+                    profile.profilePictureUrl(),
                     score.intValue(),
                     rank++
                 ));
             }
         }
 
-        Long totalUsers = redisTemplate.opsForZSet().zCard(redisKey);
         return new RankingPageResponse(responses, totalUsers != null ? totalUsers : 0L, type);
     }
 
     private RankingPageResponse getTopRankingsFromDatabase(RankingType type, int limit) {
-        List<UserRankResponse> responses = new ArrayList<>();
         long totalUsers = userRepository.count();
+        PageRequest topN = PageRequest.of(0, limit);
 
         if (type == RankingType.POINTS) {
-            List<User> topUsers = userRepository.findTopUsersByPoints(PageRequest.of(0, limit));
+            List<UserRankResponse> responses = new ArrayList<>();
+            List<User> topUsers = userRepository.findTopUsersByPoints(topN);
 
             long rank = 1;
             for (User user : topUsers) {
@@ -118,26 +185,172 @@ public class RedisRankingService implements RankingService {
                     rank++
                 ));
             }
-        } else if (type == RankingType.ACTIVITY_COUNT) {
-            List<Long> userIds = userActivityRepository.findRecentlyActiveUserIds(168);
-            if (!userIds.isEmpty()) {
-                List<User> users = userRepository.findAllById(userIds.subList(0, Math.min(limit, userIds.size())));
-
-                long rank = 1;
-                for (User user : users) {
-                    long activityCount = userActivityRepository.countByUserId(user.getId());
-                    responses.add(new UserRankResponse(
-                        user.getId(),
-                        user.getNickname(),
-                        user.getProfilePictureUrl(),
-                        (int) activityCount,
-                        rank++
-                    ));
-                }
+            return new RankingPageResponse(responses, totalUsers, type);
+        }
+
+        Map<Long, Long> scores = new LinkedHashMap<>();
+        if (type == RankingType.ACTIVITY_COUNT) {
+            userActivityCounterRepository.findTopActivityCounts(topN)
+                .forEach(row -> scores.put(row.getUserId(), row.getActivityCount()));
+        } else if (type.isWindowed()) {
+            userActivityRepository.findTopPointsEarnedSince(windowStart(type), topN)
+                .forEach(row -> scores.put(row.getUserId(), row.getTotalPoints()));
+        }
+
+        return new RankingPageResponse(toRankResponses(scores), totalUsers, type);
+    }
+
+    /**
+     * 점수 순으로 정렬된 (userId, score)에 유저 정보를 한 번에 붙여 응답으로 변환
+     */
+    private List<UserRankResponse> toRankResponses(Map<Long, Long> orderedScores) {
+        if (orderedScores.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(List.copyOf(orderedScores.keySet()))) {
+            users.put(user.getId(), user);
+        }
+
+        List<UserRankResponse> responses = new ArrayList<>(orderedScores.size());
+        long rank = 1;
+        for (Map.Entry<Long, Long> entry : orderedScores.entrySet()) {
+            User user = users.get(entry.getKey());
+            if (user == null) {
+                continue;
+            }
+            responses.add(new UserRankResponse(
+                user.getId(),
+                user.getNickname(),
+                user.getProfilePictureUrl(),
+                entry.getValue().intValue(),
+                rank++
+            ));
+        }
+        return responses;
+    }
+
+    /**
+     * 내 주변 순위 조회
+     * Redis 실패 시 포인트 기준 MySQL Fallback
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RankingNeighborhoodResponse getRankingsAround(RankingType type, Long userId, int range) {
+        try {
+            RankingNeighborhoodResponse response = getRankingsAroundFromRedis(type, userId, range);
+            if (response != null) {
+                return response;
+            }
+            log.warn("User not found in ranking. type={}, userId={}", type, userId);
+        } catch (Exception e) {
+            log.warn("Redis error for rankings around user, using MySQL fallback. userId={}, type={}, error={}",
+                userId, type, e.getMessage());
+        }
+        return getRankingsAroundFromDatabase(type, userId, range);
+    }
+
+    /**
+     * 순위 위치 계산과 주변 구간 조회를 Lua 스크립트 한 번으로 처리
+     *
+     * @return 유저가 순위에 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    private RankingNeighborhoodResponse getRankingsAroundFromRedis(RankingType type, Long userId, int range) {
+        String redisKey = resolveReadKey(type);
+        String member = Objects.requireNonNull(userId).toString();
+
+        List<Object> result = redisTemplate.execute(
+            RANKINGS_AROUND_SCRIPT,
+            List.of(redisKey),
+            member,
+            range,
+            type.isWindowed() ? 1 : 0
+        );
+        if (result == null || result.size() < 4) {
+            return null;
+        }
+
+        long myRank = ((Number) result.get(0)).longValue() + 1;
+        long start = ((Number) result.get(1)).longValue();
+        long totalUsers = ((Number) result.get(2)).longValue();
+        List<Object> membersWithScores = (List<Object>) result.get(3);
+
+        List<Long> userIds = new ArrayList<>(membersWithScores.size() / 2);
+        List<Double> scores = new ArrayList<>(membersWithScores.size() / 2);
+        for (int i = 0; i + 1 < membersWithScores.size(); i += 2) {
+            userIds.add(Long.parseLong(membersWithScores.get(i).toString()));
+            scores.add(toScore(membersWithScores.get(i + 1)));
+        }
+
+        Map<Long, RankingUserProfile> profiles = rankingProfileCache.getProfiles(userIds);
+        List<UserRankResponse> rankings = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            RankingUserProfile profile = profiles.get(userIds.get(i));
+            if (profile == null) {
+                continue;
             }
+            rankings.add(new UserRankResponse(
+                userIds.get(i),
+                profile.nickname(),
+                profile.profilePictureUrl(),
+                scores.get(i).intValue(),
+                start + i + 1
+            ));
         }
 
-        return new RankingPageResponse(responses, totalUsers, type);
+        return new RankingNeighborhoodResponse(userId, myRank, rankings, totalUsers, type);
+    }
+
+    /**
+     * 포인트 순위는 기준 포인트 위/아래를 각각 range명씩 조회
+     * 그 외 타입은 MySQL에서 주변 구간을 싸게 구할 수 없어 본인 순위만 반환
+     */
+    private RankingNeighborhoodResponse getRankingsAroundFromDatabase(RankingType type, Long userId, int range) {
+        long totalUsers = userRepository.count();
+
+        if (type != RankingType.POINTS) {
+            UserRankResponse me = getUserRankFromDatabase(type, userId);
+            return new RankingNeighborhoodResponse(userId, me.rank(), List.of(me), totalUsers, type);
+        }
+
+        User user = userRepository.findById(userId)
+            .orElseThrow(NOT_FOUND_USER_ID::defaultException);
+        int points = user.getPoints();
+        long myRank = userRepository.countByPointsGreaterThan(points) + 1;
+
+        PageRequest window = PageRequest.of(0, range);
+        List<User> above = userRepository.findUsersRankedAbove(points, window);
+        List<User> below = userRepository.findUsersRankedBelow(points, userId, window);
+
+        List<UserRankResponse> rankings = new ArrayList<>(above.size() + below.size() + 1);
+        for (int i = above.size() - 1; i >= 0; i--) {
+            rankings.add(toRankResponse(above.get(i), myRank - (i + 1)));
+        }
+        rankings.add(toRankResponse(user, myRank));
+        for (int i = 0; i < below.size(); i++) {
+            rankings.add(toRankResponse(below.get(i), myRank + i + 1));
+        }
+
+        return new RankingNeighborhoodResponse(userId, myRank, rankings, totalUsers, type);
+    }
+
+    private UserRankResponse toRankResponse(User user, long rank) {
+        return new UserRankResponse(
+            user.getId(),
+            user.getNickname(),
+            user.getProfilePictureUrl(),
+            user.getPoints(),
+            rank
+        );
+    }
+
+    private double toScore(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        return Double.parseDouble(value.toString());
     }
 
     /**
@@ -170,25 +383,37 @@ public class RedisRankingService implements RankingService {
         }
     }
 
+    /**
+     * 순위, 점수, 프로필을 파이프라인으로 한 번에 조회 (1 round trip)
+     */
     private UserRankResponse getUserRankFromRedis(RankingType type, Long userId) {
-        String redisKey = Objects.requireNonNull(type.getRedisKey());
+        String redisKey = resolveReadKey(type);
         String member = Objects.requireNonNull(userId).toString();
+        String profileKey = rankingProfileCache.currentKey();
 
-        Long rank = redisTemplate.opsForZSet().reverseRank(redisKey, member);
+        List<Object> results = executePipelined(operations -> {
+            operations.opsForZSet().reverseRank(redisKey, member);
+            operations.opsForZSet().score(redisKey, member);
+            operations.opsForHash().get(profileKey, member);
+        });
 
-        if (rank == null) {
+        Long rank = (Long) results.get(0);
+        Double score = (Double) results.get(1);
+
+        if (rank == null || (type.isWindowed() && (score == null || score < MIN_WINDOW_SCORE))) {
             log.warn("User not found in ranking. type={}, userId={}", type, userId);
             return getUserRankFromDatabase(type, userId);
         }
 
-        Double score = redisTemplate.opsForZSet().score(redisKey, member);
-        User user = userRepository.findById(userId)
-            .orElseThrow(NOT_FOUND_USER_ID::defaultException);
+        RankingUserProfile profile = rankingProfileCache.resolve(userId, results.get(2));
+        if (profile == null) {
+            throw NOT_FOUND_USER_ID.defaultException();
+        }
 
         return new UserRankResponse(
             userId,
-            user.getNickname(),
-            user.getProfilePictureUrl(),
+            profile.nickname(),
+            profile.profilePictureUrl(),
             score != null ? score.intValue() : 0,
             rank + 1
         );
@@ -205,8 +430,12 @@ public class RedisRankingService implements RankingService {
             score = user.getPoints();
             rank = userRepository.countByPointsGreaterThan(score) + 1;
         } else if (type == RankingType.ACTIVITY_COUNT) {
-            score = (int) userActivityRepository.countByUserId(userId);
+            score = (int) userActivityCounterRepository.sumActivityCountByUserId(userId);
             rank = 1;
+        } else if (type.isWindowed()) {
+            LocalDateTime since = windowStart(type);
+            score = (int) userActivityRepository.sumPointsEarnedSince(userId, since);
+            rank = userActivityRepository.countUsersWithPointsEarnedSinceGreaterThan(since, score) + 1;
         }
 
         return new UserRankResponse(
@@ -246,6 +475,43 @@ public class RedisRankingService implements RankingService {
         }
     }
 
+    /**
+     * 활동 증감분을 한 번의 파이프라인으로 반영
+     * - 전체 포인트/활동량 순위: ZINCRBY, 차감으로 0 이하가 된 멤버는 제거
+     * - 오늘 버킷(ranking:points:daily:yyyyMMdd): ZINCRBY 후 만료 시간 갱신
+     */
+    @Override
+    public void applyActivityDelta(Long userId, int pointsDelta, int activityCountDelta) {
+        if (pointsDelta == 0 && activityCountDelta == 0) {
+            return;
+        }
+        try {
+            String member = Objects.requireNonNull(userId).toString();
+            String pointsKey = RankingType.POINTS.getRedisKey();
+            String activityKey = RankingType.ACTIVITY_COUNT.getRedisKey();
+            String bucketKey = dailyBucketKey(LocalDate.now(clock));
+
+            executePipelined(operations -> {
+                if (pointsDelta != 0) {
+                    operations.opsForZSet().incrementScore(pointsKey, member, pointsDelta);
+                    operations.opsForZSet().incrementScore(bucketKey, member, pointsDelta);
+                    operations.expire(bucketKey, Duration.ofDays(RankingConstants.DAILY_BUCKET_RETENTION_DAYS));
+                }
+                if (activityCountDelta != 0) {
+                    operations.opsForZSet().incrementScore(activityKey, member, activityCountDelta);
+                }
+                if (pointsDelta < 0) {
+                    operations.opsForZSet().removeRangeByScore(pointsKey, Double.NEGATIVE_INFINITY, 0);
+                }
+                if (activityCountDelta < 0) {
+                    operations.opsForZSet().removeRangeByScore(activityKey, Double.NEGATIVE_INFINITY, 0);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to apply activity delta. userId={}, points={}, activities={}",
+                userId, pointsDelta, activityCountDelta, e);
+        }
+    }
 
     @Override
     public void removeUser(RankingType type, Long userId) {
@@ -260,29 +526,197 @@ public class RedisRankingService implements RankingService {
 
     @Override
     public void updateScoresBatch(RankingType type, Map<Long, Double> userScores) {
+        if (userScores.isEmpty()) {
+            return;
+        }
         try {
-            String redisKey = Objects.requireNonNull(type.getRedisKey());
-            for (Map.Entry<Long, Double> entry : userScores.entrySet()) {
-                redisTemplate.opsForZSet().add(
-                    redisKey,
-                    Objects.requireNonNull(entry.getKey()).toString(),
-                    entry.getValue()
-                );
-            }
+            addScores(Objects.requireNonNull(type.getRedisKey()), userScores);
             log.info("Batch updated {} scores for type: {}", userScores.size(), type);
         } catch (Exception e) {
             log.error("Failed to batch update scores. type={}, size={}", type, userScores.size(), e);
         }
     }
 
+    @Override
+    public void stageScoresBatch(RankingType type, String runId, Map<Long, Double> userScores) {
+        if (userScores.isEmpty()) {
+            return;
+        }
+        String stagingKey = rebuildKey(type, runId);
+        addScores(stagingKey, userScores);
+        // 노드가 재구축 도중 죽어도 임시 키가 남지 않도록 만료를 건다
+        redisTemplate.expire(stagingKey, Duration.ofSeconds(RankingConstants.REBUILD_KEY_TTL_SECONDS));
+        log.debug("Staged {} scores for type: {}, runId={}", userScores.size(), type, runId);
+    }
+
+    /**
+     * 임시 키를 RENAME으로 라이브 키에 덮어쓴다
+     * 적재된 멤버가 없으면 임시 키가 존재하지 않으므로 라이브 키를 비운다
+     * RENAME은 임시 키의 만료도 함께 옮기므로 교체 직후 만료를 제거한다
+     */
+    @Override
+    public void publishStagedRanking(RankingType type, String runId) {
+        String liveKey = Objects.requireNonNull(type.getRedisKey());
+        String stagingKey = rebuildKey(type, runId);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(stagingKey))) {
+            redisTemplate.rename(stagingKey, liveKey);
+            redisTemplate.persist(liveKey);
+        } else {
+            redisTemplate.delete(liveKey);
+        }
+        log.info("Published rebuilt ranking. type={}, runId={}", type, runId);
+    }
+
+    @Override
+    public void discardStagedRanking(RankingType type, String runId) {
+        try {
+            redisTemplate.delete(rebuildKey(type, runId));
+        } catch (Exception e) {
+            log.warn("Failed to discard staged ranking. type={}, runId={}, error={}", type, runId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void stageDailyBucket(LocalDate date, String runId, Map<Long, Double> userScores) {
+        if (userScores.isEmpty()) {
+            return;
+        }
+        String stagingKey = dailyBucketRebuildKey(date, runId);
+        addScores(stagingKey, userScores);
+        redisTemplate.expire(stagingKey, Duration.ofSeconds(RankingConstants.REBUILD_KEY_TTL_SECONDS));
+        log.debug("Staged {} scores for daily bucket: {}, runId={}", userScores.size(), date, runId);
+    }
+
+    /**
+     * 일별 버킷 임시 키를 RENAME으로 교체하고, 버킷 날짜 기준 보관 기간이 끝날 때 만료되게 한다
+     * 합산해 캐시해 둔 주간/월간 키도 지워 다음 조회 때 새 버킷으로 다시 합산한다
+     */
+    @Override
+    public void publishStagedDailyBucket(LocalDate date, String runId) {
+        String liveKey = dailyBucketKey(date);
+        String stagingKey = dailyBucketRebuildKey(date, runId);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(stagingKey))) {
+            redisTemplate.rename(stagingKey, liveKey);
+            LocalDateTime expiresAt = date.plusDays(RankingConstants.DAILY_BUCKET_RETENTION_DAYS).atStartOfDay();
+            redisTemplate.expire(liveKey, Duration.between(LocalDateTime.now(clock), expiresAt));
+        } else {
+            redisTemplate.delete(liveKey);
+        }
+
+        List<String> windowCacheKeys = new ArrayList<>();
+        for (RankingType type : RankingType.values()) {
+            if (type.getWindowDays() > 1) {
+                windowCacheKeys.add(type.getRedisKey());
+            }
+        }
+        redisTemplate.delete(windowCacheKeys);
+        log.debug("Published rebuilt daily bucket. date={}, runId={}", date, runId);
+    }
+
+    @Override
+    public void discardStagedDailyBucket(LocalDate date, String runId) {
+        try {
+            redisTemplate.delete(dailyBucketRebuildKey(date, runId));
+        } catch (Exception e) {
+            log.warn("Failed to discard staged daily bucket. date={}, runId={}, error={}", date, runId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void updateDailyBucketScores(LocalDate date, Map<Long, Double> userScores) {
+        if (userScores.isEmpty()) {
+            return;
+        }
+        try {
+            addScores(dailyBucketKey(date), userScores);
+        } catch (Exception e) {
+            log.error("Failed to update daily bucket scores. date={}, size={}", date, userScores.size(), e);
+        }
+    }
+
     @Override
     public Long getTotalUsers(RankingType type) {
         try {
-            String redisKey = Objects.requireNonNull(type.getRedisKey());
+            String redisKey = resolveReadKey(type);
+            if (type.isWindowed()) {
+                return redisTemplate.opsForZSet().count(redisKey, MIN_WINDOW_SCORE, Double.POSITIVE_INFINITY);
+            }
             return redisTemplate.opsForZSet().zCard(redisKey);
         } catch (Exception e) {
             log.error("Failed to get total users. type={}", type, e);
             return 0L;
         }
     }
+
+    /**
+     * 멤버별 ZADD 대신 다중 멤버 ZADD 한 번으로 전송
+     */
+    private void addScores(String redisKey, Map<Long, Double> userScores) {
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>(userScores.size() * 2);
+        for (Map.Entry<Long, Double> entry : userScores.entrySet()) {
+            tuples.add(new DefaultTypedTuple<>(Objects.requireNonNull(entry.getKey()).toString(), entry.getValue()));
+        }
+        redisTemplate.opsForZSet().add(redisKey, tuples);
+    }
+
+    /**
+     * 조회할 ZSET 키 결정
+     * 일간은 오늘 버킷을 그대로 읽고, 주간/월간은 최근 N일 버킷을 ZUNIONSTORE로 합산해 짧게 캐시한다
+     */
+    private String resolveReadKey(RankingType type) {
+        if (!type.isWindowed()) {
+            return Objects.requireNonNull(type.getRedisKey());
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        if (type.getWindowDays() == 1) {
+            return dailyBucketKey(today);
+        }
+
+        String windowKey = Objects.requireNonNull(type.getRedisKey());
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(windowKey))) {
+            return windowKey;
+        }
+
+        List<String> bucketKeys = new ArrayList<>(type.getWindowDays());
+        for (int day = 0; day < type.getWindowDays(); day++) {
+            bucketKeys.add(dailyBucketKey(today.minusDays(day)));
+        }
+        executePipelined(operations -> {
+            operations.opsForZSet().unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), windowKey);
+            operations.expire(windowKey, Duration.ofSeconds(RankingConstants.WINDOW_RANKING_CACHE_TTL_SECONDS));
+        });
+        return windowKey;
+    }
+
+    private String dailyBucketKey(LocalDate date) {
+        return RankingConstants.RANKING_POINTS_DAILY_BUCKET_PREFIX + date.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private LocalDateTime windowStart(RankingType type) {
+        return LocalDate.now(clock).minusDays(type.getWindowDays() - 1L).atStartOfDay();
+    }
+
+    private String dailyBucketRebuildKey(LocalDate date, String runId) {
+        return dailyBucketKey(date) + RankingConstants.RANKING_REBUILD_KEY_SUFFIX + runId;
+    }
+
+    private String rebuildKey(RankingType type, String runId) {
+        return type.getRedisKey() + RankingConstants.RANKING_REBUILD_KEY_SUFFIX + runId;
+    }
+
+    /**
+     * 여러 Redis 명령을 하나의 파이프라인으로 전송
+     * 결과는 명령 순서대로 템플릿 직렬화기를 거쳐 반환된다
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> executePipelined(Consumer<RedisOperations<String, Object>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, Object>) operations);
+                return null;
+            }
+        });
+    }
 }
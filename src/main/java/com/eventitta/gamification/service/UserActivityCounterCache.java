@@ -0,0 +1,68 @@
+package com.eventitta.gamification.service;
+
+import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.dto.cache.UserActivityCounters;
+import com.eventitta.gamification.repository.UserActivityCounterRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static com.eventitta.gamification.constants.BadgeConstants.ACTIVITY_COUNTER_CACHE_MAX_SIZE;
+import static com.eventitta.gamification.constants.BadgeConstants.ACTIVITY_COUNTER_CACHE_TTL_MINUTES;
+
+/**
+ * 뱃지 평가용 유저별 활동 카운터 캐시
+ * 최초 조회 시에만 user_activity_counters 테이블을 읽고, 이후 활동 이벤트의 증감분을 메모리에서 누적한다
+ * 여러 노드에서 같은 유저의 이벤트가 나뉘어 처리될 수 있으므로 TTL 만료 시 카운터 테이블로 다시 맞춘다
+ */
+@Slf4j
+@Component
+public class UserActivityCounterCache {
+
+    private final UserActivityCounterRepository userActivityCounterRepository;
+    private final Cache<Long, UserActivityCounters> cache;
+
+    public UserActivityCounterCache(UserActivityCounterRepository userActivityCounterRepository) {
+        this.userActivityCounterRepository = userActivityCounterRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(ACTIVITY_COUNTER_CACHE_MAX_SIZE)
+            .expireAfterWrite(Duration.ofMinutes(ACTIVITY_COUNTER_CACHE_TTL_MINUTES))
+            .build();
+    }
+
+    /**
+     * 캐시된 카운터 조회, 없으면 DB에서 집계해 채운다
+     */
+    public UserActivityCounters get(Long userId) {
+        UserActivityCounters counters = cache.getIfPresent(userId);
+        return counters != null ? counters : reload(userId);
+    }
+
+    /**
+     * 커밋된 활동의 증감분 반영
+     * 캐시에 없으면 카운터 테이블이 이미 해당 활동을 포함하므로 증감분 없이 새로 적재한다
+     */
+    public UserActivityCounters applyDelta(Long userId, ActivityType activityType, int countDelta, int pointsDelta) {
+        UserActivityCounters updated = cache.asMap().computeIfPresent(userId,
+            (id, counters) -> counters.plus(activityType, countDelta, pointsDelta));
+        return updated != null ? updated : reload(userId);
+    }
+
+    /**
+     * 카운터 테이블로 카운터를 다시 적재 (뱃지 부여 직전 검증 등 정확한 값이 필요할 때 사용)
+     */
+    public UserActivityCounters reload(Long userId) {
+        UserActivityCounters counters =
+            UserActivityCounters.from(userActivityCounterRepository.findSummariesByUserId(userId));
+        cache.put(userId, counters);
+        log.debug("Activity counters loaded from MySQL. userId={}, types={}", userId, counters.counts().size());
+        return counters;
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+}
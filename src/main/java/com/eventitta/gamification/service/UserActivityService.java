@@ -1,20 +1,35 @@
 package com.eventitta.gamification.service;
 
+import com.eventitta.gamification.domain.ActivityOutbox;
 import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.domain.OperationType;
 import com.eventitta.gamification.domain.UserActivity;
 import com.eventitta.gamification.dto.projection.ActivitySummaryProjection;
+import com.eventitta.gamification.event.ActivityBatchRecordedEvent;
+import com.eventitta.gamification.event.ActivityBatchRecordedEvent.ActivityDelta;
 import com.eventitta.gamification.event.ActivityRecordedEvent;
+import com.eventitta.gamification.repository.UserActivityCounterRepository;
 import com.eventitta.gamification.repository.UserActivityRepository;
+import com.eventitta.gamification.repository.UserActivityRepositoryCustom.ActivityTarget;
 import com.eventitta.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.eventitta.user.exception.UserErrorCode.NOT_FOUND_USER_ID;
 
@@ -24,8 +39,10 @@ import static com.eventitta.user.exception.UserErrorCode.NOT_FOUND_USER_ID;
 public class UserActivityService {
 
     private final UserActivityRepository userActivityRepository;
+    private final UserActivityCounterRepository userActivityCounterRepository;
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final DailyLoginTracker dailyLoginTracker;
     // BadgeService와 RankingService는 이제 직접 사용하지 않음
 
     /**
@@ -34,20 +51,24 @@ public class UserActivityService {
      */
     @Transactional
     public void recordActivity(Long userId, ActivityType activityType, Long targetId) {
-        if (activityType == ActivityType.USER_LOGIN
-            && isAlreadyRecordedToday(userId, activityType)) {
-            log.debug("[UserActivity] Skipping login activity: " +
-                    "already recorded today. userId={}, activityType={}",
-                userId, activityType);
-            return;
+        LocalDate today = LocalDate.now();
+        if (activityType == ActivityType.USER_LOGIN) {
+            if (isAlreadyRecordedToday(userId, today)) {
+                log.debug("[UserActivity] Skipping login activity: " +
+                        "already recorded today. userId={}, activityType={}",
+                    userId, activityType);
+                return;
+            }
+            markLoginRecordedAfterCommit(userId, today);
         }
 
         // 1. 핵심 데이터만 빠르게 저장 (활동 기록)
         UserActivity userActivity = createUserActivity(userId, activityType, targetId);
         userActivity = userActivityRepository.save(userActivity);
 
-        // 2. 포인트 업데이트 (여전히 핵심 작업)
+        // 2. 포인트와 활동 카운터 업데이트 (여전히 핵심 작업)
         int points = activityType.getDefaultPoint();
+        userActivityCounterRepository.applyDeltas(userId, Map.of(activityType, new ActivityDelta(1, points)));
         if (points > 0) {
             int updated = userRepository.incrementPoints(userId, points);
             if (updated == 0) {
@@ -85,8 +106,10 @@ public class UserActivityService {
             .deleteByUserIdAndActivityTypeAndTargetId(userId, activityType, targetId);
 
         if (deletedCount > 0) {
-            // 1. 포인트 차감
+            // 1. 포인트와 활동 카운터 차감
             int points = activityType.getDefaultPoint();
+            userActivityCounterRepository.applyDeltas(userId,
+                Map.of(activityType, new ActivityDelta((int) -deletedCount, -points)));
             if (points > 0) {
                 int updated = userRepository.decrementPoints(userId, points);
                 if (updated == 0) {
@@ -114,19 +137,224 @@ public class UserActivityService {
         }
     }
 
+    /**
+     * 한 유저의 아웃박스 레코드들을 합쳐서 반영 (생성 순서대로 전달되어야 함)
+     * - 취소 대상 활동은 JDBC 배치 DELETE 한 번으로 삭제
+     * - 같은 배치 안에서 기록 후 취소된 활동은 INSERT 하지 않고 상쇄
+     * - 남은 활동은 JDBC 배치 INSERT 한 번으로 저장
+     * - 포인트는 순증감만 UPDATE 한 번으로 반영해 users 행 경합을 줄인다
+     * - 활동 카운터는 활동 유형별 순증감을 UPSERT 배치 한 번으로 반영
+     * - 뱃지/랭킹 후처리 이벤트는 유저당 한 번만 발행
+     * 개별 처리(recordActivity/revokeActivity)를 순서대로 실행한 것과 같은 결과가 되도록 계산한다
+     */
+    @Transactional
+    public void applyOutboxBatch(Long userId, List<ActivityOutbox> outboxes) {
+        applyOutboxActivities(userId, outboxes, true);
+    }
+
+    /**
+     * applyOutboxBatch와 같지만 users 포인트는 갱신하지 않고 순증감만 반환 (write-behind 모드)
+     * 반환된 증감은 호출자가 아웃박스 레코드에 남기고 포인트 원장 플러시에서 반영한다
+     *
+     * @return 포인트 순증감
+     */
+    @Transactional
+    public int applyOutboxBatchDeferringPoints(Long userId, List<ActivityOutbox> outboxes) {
+        return applyOutboxActivities(userId, outboxes, false);
+    }
+
     @Transactional(readOnly = true)
     public List<ActivitySummaryProjection> getActivitySummaryProjection(Long userId) {
-        return userActivityRepository.countActivitiesByUser(userId);
+        return userActivityCounterRepository.findSummariesByUserId(userId);
+    }
+
+    /**
+     * 아웃박스 배치 반영 (활동 행, 포인트, 활동 카운터, 후처리 이벤트)
+     *
+     * @param applyPoints false면 users 포인트는 갱신하지 않는다
+     * @return 포인트 순증감
+     */
+    private int applyOutboxActivities(Long userId, List<ActivityOutbox> outboxes, boolean applyPoints) {
+        Map<ActivityTarget, Integer> preExisting = deleteRevokedTargets(userId, outboxes);
+        LocalDate today = LocalDate.now();
+        boolean loginRecordable = outboxes.stream().noneMatch(UserActivityService::isLoginRecord)
+            || !isAlreadyRecordedToday(userId, today);
+
+        Map<ActivityTarget, List<UserActivity>> pendingInserts = new LinkedHashMap<>();
+        Map<ActivityType, ActivityDelta> deltas = new EnumMap<>(ActivityType.class);
+        int pointsDelta = 0;
+
+        for (ActivityOutbox outbox : outboxes) {
+            ActivityType activityType = outbox.getActivityType();
+            int points = activityType.getDefaultPoint();
+
+            if (outbox.getOperationType() == OperationType.RECORD) {
+                if (activityType == ActivityType.USER_LOGIN) {
+                    if (!loginRecordable) {
+                        continue;
+                    }
+                    loginRecordable = false;
+                    markLoginRecordedAfterCommit(userId, today);
+                }
+                UserActivity activity = createUserActivity(userId, activityType, outbox.getTargetId());
+                pendingInserts
+                    .computeIfAbsent(new ActivityTarget(activityType, activity.getTargetId()), key -> new ArrayList<>())
+                    .add(activity);
+                pointsDelta += points;
+                addDelta(deltas, activityType, 1, points);
+            } else if (outbox.getOperationType() == OperationType.REVOKE) {
+                ActivityTarget target = new ActivityTarget(activityType, outbox.getTargetId());
+                List<UserActivity> canceled = pendingInserts.remove(target);
+                Integer deletedRows = preExisting.remove(target);
+                int removed = (canceled != null ? canceled.size() : 0) + (deletedRows != null ? deletedRows : 0);
+                if (removed > 0) {
+                    pointsDelta -= points;
+                    addDelta(deltas, activityType, -removed, -points);
+                }
+            }
+        }
+
+        List<UserActivity> inserts = new ArrayList<>();
+        pendingInserts.values().forEach(inserts::addAll);
+        userActivityRepository.insertAllInBatch(inserts);
+
+        if (applyPoints) {
+            applyNetPoints(userId, pointsDelta);
+        }
+
+        deltas.values().removeIf(delta -> delta.count() == 0 && delta.points() == 0);
+        userActivityCounterRepository.applyDeltas(userId, deltas);
+        if (!deltas.isEmpty()) {
+            eventPublisher.publishEvent(new ActivityBatchRecordedEvent(userId, deltas));
+        }
+
+        log.info("[UserActivity] Outbox batch applied. userId={}, outboxes={}, inserted={}, pointsDelta={}",
+            userId, outboxes.size(), inserts.size(), pointsDelta);
+        return pointsDelta;
+    }
+
+    /**
+     * 취소 대상 (활동 유형, 대상)을 한 번씩만 삭제하고, 배치 시작 전부터 있던 행 수를 반환
+     */
+    private Map<ActivityTarget, Integer> deleteRevokedTargets(Long userId, List<ActivityOutbox> outboxes) {
+        Set<ActivityTarget> targets = new LinkedHashSet<>();
+        for (ActivityOutbox outbox : outboxes) {
+            if (outbox.getOperationType() == OperationType.REVOKE) {
+                targets.add(new ActivityTarget(outbox.getActivityType(), outbox.getTargetId()));
+            }
+        }
+        if (targets.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        List<ActivityTarget> targetList = List.copyOf(targets);
+        int[] deleted = userActivityRepository.deleteAllByTargetsInBatch(userId, targetList);
+        Map<ActivityTarget, Integer> preExisting = new HashMap<>(targetList.size() * 2);
+        for (int i = 0; i < targetList.size(); i++) {
+            if (deleted[i] > 0) {
+                preExisting.put(targetList.get(i), deleted[i]);
+            }
+        }
+        return preExisting;
+    }
+
+    private void applyNetPoints(Long userId, int pointsDelta) {
+        if (pointsDelta > 0) {
+            int updated = userRepository.incrementPoints(userId, pointsDelta);
+            if (updated == 0) {
+                log.error("[UserActivity] Failed to increment points. " +
+                        "reason=user_not_found, userId={}, deltaPoint={}",
+                    userId, pointsDelta);
+                throw NOT_FOUND_USER_ID.defaultException();
+            }
+        } else if (pointsDelta < 0) {
+            int updated = userRepository.decrementPoints(userId, -pointsDelta);
+            if (updated == 0) {
+                log.warn("[UserActivity] Failed to decrement points. reason" +
+                        "=user_not_found_or_insufficient_points, userId={}, deltaPoint={}",
+                    userId, -pointsDelta);
+            }
+        }
+    }
+
+    private static void addDelta(Map<ActivityType, ActivityDelta> deltas, ActivityType activityType,
+                                 int countDelta, int pointsDelta) {
+        deltas.merge(activityType, new ActivityDelta(countDelta, pointsDelta),
+            (current, added) -> current.plus(added.count(), added.points()));
+    }
+
+    private static boolean isLoginRecord(ActivityOutbox outbox) {
+        return outbox.getActivityType() == ActivityType.USER_LOGIN
+            && outbox.getOperationType() == OperationType.RECORD;
     }
 
     private UserActivity createUserActivity(Long userId, ActivityType activityType, Long targetId) {
         return activityType.createActivity(userId, targetId);
     }
 
-    private boolean isAlreadyRecordedToday(Long userId, ActivityType activityType) {
-        LocalDateTime startOfDay = LocalDateTime.now().with(LocalTime.MIN);
+    /**
+     * 오늘 로그인 활동이 이미 기록됐는지 확인
+     * 추적기(Redis 비트맵)의 SETBIT 이전 비트로 원자적으로 판단해 노드 간 동시 로그인도 한 건만 기록한다
+     * 선점에 성공해도(유저당 하루 한 번) 배포 당일, Redis 초기화/장애 조치, 키 만료로 비트만 비어 있을 수 있으므로
+     * DB로 한 번 더 확인하고, 선점한 기록이 롤백되면 선점을 되돌린다. 추적기를 쓸 수 없을 때도 DB로 확인한다
+     */
+    private boolean isAlreadyRecordedToday(Long userId, LocalDate today) {
+        switch (dailyLoginTracker.tryClaim(userId, today)) {
+            case ALREADY_RECORDED -> {
+                return true;
+            }
+            case CLAIMED -> {
+                if (existsLoginInDb(userId, today)) {
+                    // 비트는 이미 세웠으므로 로컬 캐시에만 남긴다
+                    dailyLoginTracker.markRecorded(userId, today);
+                    return true;
+                }
+                releaseLoginClaimOnRollback(userId, today);
+                return false;
+            }
+            default -> {
+                boolean exists = existsLoginInDb(userId, today);
+                if (exists) {
+                    dailyLoginTracker.markRecorded(userId, today);
+                }
+                return exists;
+            }
+        }
+    }
+
+    private boolean existsLoginInDb(Long userId, LocalDate today) {
+        LocalDateTime startOfDay = today.atStartOfDay();
         LocalDateTime endOfDay = startOfDay.plusDays(1);
+        return userActivityRepository.existsTodayActivity(userId, ActivityType.USER_LOGIN, startOfDay, endOfDay);
+    }
 
-        return userActivityRepository.existsTodayActivity(userId, activityType, startOfDay, endOfDay);
+    private void releaseLoginClaimOnRollback(Long userId, LocalDate today) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    dailyLoginTracker.releaseClaim(userId, today);
+                }
+            }
+        });
+    }
+
+    /**
+     * 로그인 기록 트랜잭션이 커밋된 뒤에만 추적기에 표시 (롤백된 로그인이 오늘 기록으로 남지 않도록)
+     */
+    private void markLoginRecordedAfterCommit(Long userId, LocalDate today) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dailyLoginTracker.markRecorded(userId, today);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dailyLoginTracker.markRecorded(userId, today);
+            }
+        });
     }
 }
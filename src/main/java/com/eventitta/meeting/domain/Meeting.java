@@ -36,6 +36,11 @@ public class Meeting extends BaseEntity {
     private Double latitude;
     private Double longitude;
 
+    // latitude/longitude로 MySQL이 채우는 SRID 4326 POINT 생성 컬럼 (거리 검색 SPATIAL 인덱스용, 읽기 전용)
+    @Getter(AccessLevel.NONE)
+    @Column(insertable = false, updatable = false)
+    private byte[] location;
+
     @Enumerated(EnumType.STRING)
     private MeetingStatus status;
 
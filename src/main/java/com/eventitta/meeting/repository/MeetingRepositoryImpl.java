@@ -1,11 +1,15 @@
 package com.eventitta.meeting.repository;
 
+import com.eventitta.festivals.util.BoundingBox;
+import com.eventitta.festivals.util.BoundingBoxCalculator;
 import com.eventitta.meeting.domain.MeetingStatus;
 import com.eventitta.meeting.domain.QMeeting;
 import com.eventitta.meeting.dto.request.MeetingFilter;
 import com.eventitta.meeting.dto.response.MeetingSummaryResponse;
 import com.eventitta.user.domain.QUser;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.ArrayPath;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
@@ -25,6 +29,9 @@ import java.util.List;
 @Repository
 public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
 
+    // 상태 없는 계산기라 직접 만든다 (JPA 슬라이스 테스트에서도 리포지토리가 별도 빈 없이 뜨도록)
+    private final BoundingBoxCalculator boundingBoxCalculator = new BoundingBoxCalculator();
+
     @PersistenceContext
     private EntityManager em;
 
@@ -64,12 +71,15 @@ public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
         JPAQuery<MeetingSummaryResponse> contentQ;
         if (hasDistanceFilter) {
             NumberExpression<Double> distance = calculateDistance(
-                filter.latitude(), filter.longitude(),
-                m.latitude, m.longitude
+                filter.latitude(), filter.longitude(), m.location
+            );
+            BoundingBox box = boundingBoxCalculator.calculate(
+                filter.latitude(), filter.longitude(), filter.distance()
             );
-            // 거리 조건 추가
+            // 거리 조건 추가 (SPATIAL 인덱스로 Bounding Box를 먼저 좁힌 뒤 거리 계산)
             where.and(m.latitude.isNotNull()
                 .and(m.longitude.isNotNull())
+                .and(withinBoundingBox(box, m.location))
                 .and(distance.loe(filter.distance())));
 
             contentQ = qf.select(Projections.constructor(
@@ -119,23 +129,27 @@ public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQ::fetchOne);
     }
 
-    private NumberExpression<Double> calculateDistance(Double lat1, Double lon1,
-                                                       NumberExpression<Double> lat2,
-                                                       NumberExpression<Double> lon2) {
-        final double R = 6371.0;
-        double radLat1 = Math.toRadians(lat1);
-        NumberExpression<Double> radLat2 = lat2.multiply(Math.PI / 180.0);
-        NumberExpression<Double> dLat = lat2.subtract(lat1).multiply(Math.PI / 180.0);
-        NumberExpression<Double> dLon = lon2.subtract(lon1).multiply(Math.PI / 180.0);
-
-        NumberExpression<Double> a = Expressions.numberTemplate(Double.class,
-            "SIN({0} / 2) * SIN({0} / 2) + COS({1}) * COS({2}) * SIN({3} / 2) * SIN({3} / 2)",
-            dLat, Expressions.constant(radLat1), radLat2, dLon
-        );
-        NumberExpression<Double> c = Expressions.numberTemplate(Double.class,
-            "2 * ASIN(SQRT({0}))", a
+    /**
+     * location(SRID 4326 POINT)과 중심 좌표 사이의 거리 (km)
+     * SRID 4326의 축 순서에 맞춰 좌표는 (위도, 경도) 순으로 넘긴다
+     */
+    private NumberExpression<Double> calculateDistance(Double latitude, Double longitude,
+                                                       ArrayPath<byte[], Byte> location) {
+        return Expressions.numberTemplate(Double.class,
+            "cast(function('ST_Distance_Sphere', {0}, function('ST_SRID', function('POINT', {1}, {2}), 4326)) as double) / 1000",
+            location, Expressions.constant(latitude), Expressions.constant(longitude)
         );
+    }
 
-        return c.multiply(R);
+    private BooleanExpression withinBoundingBox(BoundingBox box, ArrayPath<byte[], Byte> location) {
+        return Expressions.numberTemplate(Integer.class,
+            "cast(function('MBRContains', function('ST_SRID', function('ST_MakeEnvelope', "
+                + "function('POINT', {0}, {1}), function('POINT', {2}, {3})), 4326), {4}) as integer)",
+            Expressions.constant(Math.max(box.minLatitude(), -90)),
+            Expressions.constant(Math.max(box.minLongitude(), -180)),
+            Expressions.constant(Math.min(box.maxLatitude(), 90)),
+            Expressions.constant(Math.min(box.maxLongitude(), 180)),
+            location
+        ).eq(1);
     }
 }
@@ -0,0 +1,7 @@
+package com.eventitta.user.dto.projection;
+
+public interface UserPointsProjection {
+    Long getId();
+
+    int getPoints();
+}
@@ -0,0 +1,10 @@
+package com.eventitta.user.event;
+
+/**
+ * 닉네임, 프로필 이미지 등 다른 도메인에 노출되는 유저 정보가 변경되었을 때 발행되는 이벤트
+ * 순위 화면용 프로필 캐시 무효화 등에 사용
+ */
+public record UserProfileChangedEvent(
+    Long userId
+) {
+}
@@ -1,6 +1,8 @@
 package com.eventitta.user.repository;
 
 import com.eventitta.user.domain.User;
+import com.eventitta.user.dto.projection.UserPointsProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,7 +11,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
@@ -41,7 +43,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u " +
         "WHERE u.deleted = false " +
         "ORDER BY u.points DESC")
-    List<User> findTopUsersByPoints(org.springframework.data.domain.Pageable pageable);
+    List<User> findTopUsersByPoints(Pageable pageable);
 
     /**
      * 특정 포인트보다 높은 유저 수 조회 (순위 계산용)
@@ -52,4 +54,32 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) FROM User u " +
         "WHERE u.deleted = false AND u.points > :points")
     long countByPointsGreaterThan(@Param("points") int points);
+
+    /**
+     * 기준 포인트 바로 위 순위의 유저 조회 (가까운 순, 내 주변 순위 MySQL fallback용)
+     */
+    @Query("SELECT u FROM User u " +
+        "WHERE u.deleted = false AND u.points > :points " +
+        "ORDER BY u.points ASC, u.id DESC")
+    List<User> findUsersRankedAbove(@Param("points") int points, Pageable pageable);
+
+    /**
+     * 기준 포인트 바로 아래 순위의 유저 조회 (가까운 순, 동점자 포함, 내 주변 순위 MySQL fallback용)
+     */
+    @Query("SELECT u FROM User u " +
+        "WHERE u.deleted = false AND u.points <= :points AND u.id <> :userId " +
+        "ORDER BY u.points DESC, u.id ASC")
+    List<User> findUsersRankedBelow(@Param("points") int points, @Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 포인트가 있는 유저의 (id, points)를 id 순으로 이어서 조회 (keyset 페이지네이션)
+     * PK 범위 스캔이므로 OFFSET과 달리 뒤쪽 페이지도 일정한 비용으로 읽는다
+     *
+     * @param lastId   이전 배치의 마지막 유저 ID (처음에는 0)
+     * @param pageable 배치 크기 (정렬은 쿼리에서 고정)
+     */
+    @Query("SELECT u.id AS id, u.points AS points FROM User u " +
+        "WHERE u.id > :lastId AND u.deleted = false AND u.points > 0 " +
+        "ORDER BY u.id")
+    List<UserPointsProjection> findPointsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
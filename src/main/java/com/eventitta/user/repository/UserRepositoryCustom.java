@@ -0,0 +1,15 @@
+package com.eventitta.user.repository;
+
+import java.util.Map;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * 여러 유저의 포인트 증감을 다중 행 UPDATE 한 번으로 반영
+     * 유저 ID 순서로 행을 잠가 동시 플러시 간 교착을 피하며, 0 미만으로는 내려가지 않는다
+     *
+     * @param pointDeltas 유저 ID별 포인트 증감 (0인 항목은 무시)
+     * @return 갱신된 유저 행 수
+     */
+    int applyPointDeltas(Map<Long, Integer> pointDeltas);
+}
@@ -0,0 +1,46 @@
+package com.eventitta.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int applyPointDeltas(Map<Long, Integer> pointDeltas) {
+        Map<Long, Integer> sorted = new TreeMap<>();
+        pointDeltas.forEach((userId, delta) -> {
+            if (delta != null && delta != 0) {
+                sorted.put(userId, delta);
+            }
+        });
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+
+        // UPDATE users SET points = GREATEST(points + CASE id WHEN ? THEN ? ... END, 0) WHERE id IN (?, ...)
+        StringBuilder sql = new StringBuilder("UPDATE users SET points = GREATEST(points + CASE id");
+        List<Object> args = new ArrayList<>(sorted.size() * 3);
+        sorted.forEach((userId, delta) -> {
+            sql.append(" WHEN ? THEN ?");
+            args.add(userId);
+            args.add(delta);
+        });
+        sql.append(" ELSE 0 END, 0) WHERE id IN (");
+        int index = 0;
+        for (Long userId : sorted.keySet()) {
+            sql.append(index++ == 0 ? "?" : ", ?");
+            args.add(userId);
+        }
+        sql.append(')');
+
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -4,9 +4,11 @@ import com.eventitta.user.domain.User;
 import com.eventitta.user.dto.ChangePasswordRequest;
 import com.eventitta.user.dto.UpdateProfileRequest;
 import com.eventitta.user.dto.UserProfileResponse;
+import com.eventitta.user.event.UserProfileChangedEvent;
 import com.eventitta.user.exception.UserErrorCode;
 import com.eventitta.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserProfileResponse getProfile(Long userId) {
         User user = userRepository.findActiveById(userId)
@@ -41,6 +44,7 @@ public class UserService {
             req.latitude(),
             req.longitude()
         );
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
     }
 
     @Transactional
@@ -48,6 +52,7 @@ public class UserService {
         User user = userRepository.findActiveById(userId)
             .orElseThrow(UserErrorCode.NOT_FOUND_USER_ID::defaultException);
         user.delete();
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
     }
 
     @Transactional
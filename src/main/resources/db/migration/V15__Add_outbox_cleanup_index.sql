@@ -0,0 +1,4 @@
+-- Outbox 정리(housekeeping) 청크 삭제를 위한 복합 인덱스 추가
+-- status = 'DONE' AND processed_at < ? 조건을 processed_at 순으로 범위 스캔하여 청크 단위 삭제가 풀스캔 없이 끝나도록 함
+
+CREATE INDEX idx_outbox_status_processed ON activity_outbox(status, processed_at);
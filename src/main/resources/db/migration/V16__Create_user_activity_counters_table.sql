@@ -0,0 +1,19 @@
+-- V16: 유저별 활동 유형 집계 테이블 생성
+-- 뱃지 평가, 순위 동기화, 내 활동 요약이 user_activities 전체 이력을 GROUP BY 하지 않고 PK 조회로 끝나도록 함
+-- 활동 기록/취소 트랜잭션에서 증감 UPSERT로 갱신되며, UserActivityCounterBackfillJob이 주기적으로 재집계해 보정
+
+CREATE TABLE user_activity_counters (
+    user_id        BIGINT      NOT NULL COMMENT '사용자 ID',
+    activity_type  VARCHAR(50) NOT NULL COMMENT '활동 유형 (CREATE_POST, LIKE_POST 등)',
+    activity_count BIGINT      NOT NULL DEFAULT 0 COMMENT '활동 횟수',
+    total_points   BIGINT      NOT NULL DEFAULT 0 COMMENT '활동으로 획득한 포인트 합계',
+    updated_at     DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '마지막 갱신 시각',
+
+    PRIMARY KEY (user_id, activity_type)
+) COMMENT='유저별 활동 유형 집계 (user_activities의 materialized view)';
+
+-- 기존 활동 이력으로 초기 집계 채우기
+INSERT INTO user_activity_counters (user_id, activity_type, activity_count, total_points, updated_at)
+SELECT user_id, activity_type, COUNT(*), COALESCE(SUM(points_earned), 0), CURRENT_TIMESTAMP(6)
+FROM user_activities
+GROUP BY user_id, activity_type;
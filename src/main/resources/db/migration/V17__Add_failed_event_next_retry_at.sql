@@ -0,0 +1,10 @@
+-- 실패 이벤트 재처리에 지수 백오프를 적용하기 위한 다음 재시도 시각 컬럼 추가
+-- 기존 레코드는 즉시 재시도 대상이 되도록 현재 시각으로 채움
+-- status = 'PENDING' AND next_retry_at <= ? 조건을 next_retry_at 순으로 범위 스캔하여 배치 크기만큼만 읽도록 복합 인덱스로 교체
+
+ALTER TABLE failed_activity_events
+    ADD COLUMN next_retry_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '다음 재시도 가능 시각(지수 백오프)' AFTER retry_count;
+
+CREATE INDEX idx_failed_event_status_next_retry ON failed_activity_events(status, next_retry_at);
+
+DROP INDEX idx_failed_event_status ON failed_activity_events;
@@ -0,0 +1,7 @@
+-- 포인트 지연 반영(write-behind) 모드를 위한 아웃박스 포인트 증감 컬럼 추가
+-- 활동만 반영되고 users.points 반영을 기다리는 레코드는 APPLIED 상태로 points_delta를 보관하며,
+-- 원장 플러시가 users 갱신과 DONE 전환을 한 트랜잭션으로 커밋할 때까지 확인 처리되지 않는다
+
+ALTER TABLE activity_outbox
+    ADD COLUMN points_delta INT NULL COMMENT '지연 반영 대기 중인 포인트 증감 (병합 처리 시 배치 순증감은 마지막 레코드에 기록)' AFTER target_id,
+    MODIFY COLUMN status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '처리 상태 (PENDING, PROCESSING, APPLIED, DONE, FAILED)';
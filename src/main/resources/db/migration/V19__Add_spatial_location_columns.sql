@@ -0,0 +1,21 @@
+-- 축제/모임 거리 검색을 SPATIAL(R-Tree) 인덱스로 처리하기 위한 POINT SRID 4326 컬럼 추가
+-- 애플리케이션은 계속 latitude/longitude만 쓰고, location은 STORED 생성 컬럼으로 MySQL이 함께 갱신한다
+-- SPATIAL 인덱스는 NOT NULL 컬럼에만 만들 수 있어 좌표가 없는 행은 POINT(0, 0)으로 두고, 조회 시 latitude/longitude IS NOT NULL로 거른다
+-- SRID 4326의 축 순서는 (위도, 경도)이므로 POINT(latitude, longitude) 순서로 만든다
+
+ALTER TABLE festivals
+    ADD COLUMN location POINT SRID 4326
+        GENERATED ALWAYS AS (ST_SRID(POINT(IFNULL(latitude, 0), IFNULL(longitude, 0)), 4326)) STORED NOT NULL
+        COMMENT '거리 검색용 좌표 (latitude/longitude 생성 컬럼)' AFTER longitude;
+
+CREATE SPATIAL INDEX idx_festivals_location_spatial ON festivals(location);
+
+-- 위도만 범위 스캔하던 B-Tree 인덱스는 SPATIAL 인덱스로 대체
+DROP INDEX idx_festivals_location ON festivals;
+
+ALTER TABLE meetings
+    ADD COLUMN location POINT SRID 4326
+        GENERATED ALWAYS AS (ST_SRID(POINT(IFNULL(latitude, 0), IFNULL(longitude, 0)), 4326)) STORED NOT NULL
+        COMMENT '거리 검색용 좌표 (latitude/longitude 생성 컬럼)' AFTER longitude;
+
+CREATE SPATIAL INDEX idx_meetings_location_spatial ON meetings(location);
@@ -0,0 +1,19 @@
+-- V20: 아웃박스 멱등키를 16바이트 BINARY로 변경
+-- 키는 [활동 해시 8바이트][요청 ID + 요청 내 순번 해시 8바이트]로, 같은 요청의 재시도는 같은 키가 되어 유니크 인덱스로 중복이 걸러진다
+-- 기존 문자열 키는 MD5(16바이트)로 옮겨 서로 다른 키가 계속 구분되도록 한다
+
+ALTER TABLE activity_outbox
+    ADD COLUMN idempotency_key_bin BINARY(16) NULL COMMENT '멱등키 (활동 해시 + 요청 해시)' AFTER idempotency_key;
+
+UPDATE activity_outbox SET idempotency_key_bin = UNHEX(MD5(idempotency_key));
+
+ALTER TABLE activity_outbox
+    DROP INDEX uk_outbox_idempotency,
+    DROP COLUMN idempotency_key;
+
+ALTER TABLE activity_outbox
+    RENAME COLUMN idempotency_key_bin TO idempotency_key;
+
+ALTER TABLE activity_outbox
+    MODIFY COLUMN idempotency_key BINARY(16) NOT NULL COMMENT '멱등키 (활동 해시 + 요청 해시)',
+    ADD UNIQUE KEY uk_outbox_idempotency (idempotency_key);
@@ -1,14 +1,17 @@
 package com.eventitta.common.config.async;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -16,11 +19,13 @@ class AsyncConfigTest {
 
     private AsyncConfig asyncConfig;
     private ThreadPoolTaskExecutor gamificationExecutor;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
         asyncConfig = new AsyncConfig();
-        gamificationExecutor = (ThreadPoolTaskExecutor) asyncConfig.gamificationExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        gamificationExecutor = (ThreadPoolTaskExecutor) asyncConfig.gamificationExecutor(meterRegistry);
     }
 
     @Test
@@ -206,4 +211,89 @@ class AsyncConfigTest {
         // 정리
         gamificationExecutor.shutdown();
     }
+
+    @Test
+    @DisplayName("가미피케이션 Executor가 포화되면 호출 스레드에서 실행하지 않고 잠시 뒤 다시 제출한다")
+    void gamificationExecutor_WhenSaturated_RetriesLaterOffCallerThread() throws InterruptedException {
+        // given - 최대 1 스레드 + 큐 1, 재제출 간격 50ms
+        ReflectionTestUtils.setField(asyncConfig, "gamificationCorePoolSize", 1);
+        ReflectionTestUtils.setField(asyncConfig, "gamificationMaxPoolSize", 1);
+        ReflectionTestUtils.setField(asyncConfig, "gamificationQueueCapacity", 1);
+        ReflectionTestUtils.setField(asyncConfig, "gamificationRetryDelayMs", 50L);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) asyncConfig.gamificationExecutor(registry);
+
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                blockingLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(blocking); // 실행 중
+        executor.execute(blocking); // 큐 대기
+
+        // when
+        AtomicReference<String> ranOn = new AtomicReference<>();
+        CountDownLatch ran = new CountDownLatch(1);
+        executor.execute(() -> {
+            ranOn.set(Thread.currentThread().getName());
+            ran.countDown();
+        });
+
+        // then - 제출 즉시 돌아오고, 포화 동안에는 실행되지 않는다
+        assertThat(ran.getCount()).isEqualTo(1);
+        assertThat(registry.counter("executor.rejected", "name", "gamification").count()).isEqualTo(1.0);
+        assertThat(registry.get("executor.queued").tag("name", "gamification").gauge().value()).isEqualTo(1.0);
+
+        // 자리가 나면 재제출되어 풀 스레드에서 실행된다
+        blockingLatch.countDown();
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ranOn.get()).startsWith("Gamification-");
+        assertThat(registry.counter("executor.dropped", "name", "gamification").count()).isZero();
+
+        // 정리
+        executor.shutdown();
+        executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("최대 재제출 횟수를 넘기면 작업을 버리고 버림 지표를 남긴다")
+    void gamificationExecutor_WhenRetriesExhausted_DropsTask() throws InterruptedException {
+        // given - 재제출 2회까지만 허용
+        ReflectionTestUtils.setField(asyncConfig, "gamificationCorePoolSize", 1);
+        ReflectionTestUtils.setField(asyncConfig, "gamificationMaxPoolSize", 1);
+        ReflectionTestUtils.setField(asyncConfig, "gamificationQueueCapacity", 1);
+        ReflectionTestUtils.setField(asyncConfig, "gamificationRetryDelayMs", 10L);
+        ReflectionTestUtils.setField(asyncConfig, "gamificationMaxRetryAttempts", 2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) asyncConfig.gamificationExecutor(registry);
+
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                blockingLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(blocking);
+        executor.execute(blocking);
+
+        // when
+        AtomicInteger executed = new AtomicInteger(0);
+        executor.execute(executed::incrementAndGet);
+        Thread.sleep(300);
+
+        // then - 첫 거부 + 재제출 2회 거부 후 버리고, 더 이상 재제출하지 않는다
+        assertThat(registry.counter("executor.rejected", "name", "gamification").count()).isEqualTo(3.0);
+        assertThat(registry.counter("executor.dropped", "name", "gamification").count()).isEqualTo(1.0);
+
+        // 정리
+        blockingLatch.countDown();
+        executor.shutdown();
+        executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS);
+        assertThat(executed.get()).isZero();
+    }
 }
@@ -5,6 +5,7 @@ import com.eventitta.notification.resolver.AlertLevelResolver;
 import com.eventitta.notification.service.DiscordNotificationService;
 import com.eventitta.common.response.PageResponse;
 import com.eventitta.festivals.dto.response.FestivalNearbyResponse;
+import com.eventitta.festivals.dto.response.FestivalNearbySliceResponse;
 import com.eventitta.festivals.dto.request.NearbyFestivalRequest;
 import com.eventitta.festivals.service.FestivalService;
 import com.eventitta.user.repository.UserRepository;
@@ -22,6 +23,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -89,6 +91,37 @@ class FestivalControllerTest {
             .andExpect(jsonPath("$.content[0].distance").value(2.5));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("근처 축제 스크롤 - 커서를 넘기면 다음 축제 목록과 다음 커서가 나타난다")
+    void givenCursor_whenScrollNearbyEvents_thenReturnsSliceWithNextCursor() throws Exception {
+        // given
+        FestivalNearbyResponse festival = FestivalNearbyResponse.builder()
+            .id(7L)
+            .title("서울 음악 축제")
+            .distance(3.25)
+            .build();
+        given(festivalService.getNearbyFestivalSlice(argThat(request ->
+            request.cursorDistance() == 2.5 && request.cursorId() == 3L)))
+            .willReturn(new FestivalNearbySliceResponse(List.of(festival), 1, true, 3.25, 7L));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/festivals/nearby/scroll")
+                .param("latitude", "37.5665")
+                .param("longitude", "126.9780")
+                .param("distanceKm", "5.0")
+                .param("size", "1")
+                .param("cursorDistance", "2.5")
+                .param("cursorId", "3"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").value(7))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursorDistance").value(3.25))
+            .andExpect(jsonPath("$.nextCursorId").value(7))
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
     @Test
     @WithMockUser
     @DisplayName("근처 축제 찾기 - 위치, 거리, 날짜, 페이지 정보를 모두 입력하면 조건에 맞는 축제 목록이 나타난다")
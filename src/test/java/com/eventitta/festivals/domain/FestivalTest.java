@@ -152,4 +152,41 @@ class FestivalTest {
         assertThat(originalFestival.getLongitude()).isEqualTo(new BigDecimal("126.9780"));
         assertThat(originalFestival.getContent()).isEqualTo("축제 상세 내용");
     }
+
+    @Test
+    @DisplayName("축제 비교 - 소수 자릿수만 다른 좌표는 같은 정보로 본다")
+    void givenSameInfoWithDifferentCoordinateScale_whenHasSameInfo_thenReturnsTrue() {
+        // given
+        Festival saved = nationalFestival("부산바다축제", new BigDecimal("35.1586000"), new BigDecimal("129.1604000"));
+        Festival received = nationalFestival("부산바다축제", new BigDecimal("35.1586"), new BigDecimal("129.1604"));
+
+        // when & then
+        assertThat(saved.hasSameInfo(received)).isTrue();
+    }
+
+    @Test
+    @DisplayName("축제 비교 - 새 좌표가 없으면 좌표는 비교하지 않고, 다른 값이 바뀌면 다른 정보로 본다")
+    void givenMissingCoordinatesAndChangedTitle_whenHasSameInfo_thenComparesOtherFields() {
+        // given
+        Festival saved = nationalFestival("부산바다축제", new BigDecimal("35.1586"), new BigDecimal("129.1604"));
+
+        // when & then
+        assertThat(saved.hasSameInfo(nationalFestival("부산바다축제", null, null))).isTrue();
+        assertThat(saved.hasSameInfo(nationalFestival("부산불꽃축제", null, null))).isFalse();
+    }
+
+    private Festival nationalFestival(String title, BigDecimal latitude, BigDecimal longitude) {
+        return Festival.createNationalFestival(
+                title,
+                "해운대해수욕장",
+                LocalDate.of(2025, 9, 1),
+                LocalDate.of(2025, 9, 3),
+                "축제 내용",
+                "부산시",
+                "https://example.com",
+                latitude,
+                longitude,
+                "national-ext-1"
+        );
+    }
 }
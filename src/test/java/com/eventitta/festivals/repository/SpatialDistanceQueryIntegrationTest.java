@@ -0,0 +1,176 @@
+package com.eventitta.festivals.repository;
+
+import com.eventitta.common.config.jpa.JpaAuditingConfig;
+import com.eventitta.common.config.jpa.QuerydslConfig;
+import com.eventitta.festivals.domain.Festival;
+import com.eventitta.festivals.dto.projection.FestivalProjection;
+import com.eventitta.festivals.util.BoundingBox;
+import com.eventitta.festivals.util.BoundingBoxCalculator;
+import com.eventitta.meeting.domain.Meeting;
+import com.eventitta.meeting.domain.MeetingStatus;
+import com.eventitta.meeting.dto.request.MeetingFilter;
+import com.eventitta.meeting.dto.response.MeetingSummaryResponse;
+import com.eventitta.meeting.repository.MeetingRepository;
+import com.eventitta.testsupport.MySqlContainerSupport;
+import com.eventitta.user.domain.Provider;
+import com.eventitta.user.domain.Role;
+import com.eventitta.user.domain.User;
+import com.eventitta.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * SRID 4326 POINT 생성 컬럼과 공간 함수(MBRContains, ST_MakeEnvelope, ST_Distance_Sphere)를 쓰는
+ * 축제/모임 거리 검색을 MySQL에서 검증
+ * SRID 4326의 축 순서는 (위도, 경도)라서 순서가 뒤바뀌면 위도 범위를 벗어나 오류가 나거나 거리가 달라진다
+ *
+ * <p>기준 좌표: 서울시청(37.5663, 126.9779) → 강남역(37.4979, 127.0276) 약 8.78km,
+ * 인천시청(37.4563, 126.7052) 약 26.98km (ST_Distance_Sphere 기본 반지름 6,370,986m 기준)</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, JpaAuditingConfig.class})
+@ActiveProfiles("test")
+@EntityScan(basePackages = "com.eventitta")
+class SpatialDistanceQueryIntegrationTest extends MySqlContainerSupport {
+
+    private static final double CITY_HALL_LAT = 37.5663;
+    private static final double CITY_HALL_LON = 126.9779;
+    private static final double GANGNAM_LAT = 37.4979;
+    private static final double GANGNAM_LON = 127.0276;
+    private static final double INCHEON_LAT = 37.4563;
+    private static final double INCHEON_LON = 126.7052;
+
+    private static final double CITY_HALL_TO_GANGNAM_KM = 8.778;
+    private static final double SEARCH_RADIUS_KM = 10.0;
+
+    @Autowired
+    FestivalRepository festivalRepository;
+    @Autowired
+    MeetingRepository meetingRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final BoundingBoxCalculator boundingBoxCalculator = new BoundingBoxCalculator();
+
+    @Test
+    @DisplayName("location 생성 컬럼은 (위도, 경도) 축 순서로 저장된다")
+    void generatedLocation_storesLatitudeFirst() {
+        Festival gangnam = festivalRepository.saveAndFlush(festival("gangnam", GANGNAM_LAT, GANGNAM_LON));
+
+        Map<String, Object> axes = jdbcTemplate.queryForMap(
+            "SELECT ST_SRID(location) AS srid, ST_Latitude(location) AS lat, ST_Longitude(location) AS lon " +
+                "FROM festivals WHERE id = ?", gangnam.getId());
+
+        assertThat(((Number) axes.get("srid")).intValue()).isEqualTo(4326);
+        assertThat(((Number) axes.get("lat")).doubleValue()).isCloseTo(GANGNAM_LAT, within(1e-6));
+        assertThat(((Number) axes.get("lon")).doubleValue()).isCloseTo(GANGNAM_LON, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("축제 반경 검색은 반경 안의 축제만 알려진 거리로 돌려준다")
+    void festivalsWithinDistance_returnsKnownDistance() {
+        Festival gangnam = festivalRepository.save(festival("gangnam", GANGNAM_LAT, GANGNAM_LON));
+        festivalRepository.saveAndFlush(festival("incheon", INCHEON_LAT, INCHEON_LON));
+        BoundingBox box = boundingBoxCalculator.calculate(CITY_HALL_LAT, CITY_HALL_LON, SEARCH_RADIUS_KM);
+        LocalDateTime from = LocalDate.now().atStartOfDay();
+
+        Page<FestivalProjection> page = festivalRepository.findFestivalsWithinDistanceAndDateBetween(
+            CITY_HALL_LAT, CITY_HALL_LON, SEARCH_RADIUS_KM,
+            box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude(),
+            from, null, PageRequest.of(0, 10));
+        List<FestivalProjection> scrolled = festivalRepository.findFestivalsWithinDistanceAfterCursor(
+            CITY_HALL_LAT, CITY_HALL_LON, SEARCH_RADIUS_KM,
+            box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude(),
+            from, null, null, null, 10);
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).extracting(FestivalProjection::getId).containsExactly(gangnam.getId());
+        assertThat(page.getContent().get(0).getDistance()).isCloseTo(CITY_HALL_TO_GANGNAM_KM, within(0.01));
+        assertThat(scrolled).extracting(FestivalProjection::getId).containsExactly(gangnam.getId());
+        assertThat(scrolled.get(0).getDistance()).isCloseTo(CITY_HALL_TO_GANGNAM_KM, within(0.01));
+    }
+
+    @Test
+    @DisplayName("모임 반경 검색은 반경 안의 모임만 알려진 거리로 돌려준다")
+    void meetingsWithinDistance_returnsKnownDistance() {
+        User leader = userRepository.save(User.builder()
+            .email("leader@test.com")
+            .password("pw")
+            .nickname("leader")
+            .role(Role.USER)
+            .provider(Provider.LOCAL)
+            .build());
+        Meeting gangnam = meetingRepository.save(meeting(leader, "gangnam", GANGNAM_LAT, GANGNAM_LON));
+        meetingRepository.saveAndFlush(meeting(leader, "incheon", INCHEON_LAT, INCHEON_LON));
+
+        MeetingFilter filter = new MeetingFilter(0, 10, null, null, null, null, null,
+            SEARCH_RADIUS_KM, CITY_HALL_LAT, CITY_HALL_LON);
+        Page<MeetingSummaryResponse> page = meetingRepository.findMeetingsByFilter(filter, PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).extracting(MeetingSummaryResponse::id).containsExactly(gangnam.getId());
+        assertThat(page.getContent().get(0).distance()).isCloseTo(CITY_HALL_TO_GANGNAM_KM, within(0.01));
+    }
+
+    @Test
+    @DisplayName("upsertAll은 기존 축제를 갱신하고, 새 좌표가 없으면 기존 좌표와 location을 유지한다")
+    void upsertAll_keepsCoordinatesWhenNewOnesAreMissing() {
+        festivalRepository.upsertAll(List.of(festival("gangnam", GANGNAM_LAT, GANGNAM_LON)));
+
+        Festival renamed = Festival.createNationalFestival("renamed", "venue", LocalDate.now().plusDays(1),
+            LocalDate.now().plusDays(2), null, null, null, null, null, "gangnam");
+        festivalRepository.upsertAll(List.of(renamed));
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT COUNT(*) OVER () AS total, title, latitude, longitude, ST_Latitude(location) AS lat " +
+                "FROM festivals WHERE external_id = ?", "gangnam");
+
+        assertThat(((Number) row.get("total")).intValue()).isEqualTo(1);
+        assertThat(row.get("title")).isEqualTo("renamed");
+        assertThat(((Number) row.get("latitude")).doubleValue()).isCloseTo(GANGNAM_LAT, within(1e-6));
+        assertThat(((Number) row.get("longitude")).doubleValue()).isCloseTo(GANGNAM_LON, within(1e-6));
+        assertThat(((Number) row.get("lat")).doubleValue()).isCloseTo(GANGNAM_LAT, within(1e-6));
+    }
+
+    private Festival festival(String externalId, double latitude, double longitude) {
+        return Festival.createNationalFestival(externalId, "venue", LocalDate.now().plusDays(1),
+            LocalDate.now().plusDays(2), null, null, null,
+            BigDecimal.valueOf(latitude), BigDecimal.valueOf(longitude), externalId);
+    }
+
+    private Meeting meeting(User leader, String title, double latitude, double longitude) {
+        return Meeting.builder()
+            .title(title)
+            .description("description")
+            .startTime(LocalDateTime.now().plusDays(1))
+            .endTime(LocalDateTime.now().plusDays(1).plusHours(2))
+            .maxMembers(10)
+            .address("address")
+            .latitude(latitude)
+            .longitude(longitude)
+            .status(MeetingStatus.RECRUITING)
+            .leader(leader)
+            .build();
+    }
+}
@@ -2,12 +2,15 @@ package com.eventitta.festivals.service;
 
 import com.eventitta.common.response.PageResponse;
 import com.eventitta.festivals.dto.response.FestivalNearbyResponse;
+import com.eventitta.festivals.dto.response.FestivalNearbySliceResponse;
 import com.eventitta.festivals.dto.projection.FestivalProjection;
 import com.eventitta.festivals.dto.request.NearbyFestivalRequest;
 import com.eventitta.festivals.exception.FestivalException;
 import com.eventitta.festivals.repository.FestivalRepository;
+import com.eventitta.festivals.service.processor.FestivalProcessor;
 import com.eventitta.festivals.util.BoundingBox;
 import com.eventitta.festivals.util.BoundingBoxCalculator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,13 +23,19 @@ import org.springframework.data.domain.PageRequest;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,9 +54,23 @@ class FestivalServiceTest {
     @Mock
     private BoundingBoxCalculator boundingBoxCalculator;
 
+    @Mock
+    private FestivalSpatialIndex festivalSpatialIndex;
+
+    @Mock
+    private NearbyFestivalCache nearbyFestivalCache;
+
     @InjectMocks
     private FestivalService festivalService;
 
+    @BeforeEach
+    void setUp() {
+        // 캐시는 요청을 그대로 넘겨 조회하도록 둔다 (스냅/적중은 NearbyFestivalCacheTest에서 검증)
+        lenient().when(nearbyFestivalCache.get(any(NearbyFestivalRequest.class), any()))
+            .thenAnswer(invocation -> invocation.<Function<NearbyFestivalRequest, PageResponse<FestivalNearbyResponse>>>getArgument(1)
+                .apply(invocation.getArgument(0)));
+    }
+
     @Test
     @DisplayName("전국 축제 데이터 가져오기 - 처음 시작할 때 전국 축제 정보를 불러온다")
     void givenNothing_whenLoadInitialNationalFestivalData_thenInitializerIsExecuted() {
@@ -59,6 +82,9 @@ class FestivalServiceTest {
 
         // then
         then(nationalFestivalInitializer).should(times(1)).loadInitialData();
+        then(festivalSpatialIndex).should(times(1)).rebuild();
+        // 캐시는 인덱스를 교체할 때 비워진다 (FestivalSpatialIndexTest에서 검증)
+        then(nearbyFestivalCache).should(never()).evictAll();
     }
 
     @Test
@@ -89,6 +115,118 @@ class FestivalServiceTest {
         then(seoulFestivalInitializer).should(times(1)).loadDataForDate(eq(today));
     }
 
+    @Test
+    @DisplayName("서울시 축제 데이터 업데이트 - 인덱스 갱신에 실패해도 동기화 결과는 그대로 반환한다")
+    void givenIndexRebuildFails_whenSyncDailySeoulFestivalData_thenReturnsProcessedCount() {
+        // given
+        var metrics = new FestivalProcessor.ProcessingMetrics();
+        metrics.record(FestivalProcessor.ProcessingResult.INSERTED);
+        given(seoulFestivalInitializer.loadDataForDate(any(LocalDate.class))).willReturn(metrics);
+        willThrow(new RuntimeException("db down")).given(festivalSpatialIndex).rebuild();
+
+        // when
+        int processed = festivalService.syncDailySeoulFestivalData();
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        then(festivalSpatialIndex).should(times(1)).rebuild();
+        then(nearbyFestivalCache).should(times(1)).evictAll();
+    }
+
+    @Test
+    @DisplayName("내 주변 축제 찾기 - 인메모리 인덱스가 준비되어 있으면 DB를 조회하지 않는다")
+    void givenSpatialIndexReady_whenGetNearbyFestival_thenSearchesIndex() {
+        // given
+        NearbyFestivalRequest request = new NearbyFestivalRequest(
+            37.5665, 126.9780, 5.0, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31), 0, 20
+        );
+        FestivalNearbyResponse festival = FestivalNearbyResponse.builder()
+            .id(1L)
+            .title("테스트 축제")
+            .distance(1.5)
+            .build();
+        given(festivalSpatialIndex.isReady()).willReturn(true);
+        given(festivalSpatialIndex.search(eq(37.5665), eq(126.9780), eq(5.0),
+            eq(request.getStartDateTime()), eq(request.getEndDateTime()), eq(PageRequest.of(0, 20))))
+            .willReturn(new PageImpl<>(List.of(festival), PageRequest.of(0, 20), 1L));
+
+        // when
+        PageResponse<FestivalNearbyResponse> result = festivalService.getNearbyFestival(request);
+
+        // then
+        assertThat(result.content()).extracting(FestivalNearbyResponse::getTitle).containsExactly("테스트 축제");
+        assertThat(result.totalElements()).isEqualTo(1);
+        then(boundingBoxCalculator).should(never()).calculate(anyDouble(), anyDouble(), anyDouble());
+        then(festivalRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("내 주변 축제 스크롤 - 한 건을 더 조회해 다음 페이지 여부와 커서를 계산하고 COUNT 쿼리는 실행하지 않는다")
+    void givenMoreRowsThanSize_whenGetNearbyFestivalSlice_thenReturnsNextCursor() {
+        // given
+        NearbyFestivalRequest request = new NearbyFestivalRequest(
+            37.5665, 126.9780, 5.0, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31), 0, 2, 1.0, 3L
+        );
+        BoundingBox mockBox = new BoundingBox(37.5215, 37.6115, 126.9155, 127.0405);
+        given(boundingBoxCalculator.calculate(37.5665, 126.9780, 5.0)).willReturn(mockBox);
+        given(festivalRepository.findFestivalsWithinDistanceAfterCursor(
+            eq(37.5665), eq(126.9780), eq(5.0),
+            eq(mockBox.minLatitude()), eq(mockBox.maxLatitude()),
+            eq(mockBox.minLongitude()), eq(mockBox.maxLongitude()),
+            eq(request.getStartDateTime()), eq(request.getEndDateTime()),
+            eq(1.0), eq(3L), eq(3)
+        )).willReturn(List.of(projection(4L, 1.5), projection(9L, 2.0), projection(5L, 2.5)));
+
+        // when
+        FestivalNearbySliceResponse result = festivalService.getNearbyFestivalSlice(request);
+
+        // then
+        assertThat(result.content()).extracting(FestivalNearbyResponse::getId).containsExactly(4L, 9L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursorDistance()).isEqualTo(2.0);
+        assertThat(result.nextCursorId()).isEqualTo(9L);
+        then(festivalRepository).should(never()).findFestivalsWithinDistanceAndDateBetween(
+            anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+            any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("내 주변 축제 스크롤 - 마지막 페이지면 다음 커서가 없다")
+    void givenLastPage_whenGetNearbyFestivalSlice_thenHasNoNext() {
+        // given
+        NearbyFestivalRequest request = new NearbyFestivalRequest(
+            37.5665, 126.9780, 5.0, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31), 0, 2
+        );
+        given(festivalSpatialIndex.isReady()).willReturn(true);
+        given(festivalSpatialIndex.searchAfter(eq(37.5665), eq(126.9780), eq(5.0),
+            eq(request.getStartDateTime()), eq(request.getEndDateTime()), isNull(), isNull(), eq(3)))
+            .willReturn(List.of(FestivalNearbyResponse.builder().id(1L).distance(0.5).build()));
+
+        // when
+        FestivalNearbySliceResponse result = festivalService.getNearbyFestivalSlice(request);
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursorDistance()).isNull();
+        assertThat(result.nextCursorId()).isNull();
+        then(festivalRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("내 주변 축제 스크롤 - 커서 값 중 하나만 있으면 예외 발생")
+    void givenPartialCursor_whenGetNearbyFestivalSlice_thenThrowsException() {
+        // given
+        NearbyFestivalRequest request = new NearbyFestivalRequest(
+            37.5665, 126.9780, 5.0, null, null, 0, 20, 1.0, null
+        );
+
+        // when & then
+        assertThatThrownBy(() -> festivalService.getNearbyFestivalSlice(request))
+            .isInstanceOf(FestivalException.class)
+            .hasMessageContaining("커서가 유효하지 않습니다");
+    }
+
     @Test
     @DisplayName("내 주변 축제 찾기 - 위치와 조건을 입력하면 조건에 맞는 축제 목록을 보여준다")
     void givenNearbyFestivalsRequest_whenGetNearbyFestival_thenReturnsFestivalPage() {
@@ -466,4 +604,53 @@ class FestivalServiceTest {
             .isInstanceOf(FestivalException.class)
             .hasMessageContaining("날짜 범위가 유효하지 않습니다");
     }
+
+    private FestivalProjection projection(Long id, double distance) {
+        return new FestivalProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return "축제" + id;
+            }
+
+            @Override
+            public String getPlace() {
+                return "장소";
+            }
+
+            @Override
+            public LocalDate getStartTime() {
+                return LocalDate.of(2025, 8, 15);
+            }
+
+            @Override
+            public LocalDate getEndTime() {
+                return LocalDate.of(2025, 8, 17);
+            }
+
+            @Override
+            public String getCategory() {
+                return "문화";
+            }
+
+            @Override
+            public Boolean getIsFree() {
+                return true;
+            }
+
+            @Override
+            public String getHomepageUrl() {
+                return null;
+            }
+
+            @Override
+            public Double getDistance() {
+                return distance;
+            }
+        };
+    }
 }
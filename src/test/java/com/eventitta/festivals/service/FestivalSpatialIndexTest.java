@@ -0,0 +1,254 @@
+package com.eventitta.festivals.service;
+
+import com.eventitta.festivals.dto.projection.FestivalIndexVersionProjection;
+import com.eventitta.festivals.dto.projection.FestivalLocationProjection;
+import com.eventitta.festivals.dto.response.FestivalNearbyResponse;
+import com.eventitta.festivals.repository.FestivalRepository;
+import com.eventitta.festivals.util.BoundingBoxCalculator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("주변 축제 인메모리 인덱스 테스트")
+class FestivalSpatialIndexTest {
+
+    private static final double CITY_HALL_LAT = 37.5665;
+    private static final double CITY_HALL_LON = 126.9780;
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 8, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 8, 31, 23, 59, 59);
+
+    @Mock
+    private FestivalRepository festivalRepository;
+
+    @Mock
+    private NearbyFestivalCache nearbyFestivalCache;
+
+    private FestivalSpatialIndex festivalSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        festivalSpatialIndex = new FestivalSpatialIndex(festivalRepository, new BoundingBoxCalculator(), nearbyFestivalCache);
+    }
+
+    @Test
+    @DisplayName("인덱스를 만들기 전에는 준비되지 않은 상태이며 검색할 수 없다")
+    void givenNotBuilt_whenSearch_thenThrowsException() {
+        // when & then
+        assertThat(festivalSpatialIndex.isReady()).isFalse();
+        assertThatThrownBy(() -> festivalSpatialIndex.search(
+            CITY_HALL_LAT, CITY_HALL_LON, 5.0, FROM, TO, PageRequest.of(0, 20)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("반경과 시작일 조건에 맞는 축제만 가까운 순으로 반환한다")
+    void givenFestivals_whenSearch_thenReturnsFestivalsWithinDistanceAndDateOrderedByDistance() {
+        // given
+        givenIndexedFestivals(List.of(
+            festival(1L, "강남 축제", 37.4979, 127.0276, LocalDate.of(2025, 8, 10)),
+            festival(2L, "광화문 축제", 37.5759, 126.9769, LocalDate.of(2025, 8, 15)),
+            festival(3L, "부산 축제", 35.1796, 129.0756, LocalDate.of(2025, 8, 15)),
+            festival(4L, "지난 축제", 37.5660, 126.9784, LocalDate.of(2025, 7, 31))
+        ));
+        festivalSpatialIndex.rebuild();
+
+        // when
+        Page<FestivalNearbyResponse> result = festivalSpatialIndex.search(
+            CITY_HALL_LAT, CITY_HALL_LON, 10.0, FROM, TO, PageRequest.of(0, 20));
+
+        // then
+        assertThat(result.getContent()).extracting(FestivalNearbyResponse::getId).containsExactly(2L, 1L);
+        assertThat(result.getContent().get(0).getDistance()).isBetween(1.0, 1.1);
+        assertThat(result.getContent().get(0).getStartTime()).isEqualTo(LocalDateTime.of(2025, 8, 15, 0, 0));
+        assertThat(result.getContent().get(0).getEndTime()).isEqualTo(LocalDateTime.of(2025, 8, 17, 23, 59, 59));
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("페이지 크기만큼 잘라 반환하고 전체 건수는 조건에 맞는 전체 축제 수로 계산한다")
+    void givenManyFestivals_whenSearchSecondPage_thenReturnsRemainingFestivals() {
+        // given
+        givenIndexedFestivals(List.of(
+            festival(1L, "축제1", 37.5670, 126.9780, LocalDate.of(2025, 8, 10)),
+            festival(2L, "축제2", 37.5680, 126.9780, LocalDate.of(2025, 8, 10)),
+            festival(3L, "축제3", 37.5690, 126.9780, LocalDate.of(2025, 8, 10))
+        ));
+        festivalSpatialIndex.rebuild();
+
+        // when
+        Page<FestivalNearbyResponse> result = festivalSpatialIndex.search(
+            CITY_HALL_LAT, CITY_HALL_LON, 5.0, FROM, TO, PageRequest.of(1, 2));
+
+        // then
+        assertThat(result.getContent()).extracting(FestivalNearbyResponse::getId).containsExactly(3L);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커서를 넘기면 (거리, ID) 순으로 커서 다음 축제부터 limit건 반환한다")
+    void givenCursor_whenSearchAfter_thenReturnsFestivalsAfterCursor() {
+        // given
+        givenIndexedFestivals(List.of(
+            festival(1L, "축제1", 37.5670, 126.9780, LocalDate.of(2025, 8, 10)),
+            festival(2L, "축제2", 37.5680, 126.9780, LocalDate.of(2025, 8, 10)),
+            festival(3L, "축제3", 37.5680, 126.9780, LocalDate.of(2025, 8, 10)),
+            festival(4L, "축제4", 37.5690, 126.9780, LocalDate.of(2025, 8, 10))
+        ));
+        festivalSpatialIndex.rebuild();
+        List<FestivalNearbyResponse> firstPage = festivalSpatialIndex.searchAfter(
+            CITY_HALL_LAT, CITY_HALL_LON, 5.0, FROM, TO, null, null, 2);
+        FestivalNearbyResponse last = firstPage.get(1);
+
+        // when
+        List<FestivalNearbyResponse> nextPage = festivalSpatialIndex.searchAfter(
+            CITY_HALL_LAT, CITY_HALL_LON, 5.0, FROM, TO, last.getDistance(), last.getId(), 2);
+
+        // then
+        assertThat(firstPage).extracting(FestivalNearbyResponse::getId).containsExactly(1L, 2L);
+        assertThat(nextPage).extracting(FestivalNearbyResponse::getId).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("데이터 버전이 같으면 인덱스를 다시 만들지 않는다")
+    void givenSameVersion_whenRefreshIfChanged_thenDoesNotRebuild() {
+        // given
+        givenIndexedFestivals(List.of(
+            festival(1L, "축제1", 37.5670, 126.9780, LocalDate.of(2025, 8, 10))
+        ));
+        festivalSpatialIndex.rebuild();
+
+        // when
+        festivalSpatialIndex.refreshIfChanged();
+
+        // then
+        then(festivalRepository).should(times(1)).findAllIndexable();
+        then(nearbyFestivalCache).should(times(1)).evictAll();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 동기화로 데이터 버전이 바뀌면 인덱스를 다시 만든다")
+    void givenChangedVersion_whenRefreshIfChanged_thenRebuilds() {
+        // given
+        givenIndexedFestivals(List.of(
+            festival(1L, "축제1", 37.5670, 126.9780, LocalDate.of(2025, 8, 10))
+        ));
+        festivalSpatialIndex.rebuild();
+        given(festivalRepository.findIndexVersion()).willReturn(version(2L, LocalDateTime.of(2025, 8, 2, 0, 0)));
+
+        // when
+        festivalSpatialIndex.refreshIfChanged();
+
+        // then
+        then(festivalRepository).should(times(2)).findAllIndexable();
+        then(nearbyFestivalCache).should(times(2)).evictAll();
+    }
+
+    @Test
+    @DisplayName("초기 인덱스 생성에 실패해도 예외를 던지지 않고 준비되지 않은 상태로 남는다")
+    void givenRepositoryFailure_whenInitialize_thenStaysNotReady() {
+        // given
+        given(festivalRepository.findIndexVersion()).willThrow(new RuntimeException("db down"));
+
+        // when
+        festivalSpatialIndex.initialize();
+
+        // then
+        assertThat(festivalSpatialIndex.isReady()).isFalse();
+        then(festivalRepository).should(never()).findAllIndexable();
+        then(nearbyFestivalCache).should(never()).evictAll();
+    }
+
+    private void givenIndexedFestivals(List<FestivalLocationProjection> festivals) {
+        given(festivalRepository.findIndexVersion())
+            .willReturn(version(festivals.size(), LocalDateTime.of(2025, 8, 1, 0, 0)));
+        given(festivalRepository.findAllIndexable()).willReturn(festivals);
+    }
+
+    private FestivalIndexVersionProjection version(long count, LocalDateTime lastUpdatedAt) {
+        return new FestivalIndexVersionProjection() {
+            @Override
+            public long getFestivalCount() {
+                return count;
+            }
+
+            @Override
+            public LocalDateTime getLastUpdatedAt() {
+                return lastUpdatedAt;
+            }
+        };
+    }
+
+    private FestivalLocationProjection festival(Long id, String title, double latitude, double longitude,
+                                                LocalDate startDate) {
+        return new FestivalLocationProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getPlace() {
+                return title + " 장소";
+            }
+
+            @Override
+            public LocalDate getStartDate() {
+                return startDate;
+            }
+
+            @Override
+            public LocalDate getEndDate() {
+                return startDate.plusDays(2);
+            }
+
+            @Override
+            public String getCategory() {
+                return "문화";
+            }
+
+            @Override
+            public Boolean getIsFree() {
+                return true;
+            }
+
+            @Override
+            public String getHomepageUrl() {
+                return null;
+            }
+
+            @Override
+            public BigDecimal getLatitude() {
+                return BigDecimal.valueOf(latitude);
+            }
+
+            @Override
+            public BigDecimal getLongitude() {
+                return BigDecimal.valueOf(longitude);
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.eventitta.festivals.service;
+
+import com.eventitta.common.response.PageResponse;
+import com.eventitta.festivals.dto.request.NearbyFestivalRequest;
+import com.eventitta.festivals.dto.response.FestivalNearbyResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.eventitta.common.config.cache.CacheConstants.NEARBY_FESTIVALS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("주변 축제 응답 캐시 테스트")
+class NearbyFestivalCacheTest {
+
+    private final NearbyFestivalCache nearbyFestivalCache =
+        new NearbyFestivalCache(new ConcurrentMapCacheManager(NEARBY_FESTIVALS));
+
+    private final List<NearbyFestivalRequest> loadedRequests = new ArrayList<>();
+
+    private final Function<NearbyFestivalRequest, PageResponse<FestivalNearbyResponse>> loader = request -> {
+        loadedRequests.add(request);
+        return new PageResponse<>(List.of(), request.page(), request.size(), 0, 0);
+    };
+
+    @Test
+    @DisplayName("같은 geohash 셀, 같은 반경 구간의 요청은 한 번만 조회하고 결과를 공유한다")
+    void givenRequestsInSameCell_whenGet_thenLoadsOnce() {
+        // given
+        NearbyFestivalRequest first = request(37.56650, 126.97800, 5.0);
+        NearbyFestivalRequest second = request(37.56660, 126.97810, 4.9);
+
+        // when
+        PageResponse<FestivalNearbyResponse> firstResult = nearbyFestivalCache.get(first, loader);
+        PageResponse<FestivalNearbyResponse> secondResult = nearbyFestivalCache.get(second, loader);
+
+        // then
+        assertThat(loadedRequests).hasSize(1);
+        assertThat(secondResult).isSameAs(firstResult);
+        assertThat(loadedRequests.get(0).distanceKm()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("다른 셀의 요청은 각각 조회한다")
+    void givenRequestsInDifferentCells_whenGet_thenLoadsEach() {
+        // when
+        nearbyFestivalCache.get(request(37.5665, 126.9780, 5.0), loader);
+        nearbyFestivalCache.get(request(37.4979, 127.0276, 5.0), loader);
+
+        // then
+        assertThat(loadedRequests).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("조회는 셀 중심 좌표로 맞춘 요청으로 실행된다")
+    void givenRequest_whenGet_thenLoadsWithCellCenter() {
+        // when
+        nearbyFestivalCache.get(request(37.5665, 126.9780, 5.0), loader);
+
+        // then
+        NearbyFestivalRequest loaded = loadedRequests.get(0);
+        assertThat(Math.abs(loaded.latitude() - 37.5665)).isLessThan(0.001);
+        assertThat(Math.abs(loaded.longitude() - 126.9780)).isLessThan(0.001);
+        assertThat(loaded.from()).isEqualTo(LocalDate.of(2025, 8, 1));
+        assertThat(loaded.to()).isEqualTo(LocalDate.of(2025, 8, 31));
+    }
+
+    @Test
+    @DisplayName("동기화 후 캐시를 비우면 다시 조회한다")
+    void givenCachedResult_whenEvictAll_thenLoadsAgain() {
+        // given
+        nearbyFestivalCache.get(request(37.5665, 126.9780, 5.0), loader);
+
+        // when
+        nearbyFestivalCache.evictAll();
+        nearbyFestivalCache.get(request(37.5665, 126.9780, 5.0), loader);
+
+        // then
+        assertThat(loadedRequests).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("반경이 작은 요청은 셀 중심으로 맞추지 않고 캐시 없이 원래 좌표로 조회한다")
+    void givenSmallRadius_whenGet_thenBypassesCache() {
+        // given
+        NearbyFestivalRequest request = request(37.56650, 126.97800, 0.3);
+
+        // when
+        nearbyFestivalCache.get(request, loader);
+        nearbyFestivalCache.get(request, loader);
+
+        // then
+        assertThat(loadedRequests).hasSize(2);
+        assertThat(loadedRequests.get(0)).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("반경은 0.5km 단위로 올림해 요청보다 좁게 조회하지 않는다")
+    void givenDistances_whenSnapDistanceKm_thenRoundsUpToBucket() {
+        assertThat(NearbyFestivalCache.snapDistanceKm(2.0)).isEqualTo(2.0);
+        assertThat(NearbyFestivalCache.snapDistanceKm(2.1)).isEqualTo(2.5);
+        assertThat(NearbyFestivalCache.snapDistanceKm(4.8)).isEqualTo(5.0);
+        assertThat(NearbyFestivalCache.snapDistanceKm(5.01)).isEqualTo(5.5);
+        assertThat(NearbyFestivalCache.snapDistanceKm(100)).isEqualTo(100.0);
+    }
+
+    private NearbyFestivalRequest request(double latitude, double longitude, double distanceKm) {
+        return new NearbyFestivalRequest(
+            latitude, longitude, distanceKm, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31), 0, 20
+        );
+    }
+}
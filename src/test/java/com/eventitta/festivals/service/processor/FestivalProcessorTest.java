@@ -0,0 +1,136 @@
+package com.eventitta.festivals.service.processor;
+
+import com.eventitta.festivals.domain.DataSource;
+import com.eventitta.festivals.domain.Festival;
+import com.eventitta.festivals.repository.FestivalRepository;
+import com.eventitta.festivals.service.processor.FestivalProcessor.ProcessingMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("축제 동기화 처리 테스트")
+class FestivalProcessorTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2025, 1, 1);
+
+    @Mock
+    private FestivalRepository festivalRepository;
+
+    @InjectMocks
+    private FestivalProcessor festivalProcessor;
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("기존 축제를 한 번에 조회해 신규/변경분만 배치로 쓰고, 바뀌지 않은 축제는 건너뛴다")
+    void givenMixedEvents_whenProcessEvents_thenUpsertsOnlyNewAndChanged() {
+        // given
+        Festival created = festival("new-1", "새 축제", LocalDate.of(2025, 9, 1));
+        Festival changed = festival("ext-1", "바뀐 제목", LocalDate.of(2025, 9, 1));
+        Festival unchanged = festival("ext-2", "그대로", LocalDate.of(2025, 9, 1));
+        Festival outdated = festival("old-1", "지난 축제", LocalDate.of(2024, 6, 1));
+        given(festivalRepository.findByDataSourceAndExternalIdIn(eq(DataSource.NATIONAL_FESTIVAL), anyCollection()))
+            .willReturn(List.of(
+                festival("ext-1", "원래 제목", LocalDate.of(2025, 9, 1)),
+                festival("ext-2", "그대로", LocalDate.of(2025, 9, 1))
+            ));
+
+        // when
+        ProcessingMetrics metrics = festivalProcessor.processEvents(
+            List.of(created, changed, unchanged, outdated).iterator(), CUTOFF);
+
+        // then
+        assertThat(metrics.getInsertCount()).isEqualTo(1);
+        assertThat(metrics.getUpdateCount()).isEqualTo(1);
+        assertThat(metrics.getSkipCount()).isEqualTo(1);
+        assertThat(metrics.getOutdatedCount()).isEqualTo(1);
+        assertThat(metrics.getTotalCount()).isEqualTo(4);
+
+        ArgumentCaptor<List<Festival>> upserted = ArgumentCaptor.forClass(List.class);
+        then(festivalRepository).should(times(1)).upsertAll(upserted.capture());
+        assertThat(upserted.getValue()).containsExactly(created, changed);
+    }
+
+    @Test
+    @DisplayName("청크 크기를 넘으면 청크마다 한 번씩 조회하고 쓴다")
+    void givenMoreThanChunkSize_whenProcessEvents_thenProcessesPerChunk() {
+        // given
+        List<Festival> events = new ArrayList<>();
+        IntStream.range(0, FestivalProcessor.UPSERT_CHUNK_SIZE + 1)
+            .forEach(i -> events.add(festival("ext-" + i, "축제" + i, LocalDate.of(2025, 9, 1))));
+        given(festivalRepository.findByDataSourceAndExternalIdIn(eq(DataSource.NATIONAL_FESTIVAL), anyCollection()))
+            .willReturn(List.of());
+
+        // when
+        ProcessingMetrics metrics = festivalProcessor.processEvents(events.iterator(), CUTOFF);
+
+        // then
+        assertThat(metrics.getInsertCount()).isEqualTo(FestivalProcessor.UPSERT_CHUNK_SIZE + 1);
+        then(festivalRepository).should(times(2))
+            .findByDataSourceAndExternalIdIn(eq(DataSource.NATIONAL_FESTIVAL), anyCollection());
+        then(festivalRepository).should(times(2)).upsertAll(anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("같은 청크에 같은 축제가 여러 번 오면 마지막 값만 쓴다")
+    void givenDuplicateInChunk_whenProcessEvents_thenWritesLastOnly() {
+        // given
+        Festival first = festival("ext-1", "처음 값", LocalDate.of(2025, 9, 1));
+        Festival last = festival("ext-1", "마지막 값", LocalDate.of(2025, 9, 1));
+        given(festivalRepository.findByDataSourceAndExternalIdIn(eq(DataSource.NATIONAL_FESTIVAL), anyCollection()))
+            .willReturn(List.of());
+
+        // when
+        ProcessingMetrics metrics = festivalProcessor.processEvents(List.of(first, last).iterator(), CUTOFF);
+
+        // then
+        assertThat(metrics.getInsertCount()).isEqualTo(1);
+        assertThat(metrics.getSkipCount()).isEqualTo(1);
+        ArgumentCaptor<List<Festival>> upserted = ArgumentCaptor.forClass(List.class);
+        then(festivalRepository).should().upsertAll(upserted.capture());
+        assertThat(upserted.getValue()).containsExactly(last);
+    }
+
+    @Test
+    @DisplayName("처리가 끝나면 초당 처리 건수를 계산한다")
+    void givenFinishedMetrics_whenGetRowsPerSecond_thenReturnsPositiveRate() {
+        // given
+        ProcessingMetrics metrics = new ProcessingMetrics();
+        metrics.record(FestivalProcessor.ProcessingResult.INSERTED);
+        metrics.record(FestivalProcessor.ProcessingResult.UPDATED);
+
+        // when
+        metrics.finish();
+
+        // then
+        assertThat(metrics.getTotalCount()).isEqualTo(2);
+        assertThat(metrics.getRowsPerSecond()).isPositive();
+        assertThat(metrics.getElapsedMillis()).isGreaterThanOrEqualTo(0);
+    }
+
+    private Festival festival(String externalId, String title, LocalDate endDate) {
+        return Festival.createNationalFestival(
+            title, "장소", endDate.minusDays(2), endDate, "내용", "주최", "https://example.com",
+            new BigDecimal("37.5665000"), new BigDecimal("126.9780000"), externalId
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.eventitta.festivals.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+@DisplayName("Geohash 인코딩 유틸리티 테스트")
+class GeoHashTest {
+
+    @Test
+    @DisplayName("좌표를 geohash 문자열로 인코딩")
+    void givenCoordinate_whenEncode_thenReturnsGeohash() {
+        // when & then
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(57.64911, 10.40744, 7)).isEqualTo("u4pruyd");
+    }
+
+    @Test
+    @DisplayName("셀 중심 좌표는 같은 셀에 속하고 원래 좌표와 셀 크기 이내로 가깝다")
+    void givenCoordinate_whenSnapToCellCenter_thenReturnsCenterOfSameCell() {
+        // given
+        double latitude = 37.5665;
+        double longitude = 126.9780;
+
+        // when
+        double[] center = GeoHash.snapToCellCenter(latitude, longitude, 7);
+
+        // then
+        assertThat(GeoHash.encode(center[0], center[1], 7)).isEqualTo(GeoHash.encode(latitude, longitude, 7));
+        assertThat(center[0]).isCloseTo(latitude, offset(0.001));
+        assertThat(center[1]).isCloseTo(longitude, offset(0.001));
+    }
+}
@@ -8,6 +8,7 @@ import com.eventitta.auth.domain.UserPrincipal;
 import com.eventitta.auth.jwt.service.UserInfoService;
 import com.eventitta.common.exception.GlobalExceptionHandler;
 import com.eventitta.gamification.domain.RankingType;
+import com.eventitta.gamification.dto.response.RankingNeighborhoodResponse;
 import com.eventitta.gamification.dto.response.RankingPageResponse;
 import com.eventitta.gamification.dto.response.UserRankResponse;
 import com.eventitta.gamification.exception.RankingException;
@@ -219,6 +220,74 @@ class RankingControllerTest {
         verify(rankingService, never()).getUserRank(any(), anyLong());
     }
 
+    @Test
+    @DisplayName("내 주변 순위 조회 - 성공")
+    void getRankingsAroundMe_Success() throws Exception {
+        // given
+        Long userId = 1L;
+        RankingNeighborhoodResponse response = new RankingNeighborhoodResponse(
+            userId,
+            5,
+            List.of(
+                new UserRankResponse(7L, "above", null, 1200, 4),
+                new UserRankResponse(userId, "testUser", null, 1000, 5),
+                new UserRankResponse(8L, "below", null, 900, 6)
+            ),
+            100L,
+            RankingType.POINTS
+        );
+
+        given(rankingService.getRankingsAround(RankingType.POINTS, userId, 1))
+            .willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/rankings/me/around")
+                .param("type", "POINTS")
+                .param("range", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(request -> {
+                    request.setUserPrincipal(() -> "1");
+                    return request;
+                }))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.myRank").value(5))
+            .andExpect(jsonPath("$.rankings", hasSize(3)))
+            .andExpect(jsonPath("$.rankings[1].userId").value(userId))
+            .andExpect(jsonPath("$.totalUsers").value(100));
+
+        verify(rankingService, times(1)).getRankingsAround(RankingType.POINTS, userId, 1);
+    }
+
+    @Test
+    @DisplayName("내 주변 순위 조회 - 범위 초과 시 400")
+    void getRankingsAroundMe_ValidationFailure() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/rankings/me/around")
+                .param("range", "51")
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(request -> {
+                    request.setUserPrincipal(() -> "1");
+                    return request;
+                }))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+
+        verify(rankingService, never()).getRankingsAround(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("내 주변 순위 조회 - 인증되지 않은 요청")
+    void getRankingsAroundMe_Unauthorized() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/rankings/me/around")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isUnauthorized());
+
+        verify(rankingService, never()).getRankingsAround(any(), anyLong(), anyInt());
+    }
+
     @Test
     @DisplayName("특정 유저 순위 조회 - 성공")
     void getUserRank_Success() throws Exception {
@@ -0,0 +1,118 @@
+package com.eventitta.gamification.event;
+
+import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.event.ActivityBatchRecordedEvent.ActivityDelta;
+import com.eventitta.gamification.service.BadgeService;
+import com.eventitta.gamification.service.RankingService;
+import com.eventitta.notification.service.DiscordNotificationService;
+import com.eventitta.user.domain.User;
+import com.eventitta.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ActivityPostProcessorTest {
+
+    @Mock
+    private BadgeService badgeService;
+
+    @Mock
+    private RankingService rankingService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DiscordNotificationService discordNotificationService;
+
+    private ActivityPostProcessor activityPostProcessor;
+
+    @BeforeEach
+    void setUp() {
+        activityPostProcessor = new ActivityPostProcessor(
+            badgeService, rankingService, userRepository, discordNotificationService, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("활동 기록 이벤트는 포인트 증감분과 활동 +1을 순위에 반영한다")
+    void handleActivityRecorded_appliesDelta() {
+        // given
+        ActivityRecordedEvent event = new ActivityRecordedEvent(1L, 100L, ActivityType.CREATE_POST, 10, 5L);
+
+        // when
+        activityPostProcessor.handleActivityRecorded(event);
+
+        // then
+        verify(rankingService, timeout(1000)).applyActivityDelta(1L, 10, 1);
+        verify(rankingService, never()).updatePointsRanking(anyLong(), anyInt());
+        verify(rankingService, never()).updateActivityCountRanking(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("활동 취소 이벤트는 포인트와 활동 수를 차감한다")
+    void handleActivityRevoked_appliesNegativeDelta() {
+        // given
+        ActivityRecordedEvent event = new ActivityRecordedEvent(1L, null, ActivityType.CREATE_POST, -10, 5L);
+
+        // when
+        activityPostProcessor.handleActivityRecorded(event);
+
+        // then
+        verify(rankingService, timeout(1000)).applyActivityDelta(1L, -10, -1);
+    }
+
+    @Test
+    @DisplayName("뱃지 체크는 이벤트의 활동 유형과 증감분만 넘겨 해당 규칙만 평가한다")
+    void handleActivityRecorded_checksBadgesForActivityType() {
+        // given
+        User user = User.builder().id(1L).email("test@test.com").nickname("testUser").build();
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(badgeService.checkAndAwardBadges(any(User.class), any(ActivityType.class), anyInt(), anyInt()))
+            .willReturn(List.of());
+        ActivityRecordedEvent event = new ActivityRecordedEvent(1L, 100L, ActivityType.CREATE_COMMENT, 5, 7L);
+
+        // when
+        activityPostProcessor.handleActivityRecorded(event);
+
+        // then
+        verify(badgeService, timeout(1000)).checkAndAwardBadges(user, ActivityType.CREATE_COMMENT, 5, 1);
+        verify(badgeService, never()).checkAndAwardBadges(any(User.class));
+    }
+
+    @Test
+    @DisplayName("배치 활동 이벤트는 랭킹을 유저당 한 번만 갱신하고 활동 유형별로 뱃지를 평가한다")
+    void handleActivityBatchRecorded_appliesOnceAndChecksBadgesPerType() {
+        // given
+        User user = User.builder().id(1L).email("test@test.com").nickname("testUser").build();
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(badgeService.checkAndAwardBadges(any(User.class), any(ActivityType.class), anyInt(), anyInt()))
+            .willReturn(List.of());
+        ActivityBatchRecordedEvent event = new ActivityBatchRecordedEvent(1L, Map.of(
+            ActivityType.CREATE_POST, new ActivityDelta(1, 10),
+            ActivityType.LIKE_POST, new ActivityDelta(-1, -1)));
+
+        // when
+        activityPostProcessor.handleActivityBatchRecorded(event);
+
+        // then
+        verify(rankingService, timeout(1000)).applyActivityDelta(1L, 9, 0);
+        verify(badgeService, timeout(1000)).checkAndAwardBadges(user, ActivityType.CREATE_POST, 10, 1);
+        verify(badgeService, timeout(1000)).checkAndAwardBadges(user, ActivityType.LIKE_POST, -1, -1);
+        verify(userRepository, timeout(1000).times(1)).findById(1L);
+    }
+}
@@ -0,0 +1,75 @@
+package com.eventitta.gamification.repository;
+
+import com.eventitta.common.config.jpa.QuerydslConfig;
+import com.eventitta.testsupport.MySqlContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아웃박스 선점/정리 쿼리가 MySQL에서 의도한 복합 인덱스를 타는지 실행 계획으로 검증
+ * 옵티마이저가 테이블이 작다고 풀스캔을 고르지 않도록 상태가 섞인 데이터를 채우고 통계를 갱신한다
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@EntityScan(basePackages = "com.eventitta")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ActivityOutboxQueryPlanIntegrationTest extends MySqlContainerSupport {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        // 1,000건 중 10%는 PENDING, 나머지는 처리 시각이 서로 다른 DONE
+        jdbcTemplate.update("INSERT INTO activity_outbox " +
+            "(idempotency_key, user_id, activity_type, operation_type, status, processed_at) " +
+            "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000) " +
+            "SELECT UNHEX(MD5(CONCAT('plan-', n))), n % 100, 'LIKE_POST', 'RECORD', " +
+            "IF(n % 10 = 0, 'PENDING', 'DONE'), IF(n % 10 = 0, NULL, NOW(6) - INTERVAL n MINUTE) FROM seq");
+        jdbcTemplate.execute("ANALYZE TABLE activity_outbox");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM activity_outbox");
+    }
+
+    @Test
+    @DisplayName("처리 대상 선점 쿼리는 (status, created_at) 인덱스를 사용한다")
+    void claimQuery_usesStatusCreatedIndex() {
+        String plan = explain("SELECT id FROM activity_outbox " +
+            "WHERE status = 'PENDING' AND retry_count < 5 " +
+            "ORDER BY created_at ASC, id ASC LIMIT 100");
+
+        assertThat(plan).contains("idx_outbox_status_created");
+    }
+
+    @Test
+    @DisplayName("정리 대상 조회 쿼리는 (status, processed_at) 인덱스를 사용한다")
+    void cleanupQuery_usesStatusProcessedIndex() {
+        String plan = explain("SELECT id FROM activity_outbox " +
+            "WHERE status = 'DONE' AND processed_at < NOW(6) - INTERVAL 7 DAY " +
+            "ORDER BY processed_at ASC LIMIT 1000");
+
+        assertThat(plan).contains("idx_outbox_status_processed");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN FORMAT=TREE " + sql, String.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.eventitta.gamification.repository;
+
+import com.eventitta.common.config.jpa.QuerydslConfig;
+import com.eventitta.gamification.domain.ActivityOutbox;
+import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.domain.OperationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.eventitta.gamification.domain.ActivityOutbox.OutboxStatus.DONE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@EntityScan(basePackages = "com.eventitta")
+class ActivityOutboxRepositoryIntegrationTest {
+
+    @Autowired
+    ActivityOutboxRepository repository;
+
+    @Test
+    @DisplayName("보관 기간이 지난 완료 레코드만 오래된 순으로 청크 크기만큼 조회해 삭제한다")
+    void findProcessedIdsBefore_thenDeleteProcessedByIds() {
+        LocalDateTime now = LocalDateTime.now();
+        ActivityOutbox oldest = saveDone("k1", now.minusDays(10));
+        ActivityOutbox older = saveDone("k2", now.minusDays(9));
+        ActivityOutbox old = saveDone("k3", now.minusDays(8));
+        ActivityOutbox recent = saveDone("k4", now.minusDays(1));
+        ActivityOutbox pending = repository.save(outbox("k5"));
+
+        List<Long> firstChunk = repository.findProcessedIdsBefore(now.minusDays(7), 2);
+        int deleted = repository.deleteProcessedByIds(firstChunk);
+        List<Long> secondChunk = repository.findProcessedIdsBefore(now.minusDays(7), 2);
+
+        assertThat(firstChunk).containsExactly(oldest.getId(), older.getId());
+        assertThat(deleted).isEqualTo(2);
+        assertThat(secondChunk).containsExactly(old.getId());
+        assertThat(repository.findAllById(List.of(recent.getId(), pending.getId()))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("멱등키 존재 여부는 바이트 값이 같은 키로 확인한다")
+    void existsByIdempotencyKey_matchesByValue() {
+        // BINARY(16) 컬럼과 같은 길이의 키
+        repository.saveAndFlush(outbox("replayed-key-001"));
+
+        assertThat(repository.existsByIdempotencyKey("replayed-key-001".getBytes(StandardCharsets.UTF_8))).isTrue();
+        assertThat(repository.existsByIdempotencyKey("replayed-key-002".getBytes(StandardCharsets.UTF_8))).isFalse();
+    }
+
+    private ActivityOutbox saveDone(String idempotencyKey, LocalDateTime processedAt) {
+        ActivityOutbox saved = repository.saveAndFlush(outbox(idempotencyKey));
+        repository.markProcessing(List.of(saved.getId()), processedAt);
+        repository.markDone(List.of(saved.getId()), processedAt);
+        ActivityOutbox reloaded = repository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(DONE);
+        return reloaded;
+    }
+
+    private ActivityOutbox outbox(String idempotencyKey) {
+        return ActivityOutbox.builder()
+            .idempotencyKey(idempotencyKey.getBytes(StandardCharsets.UTF_8))
+            .userId(1L)
+            .activityType(ActivityType.CREATE_POST)
+            .operationType(OperationType.RECORD)
+            .targetId(100L)
+            .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.eventitta.gamification.repository;
+
+import com.eventitta.common.config.jpa.QuerydslConfig;
+import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.domain.FailedActivityEvent;
+import com.eventitta.gamification.domain.FailedActivityEvent.EventStatus;
+import com.eventitta.gamification.domain.OperationType;
+import com.eventitta.gamification.dto.projection.FailedEventStatusCountProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@EntityScan(basePackages = "com.eventitta")
+class FailedActivityEventRepositoryIntegrationTest {
+
+    @Autowired
+    FailedActivityEventRepository repository;
+
+    @Test
+    @DisplayName("재시도 시각이 도래한 PENDING 이벤트만 오래된 순으로 페이지 크기만큼 조회한다")
+    void findRetryableIds_returnsDueEventsOnly() {
+        LocalDateTime now = LocalDateTime.now();
+        FailedActivityEvent oldest = save(event(), now.minusMinutes(10));
+        FailedActivityEvent older = save(event(), now.minusMinutes(5));
+        save(event(), now.minusMinutes(1));
+        save(event(), now.plusMinutes(4));
+
+        FailedActivityEvent exhausted = event();
+        for (int i = 0; i < 5; i++) {
+            exhausted.incrementRetryCount();
+        }
+        save(exhausted, now.minusMinutes(30));
+
+        FailedActivityEvent processed = event();
+        processed.markAsProcessed();
+        save(processed, now.minusMinutes(30));
+
+        List<Long> ids = repository.findRetryableIds(5, now, PageRequest.of(0, 2));
+
+        assertThat(ids).containsExactly(oldest.getId(), older.getId());
+    }
+
+    @Test
+    @DisplayName("상태별 건수를 한 번의 그룹 쿼리로 조회한다")
+    void countGroupByStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        save(event(), now);
+        save(event(), now);
+        FailedActivityEvent failed = event();
+        failed.markAsFailed("error");
+        save(failed, now);
+
+        Map<EventStatus, Long> counts = repository.countGroupByStatus().stream()
+            .collect(Collectors.toMap(FailedEventStatusCountProjection::getStatus,
+                FailedEventStatusCountProjection::getEventCount));
+
+        assertThat(counts).containsOnly(
+            Map.entry(EventStatus.PENDING, 2L),
+            Map.entry(EventStatus.FAILED, 1L));
+    }
+
+    private FailedActivityEvent save(FailedActivityEvent event, LocalDateTime nextRetryAt) {
+        event.scheduleNextRetry(nextRetryAt);
+        return repository.saveAndFlush(event);
+    }
+
+    private FailedActivityEvent event() {
+        return FailedActivityEvent.builder()
+            .userId(1L)
+            .activityType(ActivityType.CREATE_POST)
+            .operationType(OperationType.RECORD)
+            .targetId(100L)
+            .errorMessage("error")
+            .build();
+    }
+}
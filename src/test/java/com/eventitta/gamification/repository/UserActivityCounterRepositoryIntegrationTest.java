@@ -0,0 +1,74 @@
+package com.eventitta.gamification.repository;
+
+import com.eventitta.common.config.jpa.QuerydslConfig;
+import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.dto.projection.UserActivityCountProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@EntityScan(basePackages = "com.eventitta")
+class UserActivityCounterRepositoryIntegrationTest {
+
+    @Autowired
+    UserActivityCounterRepository repository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("유저별 활동 수를 유저 ID 순으로 이어서 합산하고, 활동 수가 0인 유저는 건너뛴다")
+    void sumActivityCountsGroupedByUserAfter_pagesByUserId() {
+        counter(1L, ActivityType.CREATE_POST, 2);
+        counter(1L, ActivityType.LIKE_POST, 3);
+        counter(2L, ActivityType.CREATE_POST, 0);
+        counter(3L, ActivityType.CREATE_COMMENT, 4);
+        counter(4L, ActivityType.CREATE_POST, 1);
+
+        List<UserActivityCountProjection> first =
+            repository.sumActivityCountsGroupedByUserAfter(0L, PageRequest.of(0, 2));
+        List<UserActivityCountProjection> second =
+            repository.sumActivityCountsGroupedByUserAfter(first.get(first.size() - 1).getUserId(), PageRequest.of(0, 2));
+
+        assertThat(first).extracting(UserActivityCountProjection::getUserId, UserActivityCountProjection::getActivityCount)
+            .containsExactly(tuple(1L, 5L), tuple(3L, 4L));
+        assertThat(second).extracting(UserActivityCountProjection::getUserId, UserActivityCountProjection::getActivityCount)
+            .containsExactly(tuple(4L, 1L));
+    }
+
+    @Test
+    @DisplayName("활동 수 상위 유저를 카운터 합계 내림차순으로 조회한다")
+    void findTopActivityCounts_ordersBySum() {
+        counter(1L, ActivityType.CREATE_POST, 2);
+        counter(2L, ActivityType.CREATE_POST, 1);
+        counter(2L, ActivityType.LIKE_POST, 6);
+        counter(3L, ActivityType.CREATE_COMMENT, 4);
+        counter(4L, ActivityType.CREATE_POST, 0);
+
+        List<UserActivityCountProjection> top = repository.findTopActivityCounts(PageRequest.of(0, 2));
+
+        assertThat(top).extracting(UserActivityCountProjection::getUserId, UserActivityCountProjection::getActivityCount)
+            .containsExactly(tuple(2L, 7L), tuple(3L, 4L));
+    }
+
+    private void counter(Long userId, ActivityType activityType, long activityCount) {
+        jdbcTemplate.update("INSERT INTO user_activity_counters " +
+                "(user_id, activity_type, activity_count, total_points, updated_at) VALUES (?, ?, ?, 0, ?)",
+            userId, activityType.name(), activityCount, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -1,26 +1,27 @@
 package com.eventitta.gamification.scheduler;
 
-import com.eventitta.gamification.domain.ActivityType;
-import com.eventitta.gamification.domain.FailedActivityEvent;
 import com.eventitta.gamification.domain.FailedActivityEvent.EventStatus;
-import com.eventitta.gamification.domain.OperationType;
+import com.eventitta.gamification.dto.projection.FailedEventStatusCountProjection;
 import com.eventitta.gamification.repository.FailedActivityEventRepository;
 import com.eventitta.gamification.service.FailedEventRecoveryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static com.eventitta.gamification.constants.GamificationRetryConstants.FAILED_EVENT_MAX_RETRY_COUNT;
 import static com.eventitta.gamification.constants.GamificationRetryConstants.FAILED_EVENT_RETRY_BATCH_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -33,20 +34,18 @@ class FailedActivityEventRetrySchedulerTest {
         @Mock
         private FailedEventRecoveryService failedEventRecoveryService;
 
-        @InjectMocks
-        private FailedActivityEventRetryScheduler scheduler;
+        private SimpleMeterRegistry meterRegistry;
 
-        private List<FailedActivityEvent> testEvents;
+        private FailedActivityEventRetryScheduler scheduler;
 
         @BeforeEach
         void setUp() {
-                testEvents = List.of(
-                                createFailedEventWithId(1L, 1L, ActivityType.CREATE_POST, 0),
-                                createFailedEventWithId(2L, 2L, ActivityType.CREATE_COMMENT, 1),
-                                createFailedEventWithId(3L, 3L, ActivityType.JOIN_MEETING, 2));
+                meterRegistry = new SimpleMeterRegistry();
+                scheduler = new FailedActivityEventRetryScheduler(
+                                failedActivityEventRepository, failedEventRecoveryService, meterRegistry);
 
-                // 통계 로깅 메서드를 위한 기본 stub
-                lenient().when(failedActivityEventRepository.countByStatus(any(EventStatus.class))).thenReturn(0L);
+                // 통계 갱신 메서드를 위한 기본 stub
+                lenient().when(failedActivityEventRepository.countGroupByStatus()).thenReturn(Collections.emptyList());
         }
 
         @Nested
@@ -54,70 +53,72 @@ class FailedActivityEventRetrySchedulerTest {
         class RetryFailedEvents {
 
         @Test
-        @DisplayName("펜딩 상태의 실패 이벤트가 있으면 복구를 시도한다")
-        void retryFailedEvents_WithPendingEvents_ShouldProcessEvents() {
+        @DisplayName("재시도 시각이 도래한 실패 이벤트가 있으면 복구를 시도한다")
+        void retryFailedEvents_WithRetryableEvents_ShouldProcessEvents() {
             // given
-            when(failedActivityEventRepository.findByStatusAndRetryCountLessThan(
-                    eq(EventStatus.PENDING), eq(FAILED_EVENT_MAX_RETRY_COUNT)))
-                    .thenReturn(testEvents);
+            givenRetryableIds(List.of(1L, 2L, 3L));
 
             // when
             scheduler.retryFailedEvents();
 
             // then
-            verify(failedActivityEventRepository).findByStatusAndRetryCountLessThan(
-                    EventStatus.PENDING, FAILED_EVENT_MAX_RETRY_COUNT);
-
-            // 배치 크기만큼만 처리되어야 함
-            int expectedCallCount = Math.min(testEvents.size(), FAILED_EVENT_RETRY_BATCH_SIZE);
-            verify(failedEventRecoveryService, times(expectedCallCount))
-                    .recoverFailedEventIndependently(anyLong());
+            verify(failedEventRecoveryService).recoverFailedEventIndependently(1L);
+            verify(failedEventRecoveryService).recoverFailedEventIndependently(2L);
+            verify(failedEventRecoveryService).recoverFailedEventIndependently(3L);
+            verify(failedEventRecoveryService, never()).recordRecoveryFailure(anyLong(), any());
         }
 
         @Test
-        @DisplayName("펜딩 상태의 실패 이벤트가 없으면 처리를 건너뛴다")
-        void retryFailedEvents_NoPendingEvents_ShouldSkip() {
+        @DisplayName("재시도 대상이 없으면 처리를 건너뛴다")
+        void retryFailedEvents_NoRetryableEvents_ShouldSkip() {
             // given
-            when(failedActivityEventRepository.findByStatusAndRetryCountLessThan(
-                    eq(EventStatus.PENDING), eq(FAILED_EVENT_MAX_RETRY_COUNT)))
-                    .thenReturn(Collections.emptyList());
+            givenRetryableIds(Collections.emptyList());
 
             // when
             scheduler.retryFailedEvents();
 
             // then
-            verify(failedActivityEventRepository).findByStatusAndRetryCountLessThan(
-                    EventStatus.PENDING, FAILED_EVENT_MAX_RETRY_COUNT);
             verify(failedEventRecoveryService, never()).recoverFailedEventIndependently(anyLong());
         }
 
-                @Test
-                @DisplayName("배치 크기보다 많은 이벤트가 있어도 배치 크기만큼만 처리한다")
-                void retryFailedEvents_MoreThanBatchSize_ShouldProcessBatchSizeOnly() {
-                        // given
-                        List<FailedActivityEvent> manyEvents = createManyFailedEventsWithId(
-                                        FAILED_EVENT_RETRY_BATCH_SIZE + 10);
-
-                        when(failedActivityEventRepository.findByStatusAndRetryCountLessThan(
-                                        eq(EventStatus.PENDING), eq(FAILED_EVENT_MAX_RETRY_COUNT)))
-                                        .thenReturn(manyEvents);
+        @Test
+        @DisplayName("최대 재시도 횟수, 현재 시각, 배치 크기를 DB 조회 조건으로 넘긴다")
+        void retryFailedEvents_ShouldLimitOnDatabaseSide() {
+            // given
+            givenRetryableIds(Collections.emptyList());
+            LocalDateTime before = LocalDateTime.now();
 
-                        // when
-                        scheduler.retryFailedEvents();
+            // when
+            scheduler.retryFailedEvents();
 
-                        // then
-                        verify(failedEventRecoveryService, times(FAILED_EVENT_RETRY_BATCH_SIZE))
-                                        .recoverFailedEventIndependently(anyLong());
-                }
+            // then
+            verify(failedActivityEventRepository).findRetryableIds(
+                    eq(FAILED_EVENT_MAX_RETRY_COUNT),
+                    argThat(now -> !now.isBefore(before) && !now.isAfter(LocalDateTime.now())),
+                    argThat(pageable -> pageable.getPageNumber() == 0
+                            && pageable.getPageSize() == FAILED_EVENT_RETRY_BATCH_SIZE));
+        }
 
         @Test
-        @DisplayName("이벤트 처리 중 예외가 발생해도 스케줄러는 계속 동작한다")
-        void retryFailedEvents_WithException_ShouldContinue() {
+        @DisplayName("조회된 배치만큼만 처리한다")
+        void retryFailedEvents_FullBatch_ShouldProcessBatchSize() {
             // given
-            when(failedActivityEventRepository.findByStatusAndRetryCountLessThan(
-                    eq(EventStatus.PENDING), eq(FAILED_EVENT_MAX_RETRY_COUNT)))
-                    .thenReturn(testEvents);
+            List<Long> batch = LongStream.rangeClosed(1, FAILED_EVENT_RETRY_BATCH_SIZE).boxed().toList();
+            givenRetryableIds(batch);
 
+            // when
+            scheduler.retryFailedEvents();
+
+            // then
+            verify(failedEventRecoveryService, times(FAILED_EVENT_RETRY_BATCH_SIZE))
+                    .recoverFailedEventIndependently(anyLong());
+        }
+
+        @Test
+        @DisplayName("이벤트 처리 중 예외가 발생하면 실패를 기록하고 나머지를 계속 처리한다")
+        void retryFailedEvents_WithException_ShouldRecordFailureAndContinue() {
+            // given
+            givenRetryableIds(List.of(1L, 2L, 3L));
             doThrow(new RuntimeException("Processing error"))
                     .when(failedEventRecoveryService)
                     .recoverFailedEventIndependently(1L);
@@ -126,46 +127,29 @@ class FailedActivityEventRetrySchedulerTest {
             scheduler.retryFailedEvents();
 
             // then
-            verify(failedActivityEventRepository).findByStatusAndRetryCountLessThan(
-                    EventStatus.PENDING, FAILED_EVENT_MAX_RETRY_COUNT);
-
-            verify(failedEventRecoveryService, atLeast(1))
-                    .recoverFailedEventIndependently(anyLong());
+            verify(failedEventRecoveryService).recordRecoveryFailure(1L, "Processing error");
+            verify(failedEventRecoveryService).recoverFailedEventIndependently(2L);
+            verify(failedEventRecoveryService).recoverFailedEventIndependently(3L);
         }
 
         @Test
-        @DisplayName("재시도 횟수가 최대치를 초과한 이벤트는 조회되지 않는다")
-        void retryFailedEvents_MaxRetryCountFilter() {
+        @DisplayName("실패 기록 중 예외가 발생해도 스케줄러는 계속 동작한다")
+        void retryFailedEvents_RecordFailureThrows_ShouldContinue() {
             // given
-            when(failedActivityEventRepository.findByStatusAndRetryCountLessThan(
-                    eq(EventStatus.PENDING), eq(FAILED_EVENT_MAX_RETRY_COUNT)))
-                    .thenReturn(Collections.emptyList());
+            givenRetryableIds(List.of(1L, 2L));
+            doThrow(new RuntimeException("Processing error"))
+                    .when(failedEventRecoveryService)
+                    .recoverFailedEventIndependently(1L);
+            doThrow(new RuntimeException("DB error"))
+                    .when(failedEventRecoveryService)
+                    .recordRecoveryFailure(eq(1L), any());
 
             // when
             scheduler.retryFailedEvents();
 
             // then
-            verify(failedActivityEventRepository).findByStatusAndRetryCountLessThan(
-                    EventStatus.PENDING, FAILED_EVENT_MAX_RETRY_COUNT);
-            verify(failedEventRecoveryService, never()).recoverFailedEventIndependently(anyLong());
+            verify(failedEventRecoveryService).recoverFailedEventIndependently(2L);
         }
-
-                @Test
-                @DisplayName("복구 서비스 호출 시 정확한 이벤트가 전달된다")
-                void retryFailedEvents_VerifyExactEventsProcessed() {
-                        // given
-                        FailedActivityEvent specificEvent = createFailedEventWithId(99L, 99L, ActivityType.CREATE_POST,
-                                        0);
-                        when(failedActivityEventRepository.findByStatusAndRetryCountLessThan(
-                                        eq(EventStatus.PENDING), eq(FAILED_EVENT_MAX_RETRY_COUNT)))
-                                        .thenReturn(List.of(specificEvent));
-
-                        // when
-                        scheduler.retryFailedEvents();
-
-                        // then
-                        verify(failedEventRecoveryService, times(1)).recoverFailedEventIndependently(99L);
-                }
         }
 
         @Nested
@@ -220,84 +204,69 @@ class FailedActivityEventRetrySchedulerTest {
         }
 
         @Nested
-        @DisplayName("logFailedEventStatistics - 통계 로깅")
-        class LogFailedEventStatistics {
+        @DisplayName("refreshFailedEventStatistics - 통계 게이지 갱신")
+        class RefreshFailedEventStatistics {
 
         @Test
-        @DisplayName("FAILED 또는 PROCESSING 이벤트가 있으면 통계가 조회된다")
-        void retryFailedEvents_WithFailedEvents_ShouldLogStatistics() {
+        @DisplayName("상태별 건수를 한 번의 그룹 쿼리로 조회해 게이지에 반영한다")
+        void retryFailedEvents_ShouldExportGroupedCountsAsGauges() {
             // given
-            when(failedActivityEventRepository.countByStatus(EventStatus.PENDING)).thenReturn(2L);
-            when(failedActivityEventRepository.countByStatus(EventStatus.PROCESSING)).thenReturn(1L);
-            when(failedActivityEventRepository.countByStatus(EventStatus.FAILED)).thenReturn(3L);
-            when(failedActivityEventRepository.findByStatusAndRetryCountLessThan(
-                    eq(EventStatus.PENDING), eq(FAILED_EVENT_MAX_RETRY_COUNT)))
-                    .thenReturn(Collections.emptyList());
+            when(failedActivityEventRepository.countGroupByStatus()).thenReturn(List.of(
+                    statusCount(EventStatus.PENDING, 2L),
+                    statusCount(EventStatus.PROCESSING, 1L),
+                    statusCount(EventStatus.FAILED, 3L)));
+            givenRetryableIds(Collections.emptyList());
 
             // when
             scheduler.retryFailedEvents();
 
-            // then - 통계 쿼리가 호출되었는지 확인
-            verify(failedActivityEventRepository).countByStatus(EventStatus.PENDING);
-            verify(failedActivityEventRepository).countByStatus(EventStatus.PROCESSING);
-            verify(failedActivityEventRepository).countByStatus(EventStatus.FAILED);
+            // then
+            verify(failedActivityEventRepository, times(1)).countGroupByStatus();
+            assertThat(gauge(EventStatus.PENDING)).isEqualTo(2.0);
+            assertThat(gauge(EventStatus.PROCESSING)).isEqualTo(1.0);
+            assertThat(gauge(EventStatus.FAILED)).isEqualTo(3.0);
+            assertThat(gauge(EventStatus.PROCESSED)).isZero();
         }
 
         @Test
-        @DisplayName("모든 상태가 0이면 통계 쿼리만 호출된다")
-        void retryFailedEvents_AllZero_ShouldStillQueryStatistics() {
+        @DisplayName("이전 실행에 있던 상태가 사라지면 게이지를 0으로 되돌린다")
+        void retryFailedEvents_MissingStatus_ShouldResetGaugeToZero() {
             // given
-            when(failedActivityEventRepository.countByStatus(any(EventStatus.class))).thenReturn(0L);
-            when(failedActivityEventRepository.findByStatusAndRetryCountLessThan(
-                    eq(EventStatus.PENDING), eq(FAILED_EVENT_MAX_RETRY_COUNT)))
+            when(failedActivityEventRepository.countGroupByStatus())
+                    .thenReturn(List.of(statusCount(EventStatus.FAILED, 3L)))
                     .thenReturn(Collections.emptyList());
+            givenRetryableIds(Collections.emptyList());
 
             // when
             scheduler.retryFailedEvents();
+            scheduler.retryFailedEvents();
 
             // then
-            verify(failedActivityEventRepository, times(3)).countByStatus(any(EventStatus.class));
+            assertThat(gauge(EventStatus.FAILED)).isZero();
         }
         }
 
-        private FailedActivityEvent createFailedEvent(Long id, Long userId, ActivityType activityType, int retryCount) {
-                FailedActivityEvent event = FailedActivityEvent.builder()
-                                .userId(userId)
-                                .activityType(activityType)
-                                .operationType(OperationType.RECORD)
-                                .targetId(100L + id)
-                                .errorMessage("Test error " + id)
-                                .build();
-
-                // 테스트용으로 retryCount 설정
-                for (int i = 0; i < retryCount; i++) {
-                        event.incrementRetryCount();
-                }
-
-                return event;
-        }
-
-        private List<FailedActivityEvent> createManyFailedEvents(int count) {
-                return java.util.stream.IntStream.range(0, count)
-                                .mapToObj(i -> createFailedEvent((long) i, (long) i, ActivityType.CREATE_POST, 0))
-                                .collect(java.util.stream.Collectors.toList());
+        private void givenRetryableIds(List<Long> ids) {
+                when(failedActivityEventRepository.findRetryableIds(
+                                anyInt(), any(LocalDateTime.class), any(Pageable.class)))
+                                .thenReturn(ids);
         }
 
-        private FailedActivityEvent createFailedEventWithId(Long id, Long userId, ActivityType activityType,
-                        int retryCount) {
-                FailedActivityEvent event = mock(FailedActivityEvent.class);
-                lenient().when(event.getId()).thenReturn(id);
-                lenient().when(event.getUserId()).thenReturn(userId);
-                lenient().when(event.getActivityType()).thenReturn(activityType);
-                lenient().when(event.getOperationType()).thenReturn(OperationType.RECORD);
-                lenient().when(event.getTargetId()).thenReturn(100L + id);
-                lenient().when(event.getRetryCount()).thenReturn(retryCount);
-                return event;
+        private double gauge(EventStatus status) {
+                return meterRegistry.get("gamification.failed_events").tag("status", status.name()).gauge().value();
         }
 
-        private List<FailedActivityEvent> createManyFailedEventsWithId(int count) {
-                return java.util.stream.IntStream.range(0, count)
-                                .mapToObj(i -> createFailedEventWithId((long) i, (long) i, ActivityType.CREATE_POST, 0))
-                                .collect(java.util.stream.Collectors.toList());
+        private FailedEventStatusCountProjection statusCount(EventStatus status, long count) {
+                return new FailedEventStatusCountProjection() {
+                        @Override
+                        public EventStatus getStatus() {
+                                return status;
+                        }
+
+                        @Override
+                        public long getEventCount() {
+                                return count;
+                        }
+                };
         }
 }
@@ -4,21 +4,29 @@ import com.eventitta.gamification.domain.ActivityOutbox;
 import com.eventitta.gamification.domain.ActivityOutbox.OutboxStatus;
 import com.eventitta.gamification.domain.ActivityType;
 import com.eventitta.gamification.domain.OperationType;
+import com.eventitta.gamification.event.ActivityOutboxWrittenEvent;
 import com.eventitta.gamification.repository.ActivityOutboxRepository;
 import com.eventitta.gamification.service.OutboxRelayService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.ObjectProvider;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.LongStream;
 
+import static com.eventitta.gamification.constants.GamificationRetryConstants.OUTBOX_CLEANUP_CHUNK_SIZE;
+import static com.eventitta.gamification.constants.GamificationRetryConstants.OUTBOX_RELAY_BATCH_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -32,61 +40,209 @@ class OutboxRelaySchedulerTest {
     @Mock
     private OutboxRelayService outboxRelayService;
 
-    @InjectMocks
+    @Mock
+    private ObjectProvider<OutboxWakeupBroadcaster> wakeupBroadcaster;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private OutboxRelayScheduler scheduler;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new OutboxRelayScheduler(outboxRepository, outboxRelayService,
+                Runnable::run, Runnable::run, wakeupBroadcaster, meterRegistry);
+    }
+
     @Nested
     @DisplayName("relay - 아웃박스 릴레이")
     class Relay {
 
         @Test
-        @DisplayName("PENDING 이벤트가 있으면 처리를 시도한다")
-        void relay_WithPendingEvents_ShouldProcess() {
+        @DisplayName("선점한 이벤트가 있으면 처리를 시도한다")
+        void relay_WithClaimedEvents_ShouldProcess() {
             // given
             List<ActivityOutbox> events = List.of(
                     createMockOutbox(1L),
                     createMockOutbox(2L));
-            when(outboxRepository.findPendingEvents(eq(OutboxStatus.PENDING), anyInt(), any(Pageable.class)))
-                    .thenReturn(events);
+            when(outboxRelayService.claimBatch(OUTBOX_RELAY_BATCH_SIZE)).thenReturn(events);
 
             // when
             scheduler.relay();
 
             // then
-            verify(outboxRelayService, times(2)).processIndependently(anyLong());
+            verify(outboxRelayService, times(2)).processClaimed(any(ActivityOutbox.class));
+            verify(outboxRelayService, times(1)).claimBatch(anyInt()); // 배치가 가득 차지 않으면 추가 선점하지 않음
+            assertThat(meterRegistry.counter("outbox.relay.events", "result", "success").count()).isEqualTo(2);
         }
 
         @Test
-        @DisplayName("PENDING 이벤트가 없으면 처리를 건너뛴다")
+        @DisplayName("선점한 이벤트가 없으면 처리를 건너뛴다")
         void relay_NoPendingEvents_ShouldSkip() {
             // given
-            when(outboxRepository.findPendingEvents(eq(OutboxStatus.PENDING), anyInt(), any(Pageable.class)))
-                .thenReturn(Collections.emptyList());
+            when(outboxRelayService.claimBatch(anyInt())).thenReturn(Collections.emptyList());
 
             // when
             scheduler.relay();
 
             // then
-            verify(outboxRelayService, never()).processIndependently(anyLong());
+            verify(outboxRelayService, never()).processClaimed(any());
         }
 
         @Test
-        @DisplayName("개별 이벤트 처리 실패해도 나머지는 계속 처리한다")
+        @DisplayName("개별 이벤트 처리 실패해도 실패를 기록하고 나머지는 계속 처리한다")
         void relay_WithFailure_ShouldContinue() {
             // given
+            ActivityOutbox failing = createMockOutbox(1L);
             List<ActivityOutbox> events = List.of(
-                    createMockOutbox(1L),
+                    failing,
                     createMockOutbox(2L),
                     createMockOutbox(3L));
-            when(outboxRepository.findPendingEvents(eq(OutboxStatus.PENDING), anyInt(), any(Pageable.class)))
-                    .thenReturn(events);
-            doThrow(new RuntimeException("오류")).when(outboxRelayService).processIndependently(1L);
+            when(outboxRelayService.claimBatch(anyInt())).thenReturn(events);
+            RuntimeException error = new RuntimeException("오류");
+            doThrow(error).when(outboxRelayService).processClaimed(failing);
+
+            // when
+            scheduler.relay();
+
+            // then
+            verify(outboxRelayService, times(3)).processClaimed(any(ActivityOutbox.class));
+            verify(outboxRelayService).recordFailure(failing, error);
+            assertThat(meterRegistry.counter("outbox.relay.events", "result", "failure").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("배치가 가득 차 있으면 적체가 빌 때까지 연속으로 선점한다")
+        void relay_FullBatch_ShouldDrainUntilEmpty() {
+            // given
+            List<ActivityOutbox> fullBatch = new ArrayList<>();
+            for (long id = 1; id <= OUTBOX_RELAY_BATCH_SIZE; id++) {
+                fullBatch.add(createMockOutbox(id));
+            }
+            when(outboxRelayService.claimBatch(anyInt()))
+                    .thenReturn(fullBatch)
+                    .thenReturn(List.of(createMockOutbox(1000L)));
+
+            // when
+            scheduler.relay();
+
+            // then
+            verify(outboxRelayService, times(2)).claimBatch(anyInt());
+            verify(outboxRelayService, times(OUTBOX_RELAY_BATCH_SIZE + 1)).processClaimed(any(ActivityOutbox.class));
+        }
+
+        @Test
+        @DisplayName("같은 유저의 이벤트는 생성 순서대로 합쳐서 한 번에 처리한다")
+        void relay_SameUser_ShouldProcessCoalesced() {
+            // given
+            ActivityOutbox like = createMockOutbox(1L);
+            ActivityOutbox unlike = createMockOutbox(2L);
+            lenient().when(unlike.getUserId()).thenReturn(101L);
+            when(outboxRelayService.claimBatch(anyInt())).thenReturn(List.of(like, unlike));
+
+            // when
+            scheduler.relay();
+
+            // then
+            verify(outboxRelayService).processCoalesced(101L, List.of(like, unlike));
+            verify(outboxRelayService, never()).processClaimed(any());
+            assertThat(meterRegistry.counter("outbox.relay.coalesced.events").count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("병합 처리가 실패하면 생성 순서대로 개별 처리한다")
+        void relay_CoalescingFailure_ShouldFallBackToPerEvent() {
+            // given
+            ActivityOutbox like = createMockOutbox(1L);
+            ActivityOutbox unlike = createMockOutbox(2L);
+            lenient().when(unlike.getUserId()).thenReturn(101L);
+            when(outboxRelayService.claimBatch(anyInt())).thenReturn(List.of(like, unlike));
+            doThrow(new RuntimeException("중복 키")).when(outboxRelayService).processCoalesced(anyLong(), anyList());
 
             // when
             scheduler.relay();
 
             // then
-            verify(outboxRelayService, times(3)).processIndependently(anyLong());
+            InOrder inOrder = inOrder(outboxRelayService);
+            inOrder.verify(outboxRelayService).processCoalesced(101L, List.of(like, unlike));
+            inOrder.verify(outboxRelayService).processClaimed(like);
+            inOrder.verify(outboxRelayService).processClaimed(unlike);
+            assertThat(meterRegistry.counter("outbox.relay.events", "result", "success").count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("개별 처리 중 한 건이 실패하면 같은 유저의 후속 이벤트는 반영하지 않고 PENDING으로 되돌린다")
+        void relay_PerEventFailure_ShouldReleaseLaterEventsOfSameUser() {
+            // given
+            ActivityOutbox like = createMockOutbox(1L);
+            ActivityOutbox unlike = createMockOutbox(2L);
+            ActivityOutbox likeAgain = createMockOutbox(3L);
+            lenient().when(unlike.getUserId()).thenReturn(101L);
+            lenient().when(likeAgain.getUserId()).thenReturn(101L);
+            when(outboxRelayService.claimBatch(anyInt())).thenReturn(List.of(like, unlike, likeAgain));
+            doThrow(new RuntimeException("중복 키")).when(outboxRelayService).processCoalesced(anyLong(), anyList());
+            RuntimeException error = new RuntimeException("오류");
+            doThrow(error).when(outboxRelayService).processClaimed(like);
+
+            // when
+            scheduler.relay();
+
+            // then
+            InOrder inOrder = inOrder(outboxRelayService);
+            inOrder.verify(outboxRelayService).processClaimed(like);
+            inOrder.verify(outboxRelayService).recordFailure(like, error);
+            inOrder.verify(outboxRelayService).releaseClaimed(List.of(unlike, likeAgain));
+            verify(outboxRelayService, never()).processClaimed(unlike);
+            verify(outboxRelayService, never()).processClaimed(likeAgain);
+            assertThat(meterRegistry.counter("outbox.relay.events", "result", "success").count()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("wakeUp / poll - 즉시 실행과 안전망 폴링")
+    class WakeupAndPoll {
+
+        @Test
+        @DisplayName("아웃박스 기록이 커밋되면 즉시 릴레이하고 다른 노드에 신호를 보낸다")
+        void onOutboxWritten_ShouldRelayImmediatelyAndBroadcast() {
+            // given
+            ActivityOutbox outbox = createMockOutbox(1L);
+            when(outboxRelayService.claimBatch(anyInt())).thenReturn(List.of(outbox));
+
+            // when
+            scheduler.onOutboxWritten(new ActivityOutboxWrittenEvent(101L));
+
+            // then
+            verify(outboxRelayService).processClaimed(outbox);
+            verify(wakeupBroadcaster).ifAvailable(any());
+        }
+
+        @Test
+        @DisplayName("테이블이 비어 있으면 백오프 간격이 지나기 전까지 폴링하지 않는다")
+        void poll_EmptyTable_ShouldBackOff() {
+            // given
+            when(outboxRelayService.claimBatch(anyInt())).thenReturn(Collections.emptyList());
+
+            // when
+            scheduler.poll();
+            scheduler.poll();
+
+            // then
+            verify(outboxRelayService, times(1)).claimBatch(anyInt());
+        }
+
+        @Test
+        @DisplayName("폴링 백오프 중이어도 깨우기 신호가 오면 즉시 릴레이한다")
+        void wakeUp_DuringBackoff_ShouldRelay() {
+            // given
+            when(outboxRelayService.claimBatch(anyInt())).thenReturn(Collections.emptyList());
+            scheduler.poll();
+
+            // when
+            scheduler.wakeUp();
+
+            // then
+            verify(outboxRelayService, times(2)).claimBatch(anyInt());
         }
     }
 
@@ -116,13 +272,48 @@ class OutboxRelaySchedulerTest {
         @DisplayName("처리 완료된 레코드를 정리한다")
         void cleanupProcessedRecords_ShouldDelete() {
             // given
-            when(outboxRepository.deleteProcessedBefore(any(LocalDateTime.class))).thenReturn(5);
+            when(outboxRepository.findProcessedIdsBefore(any(LocalDateTime.class), eq(OUTBOX_CLEANUP_CHUNK_SIZE)))
+                    .thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+            when(outboxRepository.deleteProcessedByIds(List.of(1L, 2L, 3L, 4L, 5L))).thenReturn(5);
+
+            // when
+            scheduler.cleanupProcessedRecords();
+
+            // then
+            verify(outboxRepository, times(1)).findProcessedIdsBefore(any(LocalDateTime.class), anyInt());
+            verify(outboxRepository).deleteProcessedByIds(List.of(1L, 2L, 3L, 4L, 5L));
+            assertThat(meterRegistry.counter("outbox.cleanup.deleted").count()).isEqualTo(5.0);
+        }
+
+        @Test
+        @DisplayName("청크가 가득 차면 다음 청크를 이어서 삭제하고, 대상이 없으면 멈춘다")
+        void cleanupProcessedRecords_ShouldDeleteInChunks() {
+            // given
+            List<Long> fullChunk = LongStream.rangeClosed(1, OUTBOX_CLEANUP_CHUNK_SIZE).boxed().toList();
+            when(outboxRepository.findProcessedIdsBefore(any(LocalDateTime.class), eq(OUTBOX_CLEANUP_CHUNK_SIZE)))
+                    .thenReturn(fullChunk)
+                    .thenReturn(List.of());
+            when(outboxRepository.deleteProcessedByIds(fullChunk)).thenReturn(OUTBOX_CLEANUP_CHUNK_SIZE);
+
+            // when
+            scheduler.cleanupProcessedRecords();
+
+            // then
+            verify(outboxRepository, times(2)).findProcessedIdsBefore(any(LocalDateTime.class), anyInt());
+            verify(outboxRepository, times(1)).deleteProcessedByIds(anyList());
+        }
+
+        @Test
+        @DisplayName("정리 대상이 없으면 삭제하지 않는다")
+        void cleanupProcessedRecords_WhenNothingToDelete_ShouldSkip() {
+            // given
+            when(outboxRepository.findProcessedIdsBefore(any(LocalDateTime.class), anyInt())).thenReturn(List.of());
 
             // when
             scheduler.cleanupProcessedRecords();
 
             // then
-            verify(outboxRepository).deleteProcessedBefore(any(LocalDateTime.class));
+            verify(outboxRepository, never()).deleteProcessedByIds(anyList());
         }
     }
 
@@ -133,7 +324,8 @@ class OutboxRelaySchedulerTest {
         lenient().when(outbox.getActivityType()).thenReturn(ActivityType.CREATE_POST);
         lenient().when(outbox.getOperationType()).thenReturn(OperationType.RECORD);
         lenient().when(outbox.getTargetId()).thenReturn(200L + id);
-        lenient().when(outbox.getStatus()).thenReturn(OutboxStatus.PENDING);
+        lenient().when(outbox.getStatus()).thenReturn(OutboxStatus.PROCESSING);
+        lenient().when(outbox.getCreatedAt()).thenReturn(LocalDateTime.now().minusSeconds(1));
         return outbox;
     }
 }
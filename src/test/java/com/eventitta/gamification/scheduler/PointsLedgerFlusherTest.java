@@ -0,0 +1,146 @@
+package com.eventitta.gamification.scheduler;
+
+import com.eventitta.gamification.repository.ActivityOutboxRepository;
+import com.eventitta.gamification.service.PointsLedger;
+import com.eventitta.gamification.service.PointsLedgerFlushService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.eventitta.gamification.constants.PointsLedgerConstants.POINTS_LEDGER_FLUSH_CHUNK_SIZE;
+import static com.eventitta.gamification.constants.PointsLedgerConstants.POINTS_LEDGER_ORPHAN_RECOVERY_BATCH_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PointsLedgerFlusher 테스트")
+class PointsLedgerFlusherTest {
+
+    @Mock
+    private ObjectProvider<PointsLedger> pointsLedgerProvider;
+
+    @Mock
+    private PointsLedgerFlushService flushService;
+
+    @Mock
+    private ActivityOutboxRepository outboxRepository;
+
+    private PointsLedger ledger;
+    private PointsLedgerFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ledger = new PointsLedger(meterRegistry);
+        flusher = new PointsLedgerFlusher(pointsLedgerProvider, flushService, outboxRepository, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("flush - 원장 플러시")
+    class Flush {
+
+        @Test
+        @DisplayName("write-behind 모드가 아니면 아무 작업도 하지 않는다")
+        void flush_NoLedger_ShouldDoNothing() {
+            // given
+            when(pointsLedgerProvider.getIfAvailable()).thenReturn(null);
+
+            // when
+            flusher.flush();
+
+            // then
+            verifyNoInteractions(flushService);
+        }
+
+        @Test
+        @DisplayName("원장에 모인 아웃박스 ID를 한 번에 플러시하고 원장을 비운다")
+        void flush_ShouldFlushAllPendingOutboxes() {
+            // given
+            when(pointsLedgerProvider.getIfAvailable()).thenReturn(ledger);
+            ledger.add(1L, 10, List.of(1L, 2L));
+            ledger.add(2L, 5, List.of(3L));
+
+            // when
+            flusher.flush();
+
+            // then
+            verify(flushService).flush(argThat(ids -> ids.size() == 3 && ids.containsAll(List.of(1L, 2L, 3L))));
+            assertThat(ledger.pendingOutboxCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("청크 크기를 넘으면 여러 트랜잭션으로 나눠 플러시한다")
+        void flush_OverChunkSize_ShouldSplit() {
+            // given
+            when(pointsLedgerProvider.getIfAvailable()).thenReturn(ledger);
+            for (long userId = 0; userId <= POINTS_LEDGER_FLUSH_CHUNK_SIZE; userId++) {
+                ledger.add(userId, 1, List.of(userId));
+            }
+
+            // when
+            flusher.flush();
+
+            // then
+            verify(flushService, times(2)).flush(anyList());
+        }
+
+        @Test
+        @DisplayName("플러시에 실패하면 원장에 되돌려 다음 주기에 다시 시도한다")
+        void flush_Failure_ShouldRestoreToLedger() {
+            // given
+            when(pointsLedgerProvider.getIfAvailable()).thenReturn(ledger);
+            ledger.add(1L, 10, List.of(1L, 2L));
+            when(flushService.flush(anyList())).thenThrow(new RuntimeException("Lock wait timeout"));
+
+            // when
+            flusher.flush();
+
+            // then
+            assertThat(ledger.pendingOutboxCount()).isEqualTo(2);
+            assertThat(ledger.drain().get(1L).getPointsDelta()).isEqualTo(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("recoverOrphans - 고아 APPLIED 레코드 복구")
+    class RecoverOrphans {
+
+        @Test
+        @DisplayName("오래 남은 APPLIED 레코드를 플러시 경로로 반영한다")
+        void recoverOrphans_ShouldFlushOrphans() {
+            // given
+            when(outboxRepository.findOrphanedAppliedIds(any(LocalDateTime.class), eq(POINTS_LEDGER_ORPHAN_RECOVERY_BATCH_SIZE)))
+                    .thenReturn(List.of(1L, 2L));
+            when(flushService.flush(List.of(1L, 2L))).thenReturn(2);
+
+            // when
+            flusher.recoverOrphans();
+
+            // then
+            verify(flushService).flush(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("고아 레코드가 없으면 플러시하지 않는다")
+        void recoverOrphans_NoOrphans_ShouldSkip() {
+            // given
+            when(outboxRepository.findOrphanedAppliedIds(any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+
+            // when
+            flusher.recoverOrphans();
+
+            // then
+            verifyNoInteractions(flushService);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.eventitta.gamification.scheduler;
+
+import com.eventitta.gamification.repository.UserActivityCounterRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserActivityCounterBackfillJob 테스트")
+class UserActivityCounterBackfillJobTest {
+
+    @Mock
+    private UserActivityCounterRepository userActivityCounterRepository;
+
+    @InjectMocks
+    private UserActivityCounterBackfillJob backfillJob;
+
+    @Test
+    @DisplayName("최대 유저 ID까지 구간 단위로 재집계하고, 한 구간이 실패해도 다음 구간을 진행한다")
+    void backfill_RebuildsEachUserRange() {
+        // given
+        when(userActivityCounterRepository.findMaxUserId()).thenReturn(1_200L);
+        when(userActivityCounterRepository.rebuildForUserRange(500L, 1_000L))
+            .thenThrow(new RuntimeException("lock wait timeout"));
+
+        // when
+        backfillJob.backfill();
+
+        // then
+        verify(userActivityCounterRepository).rebuildForUserRange(0L, 500L);
+        verify(userActivityCounterRepository).rebuildForUserRange(500L, 1_000L);
+        verify(userActivityCounterRepository).rebuildForUserRange(1_000L, 1_200L);
+        verify(userActivityCounterRepository, times(3)).rebuildForUserRange(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("활동이 없으면 재집계하지 않는다")
+    void backfill_NoActivities_ShouldSkip() {
+        // given
+        when(userActivityCounterRepository.findMaxUserId()).thenReturn(0L);
+
+        // when
+        backfillJob.backfill();
+
+        // then
+        verify(userActivityCounterRepository, never()).rebuildForUserRange(anyLong(), anyLong());
+    }
+}
@@ -4,6 +4,7 @@ import com.eventitta.gamification.domain.ActivityOutbox;
 import com.eventitta.gamification.domain.ActivityOutbox.OutboxStatus;
 import com.eventitta.gamification.domain.ActivityType;
 import com.eventitta.gamification.domain.OperationType;
+import com.eventitta.gamification.event.ActivityOutboxWrittenEvent;
 import com.eventitta.gamification.repository.ActivityOutboxRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +13,19 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ActivityOutboxWriter 테스트")
@@ -23,6 +34,9 @@ class ActivityOutboxWriterTest {
     @Mock
     private ActivityOutboxRepository activityOutboxRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ActivityOutboxWriter activityOutboxWriter;
 
@@ -43,7 +57,8 @@ class ActivityOutboxWriterTest {
         assertThat(saved.getTargetId()).isEqualTo(100L);
         assertThat(saved.getStatus()).isEqualTo(OutboxStatus.PENDING);
         assertThat(saved.getRetryCount()).isZero();
-        assertThat(saved.getIdempotencyKey()).isNotBlank();
+        assertThat(saved.getIdempotencyKey()).hasSize(OutboxIdempotencyKeys.KEY_BYTES);
+        verify(eventPublisher).publishEvent(new ActivityOutboxWrittenEvent(1L));
     }
 
     @Test
@@ -65,18 +80,106 @@ class ActivityOutboxWriterTest {
     }
 
     @Test
-    @DisplayName("멱등키가 고유하게 생성된다")
-    void write_ShouldGenerateUniqueIdempotencyKeys() {
+    @DisplayName("HTTP 요청 밖에서는 같은 활동도 매번 고유한 멱등키가 생성된다")
+    void write_OutsideRequest_ShouldGenerateUniqueIdempotencyKeys() {
         // when
         activityOutboxWriter.write(ActivityType.CREATE_POST, 1L, 100L, OperationType.RECORD);
         activityOutboxWriter.write(ActivityType.CREATE_POST, 1L, 100L, OperationType.RECORD);
 
         // then
-        ArgumentCaptor<ActivityOutbox> captor = ArgumentCaptor.forClass(ActivityOutbox.class);
-        verify(activityOutboxRepository, org.mockito.Mockito.times(2)).save(captor.capture());
+        List<byte[]> keys = savedKeys(2);
+        assertThat(keys.get(0)).isNotEqualTo(keys.get(1));
+    }
+
+    @Test
+    @DisplayName("멱등키는 16바이트이며, 같은 활동은 앞 8바이트 활동 해시를 공유한다")
+    void write_SameActivity_ShouldShareHashPrefix() {
+        // when
+        activityOutboxWriter.write(ActivityType.LIKE_POST, 1L, 100L, OperationType.RECORD);
+        activityOutboxWriter.write(ActivityType.LIKE_POST, 1L, 100L, OperationType.RECORD);
+        activityOutboxWriter.write(ActivityType.LIKE_POST, 1L, 101L, OperationType.RECORD);
+
+        // then
+        List<byte[]> keys = savedKeys(3);
+        assertThat(keys.get(0)).hasSize(16);
+        assertThat(Arrays.copyOf(keys.get(0), 8)).isEqualTo(Arrays.copyOf(keys.get(1), 8));
+        assertThat(Arrays.copyOf(keys.get(0), 8)).isNotEqualTo(Arrays.copyOf(keys.get(2), 8));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재시도된 요청은 같은 멱등키를 만든다")
+    void write_RetriedRequest_ShouldReuseIdempotencyKey() {
+        // when - 첫 요청과 재시도 요청이 같은 헤더로 같은 활동을 기록
+        inRequest("retry-me", () -> activityOutboxWriter.write(ActivityType.LIKE_POST, 1L, 100L, OperationType.RECORD));
+        inRequest("retry-me", () -> activityOutboxWriter.write(ActivityType.LIKE_POST, 1L, 100L, OperationType.RECORD));
+
+        // then
+        List<byte[]> keys = savedKeys(2);
+        assertThat(keys.get(0)).isEqualTo(keys.get(1));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재시도된 요청이 이미 기록됐으면 INSERT 없이 성공으로 넘어간다")
+    void write_ReplayedRequestAlreadyRecorded_ShouldSkipInsert() {
+        // given - 첫 요청의 키는 없고, 재시도 요청의 키는 이미 저장돼 있다
+        when(activityOutboxRepository.existsByIdempotencyKey(any(byte[].class)))
+                .thenReturn(false)
+                .thenReturn(true);
+
+        // when
+        inRequest("retry-me", () -> activityOutboxWriter.write(ActivityType.LIKE_POST, 1L, 100L, OperationType.RECORD));
+        inRequest("retry-me", () -> activityOutboxWriter.write(ActivityType.LIKE_POST, 1L, 100L, OperationType.RECORD));
+
+        // then
+        ArgumentCaptor<byte[]> checkedKeys = ArgumentCaptor.forClass(byte[].class);
+        verify(activityOutboxRepository, times(2)).existsByIdempotencyKey(checkedKeys.capture());
+        assertThat(checkedKeys.getAllValues().get(0)).isEqualTo(checkedKeys.getAllValues().get(1));
+        verify(activityOutboxRepository, times(1)).save(any(ActivityOutbox.class));
+        verify(eventPublisher, times(1)).publishEvent(any(ActivityOutboxWrittenEvent.class));
+    }
+
+    @Test
+    @DisplayName("좋아요 → 취소 → 좋아요는 요청이 달라 세 건 모두 다른 멱등키를 갖는다")
+    void write_LikeUnlikeLikeAcrossRequests_ShouldGenerateDistinctKeys() {
+        // when
+        inRequest("req-1", () -> activityOutboxWriter.write(ActivityType.LIKE_POST, 1L, 100L, OperationType.RECORD));
+        inRequest("req-2", () -> activityOutboxWriter.write(ActivityType.LIKE_POST, 1L, 100L, OperationType.REVOKE));
+        inRequest("req-3", () -> activityOutboxWriter.write(ActivityType.LIKE_POST, 1L, 100L, OperationType.RECORD));
+
+        // then
+        List<byte[]> keys = savedKeys(3);
+        assertThat(keys.get(0)).isNotEqualTo(keys.get(2));
+        assertThat(keys.get(0)).isNotEqualTo(keys.get(1));
+    }
 
-        String key1 = captor.getAllValues().get(0).getIdempotencyKey();
-        String key2 = captor.getAllValues().get(1).getIdempotencyKey();
-        assertThat(key1).isNotEqualTo(key2);
+    @Test
+    @DisplayName("한 요청에서 같은 활동을 두 번 기록하면 요청 내 순번으로 구분된다")
+    void write_TwiceInOneRequest_ShouldGenerateDistinctKeys() {
+        // when
+        inRequest("req-1", () -> {
+            activityOutboxWriter.write(ActivityType.LIKE_POST, 1L, 100L, OperationType.RECORD);
+            activityOutboxWriter.write(ActivityType.LIKE_POST, 1L, 100L, OperationType.RECORD);
+        });
+
+        // then
+        List<byte[]> keys = savedKeys(2);
+        assertThat(keys.get(0)).isNotEqualTo(keys.get(1));
+    }
+
+    private void inRequest(String idempotencyKey, Runnable action) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(OutboxIdempotencyKeys.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            action.run();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private List<byte[]> savedKeys(int count) {
+        ArgumentCaptor<ActivityOutbox> captor = ArgumentCaptor.forClass(ActivityOutbox.class);
+        verify(activityOutboxRepository, times(count)).save(captor.capture());
+        return captor.getAllValues().stream().map(ActivityOutbox::getIdempotencyKey).toList();
     }
 }
@@ -5,19 +5,22 @@ import com.eventitta.gamification.domain.Badge;
 import com.eventitta.gamification.domain.BadgeRule;
 import com.eventitta.gamification.domain.EvaluationType;
 import com.eventitta.gamification.domain.UserBadge;
-import com.eventitta.gamification.evaluator.BadgeRuleEvaluator;
+import com.eventitta.gamification.dto.projection.ActivitySummaryProjection;
+import com.eventitta.gamification.evaluator.ActivityCountRuleEvaluator;
+import com.eventitta.gamification.evaluator.ActivityPointsRuleEvaluator;
 import com.eventitta.gamification.repository.BadgeRuleRepository;
-import com.eventitta.gamification.repository.UserActivityRepository;
+import com.eventitta.gamification.repository.UserActivityCounterRepository;
 import com.eventitta.gamification.repository.UserBadgeRepository;
 import com.eventitta.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -25,7 +28,6 @@ import static com.eventitta.gamification.domain.ActivityType.CREATE_COMMENT;
 import static com.eventitta.gamification.domain.ActivityType.CREATE_POST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -39,50 +41,33 @@ class BadgeServiceTest {
     private UserBadgeRepository userBadgeRepository;
 
     @Mock
-    private UserActivityRepository userActivityRepository;
+    private UserActivityCounterRepository userActivityCounterRepository;
 
-    @Mock
-    private List<BadgeRuleEvaluator> evaluators;
+    private BadgeService badgeService;
 
-    @Mock
-    private BadgeRuleEvaluator mockEvaluator;
+    private final User user = User.builder().id(1L).email("test@test.com").nickname("testUser").build();
 
-    @InjectMocks
-    private BadgeService badgeService;
+    @BeforeEach
+    void setUp() {
+        badgeService = new BadgeService(
+            badgeRuleRepository,
+            userBadgeRepository,
+            new UserActivityCounterCache(userActivityCounterRepository),
+            List.of(new ActivityCountRuleEvaluator(), new ActivityPointsRuleEvaluator())
+        );
+    }
 
     @Test
     @DisplayName("활동 횟수가 임계치에 도달하면 배지가 발급된다")
     void givenThresholdMet_whenCheckAndAward_thenBadgeIssued() {
         // given
-        User user = User.builder()
-            .id(1L)
-            .email("test@test.com")
-            .nickname("testUser")
-            .build();
-
-        ActivityType activityType = CREATE_POST;
-
-        Badge badge = Badge.builder()
-            .id(1L)
-            .name("첫 게시글")
-            .description("첫 번째 게시글 작성")
-            .build();
-
-        BadgeRule rule = BadgeRule.builder()
-            .id(1L)
-            .badge(badge)
-            .activityType(activityType)
-            .evaluationType(EvaluationType.COUNT)
-            .threshold(1)
-            .enabled(true)
-            .build();
+        Badge badge = badge(1L, "첫 게시글");
+        BadgeRule rule = rule(1L, badge, CREATE_POST, EvaluationType.COUNT, 1);
 
         given(badgeRuleRepository.findAllEnabledWithBadge()).willReturn(List.of(rule));
-        given(userActivityRepository.countActivitiesByUser(user.getId())).willReturn(Collections.emptyList());
-        given(userBadgeRepository.findBadgeIdsByUserId(user.getId())).willReturn(Collections.emptySet());
-        given(evaluators.iterator()).willReturn(List.of(mockEvaluator).iterator());
-        given(mockEvaluator.supports(rule)).willReturn(true);
-        given(mockEvaluator.isSatisfied(any(User.class), any(BadgeRule.class), anyMap(), anyMap())).willReturn(true);
+        given(userActivityCounterRepository.findSummariesByUserId(user.getId()))
+            .willReturn(List.of(activitySummary(CREATE_POST, 1, 10)));
+        given(userBadgeRepository.findBadgeIdsByUserId(user.getId())).willReturn(new HashSet<>());
 
         // when
         List<String> result = badgeService.checkAndAwardBadges(user);
@@ -96,28 +81,13 @@ class BadgeServiceTest {
     @DisplayName("이미 발급된 배지는 중복 발급되지 않는다")
     void givenAlreadyAwardedBadge_whenCheckAndAward_thenNoDuplicateIssue() {
         // given
-        User user = User.builder().id(1L).email("test@test.com").nickname("testUser").build();
-
-        ActivityType activityType = CREATE_POST;
-
-        Badge badge = Badge.builder()
-            .id(1L)
-            .name("첫 게시글")
-            .description("첫 번째 게시글 작성")
-            .build();
-
-        BadgeRule rule = BadgeRule.builder()
-            .id(1L)
-            .badge(badge)
-            .activityType(activityType)
-            .evaluationType(EvaluationType.COUNT)
-            .threshold(1)
-            .enabled(true)
-            .build();
+        Badge badge = badge(1L, "첫 게시글");
+        BadgeRule rule = rule(1L, badge, CREATE_POST, EvaluationType.COUNT, 1);
 
         given(badgeRuleRepository.findAllEnabledWithBadge()).willReturn(List.of(rule));
-        given(userActivityRepository.countActivitiesByUser(user.getId())).willReturn(Collections.emptyList());
-        given(userBadgeRepository.findBadgeIdsByUserId(user.getId())).willReturn(Set.of(1L)); // 이미 획득한 뱃지
+        given(userActivityCounterRepository.findSummariesByUserId(user.getId()))
+            .willReturn(List.of(activitySummary(CREATE_POST, 1, 10)));
+        given(userBadgeRepository.findBadgeIdsByUserId(user.getId())).willReturn(new HashSet<>(Set.of(1L))); // 이미 획득한 뱃지
 
         // when
         List<String> result = badgeService.checkAndAwardBadges(user);
@@ -131,12 +101,10 @@ class BadgeServiceTest {
     @DisplayName("비활성화된 규칙은 평가되지 않는다")
     void givenDisabledRule_whenCheckAndAward_thenRuleIgnored() {
         // given
-        User user = User.builder().id(1L).email("test@test.com").nickname("testUser").build();
-
         // findAllEnabledWithBadge()는 enabled=true인 규칙만 반환하므로 빈 리스트 반환
         given(badgeRuleRepository.findAllEnabledWithBadge()).willReturn(Collections.emptyList());
-        given(userActivityRepository.countActivitiesByUser(user.getId())).willReturn(Collections.emptyList());
-        given(userBadgeRepository.findBadgeIdsByUserId(user.getId())).willReturn(Collections.emptySet());
+        given(userActivityCounterRepository.findSummariesByUserId(user.getId()))
+            .willReturn(List.of(activitySummary(CREATE_POST, 5, 50)));
 
         // when
         List<String> result = badgeService.checkAndAwardBadges(user);
@@ -150,35 +118,19 @@ class BadgeServiceTest {
     @DisplayName("평가 조건을 만족하지 않으면 배지가 발급되지 않는다")
     void givenThresholdNotMet_whenCheckAndAward_thenNoBadgeIssued() {
         // given
-        User user = User.builder().id(1L).email("test@test.com").nickname("testUser").build();
-
-        Badge badge = Badge.builder()
-            .id(1L)
-            .name("고급 배지")
-            .description("고급 활동 배지")
-            .build();
-
-        BadgeRule rule = BadgeRule.builder()
-            .id(1L)
-            .badge(badge)
-            .activityType(CREATE_POST)
-            .evaluationType(EvaluationType.COUNT)
-            .threshold(10)
-            .enabled(true)
-            .build();
+        Badge badge = badge(1L, "고급 배지");
+        BadgeRule rule = rule(1L, badge, CREATE_POST, EvaluationType.COUNT, 10);
 
         given(badgeRuleRepository.findAllEnabledWithBadge()).willReturn(List.of(rule));
-        given(userActivityRepository.countActivitiesByUser(user.getId())).willReturn(Collections.emptyList());
-        given(userBadgeRepository.findBadgeIdsByUserId(user.getId())).willReturn(Collections.emptySet());
-        given(evaluators.iterator()).willReturn(List.of(mockEvaluator).iterator());
-        given(mockEvaluator.supports(rule)).willReturn(true);
-        given(mockEvaluator.isSatisfied(any(User.class), any(BadgeRule.class), anyMap(), anyMap())).willReturn(false);
+        given(userActivityCounterRepository.findSummariesByUserId(user.getId()))
+            .willReturn(List.of(activitySummary(CREATE_POST, 3, 30)));
 
         // when
         List<String> result = badgeService.checkAndAwardBadges(user);
 
         // then
         assertThat(result).isEmpty();
+        verify(userBadgeRepository, never()).findBadgeIdsByUserId(any());
         verify(userBadgeRepository, never()).save(any());
     }
 
@@ -186,21 +138,13 @@ class BadgeServiceTest {
     @DisplayName("여러 배지 규칙 중 조건을 만족하는 배지만 발급된다")
     void givenMultipleRules_whenCheckAndAward_thenOnlyQualifiedBadgesIssued() {
         // given
-        User user = User.builder().id(1L).email("test@test.com").nickname("testUser").build();
-
-        Badge badge1 = Badge.builder().id(1L).name("첫 게시글").description("첫 번째 게시글 작성").build();
-        Badge badge2 = Badge.builder().id(2L).name("첫 댓글").description("첫 번째 댓글 작성").build();
-
-        BadgeRule rule1 = BadgeRule.builder().id(1L).badge(badge1).activityType(CREATE_POST).evaluationType(EvaluationType.COUNT).threshold(1).enabled(true).build();
-        BadgeRule rule2 = BadgeRule.builder().id(2L).badge(badge2).activityType(CREATE_COMMENT).evaluationType(EvaluationType.COUNT).threshold(1).enabled(true).build();
+        BadgeRule rule1 = rule(1L, badge(1L, "첫 게시글"), CREATE_POST, EvaluationType.COUNT, 1);
+        BadgeRule rule2 = rule(2L, badge(2L, "첫 댓글"), CREATE_COMMENT, EvaluationType.COUNT, 1);
 
         given(badgeRuleRepository.findAllEnabledWithBadge()).willReturn(List.of(rule1, rule2));
-        given(userActivityRepository.countActivitiesByUser(user.getId())).willReturn(Collections.emptyList());
-        given(userBadgeRepository.findBadgeIdsByUserId(user.getId())).willReturn(Collections.emptySet());
-        given(evaluators.iterator()).willReturn(List.of(mockEvaluator).iterator());
-
-        given(mockEvaluator.supports(any(BadgeRule.class))).willReturn(true);
-        given(mockEvaluator.isSatisfied(any(User.class), any(BadgeRule.class), anyMap(), anyMap())).willReturn(true, false);
+        given(userActivityCounterRepository.findSummariesByUserId(user.getId()))
+            .willReturn(List.of(activitySummary(CREATE_POST, 1, 10)));
+        given(userBadgeRepository.findBadgeIdsByUserId(user.getId())).willReturn(new HashSet<>());
 
         // when
         List<String> result = badgeService.checkAndAwardBadges(user);
@@ -209,4 +153,121 @@ class BadgeServiceTest {
         assertThat(result).containsExactly("첫 게시글");
         verify(userBadgeRepository, times(1)).save(any(UserBadge.class));
     }
+
+    @Test
+    @DisplayName("활동 이벤트는 해당 활동 유형의 규칙만 평가하고, 후보가 없으면 보유 뱃지를 조회하지 않는다")
+    void givenActivityEvent_whenCheckAndAward_thenOnlyIndexedRulesEvaluated() {
+        // given
+        BadgeRule postRule = rule(1L, badge(1L, "첫 게시글"), CREATE_POST, EvaluationType.COUNT, 1);
+        BadgeRule commentRule = rule(2L, badge(2L, "댓글 10개"), CREATE_COMMENT, EvaluationType.COUNT, 10);
+
+        given(badgeRuleRepository.findAllEnabledWithBadge()).willReturn(List.of(postRule, commentRule));
+        given(userActivityCounterRepository.findSummariesByUserId(user.getId()))
+            .willReturn(List.of(activitySummary(CREATE_POST, 3, 30), activitySummary(CREATE_COMMENT, 1, 5)));
+
+        // when
+        List<String> result = badgeService.checkAndAwardBadges(user, CREATE_COMMENT, 5, 1);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(userBadgeRepository, never()).findBadgeIdsByUserId(any());
+        verify(userBadgeRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("카운터 캐시에 누적된 증감분으로 임계치 도달을 감지하고, 부여 전 DB 집계로 검증한다")
+    void givenCachedCounters_whenDeltaReachesThreshold_thenVerifiedAndIssued() {
+        // given
+        BadgeRule rule = rule(1L, badge(1L, "댓글 2개"), CREATE_COMMENT, EvaluationType.COUNT, 2);
+
+        given(badgeRuleRepository.findAllEnabledWithBadge()).willReturn(List.of(rule));
+        given(userActivityCounterRepository.findSummariesByUserId(user.getId()))
+            .willReturn(List.of(activitySummary(CREATE_COMMENT, 1, 5)))
+            .willReturn(List.of(activitySummary(CREATE_COMMENT, 2, 10)));
+        given(userBadgeRepository.findBadgeIdsByUserId(user.getId())).willReturn(new HashSet<>());
+
+        // when
+        List<String> first = badgeService.checkAndAwardBadges(user, CREATE_COMMENT, 5, 1);
+        List<String> second = badgeService.checkAndAwardBadges(user, CREATE_COMMENT, 5, 1);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).containsExactly("댓글 2개");
+        verify(userActivityCounterRepository, times(2)).countActivitiesByUser(user.getId()); // 최초 적재 + 부여 전 검증
+        verify(badgeRuleRepository, times(1)).findAllEnabledWithBadge();
+        verify(userBadgeRepository).save(any(UserBadge.class));
+    }
+
+    @Test
+    @DisplayName("캐시 카운터가 실제보다 많아도 DB 집계로 검증해 잘못 발급하지 않는다")
+    void givenOvercountedCache_whenVerificationFails_thenNoBadgeIssued() {
+        // given
+        BadgeRule rule = rule(1L, badge(1L, "댓글 2개"), CREATE_COMMENT, EvaluationType.COUNT, 2);
+
+        given(badgeRuleRepository.findAllEnabledWithBadge()).willReturn(List.of(rule));
+        given(userActivityCounterRepository.findSummariesByUserId(user.getId()))
+            .willReturn(List.of(activitySummary(CREATE_COMMENT, 1, 5)));
+        given(userBadgeRepository.findBadgeIdsByUserId(user.getId())).willReturn(new HashSet<>());
+
+        // when
+        badgeService.checkAndAwardBadges(user);
+        List<String> result = badgeService.checkAndAwardBadges(user, CREATE_COMMENT, 5, 1);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(userBadgeRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("활동 취소는 카운터만 차감하고 규칙을 평가하지 않는다")
+    void givenRevokedActivity_whenCheckAndAward_thenRulesNotEvaluated() {
+        // given
+        BadgeRule rule = rule(1L, badge(1L, "첫 게시글"), CREATE_POST, EvaluationType.COUNT, 1);
+
+        given(badgeRuleRepository.findAllEnabledWithBadge()).willReturn(List.of(rule));
+        given(userActivityCounterRepository.findSummariesByUserId(user.getId()))
+            .willReturn(List.of(activitySummary(CREATE_POST, 1, 10)));
+
+        // when
+        List<String> result = badgeService.checkAndAwardBadges(user, CREATE_POST, -10, -1);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(userBadgeRepository, never()).findBadgeIdsByUserId(any());
+        verify(userBadgeRepository, never()).save(any());
+    }
+
+    private Badge badge(Long id, String name) {
+        return Badge.builder().id(id).name(name).description(name).build();
+    }
+
+    private BadgeRule rule(Long id, Badge badge, ActivityType activityType, EvaluationType evaluationType, int threshold) {
+        return BadgeRule.builder()
+            .id(id)
+            .badge(badge)
+            .activityType(activityType)
+            .evaluationType(evaluationType)
+            .threshold(threshold)
+            .enabled(true)
+            .build();
+    }
+
+    private ActivitySummaryProjection activitySummary(ActivityType activityType, long count, long totalPoints) {
+        return new ActivitySummaryProjection() {
+            @Override
+            public ActivityType getActivityType() {
+                return activityType;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+
+            @Override
+            public long getTotalPoints() {
+                return totalPoints;
+            }
+        };
+    }
 }
@@ -13,13 +13,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.eventitta.gamification.constants.GamificationRetryConstants.FAILED_EVENT_MAX_ERROR_MESSAGE_LENGTH;
 import static com.eventitta.gamification.constants.GamificationRetryConstants.FAILED_EVENT_MAX_RETRY_COUNT;
+import static com.eventitta.gamification.constants.GamificationRetryConstants.FAILED_EVENT_RETRY_BACKOFF_BASE_SECONDS;
+import static com.eventitta.gamification.constants.GamificationRetryConstants.FAILED_EVENT_RETRY_BACKOFF_MAX_SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -191,37 +196,98 @@ class FailedEventRecoveryServiceTest {
     }
 
     @Test
-    @DisplayName("recoverFailedEventIndependently - 처리 실패 시 재시도 가능 상태로 변경")
-    void recoverFailedEventIndependently_Failure_ShouldRevertToPending() {
+    @DisplayName("recoverFailedEventIndependently - 처리 실패 시 상태를 바꾸지 않고 예외를 던진다")
+    void recoverFailedEventIndependently_Failure_ShouldRethrowWithoutBookkeeping() {
         // given
         Long eventId = 1L;
         FailedActivityEvent event = spy(testEvent);
         when(event.getStatus()).thenReturn(FailedActivityEvent.EventStatus.PENDING);
-        when(event.getRetryCount()).thenReturn(1);
 
         when(failedEventRepository.findByIdWithLock(eventId))
             .thenReturn(Optional.of(event));
         when(failedEventRepository.saveAndFlush(any(FailedActivityEvent.class)))
             .thenReturn(event);
 
-        String errorMessage = "Service error";
-        doThrow(new RuntimeException(errorMessage))
+        doThrow(new RuntimeException("Service error"))
             .when(userActivityService)
             .recordActivity(anyLong(), any(ActivityType.class), anyLong());
 
-        // when & then
-        try {
-            failedEventRecoveryService.recoverFailedEventIndependently(eventId);
-        } catch (RuntimeException e) {
-            // 예외가 발생해야 트랜잭션이 롤백됨
+        // when & then - 예외가 발생해야 트랜잭션이 롤백됨
+        assertThatThrownBy(() -> failedEventRecoveryService.recoverFailedEventIndependently(eventId))
+            .isInstanceOf(RuntimeException.class);
+
+        verify(event).markAsProcessing();
+        verify(event, never()).incrementRetryCount();
+        verify(event, never()).markAsProcessed();
+        verify(failedEventRepository, never()).save(event);
+    }
+
+    @Test
+    @DisplayName("recordRecoveryFailure - 재시도 횟수를 올리고 백오프 후 재시도되도록 PENDING으로 둔다")
+    void recordRecoveryFailure_BelowMaxRetry_ShouldScheduleNextRetry() {
+        // given
+        Long eventId = 1L;
+        when(failedEventRepository.findByIdWithLock(eventId)).thenReturn(Optional.of(testEvent));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        failedEventRecoveryService.recordRecoveryFailure(eventId, "Service error");
+
+        // then
+        assertThat(testEvent.getRetryCount()).isEqualTo(1);
+        assertThat(testEvent.getStatus()).isEqualTo(FailedActivityEvent.EventStatus.PENDING);
+        assertThat(testEvent.getErrorMessage()).isEqualTo("Service error");
+        assertThat(testEvent.getNextRetryAt())
+            .isAfterOrEqualTo(before.plusSeconds(FAILED_EVENT_RETRY_BACKOFF_BASE_SECONDS));
+        verify(failedEventRepository).save(testEvent);
+    }
+
+    @Test
+    @DisplayName("recordRecoveryFailure - 최대 재시도 횟수에 도달하면 FAILED로 변경")
+    void recordRecoveryFailure_ReachMaxRetry_ShouldMarkAsFailed() {
+        // given
+        Long eventId = 1L;
+        for (int i = 0; i < FAILED_EVENT_MAX_RETRY_COUNT - 1; i++) {
+            testEvent.incrementRetryCount();
         }
+        when(failedEventRepository.findByIdWithLock(eventId)).thenReturn(Optional.of(testEvent));
+
+        // when
+        failedEventRecoveryService.recordRecoveryFailure(eventId, "Service error");
 
         // then
-        verify(event).markAsProcessing();
-        verify(event).incrementRetryCount();
-        verify(event).revertToPending();
-        verify(event).setErrorMessage(errorMessage);
-        verify(failedEventRepository).save(event);  // 최종 save 확인
+        assertThat(testEvent.getRetryCount()).isEqualTo(FAILED_EVENT_MAX_RETRY_COUNT);
+        assertThat(testEvent.getStatus()).isEqualTo(FailedActivityEvent.EventStatus.FAILED);
+        verify(failedEventRepository).save(testEvent);
+    }
+
+    @Test
+    @DisplayName("recordRecoveryFailure - PENDING이 아닌 이벤트는 건드리지 않는다")
+    void recordRecoveryFailure_NotPending_ShouldSkip() {
+        // given
+        Long eventId = 1L;
+        testEvent.markAsProcessed();
+        when(failedEventRepository.findByIdWithLock(eventId)).thenReturn(Optional.of(testEvent));
+
+        // when
+        failedEventRecoveryService.recordRecoveryFailure(eventId, "Service error");
+
+        // then
+        assertThat(testEvent.getRetryCount()).isZero();
+        verify(failedEventRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("retryBackoff - 실패할 때마다 두 배로 늘고 최대 간격에서 멈춘다")
+    void retryBackoff_ShouldGrowExponentiallyUpToMax() {
+        assertThat(FailedEventRecoveryService.retryBackoff(1))
+            .isEqualTo(Duration.ofSeconds(FAILED_EVENT_RETRY_BACKOFF_BASE_SECONDS));
+        assertThat(FailedEventRecoveryService.retryBackoff(2))
+            .isEqualTo(Duration.ofSeconds(FAILED_EVENT_RETRY_BACKOFF_BASE_SECONDS * 2));
+        assertThat(FailedEventRecoveryService.retryBackoff(3))
+            .isEqualTo(Duration.ofSeconds(FAILED_EVENT_RETRY_BACKOFF_BASE_SECONDS * 4));
+        assertThat(FailedEventRecoveryService.retryBackoff(100))
+            .isEqualTo(Duration.ofSeconds(FAILED_EVENT_RETRY_BACKOFF_MAX_SECONDS));
     }
 
     @Test
@@ -1,6 +1,7 @@
 package com.eventitta.gamification.service;
 
 import com.eventitta.gamification.domain.RankingType;
+import com.eventitta.gamification.dto.response.RankingNeighborhoodResponse;
 import com.eventitta.gamification.dto.response.RankingPageResponse;
 import com.eventitta.gamification.dto.response.UserRankResponse;
 import com.eventitta.gamification.exception.RankingException;
@@ -9,6 +10,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -25,6 +28,8 @@ public class MockRankingService implements RankingService {
 
     private static final Logger log = LoggerFactory.getLogger(MockRankingService.class);
     private final Map<String, Map<Long, Double>> rankings = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, Double>> stagedRankings = new ConcurrentHashMap<>();
+    private final Map<LocalDate, Map<Long, Double>> dailyBuckets = new ConcurrentHashMap<>();
 
     public MockRankingService() {
         // 각 랭킹 타입별로 빈 맵 초기화
@@ -53,6 +58,23 @@ public class MockRankingService implements RankingService {
         }
     }
 
+    @Override
+    public void applyActivityDelta(Long userId, int pointsDelta, int activityCountDelta) {
+        log.debug("Mock applying activity delta - userId: {}, points: {}, activities: {}",
+            userId, pointsDelta, activityCountDelta);
+        for (RankingType type : RankingType.values()) {
+            int delta = type == RankingType.ACTIVITY_COUNT ? activityCountDelta : pointsDelta;
+            if (delta == 0) {
+                continue;
+            }
+            Map<Long, Double> typeRankings = rankings.get(type.name());
+            double score = typeRankings.merge(userId, (double) delta, Double::sum);
+            if (score <= 0) {
+                typeRankings.remove(userId);
+            }
+        }
+    }
+
     @Override
     public void updateScoresBatch(RankingType type, Map<Long, Double> scores) {
         log.debug("Mock batch updating {} ranking with {} scores", type, scores.size());
@@ -66,6 +88,44 @@ public class MockRankingService implements RankingService {
         });
     }
 
+    @Override
+    public void stageScoresBatch(RankingType type, String runId, Map<Long, Double> scores) {
+        log.debug("Mock staging {} ranking with {} scores. runId={}", type, scores.size(), runId);
+        stagedRankings.computeIfAbsent(type.name() + ":" + runId, key -> new ConcurrentHashMap<>()).putAll(scores);
+    }
+
+    @Override
+    public void publishStagedRanking(RankingType type, String runId) {
+        Map<Long, Double> staged = stagedRankings.remove(type.name() + ":" + runId);
+        rankings.put(type.name(), staged != null ? staged : new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public void discardStagedRanking(RankingType type, String runId) {
+        stagedRankings.remove(type.name() + ":" + runId);
+    }
+
+    @Override
+    public void stageDailyBucket(LocalDate date, String runId, Map<Long, Double> userScores) {
+        stagedRankings.computeIfAbsent("daily:" + date + ":" + runId, key -> new ConcurrentHashMap<>()).putAll(userScores);
+    }
+
+    @Override
+    public void publishStagedDailyBucket(LocalDate date, String runId) {
+        Map<Long, Double> staged = stagedRankings.remove("daily:" + date + ":" + runId);
+        dailyBuckets.put(date, staged != null ? staged : new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public void discardStagedDailyBucket(LocalDate date, String runId) {
+        stagedRankings.remove("daily:" + date + ":" + runId);
+    }
+
+    @Override
+    public void updateDailyBucketScores(LocalDate date, Map<Long, Double> userScores) {
+        dailyBuckets.computeIfAbsent(date, key -> new ConcurrentHashMap<>()).putAll(userScores);
+    }
+
     @Override
     public void removeUser(RankingType type, Long userId) {
         log.debug("Mock removing user {} from {} ranking", userId, type);
@@ -113,6 +173,37 @@ public class MockRankingService implements RankingService {
         );
     }
 
+    @Override
+    public RankingNeighborhoodResponse getRankingsAround(RankingType type, Long userId, int range) {
+        Map<Long, Double> typeRankings = rankings.get(type.name());
+        if (!typeRankings.containsKey(userId)) {
+            throw new RankingException(RANKING_NOT_FOUND);
+        }
+
+        List<Map.Entry<Long, Double>> sorted = typeRankings.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+            .toList();
+        int position = 0;
+        while (!sorted.get(position).getKey().equals(userId)) {
+            position++;
+        }
+
+        int from = Math.max(position - range, 0);
+        int to = Math.min(position + range + 1, sorted.size());
+        List<UserRankResponse> around = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            Map.Entry<Long, Double> entry = sorted.get(i);
+            around.add(new UserRankResponse(
+                entry.getKey(),
+                "user" + entry.getKey(),
+                null,
+                entry.getValue().intValue(),
+                i + 1
+            ));
+        }
+        return new RankingNeighborhoodResponse(userId, position + 1, around, (long) sorted.size(), type);
+    }
+
     @Override
     public Long getTotalUsers(RankingType type) {
         return (long) rankings.get(type.name()).size();
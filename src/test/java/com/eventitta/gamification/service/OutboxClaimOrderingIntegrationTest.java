@@ -0,0 +1,131 @@
+package com.eventitta.gamification.service;
+
+import com.eventitta.common.config.jpa.JpaAuditingConfig;
+import com.eventitta.common.config.jpa.QuerydslConfig;
+import com.eventitta.gamification.domain.ActivityOutbox;
+import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.domain.OperationType;
+import com.eventitta.gamification.repository.ActivityOutboxRepository;
+import com.eventitta.testsupport.MySqlContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 노드가 동시에 아웃박스를 선점할 때 유저별 처리 순서 검증 (MySQL FOR UPDATE SKIP LOCKED)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, JpaAuditingConfig.class})
+@ActiveProfiles("test")
+@EntityScan(basePackages = "com.eventitta")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxClaimOrderingIntegrationTest extends MySqlContainerSupport {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    ActivityOutboxRepository repository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private OutboxRelayService relayService;
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        relayService = new OutboxRelayService(repository, null, null);
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("노드 A가 RECORD를 잡고 있는 동안 노드 B는 같은 유저의 REVOKE를 선점하지 않는다")
+    void concurrentClaimers_keepRecordBeforeRevokeOfSameUser() throws Exception {
+        // given
+        ActivityOutbox record = repository.saveAndFlush(outbox("like-1", OperationType.RECORD));
+        ActivityOutbox revoke = repository.saveAndFlush(outbox("unlike-1", OperationType.REVOKE));
+
+        CountDownLatch nodeAClaimed = new CountDownLatch(1);
+        CountDownLatch nodeBFinished = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // when - 노드 A는 RECORD 한 건을 선점한 채 트랜잭션을 열어 두고
+            Future<List<Long>> nodeA = executor.submit(() -> tx.execute(status -> {
+                List<Long> claimed = ids(relayService.claimBatch(1));
+                nodeAClaimed.countDown();
+                awaitQuietly(nodeBFinished);
+                return claimed;
+            }));
+            assertThat(nodeAClaimed.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 그 사이 노드 B가 선점을 시도한다
+            Future<List<Long>> nodeB = executor.submit(() -> tx.execute(status -> ids(relayService.claimBatch(10))));
+            List<Long> claimedByB = nodeB.get(10, TimeUnit.SECONDS);
+            nodeBFinished.countDown();
+            List<Long> claimedByA = nodeA.get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(claimedByA).containsExactly(record.getId());
+            assertThat(claimedByB).isEmpty();
+        } finally {
+            nodeBFinished.countDown();
+            executor.shutdownNow();
+        }
+
+        // RECORD가 PROCESSING인 동안에도 REVOKE는 선점되지 않는다
+        assertThat(ids(tx.execute(status -> relayService.claimBatch(10)))).isEmpty();
+
+        // RECORD 처리가 끝나면 REVOKE를 선점한다
+        tx.executeWithoutResult(status -> repository.markDone(List.of(record.getId()), LocalDateTime.now()));
+        assertThat(ids(tx.execute(status -> relayService.claimBatch(10)))).containsExactly(revoke.getId());
+    }
+
+    private List<Long> ids(List<ActivityOutbox> outboxes) {
+        return outboxes.stream().map(ActivityOutbox::getId).toList();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ActivityOutbox outbox(String idempotencyKey, OperationType operationType) {
+        return ActivityOutbox.builder()
+            .idempotencyKey(idempotencyKey.getBytes(StandardCharsets.UTF_8))
+            .userId(USER_ID)
+            .activityType(ActivityType.LIKE_POST)
+            .operationType(operationType)
+            .targetId(100L)
+            .build();
+    }
+}
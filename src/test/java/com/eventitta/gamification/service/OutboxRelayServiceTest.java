@@ -4,6 +4,7 @@ import com.eventitta.gamification.domain.ActivityOutbox;
 import com.eventitta.gamification.domain.ActivityOutbox.OutboxStatus;
 import com.eventitta.gamification.domain.ActivityType;
 import com.eventitta.gamification.domain.OperationType;
+import com.eventitta.gamification.dto.projection.OutboxUserRowProjection;
 import com.eventitta.gamification.repository.ActivityOutboxRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,10 +12,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 
+import static com.eventitta.gamification.constants.GamificationRetryConstants.OUTBOX_MAX_RETRY_COUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,82 +39,248 @@ class OutboxRelayServiceTest {
     @Mock
     private UserActivityService userActivityService;
 
+    @Mock
+    private ObjectProvider<PointsLedger> pointsLedger;
+
     @InjectMocks
     private OutboxRelayService outboxRelayService;
 
     @Test
-    @DisplayName("PENDING 상태의 RECORD 이벤트를 성공적으로 처리한다")
-    void processIndependently_Record_ShouldSucceed() {
+    @DisplayName("선점한 레코드를 일괄 PROCESSING으로 전환하고 생성 순서대로 반환한다")
+    void claimBatch_ShouldMarkProcessingInBulk() {
+        // given
+        ActivityOutbox first = createOutbox(1L, OperationType.RECORD, OutboxStatus.PENDING);
+        ActivityOutbox second = createOutbox(2L, OperationType.REVOKE, OutboxStatus.PENDING);
+        when(outboxRepository.claimPendingIds(anyInt(), eq(100))).thenReturn(List.of(1L, 2L));
+        when(outboxRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(second, first));
+
+        // when
+        List<ActivityOutbox> claimed = outboxRelayService.claimBatch(100);
+
+        // then
+        assertThat(claimed).containsExactly(first, second);
+        verify(outboxRepository).markProcessing(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("선점할 레코드가 없으면 상태를 변경하지 않는다")
+    void claimBatch_NoPending_ShouldSkipUpdate() {
         // given
-        ActivityOutbox outbox = createOutbox(1L, OperationType.RECORD, OutboxStatus.PENDING);
-        when(outboxRepository.findByIdWithLock(1L)).thenReturn(Optional.of(outbox));
+        when(outboxRepository.claimPendingIds(anyInt(), anyInt())).thenReturn(List.of());
 
         // when
-        outboxRelayService.processIndependently(1L);
+        List<ActivityOutbox> claimed = outboxRelayService.claimBatch(100);
+
+        // then
+        assertThat(claimed).isEmpty();
+        verify(outboxRepository, never()).markProcessing(anyList(), any());
+        verify(outboxRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("같은 유저의 앞선 레코드가 다른 노드에서 처리 중이면 뒤따르는 레코드는 선점하지 않는다")
+    void claimBatch_EarlierRowInFlight_ShouldSkipLaterRowsOfSameUser() {
+        // given - userId 7의 RECORD(1)는 다른 노드가 잡고 있어 후보에 없고, REVOKE(2)만 후보로 잡혔다
+        ActivityOutbox otherUser = createOutbox(3L, OperationType.RECORD, OutboxStatus.PENDING);
+        when(outboxRepository.claimPendingIds(anyInt(), eq(100))).thenReturn(List.of(2L, 3L));
+        when(outboxRepository.findUnfinishedRowsOfSameUsers(List.of(2L, 3L), 3L)).thenReturn(List.of(
+                row(1L, 7L), row(2L, 7L), row(3L, otherUser.getUserId())));
+        when(outboxRepository.findAllById(List.of(3L))).thenReturn(List.of(otherUser));
+
+        // when
+        List<ActivityOutbox> claimed = outboxRelayService.claimBatch(100);
+
+        // then
+        assertThat(claimed).containsExactly(otherUser);
+        verify(outboxRepository).markProcessing(eq(List.of(3L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("후보가 모두 앞선 레코드를 기다리면 아무것도 선점하지 않는다")
+    void claimBatch_AllCandidatesBlocked_ShouldSkipUpdate() {
+        // given
+        when(outboxRepository.claimPendingIds(anyInt(), anyInt())).thenReturn(List.of(2L));
+        when(outboxRepository.findUnfinishedRowsOfSameUsers(List.of(2L), 2L))
+                .thenReturn(List.of(row(1L, 7L), row(2L, 7L)));
+
+        // when
+        List<ActivityOutbox> claimed = outboxRelayService.claimBatch(100);
+
+        // then
+        assertThat(claimed).isEmpty();
+        verify(outboxRepository, never()).markProcessing(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("선점한 RECORD 이벤트를 처리하고 완료로 표시한다")
+    void processClaimed_Record_ShouldSucceed() {
+        // given
+        ActivityOutbox outbox = createOutbox(1L, OperationType.RECORD, OutboxStatus.PROCESSING);
+
+        // when
+        outboxRelayService.processClaimed(outbox);
 
         // then
         verify(userActivityService).recordActivity(outbox.getUserId(), outbox.getActivityType(), outbox.getTargetId());
-        verify(outboxRepository).save(outbox);
+        verify(outboxRepository).markDone(eq(List.of(outbox.getId())), any(LocalDateTime.class));
     }
 
     @Test
-    @DisplayName("PENDING 상태의 REVOKE 이벤트를 성공적으로 처리한다")
-    void processIndependently_Revoke_ShouldSucceed() {
+    @DisplayName("선점한 REVOKE 이벤트를 처리하고 완료로 표시한다")
+    void processClaimed_Revoke_ShouldSucceed() {
         // given
-        ActivityOutbox outbox = createOutbox(2L, OperationType.REVOKE, OutboxStatus.PENDING);
-        when(outboxRepository.findByIdWithLock(2L)).thenReturn(Optional.of(outbox));
+        ActivityOutbox outbox = createOutbox(2L, OperationType.REVOKE, OutboxStatus.PROCESSING);
 
         // when
-        outboxRelayService.processIndependently(2L);
+        outboxRelayService.processClaimed(outbox);
 
         // then
         verify(userActivityService).revokeActivity(outbox.getUserId(), outbox.getActivityType(), outbox.getTargetId());
-        verify(outboxRepository).save(outbox);
+        verify(outboxRepository).markDone(eq(List.of(outbox.getId())), any(LocalDateTime.class));
     }
 
     @Test
-    @DisplayName("이미 PROCESSING 상태인 이벤트는 건너뛴다")
-    void processIndependently_AlreadyProcessing_ShouldSkip() {
+    @DisplayName("처리 중 예외는 전파되고 완료로 표시하지 않는다")
+    void processClaimed_OnFailure_ShouldPropagate() {
         // given
-        ActivityOutbox outbox = createOutbox(3L, OperationType.RECORD, OutboxStatus.PENDING);
-        outbox.markAsProcessing(); // 이미 PROCESSING 상태
-        when(outboxRepository.findByIdWithLock(3L)).thenReturn(Optional.of(outbox));
+        ActivityOutbox outbox = createOutbox(3L, OperationType.RECORD, OutboxStatus.PROCESSING);
+        doThrow(new RuntimeException("DB 오류"))
+                .when(userActivityService).recordActivity(anyLong(), any(), anyLong());
+
+        // when & then
+        assertThatThrownBy(() -> outboxRelayService.processClaimed(outbox))
+                .isInstanceOf(RuntimeException.class);
+        verify(outboxRepository, never()).markDone(any(), any());
+    }
+
+    @Test
+    @DisplayName("한 유저의 레코드들을 합쳐서 반영하고 일괄 완료로 표시한다")
+    void processCoalesced_ShouldApplyBatchAndMarkAllDone() {
+        // given
+        ActivityOutbox like = createOutbox(6L, OperationType.RECORD, OutboxStatus.PROCESSING);
+        ActivityOutbox unlike = createOutbox(7L, OperationType.REVOKE, OutboxStatus.PROCESSING);
+        List<ActivityOutbox> outboxes = List.of(like, unlike);
 
         // when
-        outboxRelayService.processIndependently(3L);
+        outboxRelayService.processCoalesced(100L, outboxes);
 
         // then
+        verify(userActivityService).applyOutboxBatch(100L, outboxes);
+        verify(outboxRepository).markDone(eq(List.of(6L, 7L)), any(LocalDateTime.class));
         verify(userActivityService, never()).recordActivity(anyLong(), any(), anyLong());
-        verify(userActivityService, never()).revokeActivity(anyLong(), any(), anyLong());
     }
 
     @Test
-    @DisplayName("처리 중 예외 발생 시 재시도 카운트를 증가시키고 PENDING으로 되돌린다")
-    void processIndependently_OnFailure_ShouldIncrementRetryAndRevertToPending() {
+    @DisplayName("포인트 지연 반영 모드에서는 레코드를 APPLIED로 두고 커밋 후에만 원장에 적립한다")
+    void processCoalesced_WriteBehind_ShouldMarkAppliedAndAddToLedgerAfterCommit() {
         // given
-        ActivityOutbox outbox = createOutbox(4L, OperationType.RECORD, OutboxStatus.PENDING);
-        when(outboxRepository.findByIdWithLock(4L)).thenReturn(Optional.of(outbox));
-        doThrow(new RuntimeException("DB 오류"))
-                .when(userActivityService).recordActivity(anyLong(), any(), anyLong());
+        PointsLedger ledger = mock(PointsLedger.class);
+        when(pointsLedger.getIfAvailable()).thenReturn(ledger);
+        ActivityOutbox first = createOutbox(8L, OperationType.RECORD, OutboxStatus.PROCESSING);
+        ActivityOutbox second = createOutbox(9L, OperationType.RECORD, OutboxStatus.PROCESSING);
+        List<ActivityOutbox> outboxes = List.of(first, second);
+        when(userActivityService.applyOutboxBatchDeferringPoints(100L, outboxes)).thenReturn(20);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            outboxRelayService.processCoalesced(100L, outboxes);
+
+            // then - 커밋 전에는 원장에 적립하지 않는다
+            verify(outboxRepository).markApplied(eq(List.of(8L, 9L)), eq(9L), eq(20), any(LocalDateTime.class));
+            verify(outboxRepository, never()).markDone(anyList(), any());
+            verify(userActivityService, never()).applyOutboxBatch(anyLong(), anyList());
+            verifyNoInteractions(ledger);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(ledger).add(100L, 20, List.of(8L, 9L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("실패 기록 시 재시도 카운트를 증가시키고 PENDING으로 되돌린다")
+    void recordFailure_ShouldIncrementRetryAndRevertToPending() {
+        // given
+        ActivityOutbox outbox = createOutbox(4L, OperationType.RECORD, OutboxStatus.PROCESSING);
+
+        // when
+        outboxRelayService.recordFailure(outbox, new RuntimeException("DB 오류"));
+
+        // then
+        assertThat(outbox.getRetryCount()).isEqualTo(1);
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        verify(outboxRepository).save(outbox);
+    }
+
+    @Test
+    @DisplayName("최대 재시도에 도달하면 FAILED로 표시한다")
+    void recordFailure_AtMaxRetry_ShouldMarkFailed() {
+        // given
+        ActivityOutbox outbox = createOutbox(5L, OperationType.RECORD, OutboxStatus.PROCESSING);
+        ReflectionTestUtils.setField(outbox, "retryCount", OUTBOX_MAX_RETRY_COUNT - 1);
 
         // when
-        outboxRelayService.processIndependently(4L);
+        outboxRelayService.recordFailure(outbox, new RuntimeException("DB 오류"));
 
         // then
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
         verify(outboxRepository).save(outbox);
-        // outbox는 retry가 1 증가하고 PENDING으로 돌아감
+    }
+
+    @Test
+    @DisplayName("선점 해제 시 재시도 횟수를 바꾸지 않고 PROCESSING 레코드만 PENDING으로 되돌린다")
+    void releaseClaimed_ShouldRevertToPendingWithoutRetry() {
+        // given
+        ActivityOutbox unlike = createOutbox(2L, OperationType.REVOKE, OutboxStatus.PROCESSING);
+        ActivityOutbox likeAgain = createOutbox(3L, OperationType.RECORD, OutboxStatus.PROCESSING);
+
+        // when
+        outboxRelayService.releaseClaimed(List.of(unlike, likeAgain));
+
+        // then
+        verify(outboxRepository).releaseClaimed(eq(List.of(2L, 3L)), any(LocalDateTime.class));
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("되돌릴 레코드가 없으면 UPDATE를 실행하지 않는다")
+    void releaseClaimed_Empty_ShouldSkipUpdate() {
+        // when
+        outboxRelayService.releaseClaimed(List.of());
+
+        // then
+        verify(outboxRepository, never()).releaseClaimed(anyList(), any());
     }
 
     private ActivityOutbox createOutbox(Long id, OperationType opType, OutboxStatus status) {
         ActivityOutbox outbox = ActivityOutbox.builder()
-                .idempotencyKey("test-key-" + id)
+                .idempotencyKey(("test-key-" + id).getBytes(StandardCharsets.UTF_8))
                 .userId(100L + id)
                 .activityType(ActivityType.CREATE_POST)
                 .operationType(opType)
                 .targetId(200L + id)
                 .build();
 
-        // Mock ID 설정을 위해 spy 활용 대신, 상태만 검증
+        ReflectionTestUtils.setField(outbox, "id", id);
+        if (status == OutboxStatus.PROCESSING) {
+            outbox.markAsProcessing();
+        }
         return outbox;
     }
+
+    private OutboxUserRowProjection row(Long id, Long userId) {
+        return new OutboxUserRowProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
 }
@@ -0,0 +1,86 @@
+package com.eventitta.gamification.service;
+
+import com.eventitta.gamification.dto.projection.OutboxPointsDeltaProjection;
+import com.eventitta.gamification.repository.ActivityOutboxRepository;
+import com.eventitta.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PointsLedgerFlushService 테스트")
+class PointsLedgerFlushServiceTest {
+
+    @Mock
+    private ActivityOutboxRepository outboxRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private PointsLedgerFlushService flushService;
+
+    @Test
+    @DisplayName("잠근 APPLIED 레코드의 증감을 유저별로 합쳐 반영하고 완료 처리한다")
+    void flush_ShouldApplyLockedDeltasAndMarkDone() {
+        // given
+        when(outboxRepository.lockAppliedPointsDeltas(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                row(1L, 100L, 0),
+                row(2L, 100L, 11),
+                row(3L, 200L, -1)));
+        when(outboxRepository.markAppliedDone(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class))).thenReturn(3);
+
+        // when
+        int done = flushService.flush(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(done).isEqualTo(3);
+        verify(userRepository).applyPointDeltas(Map.of(100L, 11, 200L, -1));
+    }
+
+    @Test
+    @DisplayName("이미 다른 플러시가 완료 처리한 레코드는 다시 반영하지 않는다")
+    void flush_AlreadyFlushed_ShouldSkip() {
+        // given
+        when(outboxRepository.lockAppliedPointsDeltas(List.of(1L))).thenReturn(List.of());
+
+        // when
+        int done = flushService.flush(List.of(1L));
+
+        // then
+        assertThat(done).isZero();
+        verifyNoInteractions(userRepository);
+        verify(outboxRepository, never()).markAppliedDone(any(), any());
+    }
+
+    private OutboxPointsDeltaProjection row(Long id, Long userId, Integer pointsDelta) {
+        return new OutboxPointsDeltaProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Integer getPointsDelta() {
+                return pointsDelta;
+            }
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.eventitta.gamification.service;
+
+import com.eventitta.gamification.service.PointsLedger.PendingPoints;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PointsLedger 테스트")
+class PointsLedgerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PointsLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ledger = new PointsLedger(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 유저의 증감과 아웃박스 ID를 합쳐서 적립한다")
+    void add_SameUser_ShouldAccumulate() {
+        // when
+        ledger.add(1L, 10, List.of(1L, 2L));
+        ledger.add(1L, -1, List.of(3L));
+        ledger.add(2L, 5, List.of(4L));
+
+        // then
+        Map<Long, PendingPoints> drained = ledger.drain();
+        assertThat(drained).hasSize(2);
+        assertThat(drained.get(1L).getPointsDelta()).isEqualTo(9);
+        assertThat(drained.get(1L).getOutboxIds()).containsExactly(1L, 2L, 3L);
+        assertThat(drained.get(2L).getPointsDelta()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("꺼낸 뒤에는 원장이 비고, 되돌린 항목은 다음에 다시 꺼내진다")
+    void drainAndRestore() {
+        // given
+        ledger.add(1L, 10, List.of(1L));
+
+        // when
+        Map<Long, PendingPoints> drained = ledger.drain();
+
+        // then
+        assertThat(ledger.drain()).isEmpty();
+        assertThat(ledger.pendingOutboxCount()).isZero();
+
+        ledger.restore(drained);
+        ledger.add(1L, 1, List.of(2L));
+        Map<Long, PendingPoints> retried = ledger.drain();
+        assertThat(retried.get(1L).getPointsDelta()).isEqualTo(11);
+        assertThat(retried.get(1L).getOutboxIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("반영 대기 아웃박스 건수를 게이지로 노출한다")
+    void pendingGauge() {
+        // when
+        ledger.add(1L, 10, List.of(1L, 2L));
+        ledger.add(17L, 10, List.of(3L));
+
+        // then
+        assertThat(meterRegistry.get("gamification.points.ledger.pending").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 적립해도 증감이 유실되지 않는다")
+    void concurrentAdd_ShouldNotLoseDeltas() throws InterruptedException {
+        // given
+        int threadCount = 8;
+        int addsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < addsPerThread; i++) {
+                        ledger.add((long) (i % 10), 1, List.of((long) i));
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        boolean finished = latch.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(finished).isTrue();
+        int total = ledger.drain().values().stream().mapToInt(PendingPoints::getPointsDelta).sum();
+        assertThat(total).isEqualTo(threadCount * addsPerThread);
+    }
+}
@@ -0,0 +1,107 @@
+package com.eventitta.gamification.service;
+
+import com.eventitta.gamification.constants.RankingConstants;
+import com.eventitta.gamification.dto.cache.RankingUserProfile;
+import com.eventitta.user.domain.User;
+import com.eventitta.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"null", "unchecked"})
+class RankingProfileCacheTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private RankingProfileCache rankingProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        rankingProfileCache = new RankingProfileCache(redisTemplate, userRepository);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("캐시 미스로 읽은 프로필은 현재 세대 해시에 저장하고 만료를 건다")
+    void givenCacheMiss_whenGetProfiles_thenCachesIntoGenerationKeyWithTtl() {
+        // given
+        when(hashOperations.multiGet(anyString(), any())).thenReturn(Arrays.asList((Object) null));
+        when(userRepository.findAllById(List.of(1L))).thenReturn(List.of(createUser(1L, "user1", false)));
+
+        // when
+        Map<Long, RankingUserProfile> profiles = rankingProfileCache.getProfiles(List.of(1L));
+
+        // then
+        assertThat(profiles).containsEntry(1L, new RankingUserProfile("user1", null));
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(hashOperations).putAll(keyCaptor.capture(), anyMap());
+        assertThat(keyCaptor.getValue()).startsWith(RankingConstants.RANKING_USER_PROFILE_KEY + ":");
+        verify(redisTemplate).expire(keyCaptor.getValue(),
+            Duration.ofSeconds(RankingConstants.RANKING_USER_PROFILE_TTL_SECONDS * 2));
+    }
+
+    @Test
+    @DisplayName("탈퇴한 유저는 프로필 캐시에 다시 채워지지 않는다")
+    void givenDeletedUser_whenGetProfiles_thenSkipsCaching() {
+        // given
+        when(hashOperations.multiGet(anyString(), any())).thenReturn(Arrays.asList((Object) null));
+        when(userRepository.findAllById(List.of(1L))).thenReturn(List.of(createUser(1L, "user1", true)));
+
+        // when
+        Map<Long, RankingUserProfile> profiles = rankingProfileCache.getProfiles(List.of(1L));
+
+        // then
+        assertThat(profiles).isEmpty();
+        verify(hashOperations, never()).putAll(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("프로필 변경 또는 탈퇴 시 현재 세대 해시에서 항목을 지운다")
+    void givenUserId_whenEvict_thenDeletesFieldFromGenerationKey() {
+        // when
+        rankingProfileCache.evict(1L);
+
+        // then
+        verify(hashOperations).delete(eq(rankingProfileCache.currentKey()), eq("1"));
+    }
+
+    private User createUser(Long id, String nickname, boolean deleted) {
+        User user = User.builder()
+            .id(id)
+            .email(nickname + "@test.com")
+            .nickname(nickname)
+            .build();
+        if (deleted) {
+            user.delete();
+        }
+        return user;
+    }
+}
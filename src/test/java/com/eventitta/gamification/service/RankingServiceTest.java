@@ -1,8 +1,14 @@
 package com.eventitta.gamification.service;
 
+import com.eventitta.gamification.constants.RankingConstants;
 import com.eventitta.gamification.domain.RankingType;
+import com.eventitta.gamification.dto.cache.RankingUserProfile;
+import com.eventitta.gamification.dto.projection.UserActivityCountProjection;
+import com.eventitta.gamification.dto.projection.UserPointsSumProjection;
+import com.eventitta.gamification.dto.response.RankingNeighborhoodResponse;
 import com.eventitta.gamification.dto.response.RankingPageResponse;
 import com.eventitta.gamification.dto.response.UserRankResponse;
+import com.eventitta.gamification.repository.UserActivityCounterRepository;
 import com.eventitta.gamification.repository.UserActivityRepository;
 import com.eventitta.notification.service.DiscordNotificationService;
 import com.eventitta.user.domain.User;
@@ -11,23 +17,35 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,11 +61,14 @@ class RankingServiceTest {
     @Mock
     private UserActivityRepository userActivityRepository;
 
+    @Mock
+    private UserActivityCounterRepository userActivityCounterRepository;
+
     @Mock
     private DiscordNotificationService discordNotificationService;
 
     @Mock
-    private ZSetOperations<String, Object> zSetOperations;
+    private RankingProfileCache rankingProfileCache;
 
     @InjectMocks
     private RedisRankingService rankingService;
@@ -58,17 +79,18 @@ class RankingServiceTest {
             redisTemplate,
             userRepository,
             userActivityRepository,
-            discordNotificationService
+            userActivityCounterRepository,
+            discordNotificationService,
+            rankingProfileCache,
+            Clock.fixed(Instant.parse("2026-03-10T03:00:00Z"), ZoneId.of("Asia/Seoul"))
         );
-
-        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
     }
 
     @Test
     @DisplayName("Redis 장애 시 MySQL Fallback이 동작한다")
     void testFallbackToMySQLWhenRedisDown() {
         // given
-        when(zSetOperations.reverseRangeWithScores(anyString(), eq(0L), eq(9L)))
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
             .thenThrow(new RedisConnectionFailureException("Redis connection failed"));
 
         User user1 = createUser(1L, "user1", 1000);
@@ -94,8 +116,8 @@ class RankingServiceTest {
     @DisplayName("Redis 정상 동작 시 올바르게 조회된다")
     void testRedisWorksCorrectly() {
         // given
-        when(zSetOperations.reverseRangeWithScores(anyString(), eq(0L), eq(9L)))
-            .thenReturn(Set.of());
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+            .thenReturn(Arrays.asList(Set.of(), 0L));
 
         // when
         RankingPageResponse response = rankingService.getTopRankings(RankingType.POINTS, 10);
@@ -103,20 +125,47 @@ class RankingServiceTest {
         // then
         assertThat(response.rankings()).isEmpty();
 
-        // Redis 호출 확인
-        verify(zSetOperations).reverseRangeWithScores(anyString(), eq(0L), eq(9L));
+        // Redis 파이프라인 1회 호출 확인
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("Top N 조회 시 순위 목록과 전체 인원을 한 번의 파이프라인으로 가져온다")
+    void testTopRankingsUseSinglePipeline() {
+        // given
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new LinkedHashSet<>();
+        tuples.add(new DefaultTypedTuple<>("2", 900.0));
+        tuples.add(new DefaultTypedTuple<>("1", 800.0));
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+            .thenReturn(Arrays.asList(tuples, 42L));
+
+        when(rankingProfileCache.getProfiles(List.of(2L, 1L))).thenReturn(Map.of(
+            1L, new RankingUserProfile("user1", null),
+            2L, new RankingUserProfile("user2", "avatar2")
+        ));
+
+        // when
+        RankingPageResponse response = rankingService.getTopRankings(RankingType.POINTS, 10);
+
+        // then
+        assertThat(response.totalUsers()).isEqualTo(42L);
+        assertThat(response.rankings()).extracting(UserRankResponse::userId).containsExactly(2L, 1L);
+        assertThat(response.rankings()).extracting(UserRankResponse::rank).containsExactly(1L, 2L);
+        assertThat(response.rankings().get(0).profilePictureUrl()).isEqualTo("avatar2");
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(redisTemplate, never()).opsForZSet();
+        verify(userRepository, never()).findAllById(anyList());
     }
 
     @Test
     @DisplayName("활동량 순위 조회 시 Fallback이 동작한다")
     void testActivityRankingFallback() {
         // given
-        when(zSetOperations.reverseRangeWithScores(anyString(), eq(0L), eq(9L)))
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
             .thenThrow(new RedisConnectionFailureException("Redis down"));
 
-        List<Long> activeUserIds = List.of(1L, 2L, 3L);
-        when(userActivityRepository.findRecentlyActiveUserIds(168))
-            .thenReturn(activeUserIds);
+        when(userActivityCounterRepository.findTopActivityCounts(PageRequest.of(0, 10)))
+            .thenReturn(List.of(activityCount(2L, 20L), activityCount(3L, 15L), activityCount(1L, 10L)));
 
         User user1 = createUser(1L, "user1", 100);
         User user2 = createUser(2L, "user2", 200);
@@ -125,18 +174,178 @@ class RankingServiceTest {
         when(userRepository.findAllById(anyList()))
             .thenReturn(List.of(user1, user2, user3));
 
-        when(userActivityRepository.countByUserId(1L)).thenReturn(10L);
-        when(userActivityRepository.countByUserId(2L)).thenReturn(20L);
-        when(userActivityRepository.countByUserId(3L)).thenReturn(15L);
-
         // when
         RankingPageResponse response = rankingService.getTopRankings(RankingType.ACTIVITY_COUNT, 10);
 
         // then
         assertThat(response.rankings()).hasSize(3);
+        assertThat(response.rankings()).extracting(UserRankResponse::userId).containsExactly(2L, 3L, 1L);
+        assertThat(response.rankings()).extracting(UserRankResponse::score).containsExactly(20, 15, 10);
+
+        // MySQL Fallback은 GROUP BY 한 번으로 처리되고 유저별 COUNT는 하지 않음
+        verify(userActivityCounterRepository, never()).sumActivityCountByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("주간 순위는 최근 7일 일별 버킷을 합산해 캐시 키에 저장한 뒤 조회한다")
+    @SuppressWarnings("unchecked")
+    void testWeeklyRankingUnionsDailyBuckets() {
+        // given
+        String weeklyKey = RankingType.WEEKLY_POINTS.getRedisKey();
+        when(redisTemplate.hasKey(weeklyKey)).thenReturn(false);
+
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new LinkedHashSet<>();
+        tuples.add(new DefaultTypedTuple<>("1", 70.0));
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+            .thenReturn(List.of())
+            .thenReturn(Arrays.asList(tuples, 1L));
+        when(rankingProfileCache.getProfiles(List.of(1L)))
+            .thenReturn(Map.of(1L, new RankingUserProfile("user1", null)));
+
+        // when
+        RankingPageResponse response = rankingService.getTopRankings(RankingType.WEEKLY_POINTS, 10);
+
+        // then
+        assertThat(response.rankings()).extracting(UserRankResponse::score).containsExactly(70);
+
+        ArgumentCaptor<SessionCallback<Object>> callbackCaptor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate, times(2)).executePipelined(callbackCaptor.capture());
+
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        ZSetOperations<String, Object> zSetOperations = mock(ZSetOperations.class);
+        when(operations.opsForZSet()).thenReturn(zSetOperations);
+        callbackCaptor.getAllValues().get(0).execute(operations);
+
+        verify(zSetOperations).unionAndStore(
+            "ranking:points:daily:20260310",
+            List.of(
+                "ranking:points:daily:20260309",
+                "ranking:points:daily:20260308",
+                "ranking:points:daily:20260307",
+                "ranking:points:daily:20260306",
+                "ranking:points:daily:20260305",
+                "ranking:points:daily:20260304"
+            ),
+            weeklyKey
+        );
+        verify(operations).expire(weeklyKey, Duration.ofSeconds(RankingConstants.WINDOW_RANKING_CACHE_TTL_SECONDS));
+    }
+
+    @Test
+    @DisplayName("주간 순위 Redis 장애 시 기간 내 획득 포인트 합계로 MySQL Fallback 한다")
+    void testWeeklyRankingFallback() {
+        // given
+        when(redisTemplate.hasKey(RankingType.WEEKLY_POINTS.getRedisKey()))
+            .thenThrow(new RedisConnectionFailureException("Redis down"));
+        when(userActivityRepository.findTopPointsEarnedSince(LocalDateTime.of(2026, 3, 4, 0, 0), PageRequest.of(0, 10)))
+            .thenReturn(List.of(pointsSum(2L, 50L), pointsSum(1L, 30L)));
+        when(userRepository.findAllById(anyList()))
+            .thenReturn(List.of(createUser(1L, "user1", 800), createUser(2L, "user2", 100)));
+
+        // when
+        RankingPageResponse response = rankingService.getTopRankings(RankingType.WEEKLY_POINTS, 10);
+
+        // then
+        assertThat(response.rankings()).extracting(UserRankResponse::userId).containsExactly(2L, 1L);
+        assertThat(response.rankings()).extracting(UserRankResponse::score).containsExactly(50, 30);
+    }
+
+    @Test
+    @DisplayName("내 주변 순위는 Lua 스크립트 한 번으로 순위 위치와 주변 구간을 가져온다")
+    void testGetRankingsAroundUsesSingleScript() {
+        // given
+        Long userId = 1L;
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+            .thenReturn(Arrays.asList(4L, 3L, 100L, Arrays.asList("7", 1200, "1", 1000, "8", 900)));
+        when(rankingProfileCache.getProfiles(List.of(7L, 1L, 8L))).thenReturn(Map.of(
+            7L, new RankingUserProfile("above", null),
+            1L, new RankingUserProfile("me", null),
+            8L, new RankingUserProfile("below", null)
+        ));
+
+        // when
+        RankingNeighborhoodResponse response = rankingService.getRankingsAround(RankingType.POINTS, userId, 1);
+
+        // then
+        assertThat(response.myRank()).isEqualTo(5);
+        assertThat(response.totalUsers()).isEqualTo(100L);
+        assertThat(response.rankings()).extracting(UserRankResponse::userId).containsExactly(7L, 1L, 8L);
+        assertThat(response.rankings()).extracting(UserRankResponse::rank).containsExactly(4L, 5L, 6L);
+        assertThat(response.rankings()).extracting(UserRankResponse::score).containsExactly(1200, 1000, 900);
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("내 주변 순위 조회 시 Redis 실패하면 포인트 기준 위아래 유저를 MySQL에서 조회한다")
+    void testGetRankingsAroundFallback() {
+        // given
+        Long userId = 1L;
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+            .thenThrow(new RedisConnectionFailureException("Redis down"));
+
+        User me = createUser(userId, "me", 1000);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(me));
+        when(userRepository.countByPointsGreaterThan(1000)).thenReturn(4L);
+        when(userRepository.findUsersRankedAbove(1000, PageRequest.of(0, 2)))
+            .thenReturn(List.of(createUser(7L, "closest", 1100), createUser(6L, "further", 1500)));
+        when(userRepository.findUsersRankedBelow(1000, userId, PageRequest.of(0, 2)))
+            .thenReturn(List.of(createUser(8L, "below", 900)));
+
+        // when
+        RankingNeighborhoodResponse response = rankingService.getRankingsAround(RankingType.POINTS, userId, 2);
+
+        // then
+        assertThat(response.myRank()).isEqualTo(5);
+        assertThat(response.rankings()).extracting(UserRankResponse::userId).containsExactly(6L, 7L, 1L, 8L);
+        assertThat(response.rankings()).extracting(UserRankResponse::rank).containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("활동 증감분은 전체 순위와 오늘 일별 버킷에 ZINCRBY로 한 번에 누적된다")
+    @SuppressWarnings("unchecked")
+    void testApplyActivityDeltaIncrementsScores() {
+        // when
+        rankingService.applyActivityDelta(1L, 10, 1);
+
+        // then
+        ArgumentCaptor<SessionCallback<Object>> callbackCaptor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate, times(1)).executePipelined(callbackCaptor.capture());
+
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        ZSetOperations<String, Object> zSetOperations = mock(ZSetOperations.class);
+        when(operations.opsForZSet()).thenReturn(zSetOperations);
+        callbackCaptor.getValue().execute(operations);
+
+        verify(zSetOperations).incrementScore(RankingType.POINTS.getRedisKey(), "1", 10.0);
+        verify(zSetOperations).incrementScore(RankingType.ACTIVITY_COUNT.getRedisKey(), "1", 1.0);
+        verify(zSetOperations).incrementScore("ranking:points:daily:20260310", "1", 10.0);
+        verify(operations).expire("ranking:points:daily:20260310",
+            Duration.ofDays(RankingConstants.DAILY_BUCKET_RETENTION_DAYS));
+        verify(zSetOperations, never()).removeRangeByScore(anyString(), anyDouble(), anyDouble());
+        verifyNoInteractions(userRepository, userActivityRepository);
+    }
+
+    @Test
+    @DisplayName("활동 취소 시 점수를 차감하고 0 이하가 된 멤버는 순위에서 제거한다")
+    @SuppressWarnings("unchecked")
+    void testApplyActivityDeltaRemovesNonPositiveScores() {
+        // when
+        rankingService.applyActivityDelta(1L, -10, -1);
 
-        // MySQL Fallback이 호출됨
-        verify(userActivityRepository).findRecentlyActiveUserIds(168);
+        // then
+        ArgumentCaptor<SessionCallback<Object>> callbackCaptor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).executePipelined(callbackCaptor.capture());
+
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        ZSetOperations<String, Object> zSetOperations = mock(ZSetOperations.class);
+        when(operations.opsForZSet()).thenReturn(zSetOperations);
+        callbackCaptor.getValue().execute(operations);
+
+        verify(zSetOperations).incrementScore(RankingType.POINTS.getRedisKey(), "1", -10.0);
+        verify(zSetOperations).incrementScore(RankingType.ACTIVITY_COUNT.getRedisKey(), "1", -1.0);
+        verify(zSetOperations).removeRangeByScore(RankingType.POINTS.getRedisKey(), Double.NEGATIVE_INFINITY, 0);
+        verify(zSetOperations).removeRangeByScore(RankingType.ACTIVITY_COUNT.getRedisKey(), Double.NEGATIVE_INFINITY, 0);
     }
 
     @Test
@@ -144,7 +353,7 @@ class RankingServiceTest {
     void testGetUserRankFallback() {
         // given
         Long userId = 1L;
-        when(zSetOperations.reverseRank(anyString(), eq(userId.toString())))
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
             .thenThrow(new RedisConnectionFailureException("Redis down"));
 
         User user = createUser(userId, "user1", 1000);
@@ -162,6 +371,140 @@ class RankingServiceTest {
         assertThat(response.rank()).isEqualTo(1); // 최고 점수이므로 1위
     }
 
+    @Test
+    @DisplayName("유저 순위 조회 시 순위, 점수, 프로필을 한 번의 파이프라인으로 가져온다")
+    void testGetUserRankUsesSinglePipeline() {
+        // given
+        Long userId = 1L;
+        RankingUserProfile profile = new RankingUserProfile("user1", null);
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+            .thenReturn(Arrays.asList(4L, 750.0, profile));
+        when(rankingProfileCache.resolve(userId, profile)).thenReturn(profile);
+
+        // when
+        UserRankResponse response = rankingService.getUserRank(RankingType.POINTS, userId);
+
+        // then
+        assertThat(response.rank()).isEqualTo(5);
+        assertThat(response.score()).isEqualTo(750);
+        assertThat(response.nickname()).isEqualTo("user1");
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("배치 점수 갱신은 다중 멤버 ZADD 한 번으로 전송된다")
+    @SuppressWarnings("unchecked")
+    void testUpdateScoresBatchUsesSingleZadd() {
+        // given
+        ZSetOperations<String, Object> zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        // when
+        rankingService.updateScoresBatch(RankingType.POINTS, Map.of(1L, 100.0, 2L, 200.0, 3L, 300.0));
+
+        // then
+        verify(zSetOperations, times(1)).add(
+            eq(RankingType.POINTS.getRedisKey()),
+            argThat((Set<ZSetOperations.TypedTuple<Object>> tuples) -> tuples.size() == 3)
+        );
+        verify(zSetOperations, never()).add(anyString(), any(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("재구축 적재는 라이브 키가 아닌 임시 키에 쓴다")
+    @SuppressWarnings("unchecked")
+    void testStageScoresBatchWritesRebuildKey() {
+        // given
+        ZSetOperations<String, Object> zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        // when
+        rankingService.stageScoresBatch(RankingType.POINTS, "run-1", Map.of(1L, 100.0));
+
+        // then
+        String stagingKey = RankingType.POINTS.getRedisKey() + ":rebuild:run-1";
+        verify(zSetOperations).add(eq(stagingKey), anySet());
+        verify(zSetOperations, never()).add(eq(RankingType.POINTS.getRedisKey()), anySet());
+        verify(redisTemplate).expire(stagingKey, Duration.ofSeconds(RankingConstants.REBUILD_KEY_TTL_SECONDS));
+    }
+
+    @Test
+    @DisplayName("재구축 완료 시 임시 키를 RENAME으로 라이브 키에 덮어쓴다")
+    void testPublishStagedRankingRenamesOverLiveKey() {
+        // given
+        String liveKey = RankingType.ACTIVITY_COUNT.getRedisKey();
+        when(redisTemplate.hasKey(liveKey + ":rebuild:run-1")).thenReturn(true);
+
+        // when
+        rankingService.publishStagedRanking(RankingType.ACTIVITY_COUNT, "run-1");
+
+        // then
+        verify(redisTemplate).rename(liveKey + ":rebuild:run-1", liveKey);
+        verify(redisTemplate).persist(liveKey);
+        verify(redisTemplate, never()).delete(liveKey);
+    }
+
+    @Test
+    @DisplayName("재구축 결과가 비어 있으면 라이브 키를 삭제한다")
+    void testPublishEmptyStagedRankingClearsLiveKey() {
+        // given
+        String liveKey = RankingType.POINTS.getRedisKey();
+        when(redisTemplate.hasKey(liveKey + ":rebuild:run-1")).thenReturn(false);
+
+        // when
+        rankingService.publishStagedRanking(RankingType.POINTS, "run-1");
+
+        // then
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+        verify(redisTemplate).delete(liveKey);
+    }
+
+    @Test
+    @DisplayName("일별 버킷 재구축 완료 시 임시 키를 교체하고 버킷 날짜 기준으로 만료시키며 합산 캐시를 지운다")
+    void testPublishStagedDailyBucketRenamesAndExpiresByBucketDate() {
+        // given - 시계는 2026-03-10 12:00 (Asia/Seoul)
+        String liveKey = RankingConstants.RANKING_POINTS_DAILY_BUCKET_PREFIX + "20260309";
+        when(redisTemplate.hasKey(liveKey + ":rebuild:run-1")).thenReturn(true);
+
+        // when
+        rankingService.publishStagedDailyBucket(LocalDate.of(2026, 3, 9), "run-1");
+
+        // then - 3/9 버킷은 보관 기간(32일)이 끝나는 4/10 00:00에 만료
+        verify(redisTemplate).rename(liveKey + ":rebuild:run-1", liveKey);
+        verify(redisTemplate).expire(liveKey, Duration.ofDays(30).plusHours(12));
+        verify(redisTemplate).delete(List.of(
+            RankingType.WEEKLY_POINTS.getRedisKey(), RankingType.MONTHLY_POINTS.getRedisKey()));
+    }
+
+    private UserActivityCountProjection activityCount(Long userId, long count) {
+        return new UserActivityCountProjection() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public long getActivityCount() {
+                return count;
+            }
+        };
+    }
+
+    private UserPointsSumProjection pointsSum(Long userId, long totalPoints) {
+        return new UserPointsSumProjection() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public long getTotalPoints() {
+                return totalPoints;
+            }
+        };
+    }
+
     private User createUser(Long id, String nickname, int points) {
         User user = User.builder()
             .email(nickname + "@test.com")
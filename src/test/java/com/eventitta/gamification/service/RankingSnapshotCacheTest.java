@@ -0,0 +1,153 @@
+package com.eventitta.gamification.service;
+
+import com.eventitta.gamification.constants.RankingConstants;
+import com.eventitta.gamification.domain.RankingType;
+import com.eventitta.gamification.dto.response.RankingPageResponse;
+import com.eventitta.gamification.dto.response.UserRankResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankingSnapshotCacheTest {
+
+    @Mock
+    private RankingService rankingService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RankingSnapshotCache snapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        snapshotCache = new RankingSnapshotCache(rankingService, objectMapper);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 한 번 적재한 뒤 요청 limit만큼 잘라서 반환한다")
+    void getTopRankings_slicesSnapshot() {
+        // given
+        when(rankingService.getTopRankings(RankingType.POINTS, RankingConstants.RANKING_SNAPSHOT_SIZE))
+            .thenReturn(page(RankingType.POINTS, 150));
+
+        // when
+        RankingPageResponse top10 = snapshotCache.getTopRankings(RankingType.POINTS, 10);
+        RankingPageResponse top500 = snapshotCache.getTopRankings(RankingType.POINTS, 500);
+
+        // then
+        assertThat(top10.rankings()).hasSize(10);
+        assertThat(top10.rankings().get(9).rank()).isEqualTo(10);
+        assertThat(top10.totalUsers()).isEqualTo(150L);
+        assertThat(top500.rankings()).hasSize(150);
+        verify(rankingService, times(1)).getTopRankings(RankingType.POINTS, RankingConstants.RANKING_SNAPSHOT_SIZE);
+    }
+
+    @Test
+    @DisplayName("기본 limit 응답은 미리 직렬화된 JSON으로 제공된다")
+    void getDefaultTopRankingsJson_isPreSerialized() throws Exception {
+        // given
+        when(rankingService.getTopRankings(RankingType.ACTIVITY_COUNT, RankingConstants.RANKING_SNAPSHOT_SIZE))
+            .thenReturn(page(RankingType.ACTIVITY_COUNT, 150));
+
+        // when
+        byte[] first = snapshotCache.getDefaultTopRankingsJson(RankingType.ACTIVITY_COUNT);
+        byte[] second = snapshotCache.getDefaultTopRankingsJson(RankingType.ACTIVITY_COUNT);
+
+        // then
+        assertThat(second).isSameAs(first);
+        RankingPageResponse decoded = objectMapper.readValue(first, RankingPageResponse.class);
+        assertThat(decoded.rankings()).hasSize(RankingConstants.DEFAULT_TOP_RANK_SIZE);
+        assertThat(decoded.type()).isEqualTo(RankingType.ACTIVITY_COUNT);
+    }
+
+    @Test
+    @DisplayName("갱신 시 최근 조회된 타입의 스냅샷을 교체하고, 실패하면 기존 스냅샷을 유지한다")
+    void refresh_replacesSnapshotAndKeepsOldOnFailure() {
+        // given
+        when(rankingService.getTopRankings(RankingType.POINTS, RankingConstants.RANKING_SNAPSHOT_SIZE))
+            .thenReturn(page(RankingType.POINTS, 3));
+        when(rankingService.getTopRankingsOrThrow(RankingType.POINTS, RankingConstants.RANKING_SNAPSHOT_SIZE))
+            .thenReturn(page(RankingType.POINTS, 5))
+            .thenThrow(new RuntimeException("Redis error"));
+        snapshotCache.getTopRankings(RankingType.POINTS, 100);
+
+        // when
+        snapshotCache.refresh();
+        RankingPageResponse refreshed = snapshotCache.getTopRankings(RankingType.POINTS, 100);
+        snapshotCache.refresh();
+        RankingPageResponse afterFailure = snapshotCache.getTopRankings(RankingType.POINTS, 100);
+
+        // then
+        assertThat(refreshed.rankings()).hasSize(5);
+        assertThat(afterFailure.rankings()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("갱신이 실패하면 MySQL로 대체 조회하지 않고 다음 갱신을 미룬다")
+    void refresh_backsOffAfterFailure() {
+        // given
+        when(rankingService.getTopRankings(RankingType.POINTS, RankingConstants.RANKING_SNAPSHOT_SIZE))
+            .thenReturn(page(RankingType.POINTS, 3));
+        when(rankingService.getTopRankingsOrThrow(RankingType.POINTS, RankingConstants.RANKING_SNAPSHOT_SIZE))
+            .thenThrow(new RuntimeException("Redis error"))
+            .thenReturn(page(RankingType.POINTS, 5));
+        snapshotCache.getTopRankings(RankingType.POINTS, 100);
+
+        // when - 실패 직후의 갱신은 건너뛴다
+        snapshotCache.refresh();
+        snapshotCache.refresh();
+
+        // then
+        verify(rankingService, times(1)).getTopRankingsOrThrow(RankingType.POINTS, RankingConstants.RANKING_SNAPSHOT_SIZE);
+        verify(rankingService, times(1)).getTopRankings(RankingType.POINTS, RankingConstants.RANKING_SNAPSHOT_SIZE);
+        assertThat(snapshotCache.getTopRankings(RankingType.POINTS, 100).rankings()).hasSize(3);
+
+        // 대기 시간이 지나면 다시 갱신한다
+        ReflectionTestUtils.setField(snapshotCache, "nextRefreshAtMillis", 0L);
+        snapshotCache.refresh();
+        assertThat(snapshotCache.getTopRankings(RankingType.POINTS, 100).rankings()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("오래 조회되지 않은 타입은 갱신 대상에서 빠진다")
+    @SuppressWarnings("unchecked")
+    void refresh_dropsIdleSnapshot() {
+        // given
+        when(rankingService.getTopRankings(RankingType.WEEKLY_POINTS, RankingConstants.RANKING_SNAPSHOT_SIZE))
+            .thenReturn(page(RankingType.WEEKLY_POINTS, 3));
+        snapshotCache.getTopRankings(RankingType.WEEKLY_POINTS, 10);
+
+        Map<RankingType, AtomicLong> lastAccess =
+            (Map<RankingType, AtomicLong>) ReflectionTestUtils.getField(snapshotCache, "lastAccessMillis");
+        lastAccess.get(RankingType.WEEKLY_POINTS)
+            .set(System.currentTimeMillis() - RankingConstants.RANKING_SNAPSHOT_IDLE_MS - 1);
+
+        // when
+        snapshotCache.refresh();
+
+        // then
+        verify(rankingService, times(1)).getTopRankings(RankingType.WEEKLY_POINTS, RankingConstants.RANKING_SNAPSHOT_SIZE);
+        verify(rankingService, never()).getTopRankingsOrThrow(RankingType.WEEKLY_POINTS, RankingConstants.RANKING_SNAPSHOT_SIZE);
+    }
+
+    private RankingPageResponse page(RankingType type, int size) {
+        List<UserRankResponse> rankings = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            rankings.add(new UserRankResponse((long) i, "user" + i, null, 1000 - i, i));
+        }
+        return new RankingPageResponse(rankings, size, type);
+    }
+}
@@ -1,23 +1,28 @@
 package com.eventitta.gamification.service;
 
+import com.eventitta.gamification.constants.RankingConstants;
 import com.eventitta.gamification.domain.RankingType;
+import com.eventitta.gamification.dto.projection.UserActivityCountProjection;
+import com.eventitta.gamification.dto.projection.UserPointsSumProjection;
+import com.eventitta.gamification.repository.UserActivityCounterRepository;
 import com.eventitta.gamification.repository.UserActivityRepository;
 import com.eventitta.user.domain.User;
+import com.eventitta.user.dto.projection.UserPointsProjection;
 import com.eventitta.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,10 +39,14 @@ class RankingSyncServiceTest {
     @Mock
     private UserActivityRepository userActivityRepository;
 
+    @Mock
+    private UserActivityCounterRepository userActivityCounterRepository;
+
     @Mock
     private RankingService rankingService;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+
     private RankingSyncService rankingSyncService;
 
     private User testUser1;
@@ -46,6 +55,15 @@ class RankingSyncServiceTest {
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rankingSyncService = new RankingSyncService(
+            userRepository,
+            userActivityRepository,
+            userActivityCounterRepository,
+            rankingService,
+            meterRegistry
+        );
+
         testUser1 = createUser(1L, "user1", 100);
         testUser2 = createUser(2L, "user2", 200);
         testUser3 = createUser(3L, "user3", 0); // 0점 유저
@@ -55,14 +73,13 @@ class RankingSyncServiceTest {
     @DisplayName("전체 동기화가 성공적으로 수행된다")
     void syncAllRankingsFromDatabase_Success() {
         // given
-        when(userRepository.count()).thenReturn(3L);
-
-        Page<User> userPage = new PageImpl<>(List.of(testUser1, testUser2, testUser3));
-        when(userRepository.findAll(any(Pageable.class))).thenReturn(userPage);
+        // 0점 유저는 조회 조건에서 제외된다
+        when(userRepository.findPointsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(userPoints(1L, 100), userPoints(2L, 200)));
 
-        when(userActivityRepository.countByUserId(1L)).thenReturn(5L);
-        when(userActivityRepository.countByUserId(2L)).thenReturn(10L);
-        when(userActivityRepository.countByUserId(3L)).thenReturn(0L);
+        // 활동이 없는 유저는 GROUP BY 결과에 나타나지 않는다
+        when(userActivityCounterRepository.sumActivityCountsGroupedByUserAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(activityCount(1L, 5L), activityCount(2L, 10L)));
 
         // when
         rankingSyncService.syncAllRankingsFromDatabase();
@@ -70,7 +87,7 @@ class RankingSyncServiceTest {
         // then
         // 포인트 랭킹 업데이트 확인 (0점 유저는 제외)
         ArgumentCaptor<Map<Long, Double>> pointsCaptor = ArgumentCaptor.forClass(Map.class);
-        verify(rankingService).updateScoresBatch(eq(RankingType.POINTS), pointsCaptor.capture());
+        verify(rankingService).stageScoresBatch(eq(RankingType.POINTS), anyString(), pointsCaptor.capture());
         Map<Long, Double> capturedPoints = pointsCaptor.getValue();
         assertThat(capturedPoints).hasSize(2);
         assertThat(capturedPoints.get(1L)).isEqualTo(100.0);
@@ -78,18 +95,133 @@ class RankingSyncServiceTest {
 
         // 활동량 랭킹 업데이트 확인 (활동이 없는 유저는 제외)
         ArgumentCaptor<Map<Long, Double>> activityCaptor = ArgumentCaptor.forClass(Map.class);
-        verify(rankingService).updateScoresBatch(eq(RankingType.ACTIVITY_COUNT), activityCaptor.capture());
+        verify(rankingService).stageScoresBatch(eq(RankingType.ACTIVITY_COUNT), anyString(), activityCaptor.capture());
         Map<Long, Double> capturedActivities = activityCaptor.getValue();
         assertThat(capturedActivities).hasSize(2);
         assertThat(capturedActivities.get(1L)).isEqualTo(5.0);
         assertThat(capturedActivities.get(2L)).isEqualTo(10.0);
+
+        // 라이브 키에 직접 쓰지 않고 임시 키 적재 후 교체한다
+        verify(rankingService, never()).updateScoresBatch(any(), any());
+        InOrder inOrder = inOrder(rankingService);
+        inOrder.verify(rankingService).stageScoresBatch(eq(RankingType.POINTS), anyString(), any());
+        inOrder.verify(rankingService).publishStagedRanking(eq(RankingType.POINTS), anyString());
+        inOrder.verify(rankingService).stageScoresBatch(eq(RankingType.ACTIVITY_COUNT), anyString(), any());
+        inOrder.verify(rankingService).publishStagedRanking(eq(RankingType.ACTIVITY_COUNT), anyString());
+    }
+
+    @Test
+    @DisplayName("재구축 적재 중 실패하면 임시 키를 폐기하고 라이브 순위는 교체하지 않는다")
+    void syncAllRankingsFromDatabase_StagingFailure_DiscardsStagedKeys() {
+        // given
+        when(userRepository.findPointsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(userPoints(1L, 100), userPoints(2L, 200)));
+        doThrow(new RuntimeException("Redis error"))
+            .when(rankingService).stageScoresBatch(eq(RankingType.POINTS), anyString(), any());
+
+        // when & then
+        assertThatThrownBy(() -> rankingSyncService.syncAllRankingsFromDatabase())
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Failed to sync rankings");
+
+        verify(rankingService, never()).publishStagedRanking(any(), any());
+        verify(rankingService, atLeastOnce()).discardStagedRanking(eq(RankingType.POINTS), anyString());
+        verify(rankingService, atLeastOnce()).discardStagedRanking(eq(RankingType.ACTIVITY_COUNT), anyString());
+    }
+
+    @Test
+    @DisplayName("전체 동기화는 실행마다 고유한 임시 키를 사용하고 적재한 키를 그대로 교체한다")
+    void syncAllRankingsFromDatabase_UsesRunScopedStagingKey() {
+        // given
+        when(userRepository.findPointsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(userPoints(1L, 100)));
+
+        // when
+        rankingSyncService.syncAllRankingsFromDatabase();
+        rankingSyncService.syncAllRankingsFromDatabase();
+
+        // then
+        ArgumentCaptor<String> stagedRunIds = ArgumentCaptor.forClass(String.class);
+        verify(rankingService, times(2)).stageScoresBatch(eq(RankingType.POINTS), stagedRunIds.capture(), any());
+        ArgumentCaptor<String> publishedRunIds = ArgumentCaptor.forClass(String.class);
+        verify(rankingService, times(2)).publishStagedRanking(eq(RankingType.POINTS), publishedRunIds.capture());
+
+        assertThat(publishedRunIds.getAllValues()).isEqualTo(stagedRunIds.getAllValues());
+        assertThat(stagedRunIds.getAllValues().get(0)).isNotEqualTo(stagedRunIds.getAllValues().get(1));
+        // 다른 실행의 임시 키를 지우지 않는다
+        verify(rankingService, never()).discardStagedRanking(any(), any());
+    }
+
+    @Test
+    @DisplayName("교체 후 재구축 중 활동한 유저를 MySQL 값으로 다시 반영해 덮인 증감분을 보정한다")
+    void syncAllRankingsFromDatabase_ReplaysUsersActiveDuringRebuild() {
+        // given
+        when(userRepository.findPointsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(userPoints(1L, 100)));
+        when(userActivityRepository.findRecentlyActiveUserIds(any(LocalDateTime.class))).thenReturn(List.of(2L));
+        when(userRepository.findAllById(List.of(2L))).thenReturn(List.of(testUser2));
+        when(userActivityCounterRepository.sumActivityCountsByUserIds(List.of(2L)))
+            .thenReturn(List.<Object[]>of(new Object[]{2L, 11L}));
+
+        // when
+        rankingSyncService.syncAllRankingsFromDatabase();
+
+        // then
+        // 재반영 대상은 교체 이후에 조회해야 재구축 중 커밋된 활동을 본다
+        InOrder inOrder = inOrder(rankingService, userActivityRepository);
+        inOrder.verify(rankingService).publishStagedRanking(eq(RankingType.ACTIVITY_COUNT), anyString());
+        inOrder.verify(userActivityRepository).findRecentlyActiveUserIds(any(LocalDateTime.class));
+        inOrder.verify(rankingService).updateScoresBatch(RankingType.POINTS, Map.of(2L, 200.0));
+        inOrder.verify(rankingService).updateScoresBatch(RankingType.ACTIVITY_COUNT, Map.of(2L, 11.0));
+    }
+
+    @Test
+    @DisplayName("전체 동기화는 최근 30일 일별 버킷을 user_activities 합계로 재구축해 교체한다")
+    void syncAllRankingsFromDatabase_RebuildsDailyBuckets() {
+        // given
+        // 다른 날짜 조회는 빈 결과
+        LocalDate today = LocalDate.now();
+        lenient().when(userActivityRepository.sumPointsEarnedGroupedByUserBetween(
+            eq(today.atStartOfDay()), eq(today.plusDays(1).atStartOfDay()), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(pointsSum(1L, 30L), pointsSum(2L, 10L)));
+
+        // when
+        rankingSyncService.syncAllRankingsFromDatabase();
+
+        // then
+        int days = RankingType.MONTHLY_POINTS.getWindowDays();
+        verify(rankingService, times(days)).publishStagedDailyBucket(any(LocalDate.class), anyString());
+        verify(rankingService).publishStagedDailyBucket(eq(today.minusDays(days - 1L)), anyString());
+        InOrder inOrder = inOrder(rankingService);
+        inOrder.verify(rankingService).stageDailyBucket(eq(today), anyString(), eq(Map.of(1L, 30.0, 2L, 10.0)));
+        inOrder.verify(rankingService).publishStagedDailyBucket(eq(today), anyString());
+    }
+
+    @Test
+    @DisplayName("교체 후 재구축 중 활동한 유저의 오늘 버킷 점수를 MySQL 합계로 덮어쓴다")
+    void syncAllRankingsFromDatabase_ReplaysDailyBucketOfActiveUsers() {
+        // given
+        LocalDate today = LocalDate.now();
+        when(userActivityRepository.findRecentlyActiveUserIds(any(LocalDateTime.class))).thenReturn(List.of(2L, 3L));
+        lenient().when(userActivityRepository.sumPointsEarnedByUserIdsBetween(
+            List.of(2L, 3L), today.atStartOfDay(), today.plusDays(1).atStartOfDay()))
+            .thenReturn(List.of(pointsSum(2L, 15L)));
+
+        // when
+        rankingSyncService.syncAllRankingsFromDatabase();
+
+        // then - 합계가 없는 유저는 0으로 덮어써 기간제 조회에서 빠진다
+        InOrder inOrder = inOrder(rankingService);
+        inOrder.verify(rankingService).publishStagedDailyBucket(eq(today), anyString());
+        inOrder.verify(rankingService).updateDailyBucketScores(today, Map.of(2L, 15.0, 3L, 0.0));
     }
 
     @Test
     @DisplayName("전체 동기화 중 예외 발생 시 RuntimeException으로 전파된다")
     void syncAllRankingsFromDatabase_ExceptionPropagation() {
         // given
-        when(userRepository.count()).thenThrow(new RuntimeException("Database error"));
+        when(userRepository.findPointsAfter(anyLong(), any(Pageable.class)))
+            .thenThrow(new RuntimeException("Database error"));
 
         // when & then
         assertThatThrownBy(() -> rankingSyncService.syncAllRankingsFromDatabase())
@@ -98,28 +230,76 @@ class RankingSyncServiceTest {
     }
 
     @Test
-    @DisplayName("포인트 순위 페이징 동기화가 정상 동작한다")
-    void syncPointsRanking_WithPaging() {
+    @DisplayName("포인트 순위 동기화는 OFFSET 대신 유저 ID keyset 배치로 이어서 읽는다")
+    void syncPointsRanking_UsesKeysetBatches() {
+        // given
+        int batchSize = RankingConstants.SYNC_BATCH_SIZE;
+        List<UserPointsProjection> fullBatch = new ArrayList<>();
+        for (long userId = 1; userId <= batchSize; userId++) {
+            fullBatch.add(userPoints(userId, 10));
+        }
+        long lastUserId = batchSize;
+        when(userRepository.findPointsAfter(eq(0L), any(Pageable.class))).thenReturn(fullBatch);
+        when(userRepository.findPointsAfter(eq(lastUserId), any(Pageable.class)))
+            .thenReturn(List.of(userPoints(lastUserId + 1, 30)));
+
+        when(userActivityCounterRepository.sumActivityCountsGroupedByUserAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of());
+
+        // when
+        rankingSyncService.syncAllRankingsFromDatabase();
+
+        // then
+        verify(userRepository, times(2)).findPointsAfter(anyLong(), any(Pageable.class));
+        verify(userRepository, never()).findAll(any(Pageable.class));
+        verify(rankingService, times(2)).stageScoresBatch(eq(RankingType.POINTS), anyString(), any());
+        verify(rankingService, never()).stageScoresBatch(eq(RankingType.ACTIVITY_COUNT), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("활동량 동기화는 유저별 COUNT 대신 유저 ID keyset 배치로 이어서 읽는다")
+    void syncActivityCountRanking_UsesKeysetBatches() {
         // given
-        when(userRepository.count()).thenReturn(100L);
+        when(userRepository.findPointsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of());
+
+        int batchSize = RankingConstants.SYNC_BATCH_SIZE;
+        List<UserActivityCountProjection> fullBatch = new ArrayList<>();
+        for (long userId = 1; userId <= batchSize; userId++) {
+            fullBatch.add(activityCount(userId, 1L));
+        }
+        long lastUserId = batchSize;
+        when(userActivityCounterRepository.sumActivityCountsGroupedByUserAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(fullBatch);
+        when(userActivityCounterRepository.sumActivityCountsGroupedByUserAfter(eq(lastUserId), any(Pageable.class)))
+            .thenReturn(List.of(activityCount(lastUserId + 1, 3L)));
+
+        // when
+        rankingSyncService.syncAllRankingsFromDatabase();
 
-        // SYNC_BATCH_SIZE = 1000이므로, 100개는 한 페이지로 처리됨
-        Page<User> page = new PageImpl<>(List.of(testUser1, testUser2, testUser3));
-        when(userRepository.findAll(any(Pageable.class))).thenReturn(page);
+        // then
+        verify(userActivityCounterRepository, times(2)).sumActivityCountsGroupedByUserAfter(anyLong(), any(Pageable.class));
+        verify(userActivityCounterRepository, never()).sumActivityCountByUserId(anyLong());
+        verify(rankingService, times(2)).stageScoresBatch(eq(RankingType.ACTIVITY_COUNT), anyString(), any());
+    }
 
-        // 활동량 카운트 모킹
-        when(userActivityRepository.countByUserId(1L)).thenReturn(5L);
-        when(userActivityRepository.countByUserId(2L)).thenReturn(10L);
-        when(userActivityRepository.countByUserId(3L)).thenReturn(0L);
+    @Test
+    @DisplayName("전체 동기화 후 소요 시간과 처리 건수 메트릭이 기록된다")
+    void syncAllRankingsFromDatabase_RecordsMetrics() {
+        // given
+        when(userRepository.findPointsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(userPoints(1L, 100), userPoints(2L, 200)));
+        when(userActivityCounterRepository.sumActivityCountsGroupedByUserAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(activityCount(1L, 5L)));
 
         // when
         rankingSyncService.syncAllRankingsFromDatabase();
 
         // then
-        verify(userRepository, times(2)).findAll(any(Pageable.class)); // 포인트와 활동량 각 1번씩
-        // 0점 유저는 제외되므로 포인트 업데이트는 1번만
-        verify(rankingService, times(1)).updateScoresBatch(eq(RankingType.POINTS), any());
-        verify(rankingService, times(1)).updateScoresBatch(eq(RankingType.ACTIVITY_COUNT), any());
+        assertThat(meterRegistry.get("ranking.sync.duration").tag("type", "POINTS").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ranking.sync.rows").tag("type", "POINTS").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("ranking.sync.rows").tag("type", "ACTIVITY_COUNT").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ranking.sync.rows.per.second").tag("type", "ACTIVITY_COUNT").gauge().value())
+            .isGreaterThan(0.0);
     }
 
     @Test
@@ -127,7 +307,7 @@ class RankingSyncServiceTest {
     void syncUserRanking_Success() {
         // given
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser1));
-        when(userActivityRepository.countByUserId(1L)).thenReturn(5L);
+        when(userActivityCounterRepository.sumActivityCountByUserId(1L)).thenReturn(5L);
 
         // when
         rankingSyncService.syncUserRanking(1L);
@@ -142,7 +322,7 @@ class RankingSyncServiceTest {
     void syncUserRanking_ZeroPoints_RemoveFromRanking() {
         // given
         when(userRepository.findById(3L)).thenReturn(Optional.of(testUser3));
-        when(userActivityRepository.countByUserId(3L)).thenReturn(0L);
+        when(userActivityCounterRepository.sumActivityCountByUserId(3L)).thenReturn(0L);
 
         // when
         rankingSyncService.syncUserRanking(3L);
@@ -186,11 +366,9 @@ class RankingSyncServiceTest {
         List<Long> activeUserIds = Arrays.asList(1L, 2L);
         when(userActivityRepository.findRecentlyActiveUserIds(24)).thenReturn(activeUserIds);
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser1));
-        when(userRepository.findById(2L)).thenReturn(Optional.of(testUser2));
-
-        when(userActivityRepository.countByUserId(1L)).thenReturn(5L);
-        when(userActivityRepository.countByUserId(2L)).thenReturn(10L);
+        when(userRepository.findAllById(activeUserIds)).thenReturn(List.of(testUser1, testUser2));
+        when(userActivityCounterRepository.sumActivityCountsByUserIds(activeUserIds))
+            .thenReturn(List.of(new Object[]{1L, 5L}, new Object[]{2L, 10L}));
 
         // when
         rankingSyncService.syncRecentlyActiveUsers();
@@ -221,7 +399,7 @@ class RankingSyncServiceTest {
         rankingSyncService.syncRecentlyActiveUsers();
 
         // then
-        verify(userRepository, never()).findById(anyLong());
+        verify(userRepository, never()).findAllById(anyList());
         verify(rankingService, never()).updateScoresBatch(any(), any());
     }
 
@@ -232,13 +410,10 @@ class RankingSyncServiceTest {
         List<Long> activeUserIds = Arrays.asList(1L, 999L, 2L); // 999L은 존재하지 않는 유저
         when(userActivityRepository.findRecentlyActiveUserIds(24)).thenReturn(activeUserIds);
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser1));
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
-        when(userRepository.findById(2L)).thenReturn(Optional.of(testUser2));
-
-        when(userActivityRepository.countByUserId(1L)).thenReturn(5L);
-        when(userActivityRepository.countByUserId(999L)).thenReturn(0L);  // 존재하지 않는 유저
-        when(userActivityRepository.countByUserId(2L)).thenReturn(10L);
+        // 존재하지 않는 유저는 IN 조회 결과에서 빠진다
+        when(userRepository.findAllById(activeUserIds)).thenReturn(List.of(testUser1, testUser2));
+        when(userActivityCounterRepository.sumActivityCountsByUserIds(activeUserIds))
+            .thenReturn(List.of(new Object[]{1L, 5L}, new Object[]{2L, 10L}));
 
         // when
         rankingSyncService.syncRecentlyActiveUsers();
@@ -265,6 +440,48 @@ class RankingSyncServiceTest {
         verify(rankingService, never()).updateScoresBatch(any(), any());
     }
 
+    private UserPointsProjection userPoints(Long userId, int points) {
+        return new UserPointsProjection() {
+            @Override
+            public Long getId() {
+                return userId;
+            }
+
+            @Override
+            public int getPoints() {
+                return points;
+            }
+        };
+    }
+
+    private UserPointsSumProjection pointsSum(Long userId, long totalPoints) {
+        return new UserPointsSumProjection() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public long getTotalPoints() {
+                return totalPoints;
+            }
+        };
+    }
+
+    private UserActivityCountProjection activityCount(Long userId, long count) {
+        return new UserActivityCountProjection() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public long getActivityCount() {
+                return count;
+            }
+        };
+    }
+
     private User createUser(Long id, String nickname, int points) {
         User user = User.builder()
                 .email(nickname + "@test.com")
@@ -1,9 +1,16 @@
 package com.eventitta.gamification.service;
 
+import com.eventitta.gamification.domain.ActivityOutbox;
 import com.eventitta.gamification.domain.ActivityType;
+import com.eventitta.gamification.domain.OperationType;
 import com.eventitta.gamification.domain.UserActivity;
+import com.eventitta.gamification.event.ActivityBatchRecordedEvent;
+import com.eventitta.gamification.event.ActivityBatchRecordedEvent.ActivityDelta;
 import com.eventitta.gamification.event.ActivityRecordedEvent;
+import com.eventitta.gamification.repository.UserActivityCounterRepository;
 import com.eventitta.gamification.repository.UserActivityRepository;
+import com.eventitta.gamification.repository.UserActivityRepositoryCustom.ActivityTarget;
+import com.eventitta.gamification.service.DailyLoginTracker.ClaimResult;
 import com.eventitta.user.domain.Provider;
 import com.eventitta.user.domain.Role;
 import com.eventitta.user.domain.User;
@@ -11,18 +18,34 @@ import com.eventitta.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static com.eventitta.gamification.domain.ActivityType.CREATE_COMMENT;
 import static com.eventitta.gamification.domain.ActivityType.CREATE_POST;
+import static com.eventitta.gamification.domain.ActivityType.LIKE_POST;
 import static com.eventitta.gamification.domain.ActivityType.USER_LOGIN;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,9 +55,16 @@ class UserActivityServiceTest {
     @Mock
     private UserActivityRepository userActivityRepository;
     @Mock
+    private UserActivityCounterRepository userActivityCounterRepository;
+    @Mock
     private UserRepository userRepository;
     @Mock
     private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private DailyLoginTracker dailyLoginTracker;
+
+    @Captor
+    private ArgumentCaptor<List<UserActivity>> insertsCaptor;
 
     @InjectMocks
     private UserActivityService userActivityService;
@@ -58,6 +88,7 @@ class UserActivityServiceTest {
         Long targetId = 10L;
         int pointsToAdd = USER_LOGIN.getDefaultPoint();
 
+        when(dailyLoginTracker.tryClaim(eq(userId), any(LocalDate.class))).thenReturn(ClaimResult.CLAIMED);
         when(userActivityRepository.save(any(UserActivity.class)))
             .thenAnswer(invocation -> {
                 UserActivity activity = invocation.getArgument(0);
@@ -73,6 +104,8 @@ class UserActivityServiceTest {
         // then
         verify(userActivityRepository).save(any(UserActivity.class));
         verify(userRepository).incrementPoints(userId, pointsToAdd);
+        verify(userActivityCounterRepository).applyDeltas(userId,
+            Map.of(USER_LOGIN, new ActivityDelta(1, pointsToAdd)));
         verify(eventPublisher).publishEvent(any(ActivityRecordedEvent.class));
     }
 
@@ -97,6 +130,8 @@ class UserActivityServiceTest {
         verify(userActivityRepository)
             .deleteByUserIdAndActivityTypeAndTargetId(userId, type, targetId);
         verify(userRepository).decrementPoints(userId, pointsToDeduct);
+        verify(userActivityCounterRepository).applyDeltas(userId,
+            Map.of(type, new ActivityDelta(-1, -pointsToDeduct)));
         verify(eventPublisher).publishEvent(any(ActivityRecordedEvent.class));
     }
 
@@ -117,4 +152,218 @@ class UserActivityServiceTest {
         assertThatThrownBy(() -> userActivityService.recordActivity(userId, CREATE_POST, targetId))
             .isInstanceOf(RuntimeException.class);
     }
+
+    @Test
+    @DisplayName("같은 유저의 아웃박스 배치는 한 번의 INSERT 배치와 순증감 UPDATE 한 번으로 반영된다")
+    void givenOutboxBatch_whenApplyOutboxBatch_thenSingleInsertBatchAndNetPoints() {
+        // given
+        Long userId = 1L;
+        List<ActivityOutbox> outboxes = List.of(
+            outbox(userId, CREATE_POST, OperationType.RECORD, 10L),
+            outbox(userId, CREATE_COMMENT, OperationType.RECORD, 20L),
+            outbox(userId, CREATE_COMMENT, OperationType.RECORD, 21L));
+        int expectedPoints = CREATE_POST.getDefaultPoint() + 2 * CREATE_COMMENT.getDefaultPoint();
+        when(userRepository.incrementPoints(userId, expectedPoints)).thenReturn(1);
+
+        // when
+        userActivityService.applyOutboxBatch(userId, outboxes);
+
+        // then
+        verify(userActivityRepository).insertAllInBatch(insertsCaptor.capture());
+        assertThat(insertsCaptor.getValue()).extracting(UserActivity::getTargetId).containsExactly(10L, 20L, 21L);
+        verify(userRepository).incrementPoints(userId, expectedPoints);
+        verify(userActivityRepository, never()).deleteAllByTargetsInBatch(anyLong(), anyList());
+
+        ArgumentCaptor<ActivityBatchRecordedEvent> event = ArgumentCaptor.forClass(ActivityBatchRecordedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().deltas()).containsEntry(CREATE_COMMENT,
+            new ActivityDelta(2, 2 * CREATE_COMMENT.getDefaultPoint()));
+        assertThat(event.getValue().totalCount()).isEqualTo(3);
+        verify(userActivityCounterRepository).applyDeltas(userId, event.getValue().deltas());
+    }
+
+    @Test
+    @DisplayName("포인트 지연 반영 모드에서는 활동만 반영하고 users 포인트 대신 순증감을 반환한다")
+    void givenDeferredPoints_whenApplyOutboxBatch_thenReturnsPointsDeltaWithoutUpdatingUser() {
+        // given
+        Long userId = 1L;
+        List<ActivityOutbox> outboxes = List.of(
+            outbox(userId, LIKE_POST, OperationType.RECORD, 10L),
+            outbox(userId, LIKE_POST, OperationType.RECORD, 11L));
+
+        // when
+        int pointsDelta = userActivityService.applyOutboxBatchDeferringPoints(userId, outboxes);
+
+        // then
+        assertThat(pointsDelta).isEqualTo(2 * LIKE_POST.getDefaultPoint());
+        verify(userActivityRepository).insertAllInBatch(anyList());
+        verify(userRepository, never()).incrementPoints(anyLong(), anyInt());
+        verify(userRepository, never()).decrementPoints(anyLong(), anyInt());
+        verify(eventPublisher).publishEvent(any(ActivityBatchRecordedEvent.class));
+    }
+
+    @Test
+    @DisplayName("같은 배치 안에서 기록 후 취소된 활동은 INSERT 없이 상쇄되고 포인트도 변하지 않는다")
+    void givenRecordThenRevoke_whenApplyOutboxBatch_thenCanceledOut() {
+        // given
+        Long userId = 1L;
+        List<ActivityOutbox> outboxes = List.of(
+            outbox(userId, LIKE_POST, OperationType.RECORD, 10L),
+            outbox(userId, LIKE_POST, OperationType.REVOKE, 10L));
+        when(userActivityRepository.deleteAllByTargetsInBatch(userId, List.of(new ActivityTarget(LIKE_POST, 10L))))
+            .thenReturn(new int[]{0});
+
+        // when
+        userActivityService.applyOutboxBatch(userId, outboxes);
+
+        // then
+        verify(userActivityRepository).insertAllInBatch(List.of());
+        verify(userRepository, never()).incrementPoints(anyLong(), anyInt());
+        verify(userRepository, never()).decrementPoints(anyLong(), anyInt());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 활동의 취소는 배치 DELETE로 삭제되고 포인트가 차감된다")
+    void givenRevokeOfStoredActivity_whenApplyOutboxBatch_thenDeletedAndPointsDecreased() {
+        // given
+        Long userId = 1L;
+        List<ActivityOutbox> outboxes = List.of(
+            outbox(userId, LIKE_POST, OperationType.REVOKE, 10L),
+            outbox(userId, LIKE_POST, OperationType.REVOKE, 11L));
+        when(userActivityRepository.deleteAllByTargetsInBatch(eq(userId), anyList()))
+            .thenReturn(new int[]{1, 0});
+        when(userRepository.decrementPoints(userId, LIKE_POST.getDefaultPoint())).thenReturn(1);
+
+        // when
+        userActivityService.applyOutboxBatch(userId, outboxes);
+
+        // then
+        verify(userRepository).decrementPoints(userId, LIKE_POST.getDefaultPoint());
+        ArgumentCaptor<ActivityBatchRecordedEvent> event = ArgumentCaptor.forClass(ActivityBatchRecordedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().deltas())
+            .containsExactly(entry(LIKE_POST, new ActivityDelta(-1, -LIKE_POST.getDefaultPoint())));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자의 배치는 예외로 롤백되어 개별 처리로 넘어간다")
+    void givenNonExistentUser_whenApplyOutboxBatch_thenThrowException() {
+        // given
+        Long userId = 999L;
+        List<ActivityOutbox> outboxes = List.of(
+            outbox(userId, CREATE_POST, OperationType.RECORD, 10L),
+            outbox(userId, CREATE_POST, OperationType.RECORD, 11L));
+        when(userRepository.incrementPoints(userId, 2 * CREATE_POST.getDefaultPoint())).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> userActivityService.applyOutboxBatch(userId, outboxes))
+            .isInstanceOf(RuntimeException.class);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("오늘 로그인이 비트맵에 이미 기록되어 있으면 DB를 조회하지 않고 건너뛴다")
+    void givenLoginAlreadyRecorded_whenRecordLogin_thenSkippedWithoutDbRead() {
+        // given
+        Long userId = 1L;
+        when(dailyLoginTracker.tryClaim(eq(userId), any(LocalDate.class))).thenReturn(ClaimResult.ALREADY_RECORDED);
+
+        // when
+        userActivityService.recordActivity(userId, USER_LOGIN, null);
+
+        // then
+        verify(userActivityRepository, never()).existsTodayActivity(any(), any(), any(), any());
+        verify(userActivityRepository, never()).save(any());
+        verify(userRepository, never()).incrementPoints(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("비트맵 선점에 성공하면 DB로 한 번 확인한 뒤 로그인을 기록한다")
+    void givenLoginClaimed_whenRecordLogin_thenCheckedInDbAndRecorded() {
+        // given
+        Long userId = 1L;
+        when(dailyLoginTracker.tryClaim(eq(userId), any(LocalDate.class))).thenReturn(ClaimResult.CLAIMED);
+        when(userActivityRepository.existsTodayActivity(eq(userId), eq(USER_LOGIN), any(), any())).thenReturn(false);
+        when(userActivityRepository.save(any(UserActivity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.incrementPoints(userId, USER_LOGIN.getDefaultPoint())).thenReturn(1);
+
+        // when
+        userActivityService.recordActivity(userId, USER_LOGIN, null);
+
+        // then
+        verify(userActivityRepository).existsTodayActivity(eq(userId), eq(USER_LOGIN), any(), any());
+        verify(userActivityRepository).save(any(UserActivity.class));
+    }
+
+    @Test
+    @DisplayName("비트맵이 비어 선점에 성공해도 DB에 오늘 로그인이 있으면 다시 지급하지 않는다")
+    void givenBitmapLostButLoginInDb_whenRecordLogin_thenSkipped() {
+        // given - Redis 초기화/장애 조치 후 비트만 사라진 경우
+        Long userId = 1L;
+        when(dailyLoginTracker.tryClaim(eq(userId), any(LocalDate.class))).thenReturn(ClaimResult.CLAIMED);
+        when(userActivityRepository.existsTodayActivity(eq(userId), eq(USER_LOGIN), any(), any())).thenReturn(true);
+
+        // when
+        userActivityService.recordActivity(userId, USER_LOGIN, null);
+
+        // then
+        verify(userActivityRepository, never()).save(any());
+        verify(userRepository, never()).incrementPoints(any(), anyInt());
+        verify(dailyLoginTracker).markRecorded(userId, LocalDate.now());
+        verify(dailyLoginTracker, never()).releaseClaim(any(), any());
+    }
+
+    @Test
+    @DisplayName("비트맵을 쓸 수 없으면 DB로 확인하고, 새로 기록한 로그인은 추적기에 표시한다")
+    void givenTrackerUnavailable_whenRecordLogin_thenCheckedInDbAndMarked() {
+        // given
+        Long userId = 1L;
+        when(dailyLoginTracker.tryClaim(eq(userId), any(LocalDate.class))).thenReturn(ClaimResult.UNKNOWN);
+        when(userActivityRepository.existsTodayActivity(eq(userId), eq(USER_LOGIN), any(), any())).thenReturn(false);
+        when(userActivityRepository.save(any(UserActivity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.incrementPoints(userId, USER_LOGIN.getDefaultPoint())).thenReturn(1);
+
+        // when
+        userActivityService.recordActivity(userId, USER_LOGIN, null);
+
+        // then
+        verify(userActivityRepository).save(any(UserActivity.class));
+        verify(dailyLoginTracker).markRecorded(userId, LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("선점한 로그인 기록이 롤백되면 비트맵 선점을 되돌린다")
+    void givenLoginClaimed_whenTransactionRolledBack_thenClaimReleased() {
+        // given
+        Long userId = 1L;
+        when(dailyLoginTracker.tryClaim(eq(userId), any(LocalDate.class))).thenReturn(ClaimResult.CLAIMED);
+        when(userActivityRepository.save(any(UserActivity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.incrementPoints(userId, USER_LOGIN.getDefaultPoint())).thenReturn(0);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            assertThatThrownBy(() -> userActivityService.recordActivity(userId, USER_LOGIN, null))
+                .isInstanceOf(RuntimeException.class);
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            verify(dailyLoginTracker).releaseClaim(userId, LocalDate.now());
+            verify(dailyLoginTracker, never()).markRecorded(any(), any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ActivityOutbox outbox(Long userId, ActivityType activityType, OperationType operationType, Long targetId) {
+        return ActivityOutbox.builder()
+            .idempotencyKey((operationType + ":" + userId + ":" + activityType + ":" + targetId).getBytes(StandardCharsets.UTF_8))
+            .userId(userId)
+            .activityType(activityType)
+            .operationType(operationType)
+            .targetId(targetId)
+            .build();
+    }
 }
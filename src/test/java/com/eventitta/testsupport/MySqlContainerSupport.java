@@ -0,0 +1,39 @@
+package com.eventitta.testsupport;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 실제 MySQL(Testcontainers)에서 실행해야 하는 테스트의 공통 설정
+ * - H2로는 검증할 수 없는 쿼리(SKIP LOCKED, 공간 함수, 실행 계획 등)를 확인할 때 사용한다
+ * - 스키마는 운영과 같은 Flyway 마이그레이션으로 만든다
+ * - 컨테이너는 테스트 클래스 간에 공유하고, Docker가 없으면 테스트는 SKIPPED 처리된다
+ *
+ * <p>사용하는 테스트는 @AutoConfigureTestDatabase(replace = NONE)로 내장 DB 대체를 꺼야 한다.</p>
+ */
+@EnabledIfDockerAvailable
+public abstract class MySqlContainerSupport {
+
+    protected static final MySQLContainer<?> MYSQL =
+        new MySQLContainer<>(DockerImageName.parse("mysql:8.0.36"))
+            .withDatabaseName("eventitta")
+            .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        if (!MYSQL.isRunning()) {
+            MYSQL.start();
+        }
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("spring.sql.init.mode", () -> "never");
+    }
+}
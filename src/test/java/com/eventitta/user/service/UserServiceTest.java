@@ -6,6 +6,7 @@ import com.eventitta.user.domain.User;
 import com.eventitta.user.dto.ChangePasswordRequest;
 import com.eventitta.user.dto.UpdateProfileRequest;
 import com.eventitta.user.dto.UserProfileResponse;
+import com.eventitta.user.event.UserProfileChangedEvent;
 import com.eventitta.user.exception.UserErrorCode;
 import com.eventitta.user.exception.UserException;
 import com.eventitta.user.repository.UserRepository;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
@@ -32,6 +34,8 @@ class UserServiceTest {
     UserRepository userRepository;
     @Mock
     PasswordEncoder passwordEncoder;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     UserService userService;
@@ -92,6 +96,28 @@ class UserServiceTest {
             .isEqualTo(UserErrorCode.CONFLICTED_NICKNAME);
     }
 
+    @Test
+    @DisplayName("프로필 수정에 성공하면 프로필 변경 이벤트를 발행한다")
+    void updateProfile_success_publishesEvent() {
+        User user = createUser(1L);
+        UpdateProfileRequest req = new UpdateProfileRequest(
+            "newNick",
+            "https://cdn.test/profile.png",
+            null,
+            List.of(),
+            null,
+            null,
+            null
+        );
+        given(userRepository.findActiveById(1L)).willReturn(Optional.of(user));
+        given(userRepository.existsByNickname("newNick")).willReturn(false);
+
+        userService.updateProfile(1L, req);
+
+        assertThat(user.getNickname()).isEqualTo("newNick");
+        verify(eventPublisher).publishEvent(new UserProfileChangedEvent(1L));
+    }
+
     @Test
     @DisplayName("현재 비밀번호가 틀리면 비밀번호 변경에 실패한다")
     void changePassword_wrongCurrent_throws() {